@@ -6,6 +6,7 @@ import com.smtech.SM_Caterer.API.dto.request.LoginRequest;
 import com.smtech.SM_Caterer.API.dto.request.RefreshTokenRequest;
 import com.smtech.SM_Caterer.API.dto.response.ApiResponse;
 import com.smtech.SM_Caterer.API.dto.response.AuthResponse;
+import com.smtech.SM_Caterer.context.TenantContext;
 import com.smtech.SM_Caterer.domain.entity.User;
 import com.smtech.SM_Caterer.domain.enums.UserStatus;
 import com.smtech.SM_Caterer.domain.repository.UserRepository;
@@ -13,6 +14,7 @@ import com.smtech.SM_Caterer.exception.AuthenticationException;
 import com.smtech.SM_Caterer.exception.InvalidOperationException;
 import com.smtech.SM_Caterer.security.CustomUserDetails;
 import com.smtech.SM_Caterer.security.jwt.JwtTokenProvider;
+import com.smtech.SM_Caterer.service.UserService;
 import com.smtech.SM_Caterer.service.dto.UserDTO;
 import com.smtech.SM_Caterer.service.mapper.UserMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -60,18 +62,22 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
+    private final UserService userService;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
 
     /**
      * User login endpoint.
      *
+     * Not transactional: password verification runs on the bounded hashing pool
+     * and must not hold a database connection while it waits. Returns 429 when
+     * the hashing pool is saturated (see GlobalExceptionHandler).
+     *
      * @param loginRequest Login credentials
      * @return JWT tokens and user info
      */
     @PostMapping("/login")
     @Operation(summary = "User login", description = "Authenticate user and return JWT tokens")
-    @Transactional
     public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest loginRequest) {
         log.info("Login attempt received");
         log.debug("Login attempt for user: {}", loginRequest.getUsername());
@@ -89,11 +95,9 @@ public class AuthController {
 
             CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
 
-            // Update last login and reset failed attempts
-            userRepository.findById(userDetails.getId()).ifPresent(user -> {
-                user.resetFailedLoginAttempts();
-                userRepository.save(user);
-            });
+            // Update last login and reset failed attempts (read-write transaction, always on the primary)
+            TenantContext.runWithTenant(userDetails.getTenantId(),
+                    () -> userService.recordSuccessfulLogin(userDetails.getId()));
 
             // Generate tokens
             String accessToken = jwtTokenProvider.generateAccessToken(userDetails);
@@ -127,14 +131,7 @@ public class AuthController {
             log.warn("Invalid credentials attempt");
             log.debug("Invalid credentials for user: {}", loginRequest.getUsername());
 
-            // Increment failed login attempts
-            userRepository.findByUsername(loginRequest.getUsername())
-                    .or(() -> userRepository.findByEmail(loginRequest.getUsername()))
-                    .ifPresent(user -> {
-                        user.incrementFailedLoginAttempts();
-                        userRepository.save(user);
-                    });
-
+            // Failed attempts are tracked by LoginAttemptService (authentication failure event)
             throw new AuthenticationException("Invalid username or password");
 
         } catch (LockedException ex) {
@@ -173,7 +170,8 @@ public class AuthController {
 
         Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
 
-        User user = userRepository.findById(userId)
+        User user = TenantContext.callWithTenant(jwtTokenProvider.getTenantIdFromToken(refreshToken),
+                        () -> userRepository.findById(userId))
                 .orElseThrow(() -> new AuthenticationException("User not found"));
 
         if (user.getStatus() != UserStatus.ACTIVE) {
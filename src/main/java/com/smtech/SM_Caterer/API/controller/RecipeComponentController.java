@@ -0,0 +1,85 @@
+package com.smtech.SM_Caterer.API.controller;
+
+import com.smtech.SM_Caterer.API.dto.response.ApiResponse;
+import com.smtech.SM_Caterer.API.dto.response.PageResponse;
+import com.smtech.SM_Caterer.exception.ResourceNotFoundException;
+import com.smtech.SM_Caterer.service.RecipeComponentService;
+import com.smtech.SM_Caterer.service.dto.RecipeComponentDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/recipe-components")
+@RequiredArgsConstructor
+@Tag(name = "Recipe Component Management", description = "Recipe Component (Menu-Menu mapping) CRUD operations")
+@PreAuthorize("isAuthenticated()")
+public class RecipeComponentController extends BaseController {
+
+    private final RecipeComponentService recipeComponentService;
+
+    @GetMapping
+    @Operation(summary = "Get all recipe components")
+    public ResponseEntity<ApiResponse<PageResponse<RecipeComponentDTO>>> getAll(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+        Page<RecipeComponentDTO> components = recipeComponentService.findAll(createPageable(page, size, sortBy, sortDir));
+        return ResponseEntity.ok(success(toPageResponse(components)));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get recipe component by ID")
+    public ResponseEntity<ApiResponse<RecipeComponentDTO>> getById(@PathVariable Long id) {
+        RecipeComponentDTO component = recipeComponentService.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("RecipeComponent", "id", id));
+        return ResponseEntity.ok(success(component));
+    }
+
+    @GetMapping("/menu/{menuId}")
+    @Operation(summary = "Get recipe components by menu")
+    public ResponseEntity<ApiResponse<List<RecipeComponentDTO>>> getByMenu(@PathVariable Long menuId) {
+        return ResponseEntity.ok(success(recipeComponentService.findByMenuId(menuId)));
+    }
+
+    @GetMapping("/component/{componentId}")
+    @Operation(summary = "Get recipe components using a menu as component")
+    public ResponseEntity<ApiResponse<List<RecipeComponentDTO>>> getByComponent(@PathVariable Long componentId) {
+        return ResponseEntity.ok(success(recipeComponentService.findByComponentId(componentId)));
+    }
+
+    @PostMapping
+    @Operation(summary = "Add recipe component")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'TENANT_ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<RecipeComponentDTO>> create(@Valid @RequestBody RecipeComponentDTO dto) {
+        log.info("Adding recipe component to menu: {}", dto.getMenuId());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(success("Recipe component added successfully", recipeComponentService.create(dto)));
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Update recipe component quantity")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'TENANT_ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<RecipeComponentDTO>> update(@PathVariable Long id, @Valid @RequestBody RecipeComponentDTO dto) {
+        return ResponseEntity.ok(success("Recipe component updated successfully", recipeComponentService.update(id, dto)));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Remove recipe component")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'TENANT_ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<Void>> delete(@PathVariable Long id) {
+        recipeComponentService.delete(id);
+        return ResponseEntity.ok(success("Recipe component removed successfully"));
+    }
+}
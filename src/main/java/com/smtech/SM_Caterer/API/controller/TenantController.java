@@ -2,7 +2,10 @@ package com.smtech.SM_Caterer.API.controller;
 
 import com.smtech.SM_Caterer.API.dto.response.ApiResponse;
 import com.smtech.SM_Caterer.API.dto.response.PageResponse;
+import com.smtech.SM_Caterer.config.sharding.TenantMove;
+import com.smtech.SM_Caterer.config.sharding.TenantShardMover;
 import com.smtech.SM_Caterer.domain.enums.TenantStatus;
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
 import com.smtech.SM_Caterer.exception.ResourceNotFoundException;
 import com.smtech.SM_Caterer.service.TenantService;
 import com.smtech.SM_Caterer.service.dto.TenantDTO;
@@ -11,6 +14,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,6 +40,7 @@ import java.util.List;
 public class TenantController extends BaseController {
 
     private final TenantService tenantService;
+    private final ObjectProvider<TenantShardMover> tenantShardMover;
 
     @GetMapping
     @Operation(summary = "Get all tenants", description = "Get paginated list of all tenants")
@@ -110,4 +115,34 @@ public class TenantController extends BaseController {
         tenantService.delete(id);
         return ResponseEntity.ok(success("Tenant deleted successfully"));
     }
+
+    @PostMapping("/{id}/shard-move")
+    @Operation(summary = "Move tenant to another shard",
+            description = "Starts an online move of the tenant's data; writes are briefly frozen at the end")
+    public ResponseEntity<ApiResponse<TenantMove>> moveToShard(
+            @PathVariable Long id,
+            @RequestParam String targetShard) {
+        log.info("Moving tenant {} to shard {}", id, targetShard);
+        TenantMove move = shardMover().startMove(id, targetShard);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(success("Tenant move started", move));
+    }
+
+    @GetMapping("/{id}/shard-move")
+    @Operation(summary = "Get tenant shard move progress")
+    public ResponseEntity<ApiResponse<TenantMove>> getShardMove(@PathVariable Long id) {
+        TenantMove move = shardMover().getMove(id);
+        if (move == null) {
+            throw new ResourceNotFoundException("Tenant move", "tenantId", id);
+        }
+        return ResponseEntity.ok(success(move));
+    }
+
+    private TenantShardMover shardMover() {
+        TenantShardMover mover = tenantShardMover.getIfAvailable();
+        if (mover == null) {
+            throw new InvalidOperationException("Tenant sharding is not enabled");
+        }
+        return mover;
+    }
 }
@@ -1,6 +1,7 @@
 package com.smtech.SM_Caterer.API.filter;
 
 import com.smtech.SM_Caterer.config.JwtProperties;
+import com.smtech.SM_Caterer.context.TenantContext;
 import com.smtech.SM_Caterer.security.UserDetailsServiceImpl;
 import com.smtech.SM_Caterer.security.jwt.JwtTokenProvider;
 import jakarta.servlet.FilterChain;
@@ -51,7 +52,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
                 Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
 
-                UserDetails userDetails = userDetailsService.loadUserById(userId);
+                // Load the user on its tenant's shard (TenantContextFilter sets the tenant only after this)
+                UserDetails userDetails = TenantContext.callWithTenant(
+                        jwtTokenProvider.getTenantIdFromToken(jwt), () -> userDetailsService.loadUserById(userId));
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
@@ -2,6 +2,7 @@ package com.smtech.SM_Caterer.API.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smtech.SM_Caterer.config.RateLimitProperties;
+import com.smtech.SM_Caterer.security.ClientIpResolver;
 import com.smtech.SM_Caterer.security.CustomUserDetails;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
@@ -88,7 +89,7 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         }
 
         // Use IP address for unauthenticated requests
-        String ip = getClientIP(request);
+        String ip = ClientIpResolver.resolve(request);
         return "ip:" + ip;
     }
 
@@ -122,23 +123,6 @@ public class RateLimitingFilter extends OncePerRequestFilter {
                 .build();
     }
 
-    /**
-     * Extracts client IP address from request.
-     */
-    private String getClientIP(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIP = request.getHeader("X-Real-IP");
-        if (xRealIP != null && !xRealIP.isEmpty()) {
-            return xRealIP;
-        }
-
-        return request.getRemoteAddr();
-    }
-
     /**
      * Sends 429 Too Many Requests response.
      */
@@ -0,0 +1,71 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.config.storage.BlobCache;
+import com.smtech.SM_Caterer.config.storage.BlobStore;
+import com.smtech.SM_Caterer.config.storage.LocalBlobStore;
+import com.smtech.SM_Caterer.config.storage.S3BlobStore;
+import com.smtech.SM_Caterer.config.storage.S3RequestSigner;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Blob storage configuration.
+ *
+ * Builds the local store, or the S3 store with its read-through cache when
+ * app.storage.type=s3. The S3 store publishes storage.cache.hits,
+ * storage.cache.misses and storage.cache.size.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Slf4j
+@Configuration
+public class BlobStorageConfig {
+
+    @Bean
+    public BlobStore blobStore(BlobStorageProperties properties,
+                               ObjectProvider<MeterRegistry> meterRegistry) throws IOException {
+        if (properties.getType() == BlobStorageProperties.Type.LOCAL) {
+            log.info("Blob storage: local filesystem at {}", properties.getLocal().getRoot());
+            return new LocalBlobStore(Paths.get(properties.getLocal().getRoot()));
+        }
+
+        BlobStorageProperties.S3 s3 = properties.getS3();
+        if (!StringUtils.hasText(s3.getEndpoint()) || !StringUtils.hasText(s3.getBucket())) {
+            throw new IllegalStateException("app.storage.s3.endpoint and app.storage.s3.bucket are required");
+        }
+        BlobCache cache = new BlobCache(Paths.get(properties.getCache().getDir()),
+                properties.getCache().getMaxSizeMb() * 1024 * 1024);
+        meterRegistry.ifAvailable(registry -> {
+            FunctionCounter.builder("storage.cache.hits", cache, BlobCache::getHits)
+                    .description("Blob reads served from the local cache")
+                    .register(registry);
+            FunctionCounter.builder("storage.cache.misses", cache, BlobCache::getMisses)
+                    .description("Blob reads that went to the bucket")
+                    .register(registry);
+            Gauge.builder("storage.cache.size", cache, BlobCache::getSizeBytes)
+                    .description("Bytes held in the local blob cache")
+                    .baseUnit("bytes")
+                    .register(registry);
+        });
+
+        log.info("Blob storage: bucket {} at {}", s3.getBucket(), s3.getEndpoint());
+        return new S3BlobStore(URI.create(s3.getEndpoint()), s3.getBucket(), s3.isPathStyle(),
+                new S3RequestSigner(s3.getAccessKey(), s3.getSecretKey(), s3.getRegion()),
+                cache,
+                Duration.ofMillis(s3.getConnectTimeoutMs()),
+                Duration.ofMillis(s3.getRequestTimeoutMs()));
+    }
+}
@@ -0,0 +1,108 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Blob Storage Configuration Properties.
+ * Binds to app.storage.* properties in application.properties.
+ *
+ * Receipts, QR codes and logos are stored under content-addressed keys
+ * either on the local filesystem or in an S3-compatible bucket. With S3,
+ * recently read objects are kept in a local read-through cache.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.storage")
+public class BlobStorageProperties {
+
+    /**
+     * Storage backend: local or s3.
+     * Default: local
+     */
+    private Type type = Type.LOCAL;
+
+    private Local local = new Local();
+
+    private S3 s3 = new S3();
+
+    private Cache cache = new Cache();
+
+    public enum Type {
+        LOCAL,
+        S3
+    }
+
+    @Data
+    public static class Local {
+
+        /**
+         * Root directory of the local store. Keys are paths below it.
+         * Default: ./uploads
+         */
+        private String root = "./uploads";
+    }
+
+    @Data
+    public static class S3 {
+
+        /**
+         * Service endpoint, e.g. https://s3.ap-south-1.amazonaws.com or a
+         * MinIO URL.
+         */
+        private String endpoint;
+
+        /**
+         * Signing region.
+         * Default: us-east-1
+         */
+        private String region = "us-east-1";
+
+        private String bucket;
+
+        private String accessKey;
+
+        private String secretKey;
+
+        /**
+         * Address the bucket as endpoint/bucket rather than bucket.endpoint.
+         * Most S3-compatible servers need this.
+         * Default: true
+         */
+        private boolean pathStyle = true;
+
+        /**
+         * Connect timeout, in milliseconds.
+         * Default: 5000
+         */
+        private int connectTimeoutMs = 5000;
+
+        /**
+         * Timeout for a whole request, in milliseconds.
+         * Default: 60000
+         */
+        private int requestTimeoutMs = 60000;
+    }
+
+    @Data
+    public static class Cache {
+
+        /**
+         * Directory holding cached copies of remote objects.
+         * Default: ./blob-cache
+         */
+        private String dir = "./blob-cache";
+
+        /**
+         * Total size of cached copies, in megabytes; least recently used
+         * objects are evicted beyond it.
+         * Default: 256
+         */
+        private long maxSizeMb = 256;
+    }
+}
@@ -0,0 +1,29 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recipe Costing Configuration Properties.
+ * Binds to app.costing.* properties in application.properties.
+ *
+ * A menu's material cost per serve is recomputed only when a material it
+ * uses, its recipe or its serves count changes.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.costing")
+public class CostingProperties {
+
+    /**
+     * Most menus recomputed by one UPDATE statement; a material used by more
+     * menus is recomputed in several, keeping the IN list bounded.
+     * Default: 1000
+     */
+    private int updateBatchSize = 1000;
+}
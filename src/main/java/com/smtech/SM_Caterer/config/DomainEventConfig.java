@@ -0,0 +1,55 @@
+package com.smtech.SM_Caterer.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smtech.SM_Caterer.config.events.DomainEventOutbox;
+import com.smtech.SM_Caterer.config.events.DomainEventRelay;
+import com.smtech.SM_Caterer.config.events.DomainEventStore;
+import com.smtech.SM_Caterer.config.sharding.ShardRegistry;
+import com.smtech.SM_Caterer.domain.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Domain event outbox configuration.
+ *
+ * The relay polls one store per database, like the email outbox: every
+ * shard when tenant sharding is enabled, otherwise the application
+ * DataSource. Workers only start when app.events.outbox.enabled is true.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Configuration
+public class DomainEventConfig {
+
+    @Bean
+    public DomainEventRelay domainEventRelay(DataSource dataSource,
+                                             ObjectProvider<ShardRegistry> shardRegistry,
+                                             ApplicationEventPublisher publisher,
+                                             ObjectMapper objectMapper,
+                                             DomainEventProperties properties,
+                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        ShardRegistry registry = shardRegistry.getIfAvailable();
+        List<DomainEventStore> stores = registry == null
+                ? List.of(new DomainEventStore("default", dataSource))
+                : registry.getShardKeys().stream()
+                        .map(key -> new DomainEventStore(key, registry.getDataSource(key)))
+                        .toList();
+        return new DomainEventRelay(stores, publisher, objectMapper, properties,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    public DomainEventOutbox domainEventOutbox(OutboxEventRepository repository, ObjectMapper objectMapper,
+                                               DomainEventRelay relay) {
+        return new DomainEventOutbox(repository, objectMapper, relay);
+    }
+}
@@ -0,0 +1,98 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Domain Event Outbox Configuration Properties.
+ * Binds to app.events.outbox.* properties in application.properties.
+ *
+ * Order lifecycle events are written to outbox_events in the business
+ * transaction and delivered to in-process listeners after commit, in order
+ * per order, by a dedicated worker pool.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.events.outbox")
+public class DomainEventProperties {
+
+    /**
+     * Whether the relay workers run. When disabled, events stay queued.
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of relay worker threads.
+     * Default: 1
+     */
+    private int workers = 1;
+
+    /**
+     * Rows claimed per poll by one worker. Only the oldest undelivered event
+     * of each order is claimable, so a batch holds at most one event per order.
+     * Default: 100
+     */
+    private int batchSize = 100;
+
+    /**
+     * How long an idle worker waits before polling again, in milliseconds.
+     * New events wake the workers immediately after commit.
+     * Default: 2000
+     */
+    private long pollIntervalMs = 2000;
+
+    /**
+     * How long a claimed row stays locked to its worker, in seconds.
+     * Default: 60
+     */
+    private int leaseSeconds = 60;
+
+    /**
+     * Delivery attempts before an event is marked FAILED. A failed event no
+     * longer holds back later events of its order.
+     * Default: 8
+     */
+    private int maxAttempts = 8;
+
+    /**
+     * Delay before the first retry, in seconds.
+     * Default: 5
+     */
+    private int initialBackoffSeconds = 5;
+
+    /**
+     * Upper bound for the retry delay, in seconds.
+     * Default: 900
+     */
+    private int maxBackoffSeconds = 900;
+
+    /**
+     * Factor applied to the delay after each failed attempt.
+     * Default: 2.0
+     */
+    private double backoffMultiplier = 2.0;
+
+    /**
+     * How long published events are kept before they are purged, in hours.
+     * Default: 168 (7 days)
+     */
+    private int retentionHours = 168;
+
+    /**
+     * How often published events past retention are purged, in milliseconds.
+     * Default: 3600000 (1 hour)
+     */
+    private long purgeIntervalMs = 3600000;
+
+    /**
+     * How often the backlog metrics are refreshed, in milliseconds.
+     * Default: 15000
+     */
+    private long metricsRefreshMs = 15000;
+}
@@ -0,0 +1,50 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.config.mail.EmailOutboxRelay;
+import com.smtech.SM_Caterer.config.mail.EmailOutboxStore;
+import com.smtech.SM_Caterer.config.mail.SmtpOutboxEmailSender;
+import com.smtech.SM_Caterer.config.mail.SmtpTransportPool;
+import com.smtech.SM_Caterer.config.sharding.ShardRegistry;
+import com.smtech.SM_Caterer.config.storage.BlobStore;
+import com.smtech.SM_Caterer.domain.repository.TenantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Email outbox configuration.
+ *
+ * The relay polls one store per database: every shard when tenant sharding
+ * is enabled, otherwise the application DataSource. Workers only start when
+ * app.mail.outbox.enabled is true.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Configuration
+public class EmailOutboxConfig {
+
+    @Bean
+    public EmailOutboxRelay emailOutboxRelay(DataSource dataSource,
+                                             ObjectProvider<ShardRegistry> shardRegistry,
+                                             TenantRepository tenantRepository,
+                                             SmtpTransportPool smtpTransportPool,
+                                             BlobStore blobStore,
+                                             EmailOutboxProperties properties,
+                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        ShardRegistry registry = shardRegistry.getIfAvailable();
+        List<EmailOutboxStore> stores = registry == null
+                ? List.of(new EmailOutboxStore("default", dataSource))
+                : registry.getShardKeys().stream()
+                        .map(key -> new EmailOutboxStore(key, registry.getDataSource(key)))
+                        .toList();
+        return new EmailOutboxRelay(stores, new SmtpOutboxEmailSender(tenantRepository, smtpTransportPool, blobStore),
+                properties, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
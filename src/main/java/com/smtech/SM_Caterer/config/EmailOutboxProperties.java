@@ -0,0 +1,98 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Email Outbox Configuration Properties.
+ * Binds to app.mail.outbox.* properties in application.properties.
+ *
+ * Emails are written to email_logs as PENDING in the business transaction
+ * and delivered by a dedicated worker pool, so a full executor queue or a
+ * restart no longer loses them.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.mail.outbox")
+public class EmailOutboxProperties {
+
+    /**
+     * Whether the relay workers run. When disabled, emails stay queued.
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of relay worker threads.
+     * Default: 2
+     */
+    private int workers = 2;
+
+    /**
+     * Rows claimed per poll by one worker.
+     * Default: 10
+     */
+    private int batchSize = 10;
+
+    /**
+     * How long an idle worker waits before polling again, in milliseconds.
+     * New emails wake the workers immediately after commit.
+     * Default: 2000
+     */
+    private long pollIntervalMs = 2000;
+
+    /**
+     * How long a claimed row stays locked to its worker, in seconds. Rows of
+     * a worker that died mid-send are picked up again after this.
+     * Default: 120
+     */
+    private int leaseSeconds = 120;
+
+    /**
+     * Delivery attempts before an email is dead-lettered.
+     * Default: 6
+     */
+    private int maxAttempts = 6;
+
+    /**
+     * Delay before the first retry, in seconds.
+     * Default: 30
+     */
+    private int initialBackoffSeconds = 30;
+
+    /**
+     * Upper bound for the retry delay, in seconds.
+     * Default: 3600
+     */
+    private int maxBackoffSeconds = 3600;
+
+    /**
+     * Factor applied to the delay after each failed attempt.
+     * Default: 2.0
+     */
+    private double backoffMultiplier = 2.0;
+
+    /**
+     * Emails sent per tenant per minute; excess emails are deferred.
+     * Default: 30
+     */
+    private int ratePerMinutePerTenant = 30;
+
+    /**
+     * Emails sent per SMTP host per minute across all tenants using it;
+     * excess emails are deferred.
+     * Default: 120
+     */
+    private int ratePerMinutePerHost = 120;
+
+    /**
+     * How often the queue depth metrics are refreshed, in milliseconds.
+     * Default: 15000
+     */
+    private long metricsRefreshMs = 15000;
+}
@@ -1,6 +1,9 @@
 package com.smtech.SM_Caterer.config;
 
+import com.smtech.SM_Caterer.config.sharding.ShardRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,7 +11,11 @@ import org.springframework.context.annotation.Configuration;
 /**
  * Flyway configuration to handle failed migrations gracefully.
  * Runs repair before migrate to fix any failed migration entries.
+ *
+ * With tenant sharding enabled, the same migrations are then applied to
+ * every additional shard so all shards share one schema version.
  */
+@Slf4j
 @Configuration
 public class FlywayConfig {
 
@@ -17,12 +24,27 @@ public class FlywayConfig {
      * This handles the case where a previous migration failed partially.
      */
     @Bean
-    public FlywayMigrationStrategy flywayMigrationStrategy() {
+    public FlywayMigrationStrategy flywayMigrationStrategy(ObjectProvider<ShardRegistry> shardRegistry) {
         return (Flyway flyway) -> {
-            // Repair first to fix failed migration checksums and remove failed entries
-            flyway.repair();
-            // Then run migrate
-            flyway.migrate();
+            migrate(flyway);
+
+            ShardRegistry registry = shardRegistry.getIfAvailable();
+            if (registry != null) {
+                registry.getAdditionalShards().forEach((shard, dataSource) -> {
+                    log.info("Running Flyway migrations on shard {}", shard);
+                    migrate(Flyway.configure()
+                            .configuration(flyway.getConfiguration())
+                            .dataSource(dataSource)
+                            .load());
+                });
+            }
         };
     }
+
+    private void migrate(Flyway flyway) {
+        // Repair first to fix failed migration checksums and remove failed entries
+        flyway.repair();
+        // Then run migrate
+        flyway.migrate();
+    }
 }
@@ -0,0 +1,29 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.security.attempt.InMemoryLoginAttemptStore;
+import com.smtech.SM_Caterer.security.attempt.LoginAttemptStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Login attempt tracking configuration.
+ *
+ * Registers the per-node in-memory store unless another LoginAttemptStore
+ * bean is defined. A clustered deployment can provide a shared store
+ * (e.g. Redis) so failure windows and IP blocks are seen by every node;
+ * account locks are always shared through users.locked_until.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Configuration
+public class LoginAttemptConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(LoginAttemptStore.class)
+    public LoginAttemptStore loginAttemptStore() {
+        return new InMemoryLoginAttemptStore();
+    }
+}
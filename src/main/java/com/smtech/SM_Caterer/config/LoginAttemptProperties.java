@@ -0,0 +1,44 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Login Attempt Configuration Properties.
+ * Binds to security.login.* properties in application.properties.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "security.login")
+public class LoginAttemptProperties {
+
+    /**
+     * Failed attempts per username within the window before the account is locked.
+     * Default: 5
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * How long a locked account (or blocked IP) stays locked, in minutes.
+     * Default: 30
+     */
+    private int lockoutDurationMinutes = 30;
+
+    /**
+     * Length of the sliding window in which failures are counted, in minutes.
+     * Default: 15
+     */
+    private int attemptWindowMinutes = 15;
+
+    /**
+     * Failed attempts per client IP within the window before the IP is blocked.
+     * Higher than maxAttempts because offices share one public IP.
+     * Default: 50
+     */
+    private int ipMaxAttempts = 50;
+}
@@ -0,0 +1,45 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.config.mail.SmtpTransportPool;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SMTP connection pool configuration.
+ *
+ * Publishes mail.transport.connections, mail.transport.connections.idle,
+ * mail.transport.connects and mail.transport.reuses; a reuse count well
+ * above the connect count means handshakes are being saved.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Configuration
+public class MailTransportConfig {
+
+    @Bean
+    public SmtpTransportPool smtpTransportPool(MailTransportProperties properties,
+                                              ObjectProvider<MeterRegistry> meterRegistry) {
+        SmtpTransportPool pool = new SmtpTransportPool(properties);
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("mail.transport.connections", pool, SmtpTransportPool::getOpenConnections)
+                    .description("Open SMTP connections across all tenants")
+                    .register(registry);
+            Gauge.builder("mail.transport.connections.idle", pool, SmtpTransportPool::getIdleConnections)
+                    .description("Open SMTP connections waiting for reuse")
+                    .register(registry);
+            FunctionCounter.builder("mail.transport.connects", pool, SmtpTransportPool::getConnects)
+                    .description("SMTP connections opened")
+                    .register(registry);
+            FunctionCounter.builder("mail.transport.reuses", pool, SmtpTransportPool::getReuses)
+                    .description("Sends that reused an open SMTP connection")
+                    .register(registry);
+        });
+        return pool;
+    }
+}
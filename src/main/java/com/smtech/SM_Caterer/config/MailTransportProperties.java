@@ -0,0 +1,72 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * SMTP Connection Pool Configuration Properties.
+ * Binds to app.mail.transport.* properties in application.properties.
+ *
+ * Tenant SMTP connections are kept open after a send and reused, so a burst
+ * of confirmations and receipts pays the connect/STARTTLS/AUTH handshake once
+ * instead of once per message.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.mail.transport")
+public class MailTransportProperties {
+
+    /**
+     * Maximum open connections (and concurrent sends) per tenant.
+     * Default: 2
+     */
+    private int maxConnectionsPerTenant = 2;
+
+    /**
+     * Messages sent over one connection before it is closed and replaced.
+     * Mail servers cap messages per session (Gmail: 100).
+     * Default: 50
+     */
+    private int maxMessagesPerConnection = 50;
+
+    /**
+     * Idle connections older than this are closed by the eviction sweep, in seconds.
+     * Default: 60
+     */
+    private int idleTimeoutSeconds = 60;
+
+    /**
+     * Connections idle longer than this are checked with NOOP before reuse, in seconds.
+     * Default: 5
+     */
+    private int validateAfterIdleSeconds = 5;
+
+    /**
+     * How long a send waits for a free tenant connection, in milliseconds.
+     * Default: 10000
+     */
+    private long borrowTimeoutMs = 10000;
+
+    /**
+     * Eviction sweep interval in milliseconds.
+     * Default: 30000
+     */
+    private long evictionIntervalMs = 30000;
+
+    /**
+     * SMTP connect timeout in milliseconds.
+     * Default: 5000
+     */
+    private int connectionTimeoutMs = 5000;
+
+    /**
+     * SMTP read/write timeout in milliseconds.
+     * Default: 5000
+     */
+    private int socketTimeoutMs = 5000;
+}
@@ -1,5 +1,10 @@
 package com.smtech.SM_Caterer.config;
 
+import com.smtech.SM_Caterer.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -14,6 +19,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * - One-way hashing (cannot be decrypted)
  * - Takes ~100ms per encoding (protects against brute force)
  *
+ * Phase 8: Hashing runs on a bounded pool (see BoundedPasswordEncoder) so
+ * login storms are rejected with 429 instead of exhausting request threads.
+ * The cost factor comes from security.password.hashing.bcrypt-strength;
+ * stored hashes with a lower cost are re-hashed on the next successful login.
+ *
  * Usage:
  * <pre>
  * {@code
@@ -36,7 +46,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class PasswordEncoderConfig {
 
     /**
-     * Creates BCrypt password encoder with default strength (10).
+     * Creates BCrypt password encoder with configurable strength (default 10),
+     * executed on a dedicated bounded pool.
      *
      * Strength explanation:
      * - Strength 10 = 2^10 = 1,024 rounds (~100ms per encoding)
@@ -49,7 +60,18 @@ public class PasswordEncoderConfig {
      * @return PasswordEncoder configured with BCrypt
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(properties.getBcryptStrength()),
+                properties.getPoolSize(),
+                properties.getQueueCapacity(),
+                properties.getMaxWaitMs());
+
+        meterRegistry.ifAvailable(registry ->
+                new ExecutorServiceMetrics(encoder.getExecutor(), "password.hashing", Tags.empty())
+                        .bindTo(registry));
+
+        return encoder;
     }
 }
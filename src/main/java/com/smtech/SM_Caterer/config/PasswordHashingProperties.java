@@ -0,0 +1,54 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Password Hashing Configuration Properties.
+ * Binds to security.password.hashing.* properties in application.properties.
+ *
+ * BCrypt work is executed on a dedicated, bounded pool so that a burst of
+ * login attempts can never occupy every request thread.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "security.password.hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt cost factor (log2 rounds) used for new hashes.
+     * Raising it migrates existing users transparently on their next login.
+     * Default: 10
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * Number of threads dedicated to BCrypt hashing.
+     * Default: half of the available processors (minimum 1).
+     */
+    private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Number of hashing requests allowed to wait for a free thread.
+     * Requests beyond this are rejected immediately with 429.
+     * Default: 32
+     */
+    private int queueCapacity = 32;
+
+    /**
+     * Maximum time in milliseconds a request waits for its hash result.
+     * Default: 5000 (5 seconds)
+     */
+    private long maxWaitMs = 5000;
+
+    /**
+     * Retry-After value (seconds) sent with 429 responses.
+     * Default: 2
+     */
+    private int retryAfterSeconds = 2;
+}
@@ -0,0 +1,35 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Material Planning Configuration Properties.
+ * Binds to app.planning.* properties in application.properties.
+ *
+ * Material requirements are computed by exploding the menu items of
+ * confirmed and in-progress orders through their recipes, in memory.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.planning")
+public class PlanningProperties {
+
+    /**
+     * Longest date range one plan may cover, in days.
+     * Default: 92
+     */
+    private int maxRangeDays = 92;
+
+    /**
+     * Order menu lines from which the explosion is split across the common
+     * fork-join pool; smaller plans run on the calling thread.
+     * Default: 20000
+     */
+    private int parallelThreshold = 20000;
+}
@@ -0,0 +1,44 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * UPI QR Code Configuration Properties.
+ * Binds to app.qrcode.* properties in application.properties.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.qrcode")
+public class QrCodeProperties {
+
+    /**
+     * Width and height of generated QR codes, in pixels.
+     * Default: 300
+     */
+    private int size = 300;
+
+    /**
+     * Hours a QR code file is kept after it was last generated; older files
+     * are deleted by the sweeper.
+     * Default: 24
+     */
+    private int expiryHours = 24;
+
+    /**
+     * Encoded QR codes kept in memory, least recently used evicted first.
+     * Default: 256
+     */
+    private int cacheSize = 256;
+
+    /**
+     * How often expired QR code files are swept, in milliseconds.
+     * Default: 3600000 (1 hour)
+     */
+    private long sweepIntervalMs = 3600000;
+}
@@ -0,0 +1,37 @@
+package com.smtech.SM_Caterer.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Bulk receipt export configuration.
+ *
+ * Receipts are rendered on their own fixed pool so a large export cannot
+ * take request threads or CPU beyond app.receipts.export.threads. Pool
+ * metrics are published as receipt.export.*.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Configuration
+public class ReceiptExportConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService receiptExportExecutor(ReceiptExportProperties properties,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreads(),
+                new CustomizableThreadFactory("receipt-export-"));
+        meterRegistry.ifAvailable(registry ->
+                new ExecutorServiceMetrics(executor, "receipt.export", Tags.empty()).bindTo(registry));
+        return executor;
+    }
+}
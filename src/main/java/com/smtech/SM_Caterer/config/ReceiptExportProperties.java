@@ -0,0 +1,41 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bulk Receipt Export Configuration Properties.
+ * Binds to app.receipts.export.* properties in application.properties.
+ *
+ * Bulk exports render receipts on a small dedicated pool and stream them
+ * into a ZIP. Each export also takes a reporting bulkhead slot, which caps
+ * how many exports run at once per tenant and overall.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.receipts.export")
+public class ReceiptExportProperties {
+
+    /**
+     * Threads rendering receipts for bulk exports, shared by all tenants.
+     * Default: 4
+     */
+    private int threads = 4;
+
+    /**
+     * Receipts of one tenant rendered at once, across all its exports.
+     * Default: 2
+     */
+    private int maxConcurrentPerTenant = 2;
+
+    /**
+     * Maximum payments in one export; larger requests are rejected.
+     * Default: 1000
+     */
+    private int maxPayments = 1000;
+}
@@ -0,0 +1,40 @@
+package com.smtech.SM_Caterer.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Receipt pipeline configuration.
+ *
+ * Receipts of new payments are rendered on a fixed pool with a bounded
+ * queue. A full queue rejects the task rather than growing or running it
+ * on the caller; the payment stays PENDING and the sweeper retries it.
+ * Pool metrics are published as receipt.render.*.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Configuration
+public class ReceiptPipelineConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor receiptRenderExecutor(ReceiptPipelineProperties properties,
+                                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(properties.getWorkers(), properties.getWorkers(),
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                new CustomizableThreadFactory("receipt-render-"), new ThreadPoolExecutor.AbortPolicy());
+        meterRegistry.ifAvailable(registry ->
+                new ExecutorServiceMetrics(executor, "receipt.render", Tags.empty()).bindTo(registry));
+        return executor;
+    }
+}
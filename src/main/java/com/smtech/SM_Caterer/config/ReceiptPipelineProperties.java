@@ -0,0 +1,67 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Receipt Pipeline Configuration Properties.
+ * Binds to app.receipts.pipeline.* properties in application.properties.
+ *
+ * A new payment commits with its receipt PENDING; a bounded pool of render
+ * workers then stores the PDF and queues the receipt email. When the queue
+ * is full, payments wait for the sweeper instead of blocking the cashier.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.receipts.pipeline")
+public class ReceiptPipelineProperties {
+
+    /**
+     * Whether receipts are rendered. When disabled, receipts stay PENDING
+     * and are rendered on first download.
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Render worker threads.
+     * Default: 2
+     */
+    private int workers = 2;
+
+    /**
+     * Receipts waiting for a worker; further receipts are left to the sweeper.
+     * Default: 200
+     */
+    private int queueCapacity = 200;
+
+    /**
+     * Render attempts before a receipt is marked FAILED.
+     * Default: 5
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * How long a PENDING receipt must sit untouched before the sweeper
+     * queues it again, in seconds. Also the delay between failed attempts.
+     * Default: 60
+     */
+    private int retryAfterSeconds = 60;
+
+    /**
+     * How often the sweeper looks for PENDING receipts, in milliseconds.
+     * Default: 30000
+     */
+    private long sweepIntervalMs = 30000;
+
+    /**
+     * PENDING receipts read per tenant per sweep.
+     * Default: 100
+     */
+    private int sweepBatchSize = 100;
+}
@@ -0,0 +1,49 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Payment Reconciliation Configuration Properties.
+ * Binds to app.payments.reconciliation.* properties in application.properties.
+ *
+ * An uploaded bank or UPI statement is matched in one pass against an
+ * in-memory index of the tenant's pending payments; matched payments are
+ * completed in bulk.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.payments.reconciliation")
+public class ReconciliationProperties {
+
+    /**
+     * Days a statement date may differ from the payment date when a line is
+     * matched by amount rather than by reference.
+     * Default: 3
+     */
+    private int dateWindowDays = 3;
+
+    /**
+     * Maximum statement lines in one upload; larger statements are rejected.
+     * Default: 100000
+     */
+    private int maxLines = 100000;
+
+    /**
+     * Ambiguous and unmatched lines listed on the result page; the counts
+     * always cover the whole statement.
+     * Default: 500
+     */
+    private int maxReportedLines = 500;
+
+    /**
+     * Payment ids per bulk status UPDATE.
+     * Default: 1000
+     */
+    private int updateBatchSize = 1000;
+}
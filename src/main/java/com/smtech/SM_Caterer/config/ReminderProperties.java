@@ -0,0 +1,57 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Event Reminder Campaign Configuration Properties.
+ * Binds to app.mail.reminders.* properties in application.properties.
+ *
+ * A daily campaign queues event reminders (e.g. 7 days and 1 day before the
+ * event) and balance-due reminders for confirmed orders. Reminders go through
+ * the email outbox, paced per SMTP host and per tenant.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.mail.reminders")
+public class ReminderProperties {
+
+    /**
+     * Whether the daily campaign runs.
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * When the campaign runs (Spring cron, server time zone).
+     * Default: 0 0 8 * * * (08:00 daily)
+     */
+    private String cron = "0 0 8 * * *";
+
+    /**
+     * Days before the event on which an event reminder is sent.
+     * Default: 7, 1
+     */
+    private List<Integer> eventDaysBefore = new ArrayList<>(List.of(7, 1));
+
+    /**
+     * Days before the event on which a balance-due reminder is sent
+     * (only for orders with a balance outstanding). 0 = never.
+     * Default: 3
+     */
+    private int balanceDueDaysBefore = 3;
+
+    /**
+     * Orders read and queued per transaction.
+     * Default: 500
+     */
+    private int batchSize = 500;
+}
@@ -0,0 +1,82 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read Replica Configuration Properties.
+ * Binds to app.datasource.replica.* properties in application.properties.
+ *
+ * When enabled, read-only transactions are routed to the replica pool
+ * (see WorkloadRoutingDataSource). The primary pool keeps using
+ * spring.datasource.*.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * Whether read-only transactions are routed to the replica.
+     * Default: false (single primary pool)
+     */
+    private boolean enabled = false;
+
+    /**
+     * JDBC URL of the replica.
+     */
+    private String url;
+
+    /**
+     * Replica username (defaults to the primary username when blank).
+     */
+    private String username;
+
+    /**
+     * Replica password (defaults to the primary password when blank).
+     */
+    private String password;
+
+    /**
+     * Maximum connections in the replica pool.
+     * Default: 20
+     */
+    private int maximumPoolSize = 20;
+
+    /**
+     * Replica connection timeout in milliseconds. Kept short because a slow
+     * replica falls back to the primary.
+     * Default: 2000
+     */
+    private long connectionTimeoutMs = 2000;
+
+    /**
+     * Maximum tolerated replication lag in seconds. Beyond this, reads go to the primary.
+     * Default: 5
+     */
+    private int maxLagSeconds = 5;
+
+    /**
+     * Read-your-writes window in seconds: after a user (or request) writes,
+     * its read-only transactions stay on the primary for this long.
+     * Default: 5
+     */
+    private int stickinessSeconds = 5;
+
+    /**
+     * How often the replica health and lag are checked, in milliseconds.
+     * Default: 5000
+     */
+    private long healthCheckIntervalMs = 5000;
+
+    /**
+     * Query returning the replication lag in seconds as the first column.
+     * Blank uses MySQL SHOW REPLICA STATUS (Seconds_Behind_Source).
+     */
+    private String lagQuery;
+}
@@ -0,0 +1,47 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.config.reporting.ReportingBulkhead;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reporting bulkhead configuration.
+ *
+ * Publishes reporting.bulkhead.active, reporting.bulkhead.queued and
+ * reporting.bulkhead.rejected so saturation is visible next to the
+ * reporting pool's hikaricp.* metrics.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Configuration
+public class ReportingConfig {
+
+    @Bean
+    public ReportingBulkhead reportingBulkhead(ReportingProperties properties,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        ReportingProperties.Bulkhead config = properties.getBulkhead();
+        ReportingBulkhead bulkhead = new ReportingBulkhead(
+                config.getMaxConcurrent(),
+                config.getMaxConcurrentPerTenant(),
+                config.getMaxWaitMs(),
+                config.getRetryAfterSeconds());
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("reporting.bulkhead.active", bulkhead, ReportingBulkhead::getActive)
+                    .description("Heavy reports currently running")
+                    .register(registry);
+            Gauge.builder("reporting.bulkhead.queued", bulkhead, ReportingBulkhead::getQueued)
+                    .description("Heavy reports waiting for a slot")
+                    .register(registry);
+            FunctionCounter.builder("reporting.bulkhead.rejected", bulkhead, ReportingBulkhead::getRejected)
+                    .description("Heavy reports rejected because no slot was free")
+                    .register(registry);
+        });
+        return bulkhead;
+    }
+}
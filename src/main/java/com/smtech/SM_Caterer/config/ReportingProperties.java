@@ -0,0 +1,98 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reporting Workload Configuration Properties.
+ * Binds to app.reporting.* properties in application.properties.
+ *
+ * Reports, dashboard aggregates and exports run on their own connection
+ * pool so they cannot starve order entry, and behind a bulkhead that caps
+ * how many heavy reports run at once.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.reporting")
+public class ReportingProperties {
+
+    /**
+     * Dedicated reporting connection pool.
+     */
+    private Pool pool = new Pool();
+
+    /**
+     * Concurrency limits for heavy reports.
+     */
+    private Bulkhead bulkhead = new Bulkhead();
+
+    @Data
+    public static class Pool {
+        /**
+         * Whether reporting workloads use their own pool.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * JDBC URL (blank = same database as spring.datasource.url;
+         * point it at a replica to move reporting off the primary).
+         */
+        private String url;
+
+        /**
+         * Username (blank = primary username).
+         */
+        private String username;
+
+        /**
+         * Password (blank = primary password).
+         */
+        private String password;
+
+        /**
+         * Maximum connections in the reporting pool.
+         * Default: 5
+         */
+        private int maximumPoolSize = 5;
+
+        /**
+         * Connection timeout in milliseconds. Lower than the primary pool's so
+         * a saturated reporting pool fails fast.
+         * Default: 5000
+         */
+        private long connectionTimeoutMs = 5000;
+    }
+
+    @Data
+    public static class Bulkhead {
+        /**
+         * Maximum heavy reports running at once across all tenants.
+         * Default: 4
+         */
+        private int maxConcurrent = 4;
+
+        /**
+         * Maximum heavy reports running at once for one tenant.
+         * Default: 2
+         */
+        private int maxConcurrentPerTenant = 2;
+
+        /**
+         * How long a report waits for a free slot before being rejected, in milliseconds.
+         * Default: 2000
+         */
+        private long maxWaitMs = 2000;
+
+        /**
+         * Retry-After value sent with a rejection, in seconds.
+         * Default: 10
+         */
+        private int retryAfterSeconds = 10;
+    }
+}
@@ -0,0 +1,213 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.config.datasource.ReadYourWritesTracker;
+import com.smtech.SM_Caterer.config.datasource.ReplicaHealthMonitor;
+import com.smtech.SM_Caterer.config.datasource.WorkloadRoutingDataSource;
+import com.smtech.SM_Caterer.config.sharding.ShardRegistry;
+import com.smtech.SM_Caterer.config.sharding.TenantShardDirectory;
+import com.smtech.SM_Caterer.config.sharding.TenantShardMover;
+import com.smtech.SM_Caterer.config.sharding.TenantShardRoutingDataSource;
+import com.smtech.SM_Caterer.config.sharding.TenantTable;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Workload routing DataSource configuration.
+ *
+ * Active when the read replica (app.datasource.replica.enabled), the
+ * reporting pool (app.reporting.pool.enabled) or tenant sharding
+ * (app.sharding.enabled) is enabled. Replaces Spring Boot's single pool with:
+ * - primaryDataSource: Hikari pool from spring.datasource.* (also used by Flyway)
+ * - replicaDataSource: Hikari pool from app.datasource.replica.* (optional)
+ * - reportingDataSource: Hikari pool from app.reporting.pool.* (optional)
+ * - shardRegistry: Hikari pools from app.sharding.shards.* (optional)
+ * - dataSource (@Primary): lazy proxy over WorkloadRoutingDataSource, or with
+ *   sharding over TenantShardRoutingDataSource whose default shard is the
+ *   WorkloadRoutingDataSource; used by JPA and JdbcTemplate
+ *
+ * All pools publish the usual hikaricp.* metrics (tagged by pool name);
+ * replica lag and availability are published as datasource.replica.*.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Configuration
+@Conditional(RoutingDataSourceConfig.RoutingEnabledCondition.class)
+public class RoutingDataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+    public HikariDataSource replicaDataSource(DataSourceProperties primary, ReplicaDataSourceProperties replica) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("SM-Caterer-Replica-HikariCP");
+        dataSource.setDriverClassName(primary.determineDriverClassName());
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(StringUtils.hasText(replica.getUsername())
+                ? replica.getUsername() : primary.determineUsername());
+        dataSource.setPassword(StringUtils.hasText(replica.getPassword())
+                ? replica.getPassword() : primary.determinePassword());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replica.getConnectionTimeoutMs());
+        dataSource.setReadOnly(true);
+        // Start even if the replica is down; reads fall back to the primary
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.reporting.pool", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public HikariDataSource reportingDataSource(DataSourceProperties primary, ReportingProperties reporting) {
+        ReportingProperties.Pool pool = reporting.getPool();
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("SM-Caterer-Reporting-HikariCP");
+        dataSource.setDriverClassName(primary.determineDriverClassName());
+        dataSource.setJdbcUrl(StringUtils.hasText(pool.getUrl()) ? pool.getUrl() : primary.determineUrl());
+        dataSource.setUsername(StringUtils.hasText(pool.getUsername())
+                ? pool.getUsername() : primary.determineUsername());
+        dataSource.setPassword(StringUtils.hasText(pool.getPassword())
+                ? pool.getPassword() : primary.determinePassword());
+        dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        dataSource.setMinimumIdle(1);
+        dataSource.setConnectionTimeout(pool.getConnectionTimeoutMs());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+    public ReplicaHealthMonitor replicaHealthMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                     ReplicaDataSourceProperties properties,
+                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(
+                replicaDataSource, properties.getMaxLagSeconds(), properties.getLagQuery());
+        monitor.check();
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("datasource.replica.lag", monitor, ReplicaHealthMonitor::getLagSeconds)
+                    .description("Replication lag in seconds (-1 when unknown)")
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("datasource.replica.usable", monitor, m -> m.isUsable() ? 1 : 0)
+                    .description("1 when read-only transactions are routed to the replica")
+                    .register(registry);
+        });
+        return monitor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaDataSourceProperties properties) {
+        return new ReadYourWritesTracker(TimeUnit.SECONDS.toMillis(properties.getStickinessSeconds()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+    public ShardRegistry shardRegistry(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                       DataSourceProperties primary, ShardingProperties sharding) {
+        Map<String, HikariDataSource> shards = new LinkedHashMap<>();
+        sharding.getShards().forEach((key, shard) -> {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("SM-Caterer-Shard-" + key + "-HikariCP");
+            dataSource.setDriverClassName(primary.determineDriverClassName());
+            dataSource.setJdbcUrl(shard.getUrl());
+            dataSource.setUsername(StringUtils.hasText(shard.getUsername())
+                    ? shard.getUsername() : primary.determineUsername());
+            dataSource.setPassword(StringUtils.hasText(shard.getPassword())
+                    ? shard.getPassword() : primary.determinePassword());
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            shards.put(key, dataSource);
+        });
+        return new ShardRegistry(sharding.getDefaultShard(), primaryDataSource, shards);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+    public TenantShardDirectory tenantShardDirectory(ShardRegistry shardRegistry) {
+        return new TenantShardDirectory(shardRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+    public TenantShardMover tenantShardMover(ShardRegistry shardRegistry, TenantShardDirectory tenantShardDirectory,
+                                             ShardingProperties sharding) {
+        return new TenantShardMover(shardRegistry, tenantShardDirectory, TenantTable.ALL,
+                sharding.getMove().getBatchSize(), sharding.getMove().getFreezeGraceMs());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 @Qualifier("reportingDataSource") ObjectProvider<DataSource> reportingDataSource,
+                                 ObjectProvider<ReplicaHealthMonitor> replicaHealthMonitor,
+                                 ObjectProvider<ReadYourWritesTracker> readYourWritesTracker,
+                                 ObjectProvider<ShardRegistry> shardRegistry,
+                                 ObjectProvider<TenantShardDirectory> tenantShardDirectory,
+                                 ShardingProperties sharding) {
+        DataSource workload = new WorkloadRoutingDataSource(
+                primaryDataSource,
+                replicaDataSource.getIfAvailable(),
+                reportingDataSource.getIfAvailable(),
+                replicaHealthMonitor.getIfAvailable(),
+                readYourWritesTracker.getIfAvailable());
+
+        ShardRegistry registry = shardRegistry.getIfAvailable();
+        if (registry == null) {
+            return new LazyConnectionDataSourceProxy(workload);
+        }
+        Map<String, DataSource> shards = new LinkedHashMap<>(registry.getAdditionalShards());
+        shards.put(registry.getDefaultShard(), workload);
+        return new LazyConnectionDataSourceProxy(new TenantShardRoutingDataSource(
+                shards, registry.getDefaultShard(), tenantShardDirectory.getObject(),
+                sharding.getMove().getRetryAfterSeconds()));
+    }
+
+    /**
+     * Matches when at least one secondary pool or sharding is enabled.
+     */
+    static class RoutingEnabledCondition extends AnyNestedCondition {
+
+        RoutingEnabledCondition() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+        static class ReplicaEnabled {
+        }
+
+        @ConditionalOnProperty(prefix = "app.reporting.pool", name = "enabled", havingValue = "true",
+                matchIfMissing = true)
+        static class ReportingPoolEnabled {
+        }
+
+        @ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+        static class ShardingEnabled {
+        }
+    }
+}
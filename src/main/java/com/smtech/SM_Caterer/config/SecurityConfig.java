@@ -1,7 +1,9 @@
 package com.smtech.SM_Caterer.config;
 
 import com.smtech.SM_Caterer.API.filter.JwtAuthenticationFilter;
+import com.smtech.SM_Caterer.security.CustomAuthenticationFailureHandler;
 import com.smtech.SM_Caterer.security.CustomAuthenticationSuccessHandler;
+import com.smtech.SM_Caterer.security.attempt.LoginAttemptUserDetailsChecker;
 import com.smtech.SM_Caterer.security.jwt.JwtAuthenticationEntryPoint;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -17,6 +19,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -54,9 +57,12 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
     private final PasswordEncoder passwordEncoder;
     private final CorsProperties corsProperties;
     private final CustomAuthenticationSuccessHandler authenticationSuccessHandler;
+    private final CustomAuthenticationFailureHandler authenticationFailureHandler;
+    private final LoginAttemptUserDetailsChecker loginAttemptUserDetailsChecker;
 
     @Value("${security.remember-me.key:smcaterer-default-key}")
     private String rememberMeKey;
@@ -160,6 +166,7 @@ public class SecurityConfig {
                 .requestMatchers("/css/**", "/js/**", "/images/**", "/webjars/**").permitAll()
                 .requestMatchers("/static/**", "/favicon.ico", "/uploads/**").permitAll()
                 .requestMatchers("/health", "/actuator/health", "/actuator/info").permitAll()
+                .requestMatchers("/actuator/**").hasRole("SUPER_ADMIN")
                 .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/api-docs/**", "/v3/api-docs/**").permitAll()
 
                 // Admin pages - SUPER_ADMIN only
@@ -198,7 +205,7 @@ public class SecurityConfig {
                 .usernameParameter("username")
                 .passwordParameter("password")
                 .successHandler(authenticationSuccessHandler)
-                .failureUrl("/login?error=true")
+                .failureHandler(authenticationFailureHandler)
                 .permitAll()
             )
 
@@ -249,12 +256,16 @@ public class SecurityConfig {
 
     /**
      * Configures authentication provider with UserDetailsService and PasswordEncoder.
+     * The password service re-hashes stored passwords whose BCrypt cost is below
+     * the configured strength after a successful login.
      */
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
+        authProvider.setPreAuthenticationChecks(loginAttemptUserDetailsChecker);
         return authProvider;
     }
 
@@ -0,0 +1,104 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tenant Sharding Configuration Properties.
+ * Binds to app.sharding.* properties in application.properties.
+ *
+ * The default shard is the spring.datasource.* database, which also holds
+ * the tenant_shards directory and super admin data. Additional shards are
+ * listed under app.sharding.shards.&lt;key&gt;.*.
+ *
+ * Shards must use disjoint AUTO_INCREMENT ranges (auto_increment_increment /
+ * auto_increment_offset) because moved rows keep their ids.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.sharding")
+public class ShardingProperties {
+
+    /**
+     * Whether tenants can be placed on shards other than the default database.
+     * Default: false
+     */
+    private boolean enabled = false;
+
+    /**
+     * Key of the default shard (the spring.datasource.* database).
+     * Default: default
+     */
+    private String defaultShard = "default";
+
+    /**
+     * Additional shards by key.
+     */
+    private Map<String, Shard> shards = new LinkedHashMap<>();
+
+    /**
+     * How often the tenant_shards directory is reloaded, in milliseconds.
+     * Default: 5000
+     */
+    private long directoryRefreshMs = 5000;
+
+    /**
+     * Online tenant move settings.
+     */
+    private Move move = new Move();
+
+    @Data
+    public static class Shard {
+        /**
+         * JDBC URL of the shard.
+         */
+        private String url;
+
+        /**
+         * Username (blank = primary username).
+         */
+        private String username;
+
+        /**
+         * Password (blank = primary password).
+         */
+        private String password;
+
+        /**
+         * Maximum connections in the shard pool.
+         * Default: 20
+         */
+        private int maximumPoolSize = 20;
+    }
+
+    @Data
+    public static class Move {
+        /**
+         * Rows copied or deleted per batch.
+         * Default: 500
+         */
+        private int batchSize = 500;
+
+        /**
+         * Wait after freezing a tenant's writes before the final sync, in
+         * milliseconds. Must exceed directory-refresh-ms plus the longest
+         * write transaction so every instance has stopped writing.
+         * Default: 15000
+         */
+        private long freezeGraceMs = 15000;
+
+        /**
+         * Retry-After value sent while a tenant's writes are frozen, in seconds.
+         * Default: 30
+         */
+        private int retryAfterSeconds = 30;
+    }
+}
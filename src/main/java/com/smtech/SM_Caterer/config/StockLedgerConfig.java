@@ -0,0 +1,21 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.config.stock.StripedLocks;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Stock ledger configuration.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Configuration
+public class StockLedgerConfig {
+
+    @Bean
+    public StripedLocks stockLocks(StockProperties properties) {
+        return new StripedLocks(properties.getLockStripes());
+    }
+}
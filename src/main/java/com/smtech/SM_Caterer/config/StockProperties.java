@@ -0,0 +1,35 @@
+package com.smtech.SM_Caterer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stock Ledger Configuration Properties.
+ * Binds to app.stock.* properties in application.properties.
+ *
+ * Every stock change is a stock_movements row plus a conditional UPDATE of
+ * the material's balance, made under an in-process striped lock.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.stock")
+public class StockProperties {
+
+    /**
+     * Number of in-process lock stripes materials are hashed onto.
+     * Default: 64
+     */
+    private int lockStripes = 64;
+
+    /**
+     * How long a stock change waits for its lock stripe, in milliseconds,
+     * before failing.
+     * Default: 5000
+     */
+    private long lockTimeoutMs = 5000;
+}
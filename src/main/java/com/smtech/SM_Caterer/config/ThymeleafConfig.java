@@ -1,10 +1,8 @@
 package com.smtech.SM_Caterer.config;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import com.smtech.SM_Caterer.domain.entity.Tenant;
@@ -19,16 +17,12 @@ import org.springframework.security.core.context.SecurityContextHolder;
 /**
  * Web MVC configuration for Thymeleaf and static resources.
  * - Exposes request URI for navigation highlighting
- * - Serves uploaded files (logos) from external directory
  * - Exposes tenant branding information to all pages
  */
 @Configuration
 @RequiredArgsConstructor
 public class ThymeleafConfig implements WebMvcConfigurer {
 
-    @Value("${app.upload.logo-dir:uploads/logos}")
-    private String logoUploadDir;
-
     private final TenantRepository tenantRepository;
 
     @Override
@@ -36,13 +30,6 @@ public class ThymeleafConfig implements WebMvcConfigurer {
         registry.addInterceptor(new TenantBrandingInterceptor(tenantRepository));
     }
 
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // Serve uploaded logos from external directory
-        registry.addResourceHandler("/uploads/logos/**")
-                .addResourceLocations("file:" + logoUploadDir + "/");
-    }
-
     /**
      * Interceptor that adds request URI and tenant branding to model for use in Thymeleaf templates.
      */
@@ -78,9 +78,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/fonts/**")
                 .addResourceLocations("classpath:/static/fonts/");
 
-        // Uploaded files (logos, etc.)
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:uploads/");
+        // Uploaded logos are served from the blob store by UploadedLogoController
 
         // Webjars (if using)
         registry.addResourceHandler("/webjars/**")
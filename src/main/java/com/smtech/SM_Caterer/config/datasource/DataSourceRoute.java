@@ -0,0 +1,27 @@
+package com.smtech.SM_Caterer.config.datasource;
+
+/**
+ * Lookup keys of the routing DataSource.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public enum DataSourceRoute {
+
+    /**
+     * Primary (read-write) pool.
+     */
+    PRIMARY,
+
+    /**
+     * Read replica pool, used for read-only transactions.
+     */
+    REPLICA,
+
+    /**
+     * Dedicated reporting pool, used for read-only transactions of
+     * reports, dashboard aggregates and exports.
+     */
+    REPORTING
+}
@@ -0,0 +1,119 @@
+package com.smtech.SM_Caterer.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Tracks whether the read replica is reachable and within the lag tolerance.
+ *
+ * The lag is polled on a fixed delay. A replica is usable when the last
+ * check succeeded and the lag was at most maxLagSeconds. Connection failures
+ * seen by the router mark it unusable immediately; the next successful
+ * check brings it back.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Slf4j
+public class ReplicaHealthMonitor {
+
+    private static final String MYSQL_LAG_QUERY = "SHOW REPLICA STATUS";
+    private static final String MYSQL_LAG_COLUMN = "Seconds_Behind_Source";
+
+    /**
+     * Lag value meaning "unknown": replication stopped or the query failed.
+     */
+    static final long UNKNOWN_LAG = -1;
+
+    private final DataSource replica;
+    private final int maxLagSeconds;
+    private final String lagQuery;
+
+    private volatile boolean available;
+    private volatile long lagSeconds = UNKNOWN_LAG;
+
+    public ReplicaHealthMonitor(DataSource replica, int maxLagSeconds, String lagQuery) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+        this.lagQuery = lagQuery;
+    }
+
+    /**
+     * Checks if read-only transactions may use the replica.
+     *
+     * @return true if reachable and lag is within tolerance
+     */
+    public boolean isUsable() {
+        return available && lagSeconds >= 0 && lagSeconds <= maxLagSeconds;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    /**
+     * Marks the replica unusable after a failed connection attempt.
+     *
+     * @param cause Connection failure
+     */
+    public void markUnavailable(Throwable cause) {
+        if (available) {
+            log.warn("Read replica unavailable, routing reads to primary: {}", cause.getMessage());
+        }
+        available = false;
+    }
+
+    /**
+     * Polls replica reachability and lag.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.health-check-interval-ms:5000}")
+    public void check() {
+        boolean wasUsable = isUsable();
+        try (Connection connection = replica.getConnection()) {
+            lagSeconds = queryLag(connection);
+            available = true;
+        } catch (SQLException ex) {
+            lagSeconds = UNKNOWN_LAG;
+            markUnavailable(ex);
+            return;
+        }
+
+        if (wasUsable && !isUsable()) {
+            log.warn("Read replica lag {}s exceeds tolerance of {}s, routing reads to primary",
+                    lagSeconds, maxLagSeconds);
+        } else if (!wasUsable && isUsable()) {
+            log.info("Read replica usable (lag {}s)", lagSeconds);
+        }
+    }
+
+    private long queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (StringUtils.hasText(lagQuery)) {
+                try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                    return rs.next() ? toLag(rs.getObject(1)) : UNKNOWN_LAG;
+                }
+            }
+            try (ResultSet rs = statement.executeQuery(MYSQL_LAG_QUERY)) {
+                // No row: the server is not configured as a replica, so it cannot lag
+                return rs.next() ? toLag(rs.getObject(MYSQL_LAG_COLUMN)) : 0;
+            }
+        }
+    }
+
+    private long toLag(Object value) {
+        // NULL Seconds_Behind_Source means the replication threads are stopped
+        return value instanceof Number number ? number.longValue() : UNKNOWN_LAG;
+    }
+}
@@ -0,0 +1,116 @@
+package com.smtech.SM_Caterer.config.datasource;
+
+import com.smtech.SM_Caterer.context.ReportingContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Routes connections by workload: primary, read replica or reporting pool.
+ *
+ * Routing rules:
+ * - Read-write transaction or no transaction: PRIMARY (and records a write
+ *   for read-your-writes stickiness)
+ * - Read-only transaction inside a @ReportingWorkload: REPORTING
+ * - Other read-only transaction: REPLICA, unless the current user/request
+ *   wrote recently, or the replica is unreachable or lagging beyond tolerance
+ * - Replica connection failure: falls back to PRIMARY
+ *
+ * The replica and reporting pools are optional; without them the
+ * corresponding traffic stays on PRIMARY.
+ *
+ * Must be wrapped in a LazyConnectionDataSourceProxy so the connection is
+ * fetched after Spring has published the transaction's read-only flag.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final DataSource reporting;
+    private final ReplicaHealthMonitor healthMonitor;
+    private final ReadYourWritesTracker writesTracker;
+
+    /**
+     * @param primary Read-write pool
+     * @param replica Read replica pool, or null
+     * @param reporting Reporting pool, or null
+     * @param healthMonitor Replica health (required with a replica)
+     * @param writesTracker Read-your-writes tracker (required with a replica)
+     */
+    public WorkloadRoutingDataSource(DataSource primary, DataSource replica, DataSource reporting,
+                                     ReplicaHealthMonitor healthMonitor,
+                                     ReadYourWritesTracker writesTracker) {
+        this.primary = primary;
+        this.replica = replica;
+        this.reporting = reporting;
+        this.healthMonitor = healthMonitor;
+        this.writesTracker = writesTracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(DataSourceRoute.PRIMARY, primary);
+        if (replica != null) {
+            targets.put(DataSourceRoute.REPLICA, replica);
+        }
+        if (reporting != null) {
+            targets.put(DataSourceRoute.REPORTING, reporting);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (writesTracker != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                writesTracker.recordWrite();
+            }
+            return DataSourceRoute.PRIMARY;
+        }
+        if (reporting != null && ReportingContext.isActive()) {
+            return DataSourceRoute.REPORTING;
+        }
+        if (replica == null || writesTracker.isSticky() || !healthMonitor.isUsable()) {
+            return DataSourceRoute.PRIMARY;
+        }
+        return DataSourceRoute.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target != replica) {
+            return target.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException ex) {
+            healthMonitor.markUnavailable(ex);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target != replica) {
+            return target.getConnection(username, password);
+        }
+        try {
+            return replica.getConnection(username, password);
+        } catch (SQLException ex) {
+            healthMonitor.markUnavailable(ex);
+            return primary.getConnection(username, password);
+        }
+    }
+}
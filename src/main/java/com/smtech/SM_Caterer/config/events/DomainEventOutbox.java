@@ -0,0 +1,75 @@
+package com.smtech.SM_Caterer.config.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smtech.SM_Caterer.domain.entity.OutboxEvent;
+import com.smtech.SM_Caterer.domain.event.DomainEvent;
+import com.smtech.SM_Caterer.domain.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Records domain events in the outbox_events table.
+ *
+ * The row is written in the caller's transaction, so an event exists if and
+ * only if the change it describes was committed. After commit the relay is
+ * woken to deliver it; until then listeners see nothing.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Slf4j
+public class DomainEventOutbox {
+
+    private final OutboxEventRepository repository;
+    private final ObjectMapper objectMapper;
+    private final DomainEventRelay relay;
+
+    public DomainEventOutbox(OutboxEventRepository repository, ObjectMapper objectMapper, DomainEventRelay relay) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.relay = relay;
+    }
+
+    /**
+     * Appends an event to the outbox.
+     *
+     * @param event Event to record; null is ignored
+     * @throws IllegalStateException if no transaction is active
+     */
+    public void append(DomainEvent event) {
+        if (event == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Domain events must be recorded inside a transaction");
+        }
+
+        OutboxEvent row = OutboxEvent.builder()
+                .tenantId(event.tenantId())
+                .aggregateType(event.aggregateType())
+                .aggregateId(event.aggregateId())
+                .eventType(DomainEventTypes.nameOf(event))
+                .payload(write(event))
+                .build();
+        repository.save(row);
+        log.debug("Recorded {} for {} {}", row.getEventType(), row.getAggregateType(), row.getAggregateId());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.wake();
+            }
+        });
+    }
+
+    private String write(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + DomainEventTypes.nameOf(event), e);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.smtech.SM_Caterer.config.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smtech.SM_Caterer.config.DomainEventProperties;
+import com.smtech.SM_Caterer.context.TenantContext;
+import com.smtech.SM_Caterer.domain.event.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers domain events from the outbox_events table to in-process
+ * listeners.
+ *
+ * Workers claim a batch from every store (one per shard), publish each event
+ * through the ApplicationEventPublisher with the event's tenant set in
+ * TenantContext, and mark the delivered rows PUBLISHED in one batch update.
+ * Workers sleep for pollIntervalMs when there is no work and are woken early
+ * when a transaction that recorded events commits.
+ *
+ * Delivery rules:
+ * - All listeners return: PUBLISHED
+ * - A listener throws: RETRY after an exponential delay (initialBackoff *
+ *   multiplier^(attempt-1), capped at maxBackoff, +/-20% jitter); later
+ *   events of the same aggregate wait for it
+ * - maxAttempts reached, or the row cannot be read back as an event: FAILED
+ *
+ * Listeners run synchronously on the worker thread; a listener that needs a
+ * transaction declares its own.
+ *
+ * Metrics: events.outbox.backlog, events.outbox.failed (sampled),
+ * events.outbox.latency (recorded to delivered), events.outbox.deliveries
+ * (tagged by outcome).
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Slf4j
+public class DomainEventRelay implements SmartLifecycle {
+
+    private static final int PURGE_CHUNK_SIZE = 1000;
+
+    private final List<DomainEventStore> stores;
+    private final ApplicationEventPublisher publisher;
+    private final ObjectMapper objectMapper;
+    private final DomainEventProperties properties;
+
+    private final Object signal = new Object();
+    private boolean signalled;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong failedEvents = new AtomicLong();
+    private final Timer latencyTimer;
+    private final Counter published;
+    private final Counter retried;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private ExecutorService workers;
+
+    public DomainEventRelay(List<DomainEventStore> stores, ApplicationEventPublisher publisher,
+                            ObjectMapper objectMapper, DomainEventProperties properties, MeterRegistry registry) {
+        this.stores = stores;
+        this.publisher = publisher;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+
+        Gauge.builder("events.outbox.backlog", backlog, AtomicLong::get)
+                .description("Domain events waiting for delivery or being delivered")
+                .register(registry);
+        Gauge.builder("events.outbox.failed", failedEvents, AtomicLong::get)
+                .description("Domain events that exhausted their delivery attempts")
+                .register(registry);
+        this.latencyTimer = Timer.builder("events.outbox.latency")
+                .description("Time from recording a domain event to its delivery")
+                .register(registry);
+        this.published = deliveries(registry, "published");
+        this.retried = deliveries(registry, "retry");
+        this.failed = deliveries(registry, "failed");
+    }
+
+    /**
+     * Wakes idle workers; called after a transaction that recorded events commits.
+     */
+    public void wake() {
+        synchronized (signal) {
+            signalled = true;
+            signal.notifyAll();
+        }
+    }
+
+    /**
+     * Claims and delivers one batch from every store.
+     *
+     * @return Number of events processed
+     */
+    public int pollOnce() {
+        int processed = 0;
+        for (DomainEventStore store : stores) {
+            LocalDateTime leaseUntil = LocalDateTime.now().plusSeconds(properties.getLeaseSeconds());
+            List<StoredEvent> claimed = store.claim(properties.getBatchSize(), leaseUntil);
+            List<Long> delivered = new ArrayList<>(claimed.size());
+            for (StoredEvent event : claimed) {
+                if (deliver(store, event)) {
+                    delivered.add(event.id());
+                }
+                processed++;
+            }
+            store.markPublished(delivered);
+        }
+        return processed;
+    }
+
+    /**
+     * Samples backlog and failed events for the gauges.
+     */
+    @Scheduled(fixedDelayString = "${app.events.outbox.metrics-refresh-ms:15000}")
+    public void refreshMetrics() {
+        if (!running) {
+            return;
+        }
+        try {
+            backlog.set(stores.stream().mapToLong(DomainEventStore::countBacklog).sum());
+            failedEvents.set(stores.stream().mapToLong(DomainEventStore::countFailed).sum());
+        } catch (RuntimeException e) {
+            log.debug("Could not refresh domain event metrics: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes published events past the retention period.
+     */
+    @Scheduled(fixedDelayString = "${app.events.outbox.purge-interval-ms:3600000}")
+    public void purgePublished() {
+        if (!running) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(properties.getRetentionHours());
+        for (DomainEventStore store : stores) {
+            try {
+                int deleted = store.purgePublished(cutoff, PURGE_CHUNK_SIZE);
+                if (deleted > 0) {
+                    log.info("Purged {} published domain event(s) from {}", deleted, store.getName());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not purge domain events from {}: {}", store.getName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return true if the event was delivered and can be marked published
+     */
+    private boolean deliver(DomainEventStore store, StoredEvent stored) {
+        int attempt = stored.attempts() + 1;
+        DomainEvent event;
+        try {
+            event = read(stored);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            store.markFailed(stored.id(), attempt, "Unreadable event: " + e.getMessage());
+            failed.increment();
+            log.error("Domain event {} ({}) cannot be read and was marked failed: {}",
+                    stored.id(), stored.eventType(), e.getMessage());
+            return false;
+        }
+
+        try {
+            TenantContext.runWithTenant(stored.tenantId(), () -> publisher.publishEvent(event));
+            published.increment();
+            if (stored.createdAt() != null) {
+                latencyTimer.record(Duration.between(stored.createdAt(), LocalDateTime.now()));
+            }
+            log.debug("Domain event {} {} delivered for {} {}",
+                    stored.id(), stored.eventType(), stored.aggregateType(), stored.aggregateId());
+            return true;
+        } catch (RuntimeException e) {
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            if (attempt >= properties.getMaxAttempts()) {
+                store.markFailed(stored.id(), attempt, error);
+                failed.increment();
+                log.error("Domain event {} {} for {} {} failed after {} attempt(s): {}",
+                        stored.id(), stored.eventType(), stored.aggregateType(), stored.aggregateId(),
+                        attempt, error);
+            } else {
+                LocalDateTime next = LocalDateTime.now().plus(backoff(attempt));
+                store.markRetry(stored.id(), attempt, next, error);
+                retried.increment();
+                log.warn("Domain event {} {} listener failed (attempt {}), retrying at {}: {}",
+                        stored.id(), stored.eventType(), attempt, next, error);
+            }
+            return false;
+        }
+    }
+
+    private DomainEvent read(StoredEvent stored) throws JsonProcessingException {
+        Class<? extends DomainEvent> type = DomainEventTypes.resolve(stored.eventType());
+        if (type == null) {
+            throw new IllegalArgumentException("unknown event type " + stored.eventType());
+        }
+        return objectMapper.readValue(stored.payload(), type);
+    }
+
+    Duration backoff(int attempt) {
+        double seconds = properties.getInitialBackoffSeconds()
+                * Math.pow(properties.getBackoffMultiplier(), attempt - 1);
+        seconds = Math.min(seconds, properties.getMaxBackoffSeconds());
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (seconds * jitter * 1000));
+    }
+
+    private static Counter deliveries(MeterRegistry registry, String outcome) {
+        return Counter.builder("events.outbox.deliveries")
+                .description("Domain event deliveries by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    // ===== Lifecycle =====
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        workers = Executors.newFixedThreadPool(properties.getWorkers(), new CustomizableThreadFactory("domain-events-"));
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.submit(this::runWorker);
+        }
+        log.info("Domain event relay started with {} worker(s) on {} store(s)", properties.getWorkers(), stores.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        wake();
+        if (workers != null) {
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                    workers.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                workers.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+
+    private void runWorker() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            int processed = 0;
+            try {
+                processed = pollOnce();
+            } catch (RuntimeException e) {
+                log.warn("Domain event poll failed: {}", e.getMessage());
+            }
+            if (processed == 0) {
+                awaitWork();
+            }
+        }
+    }
+
+    private void awaitWork() {
+        synchronized (signal) {
+            try {
+                if (!signalled && running) {
+                    signal.wait(properties.getPollIntervalMs());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            signalled = false;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.smtech.SM_Caterer.config.events;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * outbox_events queries on one database (one per shard).
+ *
+ * Rows are claimed with SELECT ... FOR UPDATE SKIP LOCKED and leased to the
+ * worker by moving them to PROCESSING with locked_until, as in the email
+ * outbox. A row is only claimable while no earlier row of the same aggregate
+ * is still PENDING, RETRY or PROCESSING, so each aggregate's events are
+ * delivered one at a time in id order even with several workers; a FAILED
+ * row stops holding back the rows after it.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public class DomainEventStore {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String CLAIM_SQL = """
+            SELECT e.id, e.tenant_id, e.aggregate_type, e.aggregate_id, e.event_type, e.payload,
+                   e.attempts, e.created_at
+            FROM outbox_events e
+            WHERE ((e.status IN ('PENDING', 'RETRY') AND (e.next_attempt_at IS NULL OR e.next_attempt_at <= ?))
+                   OR (e.status = 'PROCESSING' AND e.locked_until < ?))
+              AND NOT EXISTS (
+                  SELECT 1 FROM outbox_events p
+                  WHERE p.aggregate_type = e.aggregate_type
+                    AND p.aggregate_id = e.aggregate_id
+                    AND p.id < e.id
+                    AND p.status IN ('PENDING', 'RETRY', 'PROCESSING'))
+            ORDER BY e.id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final RowMapper<StoredEvent> ROW_MAPPER = (rs, rowNum) -> new StoredEvent(
+            rs.getLong("id"),
+            rs.getLong("tenant_id"),
+            rs.getString("aggregate_type"),
+            rs.getLong("aggregate_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getInt("attempts"),
+            rs.getTimestamp("created_at") != null ? rs.getTimestamp("created_at").toLocalDateTime() : null);
+
+    private final String name;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * @param name Shard key (for logging)
+     * @param dataSource Database holding the outbox_events rows
+     */
+    public DomainEventStore(String name, DataSource dataSource) {
+        this.name = name;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Claims due events, at most one per aggregate, and leases them to the caller.
+     *
+     * @param limit Maximum rows
+     * @param leaseUntil End of the lease
+     * @return Claimed events, oldest first
+     */
+    public List<StoredEvent> claim(int limit, LocalDateTime leaseUntil) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return transactionTemplate.execute(status -> {
+            List<StoredEvent> claimed = jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER, now, now, limit);
+            if (!claimed.isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                        "UPDATE outbox_events SET status = 'PROCESSING', locked_until = ? WHERE id = ?",
+                        claimed, claimed.size(), (ps, event) -> {
+                            ps.setTimestamp(1, Timestamp.valueOf(leaseUntil));
+                            ps.setLong(2, event.id());
+                        });
+            }
+            return claimed;
+        });
+    }
+
+    /**
+     * Marks delivered events in one batch.
+     */
+    public void markPublished(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+                UPDATE outbox_events
+                SET status = 'PUBLISHED', published_at = ?, attempts = attempts + 1, last_error = NULL,
+                    next_attempt_at = NULL, locked_until = NULL
+                WHERE id = ?""",
+                ids, ids.size(), (ps, id) -> {
+                    ps.setTimestamp(1, now);
+                    ps.setLong(2, id);
+                });
+    }
+
+    public void markRetry(Long id, int attempts, LocalDateTime nextAttemptAt, String error) {
+        jdbcTemplate.update("""
+                UPDATE outbox_events
+                SET status = 'RETRY', attempts = ?, next_attempt_at = ?, last_error = ?, locked_until = NULL
+                WHERE id = ?""",
+                attempts, Timestamp.valueOf(nextAttemptAt), truncate(error), id);
+    }
+
+    public void markFailed(Long id, int attempts, String error) {
+        jdbcTemplate.update("""
+                UPDATE outbox_events
+                SET status = 'FAILED', attempts = ?, next_attempt_at = NULL, last_error = ?, locked_until = NULL
+                WHERE id = ?""",
+                attempts, truncate(error), id);
+    }
+
+    /**
+     * Deletes published events older than a cutoff, a chunk at a time.
+     *
+     * @return Rows deleted
+     */
+    public int purgePublished(LocalDateTime publishedBefore, int chunkSize) {
+        Timestamp cutoff = Timestamp.valueOf(publishedBefore);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(
+                    "DELETE FROM outbox_events WHERE status = 'PUBLISHED' AND published_at < ? LIMIT ?",
+                    cutoff, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+        return total;
+    }
+
+    /**
+     * @return Events waiting for delivery or being delivered
+     */
+    public long countBacklog() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE status IN ('PENDING', 'RETRY', 'PROCESSING')",
+                Long.class);
+        return count != null ? count : 0;
+    }
+
+    public long countFailed() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE status = 'FAILED'", Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,45 @@
+package com.smtech.SM_Caterer.config.events;
+
+import com.smtech.SM_Caterer.domain.event.DomainEvent;
+import com.smtech.SM_Caterer.domain.event.MaterialStockEvent;
+import com.smtech.SM_Caterer.domain.event.OrderEvent;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Names under which event classes are stored in outbox_events.event_type.
+ *
+ * The name is the record's simple name, so renaming an event record strands
+ * queued rows of the old name (they are marked FAILED). New event families
+ * are added to {@link #TYPES} as a sealed interface.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public final class DomainEventTypes {
+
+    private static final Map<String, Class<? extends DomainEvent>> TYPES =
+            Stream.of(OrderEvent.class, MaterialStockEvent.class)
+                    .flatMap(family -> Arrays.stream(family.getPermittedSubclasses()))
+                    .map(type -> type.asSubclass(DomainEvent.class))
+                    .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private DomainEventTypes() {
+    }
+
+    public static String nameOf(DomainEvent event) {
+        return event.getClass().getSimpleName();
+    }
+
+    /**
+     * @return Event class for a stored name, or null if unknown
+     */
+    public static Class<? extends DomainEvent> resolve(String name) {
+        return TYPES.get(name);
+    }
+}
@@ -0,0 +1,30 @@
+package com.smtech.SM_Caterer.config.events;
+
+import java.time.LocalDateTime;
+
+/**
+ * An outbox_events row claimed for delivery.
+ *
+ * @param id Row ID
+ * @param tenantId Tenant the event belongs to
+ * @param aggregateType Aggregate kind, e.g. ORDER
+ * @param aggregateId Aggregate ID
+ * @param eventType Event type name (see {@link DomainEventTypes})
+ * @param payload Event as JSON
+ * @param attempts Delivery attempts so far
+ * @param createdAt When the event was recorded
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public record StoredEvent(
+        Long id,
+        Long tenantId,
+        String aggregateType,
+        Long aggregateId,
+        String eventType,
+        String payload,
+        int attempts,
+        LocalDateTime createdAt) {
+}
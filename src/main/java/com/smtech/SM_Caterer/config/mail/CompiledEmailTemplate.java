@@ -0,0 +1,79 @@
+package com.smtech.SM_Caterer.config.mail;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template already rendered with one tenant's branding, split into
+ * literal HTML segments and per-message variable slots.
+ *
+ * Rendering is string concatenation with HTML escaping of the values, the
+ * same output th:text would produce.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public final class CompiledEmailTemplate {
+
+    private final String[] literals;
+    private final String[] slots;
+    private final int literalLength;
+
+    private CompiledEmailTemplate(List<String> literals, List<String> slots) {
+        this.literals = literals.toArray(String[]::new);
+        this.slots = slots.toArray(String[]::new);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Splits a shell rendered with marker values ("{prefix}{name}}}") into segments.
+     *
+     * @param shell Rendered HTML containing markers
+     * @param markerPrefix Marker prefix; markers end with "}}"
+     * @return Compiled template
+     */
+    static CompiledEmailTemplate compile(String shell, String markerPrefix) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int position = 0;
+        int start;
+        while ((start = shell.indexOf(markerPrefix, position)) >= 0) {
+            int end = shell.indexOf("}}", start + markerPrefix.length());
+            if (end < 0) {
+                break;
+            }
+            literals.add(shell.substring(position, start));
+            slots.add(shell.substring(start + markerPrefix.length(), end));
+            position = end + 2;
+        }
+        literals.add(shell.substring(position));
+        return new CompiledEmailTemplate(literals, slots);
+    }
+
+    /**
+     * @param variables Per-message values; missing or null values render empty
+     * @return HTML body
+     */
+    public String render(Map<String, ?> variables) {
+        StringBuilder html = new StringBuilder(literalLength + slots.length * 32);
+        for (int i = 0; i < slots.length; i++) {
+            html.append(literals[i]);
+            Object value = variables.get(slots[i]);
+            if (value != null) {
+                html.append(HtmlUtils.htmlEscape(value.toString(), "UTF-8"));
+            }
+        }
+        return html.append(literals[slots.length]).toString();
+    }
+
+    /**
+     * @return Variable names in order of appearance (a name may repeat)
+     */
+    List<String> getSlots() {
+        return List.of(slots);
+    }
+}
@@ -0,0 +1,299 @@
+package com.smtech.SM_Caterer.config.mail;
+
+import com.smtech.SM_Caterer.config.EmailOutboxProperties;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.EstimationProbe;
+import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.SendFailedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers queued emails from the email_logs outbox.
+ *
+ * A fixed pool of worker threads claims due rows from every store (one per
+ * shard) and sends them. Workers sleep for pollIntervalMs when there is no
+ * work and are woken early when an email is queued.
+ *
+ * Delivery rules:
+ * - Success: SENT
+ * - Failure: RETRY after an exponential delay (initialBackoff *
+ *   multiplier^(attempt-1), capped at maxBackoff, +/-20% jitter)
+ * - maxAttempts reached, or a permanent failure (recipient rejected, email
+ *   not configured): DEAD_LETTER
+ * - Tenant over ratePerMinutePerTenant, or its SMTP host over
+ *   ratePerMinutePerHost: deferred until a token frees up, without
+ *   counting an attempt
+ *
+ * Metrics: email.outbox.depth, email.outbox.dead.letters (sampled),
+ * email.outbox.send (SMTP time), email.outbox.latency (queued to sent),
+ * email.outbox.attempts (tagged by outcome).
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Slf4j
+public class EmailOutboxRelay implements SmartLifecycle {
+
+    private final List<EmailOutboxStore> stores;
+    private final OutboxEmailSender sender;
+    private final EmailOutboxProperties properties;
+
+    private final Map<Long, Bucket> tenantBuckets = new ConcurrentHashMap<>();
+    private final Map<String, Bucket> hostBuckets = new ConcurrentHashMap<>();
+    private final Object signal = new Object();
+    private boolean signalled;
+
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong deadLetters = new AtomicLong();
+    private final Timer sendTimer;
+    private final Timer latencyTimer;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter deadLettered;
+    private final Counter deferred;
+
+    private volatile boolean running;
+    private ExecutorService workers;
+
+    public EmailOutboxRelay(List<EmailOutboxStore> stores, OutboxEmailSender sender,
+                            EmailOutboxProperties properties, MeterRegistry registry) {
+        this.stores = stores;
+        this.sender = sender;
+        this.properties = properties;
+
+        Gauge.builder("email.outbox.depth", depth, AtomicLong::get)
+                .description("Emails waiting for delivery or being sent")
+                .register(registry);
+        Gauge.builder("email.outbox.dead.letters", deadLetters, AtomicLong::get)
+                .description("Emails that exhausted their delivery attempts")
+                .register(registry);
+        this.sendTimer = Timer.builder("email.outbox.send")
+                .description("Time to hand one email to the mail server")
+                .register(registry);
+        this.latencyTimer = Timer.builder("email.outbox.latency")
+                .description("Time from queuing an email to its delivery")
+                .register(registry);
+        this.sent = attempts(registry, "sent");
+        this.retried = attempts(registry, "retry");
+        this.deadLettered = attempts(registry, "dead_letter");
+        this.deferred = attempts(registry, "deferred");
+    }
+
+    /**
+     * Wakes idle workers; called after a transaction that queued an email commits.
+     */
+    public void wake() {
+        synchronized (signal) {
+            signalled = true;
+            signal.notifyAll();
+        }
+    }
+
+    /**
+     * Claims and delivers one batch from every store.
+     *
+     * @return Number of emails processed
+     */
+    public int pollOnce() {
+        int processed = 0;
+        for (EmailOutboxStore store : stores) {
+            LocalDateTime leaseUntil = LocalDateTime.now().plusSeconds(properties.getLeaseSeconds());
+            for (OutboxEmail email : store.claim(properties.getBatchSize(), leaseUntil)) {
+                deliver(store, email);
+                processed++;
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * Samples queue depth and dead letters for the gauges.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.metrics-refresh-ms:15000}")
+    public void refreshMetrics() {
+        if (!running) {
+            return;
+        }
+        try {
+            depth.set(stores.stream().mapToLong(EmailOutboxStore::countQueued).sum());
+            deadLetters.set(stores.stream().mapToLong(EmailOutboxStore::countDeadLetters).sum());
+        } catch (RuntimeException e) {
+            log.debug("Could not refresh email outbox metrics: {}", e.getMessage());
+        }
+    }
+
+    private void deliver(EmailOutboxStore store, OutboxEmail email) {
+        String host = sender.smtpHost(email.tenantId());
+        Bucket hostBucket = host != null
+                ? bucket(hostBuckets, host, properties.getRatePerMinutePerHost())
+                : null;
+        if (hostBucket != null) {
+            EstimationProbe estimate = hostBucket.estimateAbilityToConsume(1);
+            if (!estimate.canBeConsumed()) {
+                defer(store, email, estimate.getNanosToWaitForRefill());
+                return;
+            }
+        }
+        ConsumptionProbe probe = bucket(tenantBuckets, email.tenantId(), properties.getRatePerMinutePerTenant())
+                .tryConsumeAndReturnRemaining(1);
+        if (!probe.isConsumed()) {
+            defer(store, email, probe.getNanosToWaitForRefill());
+            return;
+        }
+        if (hostBucket != null) {
+            hostBucket.tryConsume(1);
+        }
+
+        int attempt = email.attempts() + 1;
+        long start = System.nanoTime();
+        try {
+            sender.send(email);
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            store.markSent(email.id());
+            sent.increment();
+            if (email.createdAt() != null) {
+                latencyTimer.record(Duration.between(email.createdAt(), LocalDateTime.now()));
+            }
+            log.debug("Email {} sent to {} for tenant {}", email.id(), email.toEmail(), email.tenantId());
+        } catch (Exception e) {
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            if (isPermanent(e) || attempt >= properties.getMaxAttempts()) {
+                store.markDeadLetter(email.id(), attempt, error);
+                deadLettered.increment();
+                log.warn("Email {} to {} dead-lettered after {} attempt(s): {}",
+                        email.id(), email.toEmail(), attempt, error);
+            } else {
+                LocalDateTime next = LocalDateTime.now().plus(backoff(attempt));
+                store.markRetry(email.id(), attempt, next, error);
+                retried.increment();
+                log.info("Email {} to {} failed (attempt {}), retrying at {}: {}",
+                        email.id(), email.toEmail(), attempt, next, error);
+            }
+        }
+    }
+
+    Duration backoff(int attempt) {
+        double seconds = properties.getInitialBackoffSeconds()
+                * Math.pow(properties.getBackoffMultiplier(), attempt - 1);
+        seconds = Math.min(seconds, properties.getMaxBackoffSeconds());
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (seconds * jitter * 1000));
+    }
+
+    private static boolean isPermanent(Exception e) {
+        if (e instanceof OutboxEmailSender.PermanentFailure) {
+            return true;
+        }
+        return e instanceof SendFailedException failed
+                && failed.getInvalidAddresses() != null
+                && failed.getInvalidAddresses().length > 0;
+    }
+
+    private void defer(EmailOutboxStore store, OutboxEmail email, long nanosToWait) {
+        store.defer(email.id(), LocalDateTime.now().plusNanos(nanosToWait));
+        deferred.increment();
+    }
+
+    private static <K> Bucket bucket(Map<K, Bucket> buckets, K key, int ratePerMinute) {
+        return buckets.computeIfAbsent(key, k -> Bucket.builder()
+                .addLimit(Bandwidth.classic(ratePerMinute, Refill.greedy(ratePerMinute, Duration.ofMinutes(1))))
+                .build());
+    }
+
+    private static Counter attempts(MeterRegistry registry, String outcome) {
+        return Counter.builder("email.outbox.attempts")
+                .description("Outbox delivery attempts by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    // ===== Lifecycle =====
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        workers = Executors.newFixedThreadPool(properties.getWorkers(), new CustomizableThreadFactory("email-outbox-"));
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.submit(this::runWorker);
+        }
+        log.info("Email outbox relay started with {} worker(s) on {} store(s)", properties.getWorkers(), stores.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        wake();
+        if (workers != null) {
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                    workers.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                workers.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+
+    private void runWorker() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            int processed = 0;
+            try {
+                processed = pollOnce();
+            } catch (RuntimeException e) {
+                log.warn("Email outbox poll failed: {}", e.getMessage());
+            }
+            if (processed == 0) {
+                awaitWork();
+            }
+        }
+    }
+
+    private void awaitWork() {
+        synchronized (signal) {
+            try {
+                if (!signalled && running) {
+                    signal.wait(properties.getPollIntervalMs());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            signalled = false;
+        }
+    }
+}
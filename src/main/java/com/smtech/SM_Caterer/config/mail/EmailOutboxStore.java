@@ -0,0 +1,158 @@
+package com.smtech.SM_Caterer.config.mail;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * email_logs outbox queries on one database (one per shard).
+ *
+ * Rows are claimed with SELECT ... FOR UPDATE SKIP LOCKED and leased to the
+ * worker by moving them to SENDING with locked_until; the transaction then
+ * commits, so no lock is held while talking to the mail server. Concurrent
+ * workers skip each other's rows instead of blocking on them.
+ *
+ * Updates bump version so JPA's optimistic locking sees the change.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public class EmailOutboxStore {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String CLAIM_SQL = """
+            SELECT id, tenant_id, to_email, to_name, subject, body, attachment_path, attachment_name,
+                   retry_count, created_at
+            FROM email_logs
+            WHERE deleted_at IS NULL
+              AND ((status IN ('PENDING', 'RETRY') AND (next_attempt_at IS NULL OR next_attempt_at <= ?))
+                   OR (status = 'SENDING' AND locked_until < ?))
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final RowMapper<OutboxEmail> ROW_MAPPER = (rs, rowNum) -> new OutboxEmail(
+            rs.getLong("id"),
+            rs.getLong("tenant_id"),
+            rs.getString("to_email"),
+            rs.getString("to_name"),
+            rs.getString("subject"),
+            rs.getString("body"),
+            rs.getString("attachment_path"),
+            rs.getString("attachment_name"),
+            rs.getInt("retry_count"),
+            rs.getTimestamp("created_at") != null ? rs.getTimestamp("created_at").toLocalDateTime() : null);
+
+    private final String name;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * @param name Shard key (for logging)
+     * @param dataSource Database holding the email_logs rows
+     */
+    public EmailOutboxStore(String name, DataSource dataSource) {
+        this.name = name;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Claims due rows and leases them to the caller.
+     *
+     * @param limit Maximum rows
+     * @param leaseUntil End of the lease
+     * @return Claimed emails, oldest first
+     */
+    public List<OutboxEmail> claim(int limit, LocalDateTime leaseUntil) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return transactionTemplate.execute(status -> {
+            List<OutboxEmail> claimed = jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER, now, now, limit);
+            if (!claimed.isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                        "UPDATE email_logs SET status = 'SENDING', locked_until = ?, version = version + 1 WHERE id = ?",
+                        claimed, claimed.size(), (ps, email) -> {
+                            ps.setTimestamp(1, Timestamp.valueOf(leaseUntil));
+                            ps.setLong(2, email.id());
+                        });
+            }
+            return claimed;
+        });
+    }
+
+    public void markSent(Long id) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("""
+                UPDATE email_logs
+                SET status = 'SENT', sent_at = ?, error_message = NULL, next_attempt_at = NULL,
+                    locked_until = NULL, updated_at = ?, version = version + 1
+                WHERE id = ?""", now, now, id);
+    }
+
+    public void markRetry(Long id, int attempts, LocalDateTime nextAttemptAt, String error) {
+        jdbcTemplate.update("""
+                UPDATE email_logs
+                SET status = 'RETRY', retry_count = ?, next_attempt_at = ?, error_message = ?,
+                    locked_until = NULL, updated_at = ?, version = version + 1
+                WHERE id = ?""",
+                attempts, Timestamp.valueOf(nextAttemptAt), truncate(error),
+                Timestamp.valueOf(LocalDateTime.now()), id);
+    }
+
+    public void markDeadLetter(Long id, int attempts, String error) {
+        jdbcTemplate.update("""
+                UPDATE email_logs
+                SET status = 'DEAD_LETTER', retry_count = ?, next_attempt_at = NULL, error_message = ?,
+                    locked_until = NULL, updated_at = ?, version = version + 1
+                WHERE id = ?""",
+                attempts, truncate(error), Timestamp.valueOf(LocalDateTime.now()), id);
+    }
+
+    /**
+     * Puts a claimed row back without counting an attempt (tenant over its send rate).
+     */
+    public void defer(Long id, LocalDateTime nextAttemptAt) {
+        jdbcTemplate.update("""
+                UPDATE email_logs
+                SET status = CASE WHEN retry_count > 0 THEN 'RETRY' ELSE 'PENDING' END,
+                    next_attempt_at = ?, locked_until = NULL, version = version + 1
+                WHERE id = ?""", Timestamp.valueOf(nextAttemptAt), id);
+    }
+
+    /**
+     * @return Rows waiting for delivery or being sent
+     */
+    public long countQueued() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM email_logs WHERE status IN ('PENDING', 'RETRY', 'SENDING') AND deleted_at IS NULL",
+                Long.class);
+        return count != null ? count : 0;
+    }
+
+    public long countDeadLetters() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM email_logs WHERE status = 'DEAD_LETTER' AND deleted_at IS NULL",
+                Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,43 @@
+package com.smtech.SM_Caterer.config.mail;
+
+import java.util.List;
+
+/**
+ * Email templates under templates/email and the variables that change per
+ * message. Everything else a template uses is tenant branding
+ * (businessName, brandColor, tagline) and is rendered once per tenant.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public enum EmailTemplate {
+
+    TEST_EMAIL("email/test-email", "message"),
+    ORDER_CONFIRMATION("email/order-confirmation",
+            "customerName", "orderNumber", "eventDate", "totalAmount"),
+    PAYMENT_RECEIPT("email/payment-receipt",
+            "customerName", "paymentNumber", "orderNumber", "amount", "paymentDate", "paymentMethod"),
+    EVENT_REMINDER("email/event-reminder",
+            "customerName", "eventWhen", "orderNumber", "eventDate", "eventTime", "venueName", "guestCount"),
+    BALANCE_DUE_REMINDER("email/balance-due-reminder",
+            "customerName", "eventDate", "orderNumber", "totalAmount", "balanceAmount"),
+    LOW_STOCK_ALERT("email/low-stock-alert",
+            "materialCode", "materialName", "available", "minimumStock", "unitCode");
+
+    private final String templateName;
+    private final List<String> messageVariables;
+
+    EmailTemplate(String templateName, String... messageVariables) {
+        this.templateName = templateName;
+        this.messageVariables = List.of(messageVariables);
+    }
+
+    public String getTemplateName() {
+        return templateName;
+    }
+
+    public List<String> getMessageVariables() {
+        return messageVariables;
+    }
+}
@@ -0,0 +1,150 @@
+package com.smtech.SM_Caterer.config.mail;
+
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders email bodies from per-tenant precompiled templates.
+ *
+ * Each template is run through Thymeleaf once per tenant with the tenant's
+ * branding and a unique marker in place of every per-message variable. The
+ * output is split at the markers (CompiledEmailTemplate), so a message is
+ * rendered by concatenating the cached segments with its escaped values.
+ *
+ * - All email templates are rendered at startup; a missing or broken
+ *   template, or one that no longer prints a declared message variable with
+ *   th:text, fails startup instead of the first send
+ * - A tenant's shells are keyed by its branding (business name, colour,
+ *   tagline); changed branding is picked up on the next render
+ * - With spring.thymeleaf.cache=false (development) shells are rebuilt on
+ *   every render so template edits show up immediately
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Slf4j
+@Component
+public class EmailTemplateRenderer {
+
+    private final TemplateEngine templateEngine;
+    private final boolean cacheShells;
+    private final String markerPrefix = "{{" + UUID.randomUUID().toString().substring(0, 8) + ":";
+    private final Map<Long, TenantShells> shells = new ConcurrentHashMap<>();
+
+    public EmailTemplateRenderer(TemplateEngine templateEngine,
+                                 @Value("${spring.thymeleaf.cache:true}") boolean cacheShells) {
+        this.templateEngine = templateEngine;
+        this.cacheShells = cacheShells;
+    }
+
+    /**
+     * Renders every email template with sample branding and checks that each
+     * declared message variable has a slot.
+     *
+     * @throws IllegalStateException if a template cannot be rendered or is missing a slot
+     */
+    @PostConstruct
+    public void preload() {
+        Branding sample = new Branding("Business Name", "#3498db", "Tagline");
+        for (EmailTemplate template : EmailTemplate.values()) {
+            CompiledEmailTemplate compiled;
+            try {
+                compiled = compile(template, sample);
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("Email template " + template.getTemplateName()
+                        + " cannot be rendered: " + e.getMessage(), e);
+            }
+            List<String> slots = compiled.getSlots();
+            for (String variable : template.getMessageVariables()) {
+                if (!slots.contains(variable)) {
+                    throw new IllegalStateException("Email template " + template.getTemplateName()
+                            + " does not print message variable '" + variable + "' with th:text");
+                }
+            }
+        }
+        log.info("Email templates validated: {}", EmailTemplate.values().length);
+    }
+
+    /**
+     * Renders an email body.
+     *
+     * @param template Template
+     * @param tenant Sending tenant (branding)
+     * @param variables Per-message variables of the template
+     * @return HTML body
+     */
+    public String render(EmailTemplate template, Tenant tenant, Map<String, ?> variables) {
+        Branding branding = Branding.of(tenant);
+        if (!cacheShells) {
+            return compile(template, branding).render(variables);
+        }
+
+        TenantShells tenantShells = shells.get(tenant.getId());
+        if (tenantShells == null || !tenantShells.branding.equals(branding)) {
+            tenantShells = new TenantShells(branding);
+            shells.put(tenant.getId(), tenantShells);
+        }
+        return tenantShells.templates
+                .computeIfAbsent(template, t -> compile(t, branding))
+                .render(variables);
+    }
+
+    /**
+     * Drops a tenant's cached shells.
+     *
+     * @param tenantId Tenant ID
+     */
+    public void evict(Long tenantId) {
+        shells.remove(tenantId);
+    }
+
+    private CompiledEmailTemplate compile(EmailTemplate template, Branding branding) {
+        Context context = new Context();
+        context.setVariable("businessName", branding.businessName());
+        context.setVariable("brandColor", branding.brandColor());
+        context.setVariable("tagline", branding.tagline());
+        for (String variable : template.getMessageVariables()) {
+            context.setVariable(variable, markerPrefix + variable + "}}");
+        }
+        return CompiledEmailTemplate.compile(templateEngine.process(template.getTemplateName(), context), markerPrefix);
+    }
+
+    /**
+     * Tenant values that go into the shell.
+     */
+    private record Branding(String businessName, String brandColor, String tagline) {
+
+        static Branding of(Tenant tenant) {
+            return new Branding(tenant.getBusinessName(), tenant.getEffectivePrimaryColor(),
+                    tenant.getTagline() != null && !tenant.getTagline().isBlank() ? tenant.getTagline() : null);
+        }
+    }
+
+    /**
+     * Compiled templates of one tenant for one branding.
+     */
+    private static final class TenantShells {
+
+        private final Branding branding;
+        private final Map<EmailTemplate, CompiledEmailTemplate> templates =
+                Collections.synchronizedMap(new EnumMap<>(EmailTemplate.class));
+
+        private TenantShells(Branding branding) {
+            this.branding = Objects.requireNonNull(branding);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.smtech.SM_Caterer.config.mail;
+
+import java.time.LocalDateTime;
+
+/**
+ * An email claimed from the outbox (one email_logs row).
+ *
+ * @param id email_logs id
+ * @param tenantId Sending tenant
+ * @param toEmail Recipient address
+ * @param toName Recipient name
+ * @param subject Subject line
+ * @param body Rendered HTML body
+ * @param attachmentPath Blob key of the attachment (a file path on older rows), or null
+ * @param attachmentName Attachment file name in the email
+ * @param attempts Failed attempts so far
+ * @param createdAt When the email was queued
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public record OutboxEmail(Long id, Long tenantId, String toEmail, String toName, String subject, String body,
+                          String attachmentPath, String attachmentName, int attempts, LocalDateTime createdAt) {
+}
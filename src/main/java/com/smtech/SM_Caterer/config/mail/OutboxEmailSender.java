@@ -0,0 +1,41 @@
+package com.smtech.SM_Caterer.config.mail;
+
+import jakarta.mail.MessagingException;
+
+/**
+ * Delivers one outbox email.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@FunctionalInterface
+public interface OutboxEmailSender {
+
+    /**
+     * @param email Email to deliver
+     * @throws PermanentFailure if retrying cannot succeed
+     * @throws MessagingException on any other failure (retried with backoff)
+     */
+    void send(OutboxEmail email) throws MessagingException;
+
+    /**
+     * SMTP host a tenant's emails go through, for per-host throttling.
+     *
+     * @param tenantId Tenant
+     * @return Lower-case host name, or null if unknown
+     */
+    default String smtpHost(Long tenantId) {
+        return null;
+    }
+
+    /**
+     * Failure that retrying cannot fix; the email is dead-lettered at once.
+     */
+    class PermanentFailure extends MessagingException {
+
+        public PermanentFailure(String message) {
+            super(message);
+        }
+    }
+}
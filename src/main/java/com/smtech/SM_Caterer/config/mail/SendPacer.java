@@ -0,0 +1,61 @@
+package com.smtech.SM_Caterer.config.mail;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plans send times for a bulk campaign so that no SMTP host and no tenant is
+ * offered more emails per minute than the outbox relay will send.
+ *
+ * Each host and tenant has a cursor that advances by 60s / rate per planned
+ * email; an email is scheduled at the later of its host and tenant cursors.
+ * Paced rows sit in the outbox with a future next_attempt_at instead of being
+ * claimed and deferred over and over.
+ *
+ * Not thread-safe; use one instance per campaign run.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public class SendPacer {
+
+    private final LocalDateTime start;
+    private final long hostIntervalNanos;
+    private final long tenantIntervalNanos;
+    private final Map<String, LocalDateTime> hostCursors = new HashMap<>();
+    private final Map<Long, LocalDateTime> tenantCursors = new HashMap<>();
+
+    /**
+     * @param start Earliest send time
+     * @param ratePerMinutePerHost Emails per minute per SMTP host
+     * @param ratePerMinutePerTenant Emails per minute per tenant
+     */
+    public SendPacer(LocalDateTime start, int ratePerMinutePerHost, int ratePerMinutePerTenant) {
+        this.start = start;
+        this.hostIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, ratePerMinutePerHost);
+        this.tenantIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, ratePerMinutePerTenant);
+    }
+
+    /**
+     * Reserves the next send slot.
+     *
+     * @param host SMTP host of the tenant
+     * @param tenantId Tenant
+     * @return When the email may be sent
+     */
+    public LocalDateTime next(String host, Long tenantId) {
+        LocalDateTime slot = later(start, later(
+                hostCursors.getOrDefault(host, start),
+                tenantCursors.getOrDefault(tenantId, start)));
+        hostCursors.put(host, slot.plusNanos(hostIntervalNanos));
+        tenantCursors.put(tenantId, slot.plusNanos(tenantIntervalNanos));
+        return slot;
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,93 @@
+package com.smtech.SM_Caterer.config.mail;
+
+import com.smtech.SM_Caterer.config.storage.BlobStore;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import com.smtech.SM_Caterer.domain.repository.TenantRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.file.NoSuchFileException;
+
+/**
+ * Sends outbox emails through the tenant's pooled SMTP connections.
+ *
+ * Attachments are read from the blob store; rows queued before it hold a
+ * plain file path instead. A missing attachment does not block the email;
+ * it is sent without the attachment, as before the outbox.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SmtpOutboxEmailSender implements OutboxEmailSender {
+
+    private final TenantRepository tenantRepository;
+    private final SmtpTransportPool smtpTransportPool;
+    private final BlobStore blobStore;
+
+    @Override
+    public void send(OutboxEmail email) throws MessagingException {
+        Tenant tenant = tenantRepository.findById(email.tenantId())
+                .filter(Tenant::isEmailConfigured)
+                .orElseThrow(() -> new PermanentFailure("Email is not configured for tenant " + email.tenantId()));
+
+        MimeMessage message = smtpTransportPool.createMimeMessage(tenant);
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        try {
+            helper.setFrom(tenant.getEffectiveFromEmail(),
+                    tenant.getSmtpFromName() != null ? tenant.getSmtpFromName() : tenant.getBusinessName());
+        } catch (UnsupportedEncodingException e) {
+            throw new PermanentFailure("Invalid sender name: " + e.getMessage());
+        }
+        helper.setTo(email.toEmail());
+        helper.setSubject(email.subject());
+        helper.setText(email.body() != null ? email.body() : "", true);
+
+        if (email.attachmentPath() != null) {
+            File file = attachmentFile(email.attachmentPath());
+            if (file != null) {
+                helper.addAttachment(email.attachmentName() != null ? email.attachmentName() : file.getName(),
+                        new FileSystemResource(file));
+            } else {
+                log.warn("Attachment {} of email {} not found, sending without it",
+                        email.attachmentPath(), email.id());
+            }
+        }
+
+        smtpTransportPool.send(tenant, message);
+    }
+
+    /**
+     * @return Local file holding the attachment, or null if it is gone
+     * @throws MessagingException if the blob store cannot be reached (retried)
+     */
+    private File attachmentFile(String attachmentPath) throws MessagingException {
+        if (BlobStore.isValidKey(attachmentPath)) {
+            try {
+                return blobStore.fetch(attachmentPath).toFile();
+            } catch (NoSuchFileException e) {
+                // Not a key after all; fall through to the file path
+            } catch (IOException e) {
+                throw new MessagingException("Failed to read attachment " + attachmentPath, e);
+            }
+        }
+        File file = new File(attachmentPath);
+        return file.exists() ? file : null;
+    }
+
+    @Override
+    public String smtpHost(Long tenantId) {
+        return tenantRepository.findById(tenantId)
+                .map(SmtpTransportPool::hostKey)
+                .orElse(null);
+    }
+}
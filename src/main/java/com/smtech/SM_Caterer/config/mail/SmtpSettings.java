@@ -0,0 +1,52 @@
+package com.smtech.SM_Caterer.config.mail;
+
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SMTP connection settings of one tenant.
+ *
+ * The fingerprint identifies a connection pool: host, port, username, TLS
+ * and password. Any change produces a new fingerprint, so pooled connections
+ * opened with the old settings are never reused.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public record SmtpSettings(String host, int port, String username, String password, boolean useTls) {
+
+    private static final int DEFAULT_PORT = 587;
+
+    public static SmtpSettings of(Tenant tenant) {
+        return new SmtpSettings(
+                tenant.getSmtpHost(),
+                tenant.getSmtpPort() != null ? tenant.getSmtpPort() : DEFAULT_PORT,
+                tenant.getSmtpUsername(),
+                tenant.getSmtpPassword(),
+                Boolean.TRUE.equals(tenant.getSmtpUseTls()));
+    }
+
+    /**
+     * SHA-256 over all settings; the password is not recoverable from it.
+     */
+    public String fingerprint() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String joined = String.join("\u0000", String.valueOf(host), String.valueOf(port),
+                    String.valueOf(username), String.valueOf(password), String.valueOf(useTls));
+            return HexFormat.of().formatHex(digest.digest(joined.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return username + "@" + host + ":" + port + (useTls ? " (STARTTLS)" : "");
+    }
+}
@@ -0,0 +1,373 @@
+package com.smtech.SM_Caterer.config.mail;
+
+import com.smtech.SM_Caterer.config.MailTransportProperties;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Date;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-tenant pools of open SMTP connections.
+ *
+ * Opening an SMTP connection costs a TCP connect, STARTTLS handshake and
+ * AUTH exchange before the first message byte is written. Connections are
+ * kept open after a send and reused by later sends for the same tenant.
+ *
+ * - A tenant's pool is keyed by its SmtpSettings fingerprint; when the
+ *   settings change the pool is rebuilt and the old connections closed
+ * - A connection idle longer than validateAfterIdleSeconds is checked with
+ *   NOOP before reuse; a reused connection that fails mid-send is replaced
+ *   and the send retried once on a fresh connection
+ * - A connection is retired after maxMessagesPerConnection sends, and closed
+ *   by the eviction sweep once idle longer than idleTimeoutSeconds
+ * - At most maxConnectionsPerTenant sends run at once per tenant
+ *
+ * Idle connections are reused most-recently-used first, so surplus
+ * connections age out at the tail of the queue.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Slf4j
+public class SmtpTransportPool {
+
+    private final int maxConnectionsPerTenant;
+    private final int maxMessagesPerConnection;
+    private final long idleTimeoutMs;
+    private final long validateAfterIdleMs;
+    private final long borrowTimeoutMs;
+    private final int connectionTimeoutMs;
+    private final int socketTimeoutMs;
+
+    private final Map<Long, TenantPool> pools = new ConcurrentHashMap<>();
+    private final AtomicInteger open = new AtomicInteger();
+    private final AtomicLong connects = new AtomicLong();
+    private final AtomicLong reuses = new AtomicLong();
+
+    public SmtpTransportPool(MailTransportProperties properties) {
+        this.maxConnectionsPerTenant = properties.getMaxConnectionsPerTenant();
+        this.maxMessagesPerConnection = properties.getMaxMessagesPerConnection();
+        this.idleTimeoutMs = TimeUnit.SECONDS.toMillis(properties.getIdleTimeoutSeconds());
+        this.validateAfterIdleMs = TimeUnit.SECONDS.toMillis(properties.getValidateAfterIdleSeconds());
+        this.borrowTimeoutMs = properties.getBorrowTimeoutMs();
+        this.connectionTimeoutMs = properties.getConnectionTimeoutMs();
+        this.socketTimeoutMs = properties.getSocketTimeoutMs();
+    }
+
+    /**
+     * Creates an empty message bound to the tenant's mail session.
+     *
+     * @param tenant Tenant with SMTP settings
+     * @return New message
+     */
+    public MimeMessage createMimeMessage(Tenant tenant) {
+        return new MimeMessage(poolFor(tenant).session);
+    }
+
+    /**
+     * Sends a message over one of the tenant's pooled connections.
+     *
+     * @param tenant Tenant with SMTP settings
+     * @param message Message to send
+     * @throws MessagingException if the message cannot be sent or no connection frees up in time
+     */
+    public void send(Tenant tenant, MimeMessage message) throws MessagingException {
+        TenantPool pool = poolFor(tenant);
+        if (message.getSentDate() == null) {
+            message.setSentDate(new Date());
+        }
+        message.saveChanges();
+        Address[] recipients = message.getAllRecipients();
+
+        PooledTransport connection = pool.borrow();
+        boolean reusable = false;
+        try {
+            try {
+                connection.send(message, recipients);
+            } catch (SendFailedException e) {
+                // Rejected by the server (recipients, size); retrying will not help
+                throw e;
+            } catch (MessagingException e) {
+                if (connection.messagesSent == 0) {
+                    throw e;
+                }
+                // The server dropped a connection that looked healthy; retry once on a fresh one
+                log.debug("Pooled SMTP connection for tenant {} failed, reconnecting: {}",
+                        pool.tenantId, e.getMessage());
+                connection.close();
+                connection = pool.connect();
+                connection.send(message, recipients);
+            }
+            reusable = true;
+        } finally {
+            pool.release(connection, reusable);
+        }
+    }
+
+    /**
+     * Closes a tenant's connections. Called when its SMTP settings are saved
+     * so connections authenticated with the old settings do not linger until
+     * the next send.
+     *
+     * @param tenantId Tenant ID
+     */
+    public void invalidate(Long tenantId) {
+        TenantPool pool = pools.remove(tenantId);
+        if (pool != null) {
+            pool.close();
+            log.debug("SMTP connection pool closed for tenant {}", tenantId);
+        }
+    }
+
+    /**
+     * Closes connections idle longer than the idle timeout and drops pools
+     * of tenants that have not sent anything since.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.transport.eviction-interval-ms:30000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        pools.forEach((tenantId, pool) -> {
+            pool.evictIdle(now);
+            if (pool.isUnused(now)) {
+                pools.remove(tenantId, pool);
+            }
+        });
+    }
+
+    /**
+     * Closes all connections on shutdown.
+     */
+    public void close() {
+        pools.values().forEach(TenantPool::close);
+        pools.clear();
+    }
+
+    /**
+     * Normalised SMTP host of a tenant, used to group and throttle sends per mail server.
+     *
+     * @param tenant Tenant
+     * @return Lower-case host, or "" when not configured
+     */
+    public static String hostKey(Tenant tenant) {
+        return tenant.getSmtpHost() != null ? tenant.getSmtpHost().trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    public int getOpenConnections() {
+        return open.get();
+    }
+
+    public int getIdleConnections() {
+        return pools.values().stream().mapToInt(pool -> pool.idle.size()).sum();
+    }
+
+    public long getConnects() {
+        return connects.get();
+    }
+
+    public long getReuses() {
+        return reuses.get();
+    }
+
+    /**
+     * Builds the mail session for a settings fingerprint.
+     */
+    protected Session createSession(SmtpSettings settings) {
+        Properties props = new Properties();
+        props.put("mail.transport.protocol", "smtp");
+        props.put("mail.smtp.auth", "true");
+        if (settings.useTls()) {
+            props.put("mail.smtp.starttls.enable", "true");
+            props.put("mail.smtp.starttls.required", "true");
+        }
+        props.put("mail.smtp.connectiontimeout", String.valueOf(connectionTimeoutMs));
+        props.put("mail.smtp.timeout", String.valueOf(socketTimeoutMs));
+        props.put("mail.smtp.writetimeout", String.valueOf(socketTimeoutMs));
+        return Session.getInstance(props);
+    }
+
+    private TenantPool poolFor(Tenant tenant) {
+        SmtpSettings settings = SmtpSettings.of(tenant);
+        String fingerprint = settings.fingerprint();
+        TenantPool current = pools.get(tenant.getId());
+        if (current != null && current.fingerprint.equals(fingerprint)) {
+            return current;
+        }
+
+        TenantPool[] replaced = new TenantPool[1];
+        TenantPool pool = pools.compute(tenant.getId(), (tenantId, existing) -> {
+            if (existing != null && existing.fingerprint.equals(fingerprint)) {
+                return existing;
+            }
+            replaced[0] = existing;
+            return new TenantPool(tenantId, settings, fingerprint, createSession(settings));
+        });
+        if (replaced[0] != null) {
+            log.info("SMTP settings changed for tenant {}, rebuilding connection pool", tenant.getId());
+            replaced[0].close();
+        }
+        return pool;
+    }
+
+    /**
+     * Connections of one tenant for one settings fingerprint.
+     */
+    private final class TenantPool {
+
+        private final Long tenantId;
+        private final SmtpSettings settings;
+        private final String fingerprint;
+        private final Session session;
+        private final Semaphore permits = new Semaphore(maxConnectionsPerTenant, true);
+        private final Deque<PooledTransport> idle = new ConcurrentLinkedDeque<>();
+        private volatile long lastUsed = System.currentTimeMillis();
+        private volatile boolean closed;
+
+        private TenantPool(Long tenantId, SmtpSettings settings, String fingerprint, Session session) {
+            this.tenantId = tenantId;
+            this.settings = settings;
+            this.fingerprint = fingerprint;
+            this.session = session;
+        }
+
+        private PooledTransport borrow() throws MessagingException {
+            try {
+                if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new MessagingException("No SMTP connection available for tenant " + tenantId
+                            + " within " + borrowTimeoutMs + " ms");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MessagingException("Interrupted waiting for an SMTP connection", e);
+            }
+
+            try {
+                lastUsed = System.currentTimeMillis();
+                PooledTransport connection;
+                while ((connection = idle.pollFirst()) != null) {
+                    if (connection.isHealthy()) {
+                        reuses.incrementAndGet();
+                        return connection;
+                    }
+                    connection.close();
+                }
+                return connect();
+            } catch (MessagingException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        private PooledTransport connect() throws MessagingException {
+            Transport transport = session.getTransport();
+            transport.connect(settings.host(), settings.port(), settings.username(), settings.password());
+            connects.incrementAndGet();
+            open.incrementAndGet();
+            log.debug("Opened SMTP connection {} for tenant {}", settings, tenantId);
+            return new PooledTransport(transport);
+        }
+
+        private void release(PooledTransport connection, boolean reusable) {
+            try {
+                if (reusable && !closed && connection.messagesSent < maxMessagesPerConnection) {
+                    idle.offerFirst(connection);
+                    // close() may have drained the queue between the check and the offer
+                    if (closed && idle.remove(connection)) {
+                        connection.close();
+                    }
+                } else {
+                    connection.close();
+                }
+            } finally {
+                lastUsed = System.currentTimeMillis();
+                permits.release();
+            }
+        }
+
+        private void evictIdle(long now) {
+            Iterator<PooledTransport> tail = idle.descendingIterator();
+            while (tail.hasNext()) {
+                PooledTransport connection = tail.next();
+                if (now - connection.lastUsed > idleTimeoutMs && idle.remove(connection)) {
+                    connection.close();
+                }
+            }
+        }
+
+        private boolean isUnused(long now) {
+            return idle.isEmpty()
+                    && permits.availablePermits() == maxConnectionsPerTenant
+                    && now - lastUsed > idleTimeoutMs;
+        }
+
+        private void close() {
+            closed = true;
+            PooledTransport connection;
+            while ((connection = idle.pollFirst()) != null) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * One open connection; used by one sender at a time.
+     */
+    private final class PooledTransport {
+
+        private final Transport transport;
+        private int messagesSent;
+        private long lastUsed = System.currentTimeMillis();
+        private boolean closed;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        private void send(MimeMessage message, Address[] recipients) throws MessagingException {
+            transport.sendMessage(message, recipients);
+            messagesSent++;
+            lastUsed = System.currentTimeMillis();
+        }
+
+        /**
+         * isConnected() issues NOOP on SMTP, so only pay for it after a pause.
+         */
+        private boolean isHealthy() {
+            if (System.currentTimeMillis() - lastUsed <= validateAfterIdleMs) {
+                return true;
+            }
+            return transport.isConnected();
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            open.decrementAndGet();
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Error closing SMTP connection: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.smtech.SM_Caterer.config.planning;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The component edges between a tenant's recipes: menu A uses menu B as a
+ * component when A's recipe includes B's (a gravy base, a dough).
+ *
+ * The edges must form a DAG. {@link #bottomUp()} orders the menus so that
+ * every component comes before the menus using it; callers fold a value
+ * (a material vector, a cost) over that order, computing each shared
+ * component once and reusing it for every menu above it, so the work is
+ * linear in the number of edges rather than in the number of paths.
+ *
+ * Immutable once built and safe to share between threads.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public final class RecipeGraph {
+
+    public static final RecipeGraph EMPTY = new RecipeGraph(Map.of(), Map.of());
+
+    /**
+     * One component line of a menu's recipe.
+     *
+     * @param componentId Menu used as a component
+     * @param quantity Serves of the component per batch of the using menu
+     * @param menuServes Serves count of the using menu
+     */
+    public record Component(Long componentId, BigDecimal quantity, int menuServes) {
+
+        /**
+         * @return Serves of the component per serve of the using menu
+         */
+        public double perServing() {
+            return quantity.doubleValue() / menuServes;
+        }
+    }
+
+    private final Map<Long, List<Component>> components;
+    private final Map<Long, List<Long>> usedBy;
+
+    private RecipeGraph(Map<Long, List<Component>> components, Map<Long, List<Long>> usedBy) {
+        this.components = components;
+        this.usedBy = usedBy;
+    }
+
+    /**
+     * @param rows Component rows as [menuId, servesCount, componentMenuId, quantityRequired],
+     *             in any order
+     */
+    public static RecipeGraph build(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return EMPTY;
+        }
+        Map<Long, List<Component>> components = new HashMap<>();
+        Map<Long, List<Long>> usedBy = new HashMap<>();
+        for (Object[] row : rows) {
+            Long menuId = (Long) row[0];
+            int serves = row[1] != null ? Math.max(1, ((Number) row[1]).intValue()) : 1;
+            Long componentId = (Long) row[2];
+            components.computeIfAbsent(menuId, k -> new ArrayList<>())
+                    .add(new Component(componentId, (BigDecimal) row[3], serves));
+            usedBy.computeIfAbsent(componentId, k -> new ArrayList<>()).add(menuId);
+        }
+        return new RecipeGraph(components, usedBy);
+    }
+
+    public boolean isEmpty() {
+        return components.isEmpty();
+    }
+
+    /**
+     * @return Menus whose recipes have at least one component
+     */
+    public Set<Long> composites() {
+        return components.keySet();
+    }
+
+    /**
+     * @return Component lines of the menu's recipe; empty if it has none
+     */
+    public List<Component> components(Long menuId) {
+        return components.getOrDefault(menuId, List.of());
+    }
+
+    /**
+     * Every menu on an edge, each after all of its components (Kahn's
+     * algorithm, starting from the menus with no components).
+     *
+     * @throws IllegalStateException if the components form a cycle
+     */
+    public List<Long> bottomUp() {
+        Map<Long, Integer> pending = new HashMap<>();
+        components.forEach((menuId, lines) -> pending.put(menuId, lines.size()));
+        Deque<Long> ready = new ArrayDeque<>();
+        for (Long componentId : usedBy.keySet()) {
+            if (!components.containsKey(componentId)) {
+                ready.add(componentId);
+            }
+        }
+
+        int menus = pending.size() + ready.size();
+        List<Long> order = new ArrayList<>(menus);
+        while (!ready.isEmpty()) {
+            Long menuId = ready.poll();
+            order.add(menuId);
+            // A menu using the same component twice is counted down twice, as it was counted up
+            for (Long user : usedBy.getOrDefault(menuId, List.of())) {
+                if (pending.merge(user, -1, Integer::sum) == 0) {
+                    ready.add(user);
+                }
+            }
+        }
+
+        if (order.size() < menus) {
+            List<Long> cyclic = pending.entrySet().stream()
+                    .filter(e -> e.getValue() > 0)
+                    .map(Map.Entry::getKey)
+                    .sorted()
+                    .toList();
+            throw new IllegalStateException("Recipe components of menus " + cyclic + " form or depend on a cycle");
+        }
+        return order;
+    }
+
+    /**
+     * @return The menus and every component reachable from them
+     */
+    public Set<Long> closure(Collection<Long> menuIds) {
+        Set<Long> reached = new LinkedHashSet<>(menuIds);
+        Deque<Long> stack = new ArrayDeque<>(menuIds);
+        while (!stack.isEmpty()) {
+            for (Component line : components(stack.pop())) {
+                if (reached.add(line.componentId())) {
+                    stack.push(line.componentId());
+                }
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Whether adding {@code componentId} to the recipe of {@code menuId}
+     * would close a cycle: true if the component is the menu itself or
+     * already uses it, directly or through other components.
+     */
+    public boolean wouldCycle(Long menuId, Long componentId) {
+        return menuId.equals(componentId) || closure(List.of(componentId)).contains(menuId);
+    }
+}
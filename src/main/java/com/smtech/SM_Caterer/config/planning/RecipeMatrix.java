@@ -0,0 +1,217 @@
+package com.smtech.SM_Caterer.config.planning;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A tenant's recipes as a sparse menu x material matrix.
+ *
+ * Menus and materials are given dense indexes when the matrix is built;
+ * after that a menu's recipe is a contiguous slice of two primitive arrays
+ * (material column, quantity per serving), so exploding an order line is a
+ * tight loop with no boxing or map lookups. Quantities per serving are the
+ * recipe quantity divided by the menu's serves count.
+ *
+ * Recipes with components (see {@link RecipeGraph}) are flattened when the
+ * matrix is built: each component's material vector is computed once, in
+ * bottom-up order, and scaled into every menu using it, so exploding an
+ * order line never walks the component graph.
+ *
+ * Immutable once built and safe to share between threads.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public final class RecipeMatrix {
+
+    private final Map<Long, Integer> menuRows;
+    private final long[] materialIds;
+    private final int[] offsets;
+    private final int[] columns;
+    private final double[] perServing;
+
+    private RecipeMatrix(Map<Long, Integer> menuRows, long[] materialIds,
+                         int[] offsets, int[] columns, double[] perServing) {
+        this.menuRows = menuRows;
+        this.materialIds = materialIds;
+        this.offsets = offsets;
+        this.columns = columns;
+        this.perServing = perServing;
+    }
+
+    /**
+     * @param rows Recipe rows as [menuId, servesCount, materialId, quantityRequired],
+     *             in any order
+     */
+    public static RecipeMatrix build(List<Object[]> rows) {
+        return build(rows, RecipeGraph.EMPTY);
+    }
+
+    /**
+     * @param rows Recipe rows as [menuId, servesCount, materialId, quantityRequired],
+     *             in any order; must include the rows of every component menu
+     * @param components Component edges between the menus
+     * @throws IllegalStateException if the components form a cycle
+     */
+    public static RecipeMatrix build(List<Object[]> rows, RecipeGraph components) {
+        RecipeMatrix direct = buildDirect(rows);
+        return components.isEmpty() ? direct : direct.flatten(components);
+    }
+
+    private static RecipeMatrix buildDirect(List<Object[]> rows) {
+        Map<Long, Integer> menuRows = new HashMap<>();
+        Map<Long, Integer> materialColumns = new HashMap<>();
+        int[] rowOf = new int[rows.size()];
+        int[] columnOf = new int[rows.size()];
+
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            rowOf[i] = menuRows.computeIfAbsent((Long) row[0], k -> menuRows.size());
+            columnOf[i] = materialColumns.computeIfAbsent((Long) row[2], k -> materialColumns.size());
+        }
+
+        // Counting sort of the rows by menu into CSR slices
+        int[] offsets = new int[menuRows.size() + 1];
+        for (int row : rowOf) {
+            offsets[row + 1]++;
+        }
+        for (int r = 0; r < menuRows.size(); r++) {
+            offsets[r + 1] += offsets[r];
+        }
+        int[] next = offsets.clone();
+        int[] columns = new int[rows.size()];
+        double[] perServing = new double[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            int serves = row[1] != null ? Math.max(1, ((Number) row[1]).intValue()) : 1;
+            int slot = next[rowOf[i]]++;
+            columns[slot] = columnOf[i];
+            perServing[slot] = ((BigDecimal) row[3]).doubleValue() / serves;
+        }
+
+        long[] materialIds = new long[materialColumns.size()];
+        materialColumns.forEach((id, column) -> materialIds[column] = id);
+        return new RecipeMatrix(menuRows, materialIds, offsets, columns, perServing);
+    }
+
+    /**
+     * Material vectors of the composite menus, memoized per menu in
+     * bottom-up order, then a new matrix with those vectors as their rows.
+     */
+    private RecipeMatrix flatten(RecipeGraph components) {
+        Map<Long, int[]> flatColumns = new HashMap<>();
+        Map<Long, double[]> flatValues = new HashMap<>();
+        double[] scratch = new double[materialIds.length];
+        boolean[] touched = new boolean[materialIds.length];
+        int[] touchedColumns = new int[materialIds.length];
+
+        for (Long menuId : components.bottomUp()) {
+            List<RecipeGraph.Component> lines = components.components(menuId);
+            if (lines.isEmpty()) {
+                continue;
+            }
+            int count = 0;
+            int row = menuRow(menuId);
+            if (row >= 0) {
+                for (int k = offsets[row]; k < offsets[row + 1]; k++) {
+                    count = accumulate(scratch, touched, touchedColumns, count, columns[k], perServing[k]);
+                }
+            }
+            for (RecipeGraph.Component line : lines) {
+                double factor = line.perServing();
+                int[] childColumns = flatColumns.get(line.componentId());
+                if (childColumns != null) {
+                    double[] childValues = flatValues.get(line.componentId());
+                    for (int k = 0; k < childColumns.length; k++) {
+                        count = accumulate(scratch, touched, touchedColumns, count, childColumns[k], childValues[k] * factor);
+                    }
+                } else {
+                    int childRow = menuRow(line.componentId());
+                    if (childRow >= 0) {
+                        for (int k = offsets[childRow]; k < offsets[childRow + 1]; k++) {
+                            count = accumulate(scratch, touched, touchedColumns, count, columns[k], perServing[k] * factor);
+                        }
+                    }
+                }
+            }
+            int[] vectorColumns = Arrays.copyOf(touchedColumns, count);
+            double[] vectorValues = new double[count];
+            for (int k = 0; k < count; k++) {
+                int column = vectorColumns[k];
+                vectorValues[k] = scratch[column];
+                scratch[column] = 0;
+                touched[column] = false;
+            }
+            flatColumns.put(menuId, vectorColumns);
+            flatValues.put(menuId, vectorValues);
+        }
+
+        // Menus keep their rows; composites with no materials of their own are appended
+        Map<Long, Integer> rows = new HashMap<>(menuRows);
+        for (Long menuId : flatColumns.keySet()) {
+            rows.computeIfAbsent(menuId, k -> rows.size());
+        }
+        Long[] menuOfRow = new Long[rows.size()];
+        rows.forEach((menuId, row) -> menuOfRow[row] = menuId);
+
+        int[] newOffsets = new int[rows.size() + 1];
+        for (int r = 0; r < menuOfRow.length; r++) {
+            int[] flat = flatColumns.get(menuOfRow[r]);
+            newOffsets[r + 1] = newOffsets[r] + (flat != null ? flat.length : offsets[r + 1] - offsets[r]);
+        }
+        int[] newColumns = new int[newOffsets[rows.size()]];
+        double[] newPerServing = new double[newColumns.length];
+        for (int r = 0; r < menuOfRow.length; r++) {
+            int[] flat = flatColumns.get(menuOfRow[r]);
+            if (flat != null) {
+                System.arraycopy(flat, 0, newColumns, newOffsets[r], flat.length);
+                System.arraycopy(flatValues.get(menuOfRow[r]), 0, newPerServing, newOffsets[r], flat.length);
+            } else {
+                int length = offsets[r + 1] - offsets[r];
+                System.arraycopy(columns, offsets[r], newColumns, newOffsets[r], length);
+                System.arraycopy(perServing, offsets[r], newPerServing, newOffsets[r], length);
+            }
+        }
+        return new RecipeMatrix(rows, materialIds, newOffsets, newColumns, newPerServing);
+    }
+
+    private static int accumulate(double[] scratch, boolean[] touched, int[] touchedColumns, int count,
+                                  int column, double quantity) {
+        if (!touched[column]) {
+            touched[column] = true;
+            touchedColumns[count++] = column;
+        }
+        scratch[column] += quantity;
+        return count;
+    }
+
+    /**
+     * @return Row of the menu, or -1 if it has no recipe
+     */
+    public int menuRow(Long menuId) {
+        Integer row = menuRows.get(menuId);
+        return row != null ? row : -1;
+    }
+
+    public int materialCount() {
+        return materialIds.length;
+    }
+
+    public long materialId(int column) {
+        return materialIds[column];
+    }
+
+    /**
+     * Adds the materials for the given servings of a menu to one day of a
+     * material-major requirement matrix.
+     */
+    void addTo(double[] requirements, int dayCount, int menuRow, int day, double servings) {
+        for (int k = offsets[menuRow]; k < offsets[menuRow + 1]; k++) {
+            requirements[columns[k] * dayCount + day] += perServing[k] * servings;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.smtech.SM_Caterer.config.planning;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Explodes order menu lines through a {@link RecipeMatrix} into material
+ * requirements per day.
+ *
+ * The lines are given as parallel primitive columns (menu row, day index,
+ * servings). The result is a material-major matrix: the requirement of
+ * material column m on day d is at {@code m * dayCount + d}. Large inputs
+ * are split into one slice per fork-join worker; each slice fills a matrix
+ * of its own, and the slices are summed at the end, so workers never
+ * contend on shared cells.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public final class RequirementExplosion {
+
+    private RequirementExplosion() {
+    }
+
+    /**
+     * @param recipes Recipe matrix
+     * @param menuRows Menu row of each line (see {@link RecipeMatrix#menuRow}); lines with -1 are ignored
+     * @param days Day index of each line, 0 to dayCount - 1
+     * @param servings Servings ordered on each line
+     * @param dayCount Days in the plan
+     * @param parallelThreshold Lines from which the work is split across threads
+     */
+    public static double[] explode(RecipeMatrix recipes, int[] menuRows, int[] days, int[] servings,
+                                   int dayCount, int parallelThreshold) {
+        int lines = menuRows.length;
+        int slices = Math.min(ForkJoinPool.getCommonPoolParallelism(), lines / Math.max(1, parallelThreshold / 4));
+        if (lines < parallelThreshold || slices < 2) {
+            return explodeRange(recipes, menuRows, days, servings, dayCount, 0, lines);
+        }
+
+        int sliceSize = (lines + slices - 1) / slices;
+        return IntStream.range(0, slices)
+                .parallel()
+                .mapToObj(slice -> explodeRange(recipes, menuRows, days, servings, dayCount,
+                        slice * sliceSize, Math.min(lines, (slice + 1) * sliceSize)))
+                .reduce(RequirementExplosion::sum)
+                .orElseGet(() -> new double[recipes.materialCount() * dayCount]);
+    }
+
+    private static double[] explodeRange(RecipeMatrix recipes, int[] menuRows, int[] days, int[] servings,
+                                         int dayCount, int from, int to) {
+        double[] requirements = new double[recipes.materialCount() * dayCount];
+        for (int i = from; i < to; i++) {
+            if (menuRows[i] >= 0) {
+                recipes.addTo(requirements, dayCount, menuRows[i], days[i], servings[i]);
+            }
+        }
+        return requirements;
+    }
+
+    private static double[] sum(double[] a, double[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+        return a;
+    }
+}
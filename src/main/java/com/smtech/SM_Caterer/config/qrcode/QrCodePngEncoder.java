@@ -0,0 +1,110 @@
+package com.smtech.SM_Caterer.config.qrcode;
+
+import com.google.zxing.common.BitMatrix;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a BitMatrix straight to a 1-bit grayscale PNG.
+ *
+ * MatrixToImageWriter + ImageIO build a 32-bit ARGB BufferedImage and run
+ * it through the generic PNG writer. A QR code only has two colours, so the
+ * rows are packed eight pixels per byte and deflated directly: one small
+ * buffer per image, and a file a fraction of the size.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public final class QrCodePngEncoder {
+
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final int BIT_DEPTH = 1;
+    private static final int COLOR_TYPE_GRAYSCALE = 0;
+
+    private QrCodePngEncoder() {
+    }
+
+    /**
+     * @param matrix QR code modules; set bits are drawn black
+     * @return PNG file content
+     */
+    public static byte[] encode(BitMatrix matrix) {
+        int width = matrix.getWidth();
+        int height = matrix.getHeight();
+        int rowBytes = (width + 7) / 8;
+
+        // Each scanline: filter type 0 (none), then the packed pixels (1 = white)
+        byte[] raw = new byte[height * (rowBytes + 1)];
+        int offset = 0;
+        for (int y = 0; y < height; y++) {
+            raw[offset++] = 0;
+            for (int x = 0; x < width; x += 8) {
+                int packed = 0;
+                for (int bit = 0; bit < 8; bit++) {
+                    boolean white = x + bit >= width || !matrix.get(x + bit, y);
+                    packed = (packed << 1) | (white ? 1 : 0);
+                }
+                raw[offset++] = (byte) packed;
+            }
+        }
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream(raw.length / 4 + 128);
+        png.writeBytes(SIGNATURE);
+
+        byte[] header = new byte[13];
+        writeInt(header, 0, width);
+        writeInt(header, 4, height);
+        header[8] = BIT_DEPTH;
+        header[9] = COLOR_TYPE_GRAYSCALE;
+        // compression, filter and interlace methods: all 0
+        writeChunk(png, "IHDR", header, header.length);
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] compressed = new byte[raw.length + 64];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                }
+                length += deflater.deflate(compressed, length, compressed.length - length);
+            }
+            writeChunk(png, "IDAT", compressed, length);
+        } finally {
+            deflater.end();
+        }
+
+        writeChunk(png, "IEND", new byte[0], 0);
+        return png.toByteArray();
+    }
+
+    private static void writeChunk(ByteArrayOutputStream out, String type, byte[] data, int length) {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        byte[] lengthBytes = new byte[4];
+        writeInt(lengthBytes, 0, length);
+        out.writeBytes(lengthBytes);
+        out.writeBytes(typeBytes);
+        out.write(data, 0, length);
+
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        byte[] crcBytes = new byte[4];
+        writeInt(crcBytes, 0, (int) crc.getValue());
+        out.writeBytes(crcBytes);
+    }
+
+    private static void writeInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+}
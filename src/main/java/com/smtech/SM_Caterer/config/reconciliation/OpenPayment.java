@@ -0,0 +1,11 @@
+package com.smtech.SM_Caterer.config.reconciliation;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Pending payment as held in the reconciliation index.
+ */
+public record OpenPayment(Long id, Long orderId, String paymentNumber, BigDecimal amount,
+                          LocalDate paymentDate, String transactionReference) {
+}
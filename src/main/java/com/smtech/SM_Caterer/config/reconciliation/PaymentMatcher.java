@@ -0,0 +1,176 @@
+package com.smtech.SM_Caterer.config.reconciliation;
+
+import com.smtech.SM_Caterer.domain.enums.ReconciliationOutcome;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Matches statement lines against pending payments in a single pass.
+ *
+ * The payments are indexed twice: by normalised transaction reference and
+ * by (amount, payment date). A line is looked up by every reference-like
+ * token it carries, from the reference column and from the narration,
+ * where UPI statements often put the UTR. If no reference hits, the line
+ * falls back to the amount on each day of the date window, considering
+ * only payments that have no reference of their own (or any, when the line
+ * carries none). Each lookup is a hash probe, so matching cost does not
+ * depend on how many payments are pending.
+ *
+ * A payment is claimed by the first line that matches it and is not
+ * offered to later lines. Not thread-safe; one matcher per statement.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public class PaymentMatcher {
+
+    /**
+     * Tokens of a narration shorter than this are words, not references.
+     */
+    private static final int MIN_REFERENCE_TOKEN = 8;
+
+    /**
+     * @param outcome Outcome of the line
+     * @param candidates The matched payment, or the payments that made the line ambiguous
+     * @param note Short explanation for the result page
+     */
+    public record Match(ReconciliationOutcome outcome, List<OpenPayment> candidates, String note) {
+
+        public OpenPayment payment() {
+            return outcome == ReconciliationOutcome.MATCHED ? candidates.get(0) : null;
+        }
+    }
+
+    private record AmountDay(long amount, long epochDay) {
+    }
+
+    private final Map<String, List<OpenPayment>> byReference = new HashMap<>();
+    private final Map<AmountDay, List<OpenPayment>> byAmountDay = new HashMap<>();
+    private final Set<Long> claimed = new HashSet<>();
+    private final int dateWindowDays;
+
+    public PaymentMatcher(Collection<OpenPayment> payments, int dateWindowDays) {
+        this.dateWindowDays = Math.max(0, dateWindowDays);
+        for (OpenPayment payment : payments) {
+            String reference = normalizeReference(payment.transactionReference());
+            if (!reference.isEmpty()) {
+                byReference.computeIfAbsent(reference, k -> new ArrayList<>(1)).add(payment);
+            }
+            if (payment.paymentDate() != null) {
+                byAmountDay.computeIfAbsent(new AmountDay(amountKey(payment.amount()),
+                        payment.paymentDate().toEpochDay()), k -> new ArrayList<>(1)).add(payment);
+            }
+        }
+    }
+
+    public Match match(StatementLine line) {
+        long amount = amountKey(line.amount());
+        Set<String> keys = referenceKeys(line);
+
+        List<OpenPayment> referenced = new ArrayList<>();
+        for (String key : keys) {
+            for (OpenPayment payment : byReference.getOrDefault(key, List.of())) {
+                if (!claimed.contains(payment.id()) && !referenced.contains(payment)) {
+                    referenced.add(payment);
+                }
+            }
+        }
+        if (!referenced.isEmpty()) {
+            List<OpenPayment> exact = referenced.stream()
+                    .filter(p -> amountKey(p.amount()) == amount)
+                    .toList();
+            if (exact.size() == 1) {
+                return claim(exact.get(0), "Reference and amount");
+            }
+            return exact.isEmpty()
+                    ? new Match(ReconciliationOutcome.AMBIGUOUS, referenced, "Reference matches, amount differs")
+                    : new Match(ReconciliationOutcome.AMBIGUOUS, exact, "Several payments with this reference");
+        }
+
+        List<OpenPayment> byAmount = new ArrayList<>();
+        long day = line.date().toEpochDay();
+        for (long d = day - dateWindowDays; d <= day + dateWindowDays; d++) {
+            for (OpenPayment payment : byAmountDay.getOrDefault(new AmountDay(amount, d), List.of())) {
+                if (!claimed.contains(payment.id())
+                        && (keys.isEmpty() || normalizeReference(payment.transactionReference()).isEmpty())) {
+                    byAmount.add(payment);
+                }
+            }
+        }
+        if (byAmount.size() == 1) {
+            return claim(byAmount.get(0), "Amount and date");
+        }
+        return byAmount.isEmpty()
+                ? new Match(ReconciliationOutcome.UNMATCHED, List.of(), "No pending payment")
+                : new Match(ReconciliationOutcome.AMBIGUOUS, byAmount, "Several payments with this amount and date");
+    }
+
+    private Match claim(OpenPayment payment, String note) {
+        claimed.add(payment.id());
+        return new Match(ReconciliationOutcome.MATCHED, List.of(payment), note);
+    }
+
+    /**
+     * Upper case, letters and digits only, so "utr: 4012-3456" and
+     * "UTR40123456" compare equal.
+     */
+    static String normalizeReference(String reference) {
+        if (reference == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(reference.length());
+        for (int i = 0; i < reference.length(); i++) {
+            char c = reference.charAt(i);
+            if ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z')) {
+                normalized.append(c);
+            } else if (c >= 'a' && c <= 'z') {
+                normalized.append(Character.toUpperCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * The whole reference column, plus every token of it and of the
+     * narration long enough to be a reference and containing a digit.
+     */
+    static Set<String> referenceKeys(StatementLine line) {
+        Set<String> keys = new LinkedHashSet<>();
+        String reference = normalizeReference(line.reference());
+        if (!reference.isEmpty()) {
+            keys.add(reference);
+        }
+        addTokens(line.reference(), keys);
+        addTokens(line.narration(), keys);
+        return keys;
+    }
+
+    private static void addTokens(String text, Set<String> keys) {
+        if (text == null) {
+            return;
+        }
+        for (String token : text.toUpperCase(Locale.ROOT).split("[^A-Z0-9]+")) {
+            if (token.length() >= MIN_REFERENCE_TOKEN && token.chars().anyMatch(Character::isDigit)) {
+                keys.add(token);
+            }
+        }
+    }
+
+    /**
+     * Amount in paise, so amounts compare as longs regardless of scale.
+     */
+    static long amountKey(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,17 @@
+package com.smtech.SM_Caterer.config.reconciliation;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One credit line of a bank or UPI statement.
+ *
+ * @param lineNumber 1-based row number in the file
+ * @param date Transaction (or value) date
+ * @param amount Credited amount, always positive
+ * @param reference Reference / UTR column, or null
+ * @param narration Narration / description column, or null
+ */
+public record StatementLine(int lineNumber, LocalDate date, BigDecimal amount,
+                            String reference, String narration) {
+}
@@ -0,0 +1,224 @@
+package com.smtech.SM_Caterer.config.reconciliation;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Turns raw statement rows into credit lines.
+ *
+ * Banks put a few rows of account details above the table, so rows are
+ * skipped until one reads like a header: a date column and a credit (or
+ * amount) column. Columns are recognised by name, ignoring case and
+ * punctuation ("Chq./Ref.No.", "Deposit Amt.", "Value Dt"). After the
+ * header, rows without a parseable date or without a credit are counted as
+ * skipped; debits are never matched.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public class StatementRowMapper {
+
+    private static final Set<String> DATE_HEADERS = Set.of(
+            "date", "txndate", "transactiondate", "trandate", "valuedate", "valuedt", "postingdate", "txndt");
+    private static final Set<String> REFERENCE_HEADERS = Set.of(
+            "reference", "referenceno", "referencenumber", "refno", "chqrefno", "chequerefno", "refnochqno",
+            "utr", "utrno", "utrnumber", "rrn", "upirefno", "upirrn", "transactionid", "txnid", "transactionref");
+    private static final Set<String> NARRATION_HEADERS = Set.of(
+            "narration", "description", "particulars", "remarks", "details", "transactiondetails", "transactionremarks");
+    private static final Set<String> TYPE_HEADERS = Set.of("type", "drcr", "crdr", "transactiontype", "txntype");
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            pattern("d/M/uuuu"), pattern("d-M-uuuu"), pattern("d.M.uuuu"),
+            pattern("d/M/uu"), pattern("d-M-uu"),
+            pattern("d-MMM-uuuu"), pattern("d-MMM-uu"), pattern("d MMM uuuu"), pattern("d MMM uu"),
+            pattern("d/MMM/uuuu"), pattern("MMM d, uuuu"));
+
+    private final Consumer<StatementLine> sink;
+
+    private int dateColumn = -1;
+    private int creditColumn = -1;
+    private int amountColumn = -1;
+    private int referenceColumn = -1;
+    private int narrationColumn = -1;
+    private int typeColumn = -1;
+
+    private DateTimeFormatter dateFormat;
+
+    private int lines;
+    private int skipped;
+
+    public StatementRowMapper(Consumer<StatementLine> sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * @param rowNumber 1-based row number in the file
+     * @param cells Cell values of the row; missing cells may be null
+     */
+    public void accept(int rowNumber, List<String> cells) {
+        if (!hasHeader()) {
+            readHeader(cells);
+            return;
+        }
+        if (isBlank(cells)) {
+            return;
+        }
+
+        LocalDate date = parseDate(cell(cells, dateColumn));
+        BigDecimal amount = parseAmount(cell(cells, creditColumn >= 0 ? creditColumn : amountColumn));
+        if (date == null || amount == null || amount.signum() <= 0 || isDebit(cell(cells, typeColumn))) {
+            skipped++;
+            return;
+        }
+
+        lines++;
+        sink.accept(new StatementLine(rowNumber, date, amount,
+                emptyToNull(cell(cells, referenceColumn)), emptyToNull(cell(cells, narrationColumn))));
+    }
+
+    public boolean hasHeader() {
+        return dateColumn >= 0 && (creditColumn >= 0 || amountColumn >= 0);
+    }
+
+    /**
+     * @return Credit lines passed on so far
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * @return Rows after the header that were not credit lines
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+
+    private void readHeader(List<String> cells) {
+        int date = -1, credit = -1, amount = -1, reference = -1, narration = -1, type = -1;
+        for (int i = 0; i < cells.size(); i++) {
+            String name = headerKey(cells.get(i));
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (date < 0 && DATE_HEADERS.contains(name)) {
+                date = i;
+            } else if (credit < 0 && (name.startsWith("credit") || name.startsWith("deposit") || name.equals("cr"))) {
+                credit = i;
+            } else if (amount < 0 && (name.startsWith("amount") || name.equals("transactionamount")
+                    || name.equals("txnamount"))) {
+                amount = i;
+            } else if (reference < 0 && (REFERENCE_HEADERS.contains(name) || name.startsWith("utr"))) {
+                reference = i;
+            } else if (narration < 0 && NARRATION_HEADERS.contains(name)) {
+                narration = i;
+            } else if (type < 0 && TYPE_HEADERS.contains(name)) {
+                type = i;
+            }
+        }
+        if (date >= 0 && (credit >= 0 || amount >= 0)) {
+            dateColumn = date;
+            creditColumn = credit;
+            amountColumn = amount;
+            referenceColumn = reference;
+            narrationColumn = narration;
+            typeColumn = type;
+        }
+    }
+
+    LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        LocalDate date = tryParse(trimmed);
+        if (date == null && trimmed.indexOf(' ') > 0) {
+            // "05/01/2024 10:32:11" and the like
+            date = tryParse(trimmed.substring(0, trimmed.indexOf(' ')));
+        }
+        if (date == null && trimmed.indexOf('T') > 0) {
+            date = tryParse(trimmed.substring(0, trimmed.indexOf('T')));
+        }
+        return date;
+    }
+
+    static BigDecimal parseAmount(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String cleaned = value.trim().toUpperCase(Locale.ROOT).replace("RS.", "").replace("INR", "");
+        boolean negative = cleaned.startsWith("-") || (cleaned.startsWith("(") && cleaned.endsWith(")"))
+                || cleaned.endsWith("DR");
+        cleaned = cleaned.replaceAll("[^0-9.]", "");
+        if (cleaned.isEmpty()) {
+            return null;
+        }
+        try {
+            BigDecimal amount = new BigDecimal(cleaned);
+            return negative ? amount.negate() : amount;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private LocalDate tryParse(String value) {
+        // A statement uses one date format throughout, so the last one that worked goes first
+        if (dateFormat != null) {
+            try {
+                return LocalDate.parse(value, dateFormat);
+            } catch (DateTimeParseException e) {
+                // fall back to trying them all
+            }
+        }
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                LocalDate date = LocalDate.parse(value, format);
+                dateFormat = format;
+                return date;
+            } catch (DateTimeParseException e) {
+                // try the next format
+            }
+        }
+        return null;
+    }
+
+    private static boolean isDebit(String type) {
+        if (type == null) {
+            return false;
+        }
+        String value = type.trim().toUpperCase(Locale.ROOT);
+        return value.startsWith("D") || value.startsWith("W");
+    }
+
+    private static String headerKey(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT).replaceAll("[^a-z]", "");
+    }
+
+    private static String cell(List<String> cells, int index) {
+        return index >= 0 && index < cells.size() ? cells.get(index) : null;
+    }
+
+    private static boolean isBlank(List<String> cells) {
+        return cells.stream().allMatch(c -> c == null || c.isBlank());
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static DateTimeFormatter pattern(String pattern) {
+        return new DateTimeFormatterBuilder()
+                .parseCaseInsensitive()
+                .appendPattern(pattern)
+                .toFormatter(Locale.ENGLISH);
+    }
+}
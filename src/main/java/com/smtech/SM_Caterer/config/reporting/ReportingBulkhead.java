@@ -0,0 +1,117 @@
+package com.smtech.SM_Caterer.config.reporting;
+
+import com.smtech.SM_Caterer.exception.ReportCapacityExceededException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Semaphore bulkhead for heavy reports.
+ *
+ * A report needs one slot from its tenant's semaphore and one from the
+ * global semaphore. The tenant slot is taken first, so a tenant queuing many
+ * exports waits on its own semaphore instead of holding global slots.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Slf4j
+public class ReportingBulkhead {
+
+    private final int maxConcurrent;
+    private final int maxConcurrentPerTenant;
+    private final long maxWaitNanos;
+    private final int retryAfterSeconds;
+
+    private final Semaphore global;
+    private final Map<Long, Semaphore> tenants = new ConcurrentHashMap<>();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ReportingBulkhead(int maxConcurrent, int maxConcurrentPerTenant, long maxWaitMs, int retryAfterSeconds) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxConcurrentPerTenant = maxConcurrentPerTenant;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.global = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Takes a tenant slot and a global slot, waiting up to the configured time.
+     *
+     * @param tenantId Tenant of the report (null = global limit only)
+     * @return Permit to release when the report finishes
+     * @throws ReportCapacityExceededException if no slot frees up in time
+     */
+    public Permit acquire(Long tenantId) {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        Semaphore tenant = tenantId != null
+                ? tenants.computeIfAbsent(tenantId, id -> new Semaphore(maxConcurrentPerTenant, true))
+                : null;
+
+        if (tenant != null && !tryAcquire(tenant, deadline)) {
+            throw reject("tenant", tenantId);
+        }
+        if (!tryAcquire(global, deadline)) {
+            if (tenant != null) {
+                tenant.release();
+            }
+            throw reject("global", tenantId);
+        }
+
+        return () -> {
+            global.release();
+            if (tenant != null) {
+                tenant.release();
+            }
+        };
+    }
+
+    /**
+     * Reports currently holding a global slot.
+     */
+    public int getActive() {
+        return maxConcurrent - global.availablePermits();
+    }
+
+    /**
+     * Reports waiting for a global slot.
+     */
+    public int getQueued() {
+        return global.getQueueLength();
+    }
+
+    /**
+     * Total rejected reports since startup.
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    private boolean tryAcquire(Semaphore semaphore, long deadline) {
+        try {
+            return semaphore.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private ReportCapacityExceededException reject(String limit, Long tenantId) {
+        rejected.incrementAndGet();
+        log.warn("Report rejected by {} bulkhead limit (tenant: {})", limit, tenantId);
+        return new ReportCapacityExceededException(retryAfterSeconds);
+    }
+
+    /**
+     * Bulkhead slot held by a running report.
+     */
+    @FunctionalInterface
+    public interface Permit {
+        void release();
+    }
+}
@@ -0,0 +1,33 @@
+package com.smtech.SM_Caterer.config.reporting;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class or method as a reporting workload.
+ *
+ * Read-only transactions started inside it use the reporting connection
+ * pool. With {@link #bulkhead()} the call also needs a slot in the
+ * reporting bulkhead (per tenant and global) and is rejected with
+ * ReportCapacityExceededException when none frees up in time.
+ *
+ * Nested reporting calls share the outermost call's slot.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ReportingWorkload {
+
+    /**
+     * Whether the call is limited by the reporting bulkhead.
+     * Use false for light, frequently hit pages (e.g. the dashboard).
+     */
+    boolean bulkhead() default true;
+}
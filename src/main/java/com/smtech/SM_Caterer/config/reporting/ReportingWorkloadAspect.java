@@ -0,0 +1,80 @@
+package com.smtech.SM_Caterer.config.reporting;
+
+import com.smtech.SM_Caterer.context.ReportingContext;
+import com.smtech.SM_Caterer.context.TenantContext;
+import com.smtech.SM_Caterer.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@link ReportingWorkload}: takes a bulkhead slot and marks the
+ * thread so read-only transactions use the reporting pool.
+ *
+ * Ordered after method security (unauthorized calls never take a slot) and
+ * before the transaction interceptor (no transaction is open while waiting).
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class ReportingWorkloadAspect {
+
+    private final ReportingBulkhead bulkhead;
+
+    @Around("@within(com.smtech.SM_Caterer.config.reporting.ReportingWorkload) || "
+            + "@annotation(com.smtech.SM_Caterer.config.reporting.ReportingWorkload)")
+    public Object aroundReportingWorkload(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (ReportingContext.isActive()) {
+            return joinPoint.proceed();
+        }
+
+        ReportingBulkhead.Permit permit = requiresBulkhead(joinPoint)
+                ? bulkhead.acquire(currentTenantId())
+                : null;
+        ReportingContext.enter();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReportingContext.exit();
+            if (permit != null) {
+                permit.release();
+            }
+        }
+    }
+
+    private boolean requiresBulkhead(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        ReportingWorkload annotation = AnnotatedElementUtils.findMergedAnnotation(
+                signature.getMethod(), ReportingWorkload.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(
+                    joinPoint.getTarget().getClass(), ReportingWorkload.class);
+        }
+        return annotation == null || annotation.bulkhead();
+    }
+
+    private Long currentTenantId() {
+        Long tenantId = TenantContext.getCurrentTenant();
+        if (tenantId != null) {
+            return tenantId;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getTenantId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,88 @@
+package com.smtech.SM_Caterer.config.sharding;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Connection pools of all shards, keyed by shard key.
+ *
+ * The default shard is registered first and is not owned by the registry
+ * (it is the primaryDataSource bean); additional shard pools are closed on
+ * shutdown.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public class ShardRegistry implements DisposableBean {
+
+    private final String defaultShard;
+    private final Map<String, DataSource> shards = new LinkedHashMap<>();
+
+    /**
+     * @param defaultShard Key of the default shard
+     * @param defaultDataSource Default shard pool
+     * @param additionalShards Other shard pools by key
+     */
+    public ShardRegistry(String defaultShard, DataSource defaultDataSource,
+                         Map<String, ? extends DataSource> additionalShards) {
+        this.defaultShard = defaultShard;
+        shards.put(defaultShard, defaultDataSource);
+        additionalShards.forEach((key, dataSource) -> {
+            if (shards.putIfAbsent(key, dataSource) != null) {
+                throw new IllegalStateException("Duplicate shard key: " + key);
+            }
+        });
+    }
+
+    public String getDefaultShard() {
+        return defaultShard;
+    }
+
+    /**
+     * Shard keys, default shard first.
+     */
+    public Set<String> getShardKeys() {
+        return Collections.unmodifiableSet(shards.keySet());
+    }
+
+    public boolean contains(String shardKey) {
+        return shards.containsKey(shardKey);
+    }
+
+    /**
+     * Gets the pool of a shard.
+     *
+     * @throws IllegalArgumentException if the shard is unknown
+     */
+    public DataSource getDataSource(String shardKey) {
+        DataSource dataSource = shards.get(shardKey);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Unknown shard: " + shardKey);
+        }
+        return dataSource;
+    }
+
+    /**
+     * Additional shard pools (everything but the default shard).
+     */
+    public Map<String, DataSource> getAdditionalShards() {
+        Map<String, DataSource> additional = new LinkedHashMap<>(shards);
+        additional.remove(defaultShard);
+        return additional;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource dataSource : getAdditionalShards().values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
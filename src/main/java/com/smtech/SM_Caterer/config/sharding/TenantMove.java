@@ -0,0 +1,64 @@
+package com.smtech.SM_Caterer.config.sharding;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one tenant move.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Getter
+public class TenantMove {
+
+    public enum Phase {
+        /** Waiting for the mover thread */
+        QUEUED,
+        /** Bulk copy while the tenant keeps writing */
+        COPYING,
+        /** Writes frozen, waiting for in-flight transactions */
+        FROZEN,
+        /** Copying rows changed during the bulk copy and removing deleted ones */
+        SYNCING,
+        /** Tenant routed to the target; deleting rows from the source */
+        CLEANING_UP,
+        COMPLETED,
+        FAILED
+    }
+
+    private final Long tenantId;
+    private final String sourceShard;
+    private final String targetShard;
+    private final LocalDateTime requestedAt = LocalDateTime.now();
+    private final AtomicLong rowsCopied = new AtomicLong();
+
+    private volatile Phase phase = Phase.QUEUED;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+
+    TenantMove(Long tenantId, String sourceShard, String targetShard) {
+        this.tenantId = tenantId;
+        this.sourceShard = sourceShard;
+        this.targetShard = targetShard;
+    }
+
+    public boolean isFinished() {
+        return phase == Phase.COMPLETED || phase == Phase.FAILED;
+    }
+
+    void setPhase(Phase phase) {
+        this.phase = phase;
+        if (isFinished()) {
+            finishedAt = LocalDateTime.now();
+        }
+    }
+
+    void fail(String error) {
+        this.error = error;
+        setPhase(Phase.FAILED);
+    }
+}
@@ -0,0 +1,149 @@
+package com.smtech.SM_Caterer.config.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tenant-to-shard directory backed by the tenant_shards table on the default shard.
+ *
+ * Lookups are served from an in-memory snapshot that is reloaded on a fixed
+ * delay, so routing a connection never queries the directory. Tenants without
+ * a row live on the default shard.
+ *
+ * The snapshot is loaded on first use rather than at startup because the
+ * table is created by Flyway, which runs after the DataSource beans exist.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Slf4j
+public class TenantShardDirectory {
+
+    static final String STATUS_ACTIVE = "ACTIVE";
+    static final String STATUS_MOVING = "MOVING";
+
+    private final ShardRegistry registry;
+    private final JdbcTemplate directory;
+
+    private volatile Map<Long, Placement> placements;
+
+    public TenantShardDirectory(ShardRegistry registry) {
+        this.registry = registry;
+        this.directory = new JdbcTemplate(registry.getDataSource(registry.getDefaultShard()));
+    }
+
+    /**
+     * Gets the shard holding a tenant's rows.
+     *
+     * @param tenantId Tenant ID (null = default shard)
+     * @return Shard key
+     */
+    public String shardFor(Long tenantId) {
+        if (tenantId == null) {
+            return registry.getDefaultShard();
+        }
+        Placement placement = snapshot().get(tenantId);
+        return placement != null ? placement.shard() : registry.getDefaultShard();
+    }
+
+    /**
+     * Checks if a tenant's writes are frozen for the final phase of a move.
+     */
+    public boolean isMoving(Long tenantId) {
+        if (tenantId == null) {
+            return false;
+        }
+        Placement placement = snapshot().get(tenantId);
+        return placement != null && placement.moving();
+    }
+
+    /**
+     * Finds the tenant of a login (username or email) by searching the
+     * shards, default shard first. Used before the tenant is known.
+     *
+     * @param login Username or email
+     * @return Tenant ID, or null if not found or the user has no tenant
+     */
+    public Long findTenantByLogin(String login) {
+        if (login == null) {
+            return null;
+        }
+        for (String shard : registry.getShardKeys()) {
+            List<Long> tenants = new JdbcTemplate(registry.getDataSource(shard)).query(
+                    "SELECT tenant_id FROM users WHERE username = ? OR email = ?",
+                    (rs, rowNum) -> rs.getObject(1, Long.class), login, login);
+            if (!tenants.isEmpty()) {
+                return tenants.get(0);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reloads the directory snapshot.
+     */
+    @Scheduled(fixedDelayString = "${app.sharding.directory-refresh-ms:5000}")
+    public void refresh() {
+        try {
+            Map<Long, Placement> loaded = new HashMap<>();
+            directory.query("SELECT tenant_id, shard_key, status FROM tenant_shards", rs -> {
+                loaded.put(rs.getLong(1), new Placement(rs.getString(2), STATUS_MOVING.equals(rs.getString(3))));
+            });
+            placements = Map.copyOf(loaded);
+        } catch (DataAccessException ex) {
+            // Keep the previous snapshot; routing must not fail on a directory hiccup
+            log.warn("Tenant shard directory reload failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Freezes a tenant's writes ahead of the final move phase.
+     */
+    void markMoving(Long tenantId, String sourceShard, String targetShard) {
+        int updated = directory.update(
+                "UPDATE tenant_shards SET status = ?, target_shard_key = ?, move_started_at = CURRENT_TIMESTAMP "
+                        + "WHERE tenant_id = ?", STATUS_MOVING, targetShard, tenantId);
+        if (updated == 0) {
+            directory.update("INSERT INTO tenant_shards (tenant_id, shard_key, status, target_shard_key, move_started_at) "
+                    + "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)", tenantId, sourceShard, STATUS_MOVING, targetShard);
+        }
+        refresh();
+    }
+
+    /**
+     * Places a tenant on a shard and lifts any write freeze.
+     */
+    void place(Long tenantId, String shard) {
+        int updated = directory.update(
+                "UPDATE tenant_shards SET shard_key = ?, status = ?, target_shard_key = NULL, move_started_at = NULL "
+                        + "WHERE tenant_id = ?", shard, STATUS_ACTIVE, tenantId);
+        if (updated == 0) {
+            directory.update("INSERT INTO tenant_shards (tenant_id, shard_key, status) VALUES (?, ?, ?)",
+                    tenantId, shard, STATUS_ACTIVE);
+        }
+        refresh();
+    }
+
+    private Map<Long, Placement> snapshot() {
+        Map<Long, Placement> current = placements;
+        if (current == null) {
+            synchronized (this) {
+                if (placements == null) {
+                    refresh();
+                }
+                current = placements != null ? placements : Map.of();
+            }
+        }
+        return current;
+    }
+
+    private record Placement(String shard, boolean moving) {
+    }
+}
@@ -0,0 +1,326 @@
+package com.smtech.SM_Caterer.config.sharding;
+
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Online tenant move tool: copies one tenant's rows to another shard in batches.
+ *
+ * Move protocol:
+ * 1. COPYING - every tenant table is copied by key range while the tenant keeps working
+ * 2. FROZEN - the directory freezes the tenant's writes; waits freeze-grace-ms
+ *    so every instance has reloaded the directory and open transactions have ended
+ * 3. SYNCING - rows updated since the copy started are copied again (tables
+ *    without updated_at are copied in full), then rows deleted on the source
+ *    are deleted on the target
+ * 4. The directory routes the tenant to the target and lifts the freeze
+ * 5. CLEANING_UP - the tenant's rows are deleted from the source
+ *
+ * Copies are upserts, so a failed move can simply be retried. On failure
+ * before step 4 the tenant stays on the source and partial rows are removed
+ * from the target. The tenants row is never deleted from the default shard,
+ * which keeps the super admin tenant list complete.
+ *
+ * Moves run one at a time on a dedicated thread.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Slf4j
+public class TenantShardMover implements DisposableBean {
+
+    /**
+     * Safety margin for the changed-rows sync. updated_at is written with the
+     * application clock and a transaction may commit well after it set the
+     * value, so the sync starts this long before the bulk copy did.
+     */
+    private static final Duration SYNC_MARGIN = Duration.ofMinutes(5);
+
+    private final ShardRegistry registry;
+    private final TenantShardDirectory directory;
+    private final List<TenantTable> tables;
+    private final int batchSize;
+    private final long freezeGraceMs;
+
+    private final Map<Long, TenantMove> moves = new ConcurrentHashMap<>();
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("tenant-shard-mover-"));
+
+    public TenantShardMover(ShardRegistry registry, TenantShardDirectory directory,
+                            List<TenantTable> tables, int batchSize, long freezeGraceMs) {
+        this.registry = registry;
+        this.directory = directory;
+        this.tables = List.copyOf(tables);
+        this.batchSize = batchSize;
+        this.freezeGraceMs = freezeGraceMs;
+    }
+
+    /**
+     * Validates and queues a move.
+     *
+     * @param tenantId Tenant to move
+     * @param targetShard Destination shard key
+     * @return Move progress
+     * @throws InvalidOperationException if the move is not possible
+     */
+    public TenantMove startMove(Long tenantId, String targetShard) {
+        TenantMove move = prepare(tenantId, targetShard);
+        executor.submit(() -> run(move));
+        return move;
+    }
+
+    /**
+     * Validates and runs a move on the calling thread.
+     *
+     * @param tenantId Tenant to move
+     * @param targetShard Destination shard key
+     * @return Finished move (COMPLETED or FAILED)
+     * @throws InvalidOperationException if the move is not possible
+     */
+    public TenantMove move(Long tenantId, String targetShard) {
+        TenantMove move = prepare(tenantId, targetShard);
+        run(move);
+        return move;
+    }
+
+    /**
+     * Gets the latest move of a tenant.
+     *
+     * @return Move progress, or null if the tenant was not moved since startup
+     */
+    public TenantMove getMove(Long tenantId) {
+        return moves.get(tenantId);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private TenantMove prepare(Long tenantId, String targetShard) {
+        if (!registry.contains(targetShard)) {
+            throw new InvalidOperationException("Unknown shard: " + targetShard);
+        }
+        String sourceShard = directory.shardFor(tenantId);
+        if (sourceShard.equals(targetShard)) {
+            throw new InvalidOperationException(
+                    String.format("Tenant %d is already on shard %s", tenantId, targetShard));
+        }
+        JdbcTemplate source = jdbc(sourceShard);
+        if (!hasRows(source, TenantTable.root("tenants"), tenantId)) {
+            throw new InvalidOperationException(
+                    String.format("Tenant %d not found on shard %s", tenantId, sourceShard));
+        }
+        JdbcTemplate target = jdbc(targetShard);
+        boolean keepsTenantRow = targetShard.equals(registry.getDefaultShard());
+        for (TenantTable table : tables) {
+            if (!(keepsTenantRow && table.isRoot()) && hasRows(target, table, tenantId)) {
+                throw new InvalidOperationException(String.format(
+                        "Shard %s already has %s rows of tenant %d", targetShard, table.name(), tenantId));
+            }
+        }
+
+        TenantMove move = new TenantMove(tenantId, sourceShard, targetShard);
+        TenantMove running = moves.compute(tenantId,
+                (id, previous) -> previous == null || previous.isFinished() ? move : previous);
+        if (running != move) {
+            throw new InvalidOperationException(String.format("Tenant %d is already being moved", tenantId));
+        }
+        return move;
+    }
+
+    private void run(TenantMove move) {
+        Long tenantId = move.getTenantId();
+        JdbcTemplate source = jdbc(move.getSourceShard());
+        JdbcTemplate target = jdbc(move.getTargetShard());
+        log.info("Moving tenant {} from shard {} to {}", tenantId, move.getSourceShard(), move.getTargetShard());
+
+        try {
+            Timestamp copyStarted = source.queryForObject("SELECT CURRENT_TIMESTAMP", Timestamp.class);
+            Timestamp changedSince = new Timestamp(copyStarted.getTime() - SYNC_MARGIN.toMillis());
+
+            move.setPhase(TenantMove.Phase.COPYING);
+            for (TenantTable table : tables) {
+                copy(source, target, table, tenantId, null, move);
+            }
+
+            move.setPhase(TenantMove.Phase.FROZEN);
+            directory.markMoving(tenantId, move.getSourceShard(), move.getTargetShard());
+            Thread.sleep(freezeGraceMs);
+
+            move.setPhase(TenantMove.Phase.SYNCING);
+            for (TenantTable table : tables) {
+                copy(source, target, table, tenantId,
+                        hasColumn(source, table, "updated_at") ? changedSince : null, move);
+            }
+            for (TenantTable table : reversed(tables)) {
+                deleteMissing(source, target, table, tenantId);
+            }
+
+            directory.place(tenantId, move.getTargetShard());
+        } catch (Exception ex) {
+            if (ex instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("Moving tenant {} to shard {} failed, tenant stays on {}",
+                    tenantId, move.getTargetShard(), move.getSourceShard(), ex);
+            directory.place(tenantId, move.getSourceShard());
+            try {
+                deleteTenant(target, tenantId, move.getTargetShard());
+            } catch (Exception cleanupEx) {
+                log.error("Removing partial rows of tenant {} from shard {} failed",
+                        tenantId, move.getTargetShard(), cleanupEx);
+            }
+            move.fail(ex.getMessage());
+            return;
+        }
+
+        move.setPhase(TenantMove.Phase.CLEANING_UP);
+        try {
+            deleteTenant(source, tenantId, move.getSourceShard());
+            move.setPhase(TenantMove.Phase.COMPLETED);
+            log.info("Tenant {} moved to shard {} ({} rows copied)",
+                    tenantId, move.getTargetShard(), move.getRowsCopied().get());
+        } catch (Exception ex) {
+            // The tenant already runs on the target; leftover source rows are unreachable
+            log.error("Tenant {} moved to shard {} but source cleanup failed", tenantId, move.getTargetShard(), ex);
+            move.fail("Source cleanup failed: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Upserts a tenant's rows of one table in key order.
+     *
+     * @param changedSince Only rows with updated_at at or after this time (null = all rows)
+     */
+    private void copy(JdbcTemplate source, JdbcTemplate target, TenantTable table, Long tenantId,
+                      Timestamp changedSince, TenantMove move) {
+        String sql = "SELECT * FROM " + table.name() + " WHERE " + table.predicate()
+                + (changedSince != null ? " AND updated_at >= ?" : "")
+                + " AND " + table.keyColumn() + " > ? ORDER BY " + table.keyColumn() + " LIMIT " + batchSize;
+        long lastId = 0;
+        while (true) {
+            List<Map<String, Object>> rows = changedSince != null
+                    ? source.queryForList(sql, tenantId, changedSince, lastId)
+                    : source.queryForList(sql, tenantId, lastId);
+            if (rows.isEmpty()) {
+                return;
+            }
+            upsert(target, table, rows);
+            move.getRowsCopied().addAndGet(rows.size());
+            lastId = ((Number) rows.get(rows.size() - 1).get(table.keyColumn())).longValue();
+        }
+    }
+
+    private void upsert(JdbcTemplate target, TenantTable table, List<Map<String, Object>> rows) {
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        String sql = "INSERT INTO " + table.name()
+                + " (" + String.join(", ", columns) + ")"
+                + " VALUES (" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")"
+                + " ON DUPLICATE KEY UPDATE " + columns.stream()
+                .filter(column -> !column.equalsIgnoreCase(table.keyColumn()))
+                .map(column -> column + " = VALUES(" + column + ")")
+                .collect(Collectors.joining(", "));
+        List<Object[]> args = rows.stream()
+                .map(row -> columns.stream().map(row::get).toArray())
+                .toList();
+        target.batchUpdate(sql, args);
+    }
+
+    /**
+     * Deletes target rows whose key no longer exists on the source.
+     */
+    private void deleteMissing(JdbcTemplate source, JdbcTemplate target, TenantTable table, Long tenantId) {
+        long lastId = 0;
+        while (true) {
+            List<Long> ids = nextIds(target, table, tenantId, lastId);
+            if (ids.isEmpty()) {
+                return;
+            }
+            Set<Long> present = new HashSet<>(source.queryForList(
+                    "SELECT " + table.keyColumn() + " FROM " + table.name()
+                            + " WHERE " + table.keyColumn() + " IN (" + placeholders(ids.size()) + ")",
+                    Long.class, ids.toArray()));
+            List<Long> missing = ids.stream().filter(id -> !present.contains(id)).toList();
+            if (!missing.isEmpty()) {
+                deleteIds(target, table, missing);
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+    }
+
+    /**
+     * Deletes all rows of a tenant from a shard, children first. The tenants
+     * row stays on the default shard.
+     */
+    private void deleteTenant(JdbcTemplate jdbc, Long tenantId, String shard) {
+        boolean keepTenantRow = shard.equals(registry.getDefaultShard());
+        for (TenantTable table : reversed(tables)) {
+            if (keepTenantRow && table.isRoot()) {
+                continue;
+            }
+            List<Long> ids;
+            while (!(ids = nextIds(jdbc, table, tenantId, 0)).isEmpty()) {
+                deleteIds(jdbc, table, ids);
+            }
+        }
+    }
+
+    private List<Long> nextIds(JdbcTemplate jdbc, TenantTable table, Long tenantId, long afterId) {
+        return jdbc.queryForList("SELECT " + table.keyColumn() + " FROM " + table.name()
+                + " WHERE " + table.predicate() + " AND " + table.keyColumn() + " > ?"
+                + " ORDER BY " + table.keyColumn() + " LIMIT " + batchSize, Long.class, tenantId, afterId);
+    }
+
+    private void deleteIds(JdbcTemplate jdbc, TenantTable table, List<Long> ids) {
+        jdbc.update("DELETE FROM " + table.name() + " WHERE " + table.keyColumn()
+                + " IN (" + placeholders(ids.size()) + ")", ids.toArray());
+    }
+
+    private boolean hasRows(JdbcTemplate jdbc, TenantTable table, Long tenantId) {
+        return !jdbc.queryForList("SELECT " + table.keyColumn() + " FROM " + table.name()
+                + " WHERE " + table.predicate() + " LIMIT 1", Long.class, tenantId).isEmpty();
+    }
+
+    private boolean hasColumn(JdbcTemplate jdbc, TenantTable table, String column) {
+        return Boolean.TRUE.equals(jdbc.query("SELECT * FROM " + table.name() + " WHERE 1 = 0", rs -> {
+            for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
+                if (column.equalsIgnoreCase(rs.getMetaData().getColumnLabel(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }));
+    }
+
+    private JdbcTemplate jdbc(String shard) {
+        return new JdbcTemplate(registry.getDataSource(shard));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static List<TenantTable> reversed(List<TenantTable> tables) {
+        List<TenantTable> reversed = new ArrayList<>(tables);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+}
@@ -0,0 +1,58 @@
+package com.smtech.SM_Caterer.config.sharding;
+
+import com.smtech.SM_Caterer.context.TenantContext;
+import com.smtech.SM_Caterer.exception.TenantMovingException;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Routes connections to the shard of the current tenant (TenantContext).
+ *
+ * Routing rules:
+ * - No tenant (login, super admin, startup): default shard
+ * - Tenant: shard from the TenantShardDirectory
+ * - Tenant whose move is in its final phase: read-only transactions are
+ *   served, anything else fails with TenantMovingException
+ *
+ * The default shard target is usually the WorkloadRoutingDataSource, so the
+ * read replica and reporting pool keep working for default-shard tenants.
+ * Must be wrapped in a LazyConnectionDataSourceProxy.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public class TenantShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final TenantShardDirectory directory;
+    private final int retryAfterSeconds;
+
+    /**
+     * @param shards Connection targets by shard key (including the default shard)
+     * @param defaultShard Key of the default shard
+     * @param directory Tenant placements
+     * @param retryAfterSeconds Retry-After for writes rejected during a move
+     */
+    public TenantShardRoutingDataSource(Map<String, DataSource> shards, String defaultShard,
+                                        TenantShardDirectory directory, int retryAfterSeconds) {
+        this.directory = directory;
+        this.retryAfterSeconds = retryAfterSeconds;
+        setTargetDataSources(new HashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(defaultShard));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long tenantId = TenantContext.getCurrentTenant();
+        if (directory.isMoving(tenantId) && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            throw new TenantMovingException(tenantId, retryAfterSeconds);
+        }
+        return directory.shardFor(tenantId);
+    }
+}
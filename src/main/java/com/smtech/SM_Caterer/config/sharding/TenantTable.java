@@ -0,0 +1,84 @@
+package com.smtech.SM_Caterer.config.sharding;
+
+import java.util.List;
+
+/**
+ * A table holding tenant data, with the predicate selecting one tenant's rows
+ * and the numeric key the tenant move tool pages and deletes by.
+ *
+ * {@link #ALL} lists every tenant table in foreign key order (parents first);
+ * rows are copied in this order and deleted in reverse. New tenant tables must
+ * be added here or the tenant move tool will leave their rows behind.
+ *
+ * @param name Table name
+ * @param predicate SQL condition with a single tenant ID parameter
+ * @param keyColumn Single-column numeric primary key
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public record TenantTable(String name, String predicate, String keyColumn) {
+
+    public static final List<TenantTable> ALL = List.of(
+            root("tenants"),
+            owned("users"),
+            owned("material_groups"),
+            child("material_group_translations", "material_group_id", "material_groups"),
+            owned("units"),
+            child("unit_translations", "unit_id", "units"),
+            owned("materials"),
+            child("material_translations", "material_id", "materials"),
+            owned("material_stock", "material_id"),
+            owned("stock_movements"),
+            owned("event_types"),
+            child("event_type_translations", "event_type_id", "event_types"),
+            owned("menus"),
+            child("menu_translations", "menu_id", "menus"),
+            child("recipe_items", "menu_id", "menus"),
+            child("recipe_components", "menu_id", "menus"),
+            owned("utilities"),
+            child("utility_translations", "utility_id", "utilities"),
+            owned("utility_bookings"),
+            owned("customers"),
+            owned("orders"),
+            child("order_menu_items", "order_id", "orders"),
+            child("order_utilities", "order_id", "orders"),
+            owned("payments"),
+            owned("upi_qr_codes"),
+            owned("email_logs"),
+            owned("outbox_events"));
+
+    /**
+     * The tenants table itself.
+     */
+    public static TenantTable root(String name) {
+        return new TenantTable(name, "id = ?", "id");
+    }
+
+    /**
+     * A table with a tenant_id column.
+     */
+    public static TenantTable owned(String name) {
+        return owned(name, "id");
+    }
+
+    /**
+     * A table with a tenant_id column, keyed by a column other than id.
+     */
+    public static TenantTable owned(String name, String keyColumn) {
+        return new TenantTable(name, "tenant_id = ?", keyColumn);
+    }
+
+    /**
+     * A table without tenant_id, owned through its parent row.
+     */
+    public static TenantTable child(String name, String parentColumn, String parentTable) {
+        return new TenantTable(name, parentColumn + " IN (SELECT id FROM " + parentTable + " WHERE tenant_id = ?)",
+                "id");
+    }
+
+    public boolean isRoot() {
+        return "id = ?".equals(predicate);
+    }
+}
@@ -0,0 +1,93 @@
+package com.smtech.SM_Caterer.config.stock;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks that ids are hashed onto.
+ *
+ * Updates to one hot material queue up here, in the JVM, instead of each
+ * holding a database connection while it waits for the material's row
+ * lock. Two ids may share a stripe; that only costs some concurrency.
+ *
+ * Several stripes are always taken in ascending stripe order, so two
+ * callers locking overlapping sets cannot deadlock each other. Locks are
+ * reentrant and must be released by the thread that took them.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public class StripedLocks {
+
+    private final ReentrantLock[] stripes;
+
+    public StripedLocks(int stripes) {
+        this.stripes = new ReentrantLock[Math.max(1, stripes)];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * A set of held stripes, released together.
+     */
+    public final class Held implements AutoCloseable {
+
+        private final int[] held;
+        private int count;
+
+        private Held(int capacity) {
+            this.held = new int[capacity];
+        }
+
+        @Override
+        public void close() {
+            for (int i = count - 1; i >= 0; i--) {
+                stripes[held[i]].unlock();
+            }
+            count = 0;
+        }
+    }
+
+    /**
+     * Takes the stripes of all ids, waiting at most timeoutMs for each.
+     *
+     * @return The held stripes; close it to release them
+     * @throws IllegalStateException if a stripe could not be taken in time
+     *         (the stripes taken so far are released)
+     */
+    public Held lockAll(Collection<Long> ids, long timeoutMs) {
+        boolean[] wanted = new boolean[stripes.length];
+        for (Long id : ids) {
+            wanted[stripeOf(id)] = true;
+        }
+
+        Held held = new Held(stripes.length);
+        try {
+            for (int stripe = 0; stripe < stripes.length; stripe++) {
+                if (!wanted[stripe]) {
+                    continue;
+                }
+                if (!stripes[stripe].tryLock(timeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new IllegalStateException("Timed out waiting for stock lock stripe " + stripe);
+                }
+                held.held[held.count++] = stripe;
+            }
+        } catch (InterruptedException e) {
+            held.close();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a stock lock", e);
+        } catch (RuntimeException e) {
+            held.close();
+            throw e;
+        }
+        return held;
+    }
+
+    int stripeOf(Long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) ((h >>> 33) % stripes.length);
+    }
+}
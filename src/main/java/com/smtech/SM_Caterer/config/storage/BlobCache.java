@@ -0,0 +1,190 @@
+package com.smtech.SM_Caterer.config.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Local read-through cache of remote blobs, bounded by total size.
+ *
+ * Cached copies live under the cache directory at their key's path and are
+ * evicted least recently used first. Because keys are content-addressed a
+ * cached copy never goes stale; it only has to be dropped when the object
+ * is deleted. Copies left by a previous run are indexed on startup, oldest
+ * first.
+ *
+ * A path handed out by get() can be evicted while the caller still uses it;
+ * with a budget well above the size of one object the entry just returned
+ * is the last to go.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Slf4j
+public class BlobCache {
+
+    private final Path dir;
+    private final long maxBytes;
+    private final Map<String, Long> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public BlobCache(Path dir, long maxBytes) throws IOException {
+        this.dir = dir.toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        Files.createDirectories(this.dir);
+        index();
+    }
+
+    /**
+     * @param key Object key
+     * @return Cached copy, or null on a miss
+     */
+    public Path get(String key) {
+        Path file = dir.resolve(key);
+        synchronized (this) {
+            Long size = entries.get(key);
+            if (size != null) {
+                if (Files.isRegularFile(file)) {
+                    hits.incrementAndGet();
+                    return file;
+                }
+                // Deleted behind our back
+                entries.remove(key);
+                totalBytes -= size;
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Temporary file in the cache directory for a download or upload in
+     * progress, so adopting it later is a rename.
+     */
+    public Path createTempFile() throws IOException {
+        return Files.createTempFile(dir, "blob-", ".tmp");
+    }
+
+    /**
+     * Moves a complete file into the cache under a key.
+     *
+     * @param key Object key
+     * @param file File to adopt; moved, not copied
+     * @return Cached copy
+     */
+    public Path adopt(String key, Path file) throws IOException {
+        Path target = dir.resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.move(file, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        long size = Files.size(target);
+        synchronized (this) {
+            Long previous = entries.put(key, size);
+            totalBytes += size - (previous != null ? previous : 0);
+            evictOverBudget(key);
+        }
+        return target;
+    }
+
+    /**
+     * Drops the cached copy of a key.
+     */
+    public synchronized void evict(String key) {
+        remove(key);
+    }
+
+    Path getDirectory() {
+        return dir;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public synchronized long getSizeBytes() {
+        return totalBytes;
+    }
+
+    private void evictOverBudget(String keep) {
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (entry.getKey().equals(keep)) {
+                continue;
+            }
+            eldest.remove();
+            totalBytes -= entry.getValue();
+            deleteQuietly(entry.getKey());
+        }
+    }
+
+    private void remove(String key) {
+        Long size = entries.remove(key);
+        if (size != null) {
+            totalBytes -= size;
+        }
+        deleteQuietly(key);
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            Files.deleteIfExists(dir.resolve(key));
+        } catch (IOException e) {
+            log.debug("Failed to delete cached blob {}: {}", key, e.getMessage());
+        }
+    }
+
+    private void index() throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(dir)) {
+            files = new ArrayList<>(walk.filter(Files::isRegularFile).toList());
+        }
+        files.sort(Comparator.comparing(BlobCache::lastModified));
+
+        synchronized (this) {
+            for (Path file : files) {
+                if (file.getFileName().toString().endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                String key = dir.relativize(file).toString().replace('\\', '/');
+                if (!BlobStore.isValidKey(key)) {
+                    continue;
+                }
+                long size = Files.size(file);
+                entries.put(key, size);
+                totalBytes += size;
+            }
+            evictOverBudget(null);
+        }
+        if (!entries.isEmpty()) {
+            log.info("Blob cache at {} holds {} objects ({} bytes)", dir, entries.size(), totalBytes);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
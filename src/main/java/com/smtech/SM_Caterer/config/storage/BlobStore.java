@@ -0,0 +1,125 @@
+package com.smtech.SM_Caterer.config.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.regex.Pattern;
+
+/**
+ * Storage for generated and uploaded files: receipts, QR codes and logos.
+ *
+ * Objects are content-addressed. put() hashes the bytes as they stream in
+ * and stores them under "&lt;namespace&gt;/&lt;sha256&gt;.&lt;extension&gt;", so
+ * identical content is stored once and a key always names the same bytes.
+ * Keys are relative, '/'-separated and never contain "." or ".." segments.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public interface BlobStore {
+
+    Pattern KEY_SEGMENT = Pattern.compile("[A-Za-z0-9_\\-][A-Za-z0-9_.\\-]*");
+
+    /**
+     * Stores content without holding it in memory. Storing content that is
+     * already present is cheap and returns the existing key.
+     *
+     * @param namespace Key prefix, e.g. "receipts/tenant-1"
+     * @param content Content; read to the end but not closed
+     * @param extension File extension without the dot, or null
+     * @return Key of the stored object
+     * @throws IOException if the content cannot be read or stored
+     */
+    String put(String namespace, InputStream content, String extension) throws IOException;
+
+    default String put(String namespace, byte[] content, String extension) throws IOException {
+        return put(namespace, new ByteArrayInputStream(content), extension);
+    }
+
+    /**
+     * Opens an object for streaming.
+     *
+     * @param key Object key
+     * @return Stream over the object's bytes; the caller closes it
+     * @throws java.nio.file.NoSuchFileException if there is no such object
+     * @throws IOException on any other failure
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * Returns a local file holding the object, for callers that need a
+     * file (PDF logos, Range downloads, mail attachments). Remote objects
+     * are copied to the read-through cache first.
+     *
+     * @param key Object key
+     * @return Readable local file
+     * @throws java.nio.file.NoSuchFileException if there is no such object
+     * @throws IOException on any other failure
+     */
+    Path fetch(String key) throws IOException;
+
+    /**
+     * @param key Object key
+     * @return true if the object exists; false also for invalid keys
+     * @throws IOException if the store cannot be reached
+     */
+    boolean exists(String key) throws IOException;
+
+    /**
+     * Deletes an object; does nothing if it does not exist.
+     *
+     * @param key Object key
+     * @throws IOException if the store cannot be reached
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * Deletes objects under a prefix last written before a cutoff.
+     *
+     * @param prefix Key prefix, e.g. "qrcodes/"
+     * @param cutoff Objects written before this are deleted
+     * @return Number of objects deleted
+     * @throws IOException if the store cannot be listed
+     */
+    int deleteOlderThan(String prefix, Instant cutoff) throws IOException;
+
+    /**
+     * @param key Candidate key
+     * @return true if the value is a well-formed key
+     */
+    static boolean isValidKey(String key) {
+        if (key == null || key.isEmpty()) {
+            return false;
+        }
+        for (String segment : key.split("/", -1)) {
+            if (!KEY_SEGMENT.matcher(segment).matches()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param key Key to check
+     * @return The key
+     * @throws IllegalArgumentException if it is not a well-formed key
+     */
+    static String requireValidKey(String key) {
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return key;
+    }
+
+    /**
+     * Builds the key content with the given hash is stored under.
+     */
+    static String contentKey(String namespace, String sha256, String extension) {
+        String key = namespace + "/" + sha256
+                + (extension != null && !extension.isEmpty() ? "." + extension : "");
+        return requireValidKey(key);
+    }
+}
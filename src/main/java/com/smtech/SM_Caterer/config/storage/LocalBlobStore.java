@@ -0,0 +1,114 @@
+package com.smtech.SM_Caterer.config.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Blob store on the local filesystem; a key is a path below the root.
+ *
+ * Content is staged in a temporary file beside its target and moved into
+ * place, so readers never see a partial object. Storing content that is
+ * already present refreshes the object's modification time instead, which
+ * keeps reused objects clear of deleteOlderThan().
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Slf4j
+public class LocalBlobStore implements BlobStore {
+
+    private final Path root;
+
+    public LocalBlobStore(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String put(String namespace, InputStream content, String extension) throws IOException {
+        Path dir = resolve(BlobStore.requireValidKey(namespace));
+        StagedContent staged = StagedContent.stage(content, dir);
+        try {
+            String key = BlobStore.contentKey(namespace, staged.sha256(), extension);
+            Path target = resolve(key);
+            if (Files.exists(target)) {
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            } else {
+                Files.move(staged.file(), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                log.debug("Stored blob {} ({} bytes)", key, staged.size());
+            }
+            return key;
+        } finally {
+            Files.deleteIfExists(staged.file());
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(fetch(key));
+    }
+
+    @Override
+    public Path fetch(String key) throws IOException {
+        Path file = resolve(BlobStore.requireValidKey(key));
+        if (!Files.isRegularFile(file)) {
+            throw new NoSuchFileException(key);
+        }
+        return file;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return BlobStore.isValidKey(key) && Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(BlobStore.requireValidKey(key)));
+    }
+
+    @Override
+    public int deleteOlderThan(String prefix, Instant cutoff) throws IOException {
+        Path dir = resolve(BlobStore.requireValidKey(stripTrailingSlash(prefix)));
+        if (!Files.isDirectory(dir)) {
+            return 0;
+        }
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(dir)) {
+            files = walk.filter(Files::isRegularFile)
+                    .filter(file -> !file.getFileName().toString().endsWith(".tmp"))
+                    .toList();
+        }
+
+        int deleted = 0;
+        for (Path file : files) {
+            try {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.debug("Failed to delete blob {}: {}", file, e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    private Path resolve(String key) {
+        return root.resolve(key);
+    }
+
+    static String stripTrailingSlash(String prefix) {
+        return prefix.endsWith("/") ? prefix.substring(0, prefix.length() - 1) : prefix;
+    }
+}
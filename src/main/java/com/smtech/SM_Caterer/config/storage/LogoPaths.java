@@ -0,0 +1,56 @@
+package com.smtech.SM_Caterer.config.storage;
+
+/**
+ * Maps between a tenant's stored logoPath and its blob key.
+ *
+ * logoPath is the web path the templates render ("uploads/logos/..."), and
+ * the blob key is the same path without the "uploads/" prefix. Logos
+ * uploaded before the blob store ("uploads/logos/logo_1_ab12cd34.png")
+ * map to "logos/logo_1_ab12cd34.png", which the local store finds where
+ * they were written.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public final class LogoPaths {
+
+    public static final String WEB_PREFIX = "uploads/";
+
+    private LogoPaths() {
+    }
+
+    /**
+     * @param tenantId Tenant ID
+     * @return Namespace the tenant's logos are stored under
+     */
+    public static String namespace(Long tenantId) {
+        return "logos/tenant-" + tenantId;
+    }
+
+    /**
+     * @param key Blob key of a logo
+     * @return logoPath to store on the tenant
+     */
+    public static String toLogoPath(String key) {
+        return WEB_PREFIX + key;
+    }
+
+    /**
+     * @param logoPath Stored logoPath
+     * @return Blob key, or null if the path does not name a stored logo
+     */
+    public static String toKey(String logoPath) {
+        if (logoPath == null) {
+            return null;
+        }
+        String path = logoPath.replace('\\', '/');
+        while (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        if (path.startsWith(WEB_PREFIX)) {
+            path = path.substring(WEB_PREFIX.length());
+        }
+        return path.startsWith("logos/") && BlobStore.isValidKey(path) ? path : null;
+    }
+}
@@ -0,0 +1,295 @@
+package com.smtech.SM_Caterer.config.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Blob store in an S3-compatible bucket (AWS S3, MinIO, Ceph RGW), spoken
+ * to over plain HTTP with Signature Version 4.
+ *
+ * Uploads are staged in the cache directory while they are hashed, which
+ * yields the key and the signed payload hash, and then streamed from that
+ * file; the staged file becomes the cached copy afterwards. Objects that
+ * already exist are not uploaded again but copied onto themselves, which
+ * refreshes their LastModified as LocalBlobStore refreshes the file's mtime,
+ * so deleteOlderThan() does not expire content still being reused. The
+ * bucket is asked even when the local cache has the key, as another node
+ * may have deleted the object. Downloads stream from the response body,
+ * and fetch() copies the object into the read-through cache.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Slf4j
+public class S3BlobStore implements BlobStore {
+
+    private final URI endpoint;
+    private final String bucket;
+    private final boolean pathStyle;
+    private final Duration requestTimeout;
+    private final S3RequestSigner signer;
+    private final BlobCache cache;
+    private final HttpClient httpClient;
+
+    public S3BlobStore(URI endpoint, String bucket, boolean pathStyle, S3RequestSigner signer,
+                       BlobCache cache, Duration connectTimeout, Duration requestTimeout) {
+        this.endpoint = endpoint;
+        this.bucket = bucket;
+        this.pathStyle = pathStyle;
+        this.requestTimeout = requestTimeout;
+        this.signer = signer;
+        this.cache = cache;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    @Override
+    public String put(String namespace, InputStream content, String extension) throws IOException {
+        BlobStore.requireValidKey(namespace);
+        StagedContent staged = StagedContent.stage(content, cache.getDirectory());
+        try {
+            String key = BlobStore.contentKey(namespace, staged.sha256(), extension);
+            if (head(key)) {
+                touch(key);
+            } else {
+                HttpResponse<Void> response = send("PUT", objectUri(key), Map.of(),
+                        HttpRequest.BodyPublishers.ofFile(staged.file()), staged.sha256(),
+                        HttpResponse.BodyHandlers.discarding());
+                expectSuccess(response, "PUT", key);
+                log.debug("Uploaded blob {} ({} bytes)", key, staged.size());
+            }
+            cache.adopt(key, staged.file());
+            return key;
+        } finally {
+            Files.deleteIfExists(staged.file());
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        Path cached = cache.get(BlobStore.requireValidKey(key));
+        if (cached != null) {
+            return Files.newInputStream(cached);
+        }
+        HttpResponse<InputStream> response = send("GET", objectUri(key), HttpRequest.BodyPublishers.noBody(),
+                S3RequestSigner.EMPTY_PAYLOAD_SHA256, HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() / 100 != 2) {
+            response.body().close();
+            expectSuccess(response, "GET", key);
+        }
+        return response.body();
+    }
+
+    @Override
+    public Path fetch(String key) throws IOException {
+        Path cached = cache.get(BlobStore.requireValidKey(key));
+        if (cached != null) {
+            return cached;
+        }
+        Path download = cache.createTempFile();
+        try {
+            HttpResponse<Path> response = send("GET", objectUri(key), HttpRequest.BodyPublishers.noBody(),
+                    S3RequestSigner.EMPTY_PAYLOAD_SHA256, HttpResponse.BodyHandlers.ofFile(download));
+            expectSuccess(response, "GET", key);
+            return cache.adopt(key, download);
+        } finally {
+            Files.deleteIfExists(download);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        if (!BlobStore.isValidKey(key)) {
+            return false;
+        }
+        return cache.get(key) != null || head(key);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        BlobStore.requireValidKey(key);
+        cache.evict(key);
+        HttpResponse<Void> response = send("DELETE", objectUri(key), HttpRequest.BodyPublishers.noBody(),
+                S3RequestSigner.EMPTY_PAYLOAD_SHA256, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 404) {
+            expectSuccess(response, "DELETE", key);
+        }
+    }
+
+    @Override
+    public int deleteOlderThan(String prefix, Instant cutoff) throws IOException {
+        List<String> expired = new ArrayList<>();
+        String continuationToken = null;
+        do {
+            String query = "list-type=2&prefix=" + uriEncode(prefix)
+                    + (continuationToken != null ? "&continuation-token=" + uriEncode(continuationToken) : "");
+            HttpResponse<InputStream> response = send("GET", bucketUri(query), HttpRequest.BodyPublishers.noBody(),
+                    S3RequestSigner.EMPTY_PAYLOAD_SHA256, HttpResponse.BodyHandlers.ofInputStream());
+            Element result;
+            try (InputStream body = response.body()) {
+                expectSuccess(response, "LIST", prefix);
+                result = parseXml(body);
+            }
+
+            NodeList contents = result.getElementsByTagName("Contents");
+            for (int i = 0; i < contents.getLength(); i++) {
+                Element object = (Element) contents.item(i);
+                String key = text(object, "Key");
+                String lastModified = text(object, "LastModified");
+                if (key != null && lastModified != null && Instant.parse(lastModified).isBefore(cutoff)) {
+                    expired.add(key);
+                }
+            }
+            continuationToken = "true".equals(text(result, "IsTruncated"))
+                    ? text(result, "NextContinuationToken") : null;
+        } while (continuationToken != null);
+
+        int deleted = 0;
+        for (String key : expired) {
+            if (!BlobStore.isValidKey(key)) {
+                continue;
+            }
+            try {
+                delete(key);
+                deleted++;
+            } catch (IOException e) {
+                log.debug("Failed to delete blob {}: {}", key, e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Refreshes an object's LastModified with a CopyObject onto itself; S3
+     * only accepts a self-copy that replaces the metadata.
+     */
+    private void touch(String key) throws IOException {
+        Map<String, String> headers = Map.of(
+                "x-amz-copy-source", "/" + bucket + "/" + key,
+                "x-amz-metadata-directive", "REPLACE");
+        HttpResponse<String> response = send("PUT", objectUri(key), headers, HttpRequest.BodyPublishers.noBody(),
+                S3RequestSigner.EMPTY_PAYLOAD_SHA256, HttpResponse.BodyHandlers.ofString());
+        expectSuccess(response, "COPY", key);
+        // A copy can fail after the 200 status has been sent; the error is then in the body
+        if (response.body().contains("<Error>")) {
+            throw new IOException("COPY " + key + " failed: " + response.body());
+        }
+    }
+
+    private boolean head(String key) throws IOException {
+        HttpResponse<Void> response = send("HEAD", objectUri(key), HttpRequest.BodyPublishers.noBody(),
+                S3RequestSigner.EMPTY_PAYLOAD_SHA256, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) {
+            return false;
+        }
+        expectSuccess(response, "HEAD", key);
+        return true;
+    }
+
+    private <T> HttpResponse<T> send(String method, URI uri, HttpRequest.BodyPublisher body, String payloadSha256,
+                                     HttpResponse.BodyHandler<T> handler) throws IOException {
+        return send(method, uri, Map.of(), body, payloadSha256, handler);
+    }
+
+    private <T> HttpResponse<T> send(String method, URI uri, Map<String, String> headers,
+                                     HttpRequest.BodyPublisher body, String payloadSha256,
+                                     HttpResponse.BodyHandler<T> handler) throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .method(method, body);
+        headers.forEach(request::header);
+        signer.sign(method, uri, headers, payloadSha256, Instant.now()).forEach(request::header);
+        try {
+            return httpClient.send(request.build(), handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted during " + method + " " + uri);
+        }
+    }
+
+    private static void expectSuccess(HttpResponse<?> response, String operation, String key) throws IOException {
+        int status = response.statusCode();
+        if (status == 404) {
+            throw new NoSuchFileException(key);
+        }
+        if (status / 100 != 2) {
+            throw new IOException(operation + " " + key + " failed with HTTP " + status);
+        }
+    }
+
+    private URI objectUri(String key) {
+        // Key segments are limited to unreserved characters, so the key needs no encoding
+        return pathStyle
+                ? URI.create(base() + "/" + bucket + "/" + key)
+                : URI.create(virtualHostBase() + "/" + key);
+    }
+
+    private URI bucketUri(String query) {
+        return pathStyle
+                ? URI.create(base() + "/" + bucket + "?" + query)
+                : URI.create(virtualHostBase() + "/?" + query);
+    }
+
+    private String base() {
+        String base = endpoint.toString();
+        return base.endsWith("/") ? base.substring(0, base.length() - 1) : base;
+    }
+
+    private String virtualHostBase() {
+        return endpoint.getScheme() + "://" + bucket + "." + S3RequestSigner.hostHeader(endpoint);
+    }
+
+    /**
+     * Percent-encodes a query value the way SigV4 canonicalises it.
+     */
+    static String uriEncode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8)
+                .replace("+", "%20")
+                .replace("*", "%2A")
+                .replace("%7E", "~");
+    }
+
+    private Element parseXml(InputStream body) throws IOException {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setXIncludeAware(false);
+            factory.setExpandEntityReferences(false);
+            Document document = factory.newDocumentBuilder().parse(body);
+            return document.getDocumentElement();
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Unreadable listing from " + endpoint, e);
+        }
+    }
+
+    private static String text(Element parent, String tag) {
+        NodeList nodes = parent.getElementsByTagName(tag);
+        return nodes.getLength() > 0 ? nodes.item(0).getTextContent() : null;
+    }
+}
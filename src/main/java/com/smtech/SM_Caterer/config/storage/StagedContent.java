@@ -0,0 +1,51 @@
+package com.smtech.SM_Caterer.config.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Content copied to a temporary file and hashed on the way, so the
+ * content-addressed key is known before the object is stored.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+record StagedContent(Path file, String sha256, long size) {
+
+    /**
+     * @param content Content to stage; not closed
+     * @param dir Directory for the temporary file
+     * @return Staged content; the caller moves or deletes the file
+     */
+    static StagedContent stage(InputStream content, Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Path file = Files.createTempFile(dir, "blob-", ".tmp");
+        try {
+            MessageDigest digest = sha256Digest();
+            long size;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(file), digest)) {
+                size = content.transferTo(out);
+            }
+            return new StagedContent(file, HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.smtech.SM_Caterer.context;
+
+/**
+ * Thread-local marker for reporting workloads.
+ *
+ * Set by ReportingWorkloadAspect around @ReportingWorkload methods. While
+ * active, read-only transactions are routed to the dedicated reporting
+ * connection pool instead of the order-entry pool.
+ *
+ * Calls nest: only the outermost enter/exit pair activates and clears the marker.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public class ReportingContext {
+
+    private static final ThreadLocal<Integer> DEPTH = new ThreadLocal<>();
+
+    private ReportingContext() {
+        throw new IllegalStateException("Utility class - do not instantiate");
+    }
+
+    /**
+     * Enters a reporting workload.
+     *
+     * @return true if this is the outermost workload on the thread
+     */
+    public static boolean enter() {
+        Integer depth = DEPTH.get();
+        DEPTH.set(depth == null ? 1 : depth + 1);
+        return depth == null;
+    }
+
+    /**
+     * Leaves a reporting workload. Clears the thread-local on the outermost exit.
+     */
+    public static void exit() {
+        Integer depth = DEPTH.get();
+        if (depth == null || depth <= 1) {
+            DEPTH.remove();
+        } else {
+            DEPTH.set(depth - 1);
+        }
+    }
+
+    /**
+     * Checks if the current thread runs a reporting workload.
+     *
+     * @return true if inside a @ReportingWorkload method
+     */
+    public static boolean isActive() {
+        return DEPTH.get() != null;
+    }
+}
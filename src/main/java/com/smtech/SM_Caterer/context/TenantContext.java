@@ -1,5 +1,7 @@
 package com.smtech.SM_Caterer.context;
 
+import java.util.function.Supplier;
+
 /**
  * Thread-local storage for current tenant ID.
  * Ensures tenant isolation in multi-tenant environment.
@@ -105,4 +107,44 @@ public class TenantContext {
         }
         return tenantId;
     }
+
+    /**
+     * Runs an action with the given tenant set, restoring the previous tenant afterwards.
+     *
+     * Used where the tenant is known but not yet in the context, e.g. during
+     * login or for background jobs, so tenant routing (sharding) applies.
+     *
+     * @param tenantId Tenant ID (null = run with the current context unchanged)
+     * @param action Action to run
+     * @return Action result
+     */
+    public static <T> T callWithTenant(Long tenantId, Supplier<T> action) {
+        if (tenantId == null) {
+            return action.get();
+        }
+        Long previous = CURRENT_TENANT.get();
+        CURRENT_TENANT.set(tenantId);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT_TENANT.set(previous);
+            } else {
+                CURRENT_TENANT.remove();
+            }
+        }
+    }
+
+    /**
+     * Runs an action with the given tenant set, restoring the previous tenant afterwards.
+     *
+     * @param tenantId Tenant ID (null = run with the current context unchanged)
+     * @param action Action to run
+     */
+    public static void runWithTenant(Long tenantId, Runnable action) {
+        callWithTenant(tenantId, () -> {
+            action.run();
+            return null;
+        });
+    }
 }
@@ -84,6 +84,10 @@ public abstract class BaseEntity implements Serializable {
     /**
      * Marks this entity as deleted (soft delete).
      * Sets deletedAt to current timestamp.
+     *
+     * Prefer repository delete (@SQLDelete) for second-level cached entities:
+     * Hibernate then evicts the cache entry, while an update through this
+     * method would keep the row cached and visible to findById.
      */
     @Transient
     public void markAsDeleted() {
@@ -15,6 +15,9 @@ import java.time.LocalDateTime;
 /**
  * EmailLog entity for tracking email sending attempts.
  * Extends TenantBaseEntity for consistent multi-tenant support.
+ *
+ * Also serves as the email outbox: rows are inserted as PENDING in the
+ * business transaction and delivered by EmailOutboxRelay.
  */
 @Entity
 @Table(name = "email_logs",
@@ -22,7 +25,11 @@ import java.time.LocalDateTime;
            @Index(name = "idx_email_logs_tenant_id", columnList = "tenant_id"),
            @Index(name = "idx_email_logs_status", columnList = "status"),
            @Index(name = "idx_email_logs_sent_at", columnList = "sent_at"),
-           @Index(name = "idx_email_logs_reference", columnList = "reference_type, reference_id")
+           @Index(name = "idx_email_logs_reference", columnList = "reference_type, reference_id"),
+           @Index(name = "idx_email_logs_outbox", columnList = "status, next_attempt_at")
+       },
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_email_logs_dedup_key", columnNames = "dedup_key")
        })
 @Filter(name = "tenantFilter", condition = "tenant_id = :tenantId")
 @SQLDelete(sql = "UPDATE email_logs SET deleted_at = NOW(), version = version + 1 WHERE id = ? AND version = ?")
@@ -86,6 +93,24 @@ public class EmailLog extends TenantBaseEntity {
     @Size(max = 500, message = "Attachment path must not exceed 500 characters")
     private String attachmentPath;
 
+    @Column(name = "attachment_name", length = 255)
+    @Size(max = 255, message = "Attachment name must not exceed 255 characters")
+    private String attachmentName;
+
+    /**
+     * Identifies an email that must be sent at most once (scheduled reminders).
+     * NULL for emails that may repeat, such as resent receipts.
+     */
+    @Column(name = "dedup_key", length = 150)
+    @Size(max = 150, message = "Dedup key must not exceed 150 characters")
+    private String dedupKey;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
     @PrePersist
     @Override
     protected void validateTenant() {
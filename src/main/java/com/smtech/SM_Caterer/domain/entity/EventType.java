@@ -6,6 +6,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -28,6 +30,8 @@ import java.util.List;
        })
 @SQLDelete(sql = "UPDATE event_types SET deleted_at = NOW(), version = version + 1 WHERE id = ? AND version = ?")
 @Where(clause = "deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "eventType")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -47,6 +51,7 @@ public class EventType extends TenantBaseEntity {
     @Builder.Default
     private Status status = Status.ACTIVE;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "eventType.translations")
     @OneToMany(mappedBy = "eventType", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference
     @Builder.Default
@@ -6,6 +6,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Translation entity for EventType.
@@ -16,6 +18,8 @@ import lombok.experimental.SuperBuilder;
        uniqueConstraints = {
            @UniqueConstraint(name = "unique_event_lang", columnNames = {"event_type_id", "language_code"})
        })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "eventTypeTranslation")
 @Getter
 @Setter
 @NoArgsConstructor
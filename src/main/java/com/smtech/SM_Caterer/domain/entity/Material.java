@@ -64,7 +64,11 @@ public class Material extends TenantBaseEntity {
     @Builder.Default
     private BigDecimal minimumStock = BigDecimal.ZERO;
 
-    @Column(name = "current_stock", precision = 10, scale = 2)
+    /**
+     * Mirror of material_stock.on_hand. Set on insert, then moved only by
+     * StockLedgerService together with a stock movement.
+     */
+    @Column(name = "current_stock", precision = 10, scale = 2, updatable = false)
     @DecimalMin(value = "0.00", message = "Current stock must be non-negative")
     @Builder.Default
     private BigDecimal currentStock = BigDecimal.ZERO;
@@ -6,6 +6,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Translation entity for MaterialGroup.
@@ -16,6 +18,8 @@ import lombok.experimental.SuperBuilder;
        uniqueConstraints = {
            @UniqueConstraint(name = "unique_group_lang", columnNames = {"material_group_id", "language_code"})
        })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "materialGroupTranslation")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,73 @@
+package com.smtech.SM_Caterer.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Running stock balance of one material.
+ *
+ * Changed only through the conditional UPDATEs in MaterialStockRepository,
+ * each paired with a StockMovement row, so the balance always equals the
+ * sum of the material's ledger. lowStock is recomputed by every one of
+ * those UPDATEs.
+ */
+@Entity
+@Table(name = "material_stock",
+       indexes = {
+           @Index(name = "idx_material_stock_low", columnList = "tenant_id, is_low_stock")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MaterialStock {
+
+    @Id
+    @Column(name = "material_id")
+    private Long materialId;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "on_hand", nullable = false, precision = 12, scale = 2)
+    @Builder.Default
+    private BigDecimal onHand = BigDecimal.ZERO;
+
+    @Column(name = "reserved", nullable = false, precision = 12, scale = 2)
+    @Builder.Default
+    private BigDecimal reserved = BigDecimal.ZERO;
+
+    @Column(name = "minimum_stock", nullable = false, precision = 10, scale = 2)
+    @Builder.Default
+    private BigDecimal minimumStock = BigDecimal.ZERO;
+
+    @Column(name = "is_low_stock", nullable = false)
+    @Builder.Default
+    private boolean lowStock = false;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        updatedAt = LocalDateTime.now();
+        lowStock = onHand.subtract(reserved).compareTo(minimumStock) < 0;
+    }
+
+    /**
+     * Stock not held for an order.
+     */
+    @Transient
+    public BigDecimal getAvailable() {
+        return onHand.subtract(reserved);
+    }
+}
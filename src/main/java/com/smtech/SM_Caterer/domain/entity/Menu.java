@@ -7,10 +7,13 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
@@ -32,6 +35,8 @@ import java.util.List;
        })
 @SQLDelete(sql = "UPDATE menus SET deleted_at = NOW(), version = version + 1 WHERE id = ? AND version = ?")
 @Where(clause = "deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -61,11 +66,20 @@ public class Menu extends TenantBaseEntity {
     @Builder.Default
     private BigDecimal costPerServe = BigDecimal.ZERO;
 
+    /**
+     * Recipe material cost of one serve. Computed from the recipe items and
+     * material costs by RecipeCostingService; never written through the entity.
+     */
+    @Column(name = "material_cost_per_serve", precision = 10, scale = 2, updatable = false)
+    @Builder.Default
+    private BigDecimal materialCostPerServe = BigDecimal.ZERO;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", length = 20)
     @Builder.Default
     private Status status = Status.ACTIVE;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "menu.translations")
     @OneToMany(mappedBy = "menu", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference
     @Builder.Default
@@ -89,6 +103,30 @@ public class Menu extends TenantBaseEntity {
         if (costPerServe == null) {
             costPerServe = BigDecimal.ZERO;
         }
+        if (materialCostPerServe == null) {
+            materialCostPerServe = BigDecimal.ZERO;
+        }
+    }
+
+    /**
+     * Price less material cost of one serve.
+     */
+    @Transient
+    public BigDecimal getMarginPerServe() {
+        BigDecimal price = costPerServe != null ? costPerServe : BigDecimal.ZERO;
+        return price.subtract(materialCostPerServe != null ? materialCostPerServe : BigDecimal.ZERO);
+    }
+
+    /**
+     * Margin as a percentage of the price, or null for an unpriced menu.
+     */
+    @Transient
+    public BigDecimal getMarginPercent() {
+        if (costPerServe == null || costPerServe.signum() == 0) {
+            return null;
+        }
+        return getMarginPerServe().multiply(BigDecimal.valueOf(100))
+                .divide(costPerServe, 1, RoundingMode.HALF_UP);
     }
 
     /**
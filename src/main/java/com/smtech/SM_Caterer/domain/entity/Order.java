@@ -122,6 +122,15 @@ public class Order extends TenantBaseEntity {
     @Builder.Default
     private BigDecimal grandTotal = BigDecimal.ZERO;
 
+    /**
+     * Sum of completed payments. Written only by the conditional UPDATEs in
+     * OrderRepository, never by an entity save, so concurrent payments
+     * cannot overwrite each other.
+     */
+    @Column(name = "paid_total", nullable = false, updatable = false, precision = 12, scale = 2)
+    @Builder.Default
+    private BigDecimal paidTotal = BigDecimal.ZERO;
+
     @Column(name = "advance_amount", precision = 12, scale = 2)
     @DecimalMin(value = "0.00", message = "Advance amount must be non-negative")
     @Builder.Default
@@ -228,6 +237,7 @@ public class Order extends TenantBaseEntity {
         if (grandTotal == null) grandTotal = BigDecimal.ZERO;
         if (advanceAmount == null) advanceAmount = BigDecimal.ZERO;
         if (balanceAmount == null) balanceAmount = BigDecimal.ZERO;
+        if (paidTotal == null) paidTotal = BigDecimal.ZERO;
     }
 
     // ===== Collection Helper Methods =====
@@ -320,13 +330,10 @@ public class Order extends TenantBaseEntity {
     }
 
     /**
-     * Calculates and updates balance amount based on payments.
+     * Calculates and updates balance amount from the paid total.
      */
     public void recalculateBalance() {
-        BigDecimal totalPaid = payments.stream()
-            .map(Payment::getAmount)
-            .filter(a -> a != null)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalPaid = paidTotal != null ? paidTotal : BigDecimal.ZERO;
 
         this.advanceAmount = totalPaid;
         this.balanceAmount = this.grandTotal.subtract(totalPaid);
@@ -2,6 +2,7 @@ package com.smtech.SM_Caterer.domain.entity;
 
 import com.smtech.SM_Caterer.domain.enums.PaymentMethod;
 import com.smtech.SM_Caterer.domain.enums.PaymentStatus;
+import com.smtech.SM_Caterer.domain.enums.ReceiptStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
@@ -24,7 +25,8 @@ import java.time.LocalDate;
            @Index(name = "idx_payments_order_id", columnList = "order_id"),
            @Index(name = "idx_payments_payment_date", columnList = "payment_date"),
            @Index(name = "idx_payments_payment_number", columnList = "payment_number"),
-           @Index(name = "idx_payments_deleted_at", columnList = "deleted_at")
+           @Index(name = "idx_payments_deleted_at", columnList = "deleted_at"),
+           @Index(name = "idx_payments_receipt_status", columnList = "tenant_id, receipt_status, updated_at")
        })
 @Filter(name = "tenantFilter", condition = "tenant_id = :tenantId")
 @SQLDelete(sql = "UPDATE payments SET deleted_at = NOW(), version = version + 1 WHERE id = ? AND version = ?")
@@ -84,6 +86,33 @@ public class Payment extends TenantBaseEntity {
     @Column(name = "receipt_path", length = 500)
     private String receiptPath;
 
+    /**
+     * SHA-256 of the stored receipt PDF.
+     */
+    @Column(name = "receipt_hash", length = 64)
+    private String receiptHash;
+
+    /**
+     * Fingerprint of the fields printed on the stored receipt; when it no
+     * longer matches, the receipt is regenerated.
+     */
+    @Column(name = "receipt_source_hash", length = 64)
+    private String receiptSourceHash;
+
+    /**
+     * Receipt pipeline stage; null for payments recorded before the pipeline.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "receipt_status", length = 20)
+    private ReceiptStatus receiptStatus;
+
+    @Column(name = "receipt_attempts", nullable = false)
+    @Builder.Default
+    private Integer receiptAttempts = 0;
+
+    @Column(name = "receipt_error", length = 500)
+    private String receiptError;
+
     @Column(name = "email_sent")
     @Builder.Default
     private Boolean emailSent = false;
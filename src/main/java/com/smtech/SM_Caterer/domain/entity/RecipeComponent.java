@@ -0,0 +1,47 @@
+package com.smtech.SM_Caterer.domain.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.Where;
+
+import java.math.BigDecimal;
+
+/**
+ * Recipe Component entity - mapping between a Menu and another Menu used
+ * as a prepared component of it (gravy base, dough).
+ * Quantity is in serves of the component per serves count batch of the menu.
+ */
+@Entity
+@Table(name = "recipe_components",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "unique_menu_component", columnNames = {"menu_id", "component_menu_id"})
+       })
+@SQLDelete(sql = "UPDATE recipe_components SET deleted_at = NOW(), version = version + 1 WHERE id = ? AND version = ?")
+@Where(clause = "deleted_at IS NULL")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@ToString(exclude = {"menu", "component"})
+@EqualsAndHashCode(callSuper = true)
+public class RecipeComponent extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "menu_id", nullable = false)
+    @NotNull(message = "Menu is required")
+    private Menu menu;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "component_menu_id", nullable = false)
+    @NotNull(message = "Component is required")
+    private Menu component;
+
+    @Column(name = "quantity_required", nullable = false, precision = 10, scale = 2)
+    @NotNull(message = "Quantity required is required")
+    @DecimalMin(value = "0.01", message = "Quantity required must be greater than 0")
+    private BigDecimal quantityRequired;
+}
@@ -0,0 +1,67 @@
+package com.smtech.SM_Caterer.domain.entity;
+
+import com.smtech.SM_Caterer.domain.enums.StockMovementType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the stock ledger.
+ *
+ * Rows are append-only, so there is no version or soft delete; a mistake is
+ * corrected by a later ADJUSTMENT.
+ */
+@Entity
+@Immutable
+@Table(name = "stock_movements",
+       indexes = {
+           @Index(name = "idx_stock_movements_material", columnList = "material_id, id"),
+           @Index(name = "idx_stock_movements_order", columnList = "order_id, movement_type"),
+           @Index(name = "idx_stock_movements_tenant", columnList = "tenant_id, created_at")
+       })
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class StockMovement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "material_id", nullable = false)
+    private Long materialId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", nullable = false, length = 20)
+    private StockMovementType movementType;
+
+    /**
+     * Positive, except for ADJUSTMENT where the sign is the direction.
+     */
+    @Column(name = "quantity", nullable = false, precision = 12, scale = 2)
+    private BigDecimal quantity;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "note", length = 255)
+    private String note;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
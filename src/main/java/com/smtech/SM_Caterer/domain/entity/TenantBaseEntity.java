@@ -26,6 +26,12 @@ import org.hibernate.annotations.ParamDef;
  *
  * Phase 2: Added Hibernate Filter for automatic tenant isolation.
  * The filter is enabled in TenantContextFilter for each request.
+ *
+ * Phase 8: Master data subclasses are second-level cached (ehcache.xml).
+ * The cache is keyed by primary key and only serves id lookups and lazy
+ * associations, which tenantFilter never applied to; filtered queries
+ * always go to the database. Cached collections carry no filter, so
+ * Hibernate keeps caching them while tenantFilter is enabled.
  */
 @Getter
 @Setter
@@ -6,6 +6,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Translation entity for Unit.
@@ -16,6 +18,8 @@ import lombok.experimental.SuperBuilder;
        uniqueConstraints = {
            @UniqueConstraint(name = "unique_unit_lang", columnNames = {"unit_id", "language_code"})
        })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "unitTranslation")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,6 +24,9 @@ import java.time.LocalDateTime;
  *
  * CRITICAL: Never return password in DTOs or APIs
  *
+ * Phase 8: Failed attempts are counted in memory by LoginAttemptService.
+ * This entity is only written when the lock state changes (lockUntil / unlock).
+ *
  * Phase 2: Added Hibernate Filter for automatic tenant isolation.
  * Note: User extends BaseEntity (not TenantBaseEntity) because
  * SUPER_ADMIN users may not have a tenant.
@@ -52,6 +55,12 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(callSuper = true, exclude = {"password"})
 public class User extends BaseEntity {
 
+    /**
+     * Default lockout threshold when no configured value is supplied.
+     * The effective value comes from security.login.max-attempts.
+     */
+    public static final int DEFAULT_MAX_FAILED_LOGIN_ATTEMPTS = 5;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tenant_id")
     private Tenant tenant;
@@ -116,6 +125,13 @@ public class User extends BaseEntity {
     @Builder.Default
     private Integer failedLoginAttempts = 0;
 
+    /**
+     * Automatic unlock time for temporary lockouts.
+     * NULL while LOCKED means the account stays locked until an admin unlocks it.
+     */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
     @PrePersist
     protected void onCreate() {
         if (status == null) {
@@ -140,16 +156,61 @@ public class User extends BaseEntity {
 
     /**
      * Increments failed login attempts.
-     * Locks account if attempts exceed threshold.
+     * Locks account if attempts reach the default threshold.
      */
     @Transient
     public void incrementFailedLoginAttempts() {
+        incrementFailedLoginAttempts(DEFAULT_MAX_FAILED_LOGIN_ATTEMPTS);
+    }
+
+    /**
+     * Increments failed login attempts.
+     * Locks account if attempts reach the given threshold.
+     *
+     * @param maxAttempts Lockout threshold (security.login.max-attempts)
+     */
+    @Transient
+    public void incrementFailedLoginAttempts(int maxAttempts) {
         this.failedLoginAttempts++;
-        if (this.failedLoginAttempts >= 5) {
+        if (this.failedLoginAttempts >= maxAttempts) {
             this.status = UserStatus.LOCKED;
         }
     }
 
+    /**
+     * Locks the account until the given time.
+     *
+     * @param until Automatic unlock time
+     * @param attempts Failed attempts that triggered the lock
+     */
+    @Transient
+    public void lockUntil(LocalDateTime until, int attempts) {
+        this.status = UserStatus.LOCKED;
+        this.lockedUntil = until;
+        this.failedLoginAttempts = attempts;
+    }
+
+    /**
+     * Clears a lock and the failed attempt counter.
+     */
+    @Transient
+    public void unlock() {
+        this.status = UserStatus.ACTIVE;
+        this.lockedUntil = null;
+        this.failedLoginAttempts = 0;
+    }
+
+    /**
+     * Checks if a temporary lock has run out.
+     * @return true if locked with an unlock time in the past
+     */
+    @Transient
+    public boolean isLockExpired() {
+        return status == UserStatus.LOCKED
+                && lockedUntil != null
+                && !lockedUntil.isAfter(LocalDateTime.now());
+    }
+
     /**
      * Resets failed login attempts on successful login.
      */
@@ -6,6 +6,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -30,6 +32,8 @@ import java.util.List;
        })
 @SQLDelete(sql = "UPDATE utilities SET deleted_at = NOW(), version = version + 1 WHERE id = ? AND version = ?")
 @Where(clause = "deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "utility")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -49,11 +53,20 @@ public class Utility extends TenantBaseEntity {
     @Builder.Default
     private BigDecimal costPerUnit = BigDecimal.ZERO;
 
+    /**
+     * Units owned, the most that orders can hold on one event date.
+     * Null for services that are not limited by stock.
+     */
+    @Column(name = "capacity")
+    @Min(value = 0, message = "Capacity must be non-negative")
+    private Integer capacity;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", length = 20)
     @Builder.Default
     private Status status = Status.ACTIVE;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "utility.translations")
     @OneToMany(mappedBy = "utility", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference
     @Builder.Default
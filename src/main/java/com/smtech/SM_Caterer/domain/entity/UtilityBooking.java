@@ -0,0 +1,51 @@
+package com.smtech.SM_Caterer.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Quantity of one utility held by orders on one event date.
+ *
+ * Changed only through UtilityBookingRepository.addBooked, by the net
+ * change of each order utility write, so it always equals the sum of the
+ * quantities of the holding orders on that date.
+ */
+@Entity
+@Table(name = "utility_bookings",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "unique_utility_booking_date", columnNames = {"utility_id", "booking_date"})
+       },
+       indexes = {
+           @Index(name = "idx_utility_bookings_tenant_date", columnList = "tenant_id, booking_date")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class UtilityBooking {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "utility_id", nullable = false)
+    private Long utilityId;
+
+    @Column(name = "booking_date", nullable = false)
+    private LocalDate bookingDate;
+
+    @Column(name = "booked_quantity", nullable = false)
+    @Builder.Default
+    private Integer bookedQuantity = 0;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -6,6 +6,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Translation entity for Utility.
@@ -16,6 +18,8 @@ import lombok.experimental.SuperBuilder;
        uniqueConstraints = {
            @UniqueConstraint(name = "unique_utility_lang", columnNames = {"utility_id", "language_code"})
        })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "utilityTranslation")
 @Getter
 @Setter
 @NoArgsConstructor
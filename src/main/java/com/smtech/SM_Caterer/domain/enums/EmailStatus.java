@@ -2,12 +2,17 @@ package com.smtech.SM_Caterer.domain.enums;
 
 /**
  * Status of email sending attempts.
+ *
+ * Outbox lifecycle: PENDING -> SENDING -> SENT, or SENDING -> RETRY (backoff)
+ * -> SENDING ... -> DEAD_LETTER once attempts are exhausted.
  */
 public enum EmailStatus {
     PENDING("Pending"),
+    SENDING("Sending"),
     SENT("Sent"),
     FAILED("Failed"),
-    RETRY("Retry");
+    RETRY("Retry"),
+    DEAD_LETTER("Dead Letter");
 
     private final String displayName;
 
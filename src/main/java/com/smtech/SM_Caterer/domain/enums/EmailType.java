@@ -7,6 +7,9 @@ public enum EmailType {
     ORDER_CONFIRMATION("Order Confirmation"),
     PAYMENT_RECEIPT("Payment Receipt"),
     ORDER_STATUS_UPDATE("Order Status Update"),
+    EVENT_REMINDER("Event Reminder"),
+    BALANCE_DUE_REMINDER("Balance Due Reminder"),
+    LOW_STOCK_ALERT("Low Stock Alert"),
     TEST_EMAIL("Test Email");
 
     private final String displayName;
@@ -58,6 +58,14 @@ public enum OrderStatus {
         return !isTerminal();
     }
 
+    /**
+     * Whether an order in this status holds its rental utilities on its
+     * event date: from submission until cancellation.
+     */
+    public boolean holdsUtilities() {
+        return this != DRAFT && this != CANCELLED;
+    }
+
     /**
      * Get valid next statuses from current status.
      */
@@ -0,0 +1,15 @@
+package com.smtech.SM_Caterer.domain.enums;
+
+/**
+ * Delivery status of a domain event in the outbox_events table.
+ *
+ * Lifecycle: PENDING -> PROCESSING -> PUBLISHED, or PROCESSING -> RETRY
+ * (backoff) -> PROCESSING ... -> FAILED once attempts are exhausted.
+ */
+public enum OutboxEventStatus {
+    PENDING,
+    PROCESSING,
+    PUBLISHED,
+    RETRY,
+    FAILED
+}
@@ -0,0 +1,23 @@
+package com.smtech.SM_Caterer.domain.enums;
+
+/**
+ * Stage of a payment in the receipt pipeline.
+ *
+ * PENDING until a render worker has stored the receipt PDF and queued the
+ * receipt email, then READY; FAILED once the render attempts are exhausted.
+ */
+public enum ReceiptStatus {
+    PENDING("Preparing"),
+    READY("Ready"),
+    FAILED("Failed");
+
+    private final String displayName;
+
+    ReceiptStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,23 @@
+package com.smtech.SM_Caterer.domain.enums;
+
+/**
+ * Result of matching one statement line against pending payments.
+ *
+ * MATCHED when exactly one payment fits, AMBIGUOUS when several do (or the
+ * reference fits but the amount does not), UNMATCHED when none does.
+ */
+public enum ReconciliationOutcome {
+    MATCHED("Matched"),
+    AMBIGUOUS("Ambiguous"),
+    UNMATCHED("Unmatched");
+
+    private final String displayName;
+
+    ReconciliationOutcome(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,41 @@
+package com.smtech.SM_Caterer.domain.enums;
+
+/**
+ * Kinds of stock movement in the stock ledger, with their effect on the
+ * material's on-hand and reserved quantities.
+ */
+public enum StockMovementType {
+    RECEIPT("Receipt", 1, 0),
+    CONSUMPTION("Consumption", -1, 0),
+    RESERVATION("Reservation", 0, 1),
+    RELEASE("Release", 0, -1),
+    ADJUSTMENT("Adjustment", 1, 0);
+
+    private final String displayName;
+    private final int onHandSign;
+    private final int reservedSign;
+
+    StockMovementType(String displayName, int onHandSign, int reservedSign) {
+        this.displayName = displayName;
+        this.onHandSign = onHandSign;
+        this.reservedSign = reservedSign;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Multiplier of the movement quantity for on-hand stock.
+     */
+    public int getOnHandSign() {
+        return onHandSign;
+    }
+
+    /**
+     * Multiplier of the movement quantity for reserved stock.
+     */
+    public int getReservedSign() {
+        return reservedSign;
+    }
+}
@@ -0,0 +1,30 @@
+package com.smtech.SM_Caterer.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Something that happened to an aggregate, recorded in the outbox_events
+ * table in the transaction that caused it and delivered to in-process
+ * listeners (Spring {@code @EventListener}) after that transaction commits.
+ *
+ * Events of one aggregate are delivered one at a time in the order they were
+ * recorded. Delivery is at least once, so listeners must tolerate seeing an
+ * event again.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public interface DomainEvent {
+
+    Long tenantId();
+
+    /**
+     * @return Aggregate kind, e.g. ORDER
+     */
+    String aggregateType();
+
+    Long aggregateId();
+
+    LocalDateTime occurredAt();
+}
@@ -0,0 +1,73 @@
+package com.smtech.SM_Caterer.domain.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Material stock events, recorded only when a material's available stock
+ * crosses its minimum, in either direction. A stock movement that leaves a
+ * material on the same side of the minimum records nothing.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public sealed interface MaterialStockEvent extends DomainEvent {
+
+    String AGGREGATE_TYPE = "MATERIAL";
+
+    Long materialId();
+
+    /**
+     * @return On-hand less reserved stock after the change
+     */
+    BigDecimal available();
+
+    BigDecimal minimumStock();
+
+    @Override
+    @JsonIgnore
+    default String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+
+    @Override
+    @JsonIgnore
+    default Long aggregateId() {
+        return materialId();
+    }
+
+    /**
+     * Available stock fell below the minimum.
+     */
+    record LowStockEntered(Long tenantId, Long materialId, BigDecimal available, BigDecimal minimumStock,
+                           LocalDateTime occurredAt) implements MaterialStockEvent {
+    }
+
+    /**
+     * Available stock is back at or above the minimum.
+     */
+    record LowStockCleared(Long tenantId, Long materialId, BigDecimal available, BigDecimal minimumStock,
+                           LocalDateTime occurredAt) implements MaterialStockEvent {
+    }
+
+    /**
+     * Event for a change of a material's low stock flag.
+     *
+     * @param wasLow Flag before the change
+     * @param isLow Flag after the change
+     * @return The event, or null if the flag did not change
+     */
+    static MaterialStockEvent crossing(Long tenantId, Long materialId, boolean wasLow, boolean isLow,
+                                       BigDecimal available, BigDecimal minimumStock) {
+        if (wasLow == isLow) {
+            return null;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return isLow
+                ? new LowStockEntered(tenantId, materialId, available, minimumStock, now)
+                : new LowStockCleared(tenantId, materialId, available, minimumStock, now);
+    }
+}
@@ -0,0 +1,107 @@
+package com.smtech.SM_Caterer.domain.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.smtech.SM_Caterer.domain.entity.Order;
+import com.smtech.SM_Caterer.domain.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Order lifecycle events, one per workflow transition.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public sealed interface OrderEvent extends DomainEvent {
+
+    String AGGREGATE_TYPE = "ORDER";
+
+    Long orderId();
+
+    String orderNumber();
+
+    /**
+     * @return User who made the transition
+     */
+    Long userId();
+
+    @Override
+    @JsonIgnore
+    default String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+
+    @Override
+    @JsonIgnore
+    default Long aggregateId() {
+        return orderId();
+    }
+
+    /**
+     * DRAFT to PENDING: submitted for approval.
+     */
+    record OrderSubmitted(Long tenantId, Long orderId, String orderNumber, Long userId,
+                          LocalDateTime occurredAt) implements OrderEvent {
+    }
+
+    /**
+     * PENDING to CONFIRMED: approved.
+     */
+    record OrderConfirmed(Long tenantId, Long orderId, String orderNumber, Long userId,
+                          LocalDateTime occurredAt) implements OrderEvent {
+    }
+
+    /**
+     * PENDING back to DRAFT: rejected by the approver.
+     */
+    record OrderRejected(Long tenantId, Long orderId, String orderNumber, Long userId,
+                         String reason, LocalDateTime occurredAt) implements OrderEvent {
+    }
+
+    /**
+     * Any open status to CANCELLED.
+     */
+    record OrderCancelled(Long tenantId, Long orderId, String orderNumber, Long userId,
+                          String reason, LocalDateTime occurredAt) implements OrderEvent {
+    }
+
+    /**
+     * CONFIRMED to IN_PROGRESS.
+     */
+    record OrderStarted(Long tenantId, Long orderId, String orderNumber, Long userId,
+                        LocalDateTime occurredAt) implements OrderEvent {
+    }
+
+    /**
+     * IN_PROGRESS to COMPLETED.
+     */
+    record OrderCompleted(Long tenantId, Long orderId, String orderNumber, Long userId,
+                          LocalDateTime occurredAt) implements OrderEvent {
+    }
+
+    /**
+     * Event for the transition an order has just made.
+     *
+     * @param order Order after the transition
+     * @param from Status before the transition
+     * @param userId User who made it
+     * @param reason Rejection reason (ignored otherwise)
+     * @return The event, or null if the transition has none
+     */
+    static OrderEvent of(Order order, OrderStatus from, Long userId, String reason) {
+        Long tenantId = order.getTenant().getId();
+        LocalDateTime now = LocalDateTime.now();
+        return switch (order.getStatus()) {
+            case PENDING -> new OrderSubmitted(tenantId, order.getId(), order.getOrderNumber(), userId, now);
+            case CONFIRMED -> new OrderConfirmed(tenantId, order.getId(), order.getOrderNumber(), userId, now);
+            case IN_PROGRESS -> new OrderStarted(tenantId, order.getId(), order.getOrderNumber(), userId, now);
+            case COMPLETED -> new OrderCompleted(tenantId, order.getId(), order.getOrderNumber(), userId, now);
+            case CANCELLED -> new OrderCancelled(tenantId, order.getId(), order.getOrderNumber(), userId,
+                    order.getCancellationReason(), now);
+            case DRAFT -> from == OrderStatus.PENDING
+                    ? new OrderRejected(tenantId, order.getId(), order.getOrderNumber(), userId, reason, now)
+                    : null;
+        };
+    }
+}
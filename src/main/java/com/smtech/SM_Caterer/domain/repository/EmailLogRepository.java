@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -60,6 +61,12 @@ public interface EmailLogRepository extends BaseRepository<EmailLog, Long> {
                                    @Param("startDate") LocalDateTime startDate,
                                    @Param("endDate") LocalDateTime endDate);
 
+    /**
+     * Returns which of the given deduplication keys already have an email.
+     */
+    @Query("SELECT e.dedupKey FROM EmailLog e WHERE e.dedupKey IN :keys")
+    List<String> findExistingDedupKeys(@Param("keys") Collection<String> keys);
+
     /**
      * Counts emails by tenant and status.
      */
@@ -5,10 +5,12 @@ import com.smtech.SM_Caterer.domain.enums.Status;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,18 +53,23 @@ public interface MaterialRepository extends BaseRepository<Material, Long> {
     List<Material> findByTenantIdAndStatus(Long tenantId, Status status);
 
     /**
-     * Finds materials with low stock (below minimum).
+     * Finds materials with low stock (available stock below minimum).
      * CRITICAL: Used for stock alerts.
+     * Reads the maintained material_stock.is_low_stock flag through its
+     * (tenant_id, is_low_stock) index instead of comparing every material.
      */
-    @Query("SELECT m FROM Material m WHERE m.tenant.id = :tenantId " +
-           "AND m.currentStock < m.minimumStock AND m.status = 'ACTIVE'")
+    @EntityGraph(attributePaths = {"materialGroup", "unit"})
+    @Query("SELECT m FROM Material m JOIN MaterialStock s ON s.materialId = m.id " +
+           "WHERE s.tenantId = :tenantId AND s.lowStock = true AND m.status = 'ACTIVE'")
     List<Material> findLowStockMaterials(@Param("tenantId") Long tenantId);
 
     /**
      * Finds materials with low stock (paginated).
      */
-    @Query("SELECT m FROM Material m WHERE m.tenant.id = :tenantId " +
-           "AND m.currentStock < m.minimumStock AND m.status = 'ACTIVE'")
+    @Query(value = "SELECT m FROM Material m JOIN MaterialStock s ON s.materialId = m.id " +
+                   "WHERE s.tenantId = :tenantId AND s.lowStock = true AND m.status = 'ACTIVE'",
+           countQuery = "SELECT COUNT(m) FROM Material m JOIN MaterialStock s ON s.materialId = m.id " +
+                        "WHERE s.tenantId = :tenantId AND s.lowStock = true AND m.status = 'ACTIVE'")
     Page<Material> findLowStockMaterials(@Param("tenantId") Long tenantId, Pageable pageable);
 
     /**
@@ -113,10 +120,11 @@ public interface MaterialRepository extends BaseRepository<Material, Long> {
                                           Pageable pageable);
 
     /**
-     * Counts low stock materials.
+     * Counts low stock materials, from the maintained low stock flag.
      */
-    @Query("SELECT COUNT(m) FROM Material m WHERE m.tenant.id = :tenantId " +
-           "AND m.currentStock < m.minimumStock AND m.status = 'ACTIVE' AND m.deletedAt IS NULL")
+    @Query("SELECT COUNT(m) FROM Material m JOIN MaterialStock s ON s.materialId = m.id " +
+           "WHERE s.tenantId = :tenantId AND s.lowStock = true " +
+           "AND m.status = 'ACTIVE' AND m.deletedAt IS NULL")
     Long countLowStockMaterials(@Param("tenantId") Long tenantId);
 
     /**
@@ -153,13 +161,24 @@ public interface MaterialRepository extends BaseRepository<Material, Long> {
     List<Material> findCriticalLowStockMaterials(@Param("tenantId") Long tenantId);
 
     /**
-     * Finds materials by stock status.
+     * Finds materials by stock status. LOW_STOCK and IN_STOCK follow the
+     * maintained low stock flag, so reserved stock counts as used.
      */
     @EntityGraph(attributePaths = {"materialGroup", "unit"})
-    @Query("SELECT m FROM Material m WHERE m.tenant.id = :tenantId " +
+    @Query("SELECT m FROM Material m JOIN MaterialStock s ON s.materialId = m.id " +
+           "WHERE s.tenantId = :tenantId " +
            "AND m.status = 'ACTIVE' AND m.deletedAt IS NULL " +
            "AND ((:stockStatus = 'OUT_OF_STOCK' AND m.currentStock <= 0) " +
-           "OR (:stockStatus = 'LOW_STOCK' AND m.currentStock > 0 AND m.currentStock < m.minimumStock) " +
-           "OR (:stockStatus = 'IN_STOCK' AND m.currentStock >= m.minimumStock))")
+           "OR (:stockStatus = 'LOW_STOCK' AND m.currentStock > 0 AND s.lowStock = true) " +
+           "OR (:stockStatus = 'IN_STOCK' AND m.currentStock > 0 AND s.lowStock = false))")
     List<Material> findByStockStatus(@Param("tenantId") Long tenantId, @Param("stockStatus") String stockStatus);
+
+    /**
+     * Moves the current stock mirror by the on-hand change of a stock
+     * movement. Only the stock ledger calls this, in the movement's
+     * transaction; current_stock is not updatable through the entity.
+     */
+    @Modifying
+    @Query("UPDATE Material m SET m.currentStock = COALESCE(m.currentStock, 0) + :delta WHERE m.id = :materialId")
+    int addToCurrentStock(@Param("materialId") Long materialId, @Param("delta") BigDecimal delta);
 }
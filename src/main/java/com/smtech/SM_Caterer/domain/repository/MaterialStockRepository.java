@@ -0,0 +1,85 @@
+package com.smtech.SM_Caterer.domain.repository;
+
+import com.smtech.SM_Caterer.domain.entity.MaterialStock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for MaterialStock balances.
+ *
+ * Performance:
+ * - Balances move by conditional UPDATE, never read-modify-write
+ * - Low stock is the indexed (tenant_id, is_low_stock) lookup
+ */
+@Repository
+public interface MaterialStockRepository extends BaseRepository<MaterialStock, Long> {
+
+    /**
+     * Reads a balance with a row lock held until the transaction ends.
+     * Used where the new balance, or whether it crosses the minimum,
+     * depends on the current one. Native, so a MaterialStock already in
+     * the persistence context cannot hand back stale values.
+     * Returns [tenant_id, on_hand, reserved, minimum_stock, is_low_stock],
+     * or nothing if the material has no balance yet.
+     */
+    @Query(value = "SELECT tenant_id, on_hand, reserved, minimum_stock, is_low_stock FROM material_stock " +
+                   "WHERE material_id = :materialId FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockBalance(@Param("materialId") Long materialId);
+
+    /**
+     * Moves on-hand and reserved stock by the given deltas, unless either
+     * would go negative, and recomputes the low stock flag.
+     * The flag is assigned first and from the old values plus the deltas,
+     * so the result does not depend on how the database orders assignments.
+     * @return 1 if applied, 0 if it would make a balance negative or the
+     *         material has no balance in the tenant
+     */
+    @Modifying
+    @Query("UPDATE MaterialStock s SET " +
+           "s.lowStock = CASE WHEN (s.onHand + :onHandDelta) - (s.reserved + :reservedDelta) < s.minimumStock " +
+           "THEN true ELSE false END, " +
+           "s.onHand = s.onHand + :onHandDelta, " +
+           "s.reserved = s.reserved + :reservedDelta, " +
+           "s.version = s.version + 1, " +
+           "s.updatedAt = :now " +
+           "WHERE s.materialId = :materialId AND s.tenantId = :tenantId " +
+           "AND s.onHand + :onHandDelta >= 0 AND s.reserved + :reservedDelta >= 0")
+    int applyDelta(@Param("tenantId") Long tenantId,
+                   @Param("materialId") Long materialId,
+                   @Param("onHandDelta") BigDecimal onHandDelta,
+                   @Param("reservedDelta") BigDecimal reservedDelta,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * Changes the minimum stock and recomputes the low stock flag.
+     */
+    @Modifying
+    @Query("UPDATE MaterialStock s SET " +
+           "s.lowStock = CASE WHEN s.onHand - s.reserved < :minimumStock THEN true ELSE false END, " +
+           "s.minimumStock = :minimumStock, " +
+           "s.version = s.version + 1, " +
+           "s.updatedAt = :now " +
+           "WHERE s.materialId = :materialId")
+    int updateMinimumStock(@Param("materialId") Long materialId,
+                           @Param("minimumStock") BigDecimal minimumStock,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * Materials of a tenant whose available stock is below minimum.
+     */
+    @Query("SELECT s.materialId FROM MaterialStock s WHERE s.tenantId = :tenantId AND s.lowStock = true")
+    List<Long> findLowStockMaterialIds(@Param("tenantId") Long tenantId);
+
+    /**
+     * Balances of the given materials, for showing available stock next
+     * to the low stock set.
+     */
+    List<MaterialStock> findByMaterialIdIn(Collection<Long> materialIds);
+}
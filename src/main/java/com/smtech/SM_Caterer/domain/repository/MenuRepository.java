@@ -6,10 +6,13 @@ import com.smtech.SM_Caterer.domain.enums.Status;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -84,4 +87,41 @@ public interface MenuRepository extends BaseRepository<Menu, Long> {
      * Finds menu by ID and tenant ID (tenant isolation).
      */
     Optional<Menu> findByIdAndTenantId(Long id, Long tenantId);
+
+    /**
+     * Recomputes the material cost per serve of the given menus from their
+     * recipes and current material costs, in one statement. Recipe
+     * components are not included; menus with components are rolled up by
+     * RecipeCostingService instead. A missing or non-positive serves count
+     * counts as 1, as in the V1.2.1 backfill and RecipeGraph.
+     * JPQL rather than native, so only the menu cache region is evicted.
+     * @return Number of menus updated
+     */
+    @Modifying
+    @Query("UPDATE Menu mn SET mn.materialCostPerServe = ROUND(COALESCE(" +
+           "(SELECT SUM(ri.quantityRequired * mat.costPerUnit) FROM RecipeItem ri JOIN ri.material mat " +
+           "WHERE ri.menu.id = mn.id), 0) / GREATEST(COALESCE(mn.servesCount, 1), 1), 2) " +
+           "WHERE mn.id IN :menuIds")
+    int recomputeMaterialCost(@Param("menuIds") Collection<Long> menuIds);
+
+    /**
+     * Sets the material cost per serve of a menu whose recipe has
+     * components, rolled up by RecipeCostingService.
+     * @return Number of menus updated
+     */
+    @Modifying
+    @Query("UPDATE Menu mn SET mn.materialCostPerServe = :cost WHERE mn.id = :menuId")
+    int updateMaterialCost(@Param("menuId") Long menuId, @Param("cost") BigDecimal cost);
+
+    /**
+     * Stored material cost per serve of the given menus: [menuId, materialCostPerServe].
+     */
+    @Query("SELECT m.id, m.materialCostPerServe FROM Menu m WHERE m.id IN :menuIds")
+    List<Object[]> findMaterialCosts(@Param("menuIds") Collection<Long> menuIds);
+
+    /**
+     * IDs of a tenant's menus, for recomputing all of their costs.
+     */
+    @Query("SELECT m.id FROM Menu m WHERE m.tenant.id = :tenantId")
+    List<Long> findIdsByTenantId(@Param("tenantId") Long tenantId);
 }
@@ -1,10 +1,13 @@
 package com.smtech.SM_Caterer.domain.repository;
 
 import com.smtech.SM_Caterer.domain.entity.OrderMenuItem;
+import com.smtech.SM_Caterer.domain.enums.OrderStatus;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -62,4 +65,24 @@ public interface OrderMenuItemRepository extends BaseRepository<OrderMenuItem, L
            "WHERE omi.menu.id = :menuId " +
            "AND omi.order.tenant.id = :tenantId")
     List<OrderMenuItem> findByTenantIdAndMenuId(@Param("tenantId") Long tenantId, @Param("menuId") Long menuId);
+
+    /**
+     * Menu demand of orders in a date range, for material planning.
+     * Returns [eventDate, menuId, quantity] per line without loading entities.
+     */
+    @Query("SELECT o.eventDate, omi.menu.id, omi.quantity FROM OrderMenuItem omi " +
+           "JOIN omi.order o " +
+           "WHERE o.tenant.id = :tenantId AND o.status IN :statuses " +
+           "AND o.eventDate BETWEEN :fromDate AND :toDate AND o.deletedAt IS NULL")
+    List<Object[]> findDemandForPlanning(@Param("tenantId") Long tenantId,
+                                         @Param("statuses") Collection<OrderStatus> statuses,
+                                         @Param("fromDate") LocalDate fromDate,
+                                         @Param("toDate") LocalDate toDate);
+
+    /**
+     * Menus and quantities of one order.
+     * Returns [menuId, quantity] per line.
+     */
+    @Query("SELECT omi.menu.id, omi.quantity FROM OrderMenuItem omi WHERE omi.order.id = :orderId")
+    List<Object[]> findMenuQuantitiesByOrderId(@Param("orderId") Long orderId);
 }
@@ -5,11 +5,14 @@ import com.smtech.SM_Caterer.domain.enums.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -238,6 +241,29 @@ public interface OrderRepository extends BaseRepository<Order, Long> {
                                           @Param("startDate") LocalDate startDate,
                                           @Param("endDate") LocalDate endDate);
 
+    /**
+     * Finds orders eligible for an event reminder, one keyset batch at a time
+     * (orders with id greater than afterId, ordered by id). Only orders whose
+     * customer has an email address are returned.
+     *
+     * @param balanceDueOnly true to return only orders with a balance outstanding
+     * @param pageable Batch size (use page 0)
+     */
+    @Query("SELECT o FROM Order o JOIN FETCH o.customer c WHERE o.tenant.id = :tenantId " +
+           "AND o.eventDate = :eventDate " +
+           "AND o.status IN :statuses " +
+           "AND o.deletedAt IS NULL " +
+           "AND c.email IS NOT NULL AND c.email <> '' " +
+           "AND (:balanceDueOnly = false OR o.balanceAmount > 0) " +
+           "AND o.id > :afterId " +
+           "ORDER BY o.id ASC")
+    List<Order> findReminderBatch(@Param("tenantId") Long tenantId,
+                                  @Param("eventDate") LocalDate eventDate,
+                                  @Param("statuses") List<OrderStatus> statuses,
+                                  @Param("balanceDueOnly") boolean balanceDueOnly,
+                                  @Param("afterId") Long afterId,
+                                  Pageable pageable);
+
     /**
      * Finds recent orders with pagination for dashboard.
      */
@@ -299,4 +325,67 @@ public interface OrderRepository extends BaseRepository<Order, Long> {
     java.math.BigDecimal getTotalRevenueByDateRange(@Param("tenantId") Long tenantId,
                                                     @Param("startDate") LocalDate startDate,
                                                     @Param("endDate") LocalDate endDate);
+
+    /**
+     * Adds a completed payment to the order's paid total, provided the order
+     * is not overpaid by it. The check and the increment happen in one
+     * statement under the row lock, so concurrent payments are serialised.
+     * Balance and advance are assigned before paid_total because MySQL
+     * evaluates SET assignments left to right against updated values.
+     *
+     * @return 1 if applied, 0 if the payment would exceed the grand total
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.balanceAmount = o.grandTotal - (o.paidTotal + :amount), " +
+           "o.advanceAmount = o.paidTotal + :amount, o.paidTotal = o.paidTotal + :amount, " +
+           "o.version = o.version + 1 " +
+           "WHERE o.id = :orderId AND o.paidTotal + :amount <= o.grandTotal")
+    int addPayment(@Param("orderId") Long orderId, @Param("amount") BigDecimal amount);
+
+    /**
+     * Takes a completed payment back out of the order's paid total, e.g. when
+     * it is deleted or no longer COMPLETED. Balance is floored at zero since
+     * the grand total may have been lowered below the paid total since.
+     *
+     * @return 1 if applied, 0 if the paid total would go negative
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.balanceAmount = CASE WHEN o.grandTotal > o.paidTotal - :amount " +
+           "THEN o.grandTotal - (o.paidTotal - :amount) ELSE 0 END, " +
+           "o.advanceAmount = o.paidTotal - :amount, o.paidTotal = o.paidTotal - :amount, " +
+           "o.version = o.version + 1 " +
+           "WHERE o.id = :orderId AND o.paidTotal - :amount >= 0")
+    int removePayment(@Param("orderId") Long orderId, @Param("amount") BigDecimal amount);
+
+    /**
+     * Grand total less paid total as stored; negative if overpaid. Reads the
+     * row rather than a loaded Order, which addPayment/removePayment leave stale.
+     */
+    @Query("SELECT o.grandTotal - o.paidTotal FROM Order o WHERE o.id = :orderId")
+    Optional<BigDecimal> findBalanceDue(@Param("orderId") Long orderId);
+
+    /**
+     * Utilities an order holds, if its status is one of the given ones.
+     * Returns [tenantId, eventDate, utilityId, SUM(quantity)] per utility;
+     * nothing for an order in another status or deleted.
+     */
+    @Query("SELECT o.tenant.id, o.eventDate, ou.utility.id, SUM(ou.quantity) FROM Order o JOIN o.utilities ou " +
+           "WHERE o.id = :orderId AND o.status IN :statuses " +
+           "GROUP BY o.tenant.id, o.eventDate, ou.utility.id")
+    List<Object[]> findHeldUtilities(@Param("orderId") Long orderId,
+                                     @Param("statuses") Collection<OrderStatus> statuses);
+
+    /**
+     * Orders in the given statuses holding any of the utilities within a
+     * date range. Returns [eventDate, utilityId, orderNumber].
+     */
+    @Query("SELECT o.eventDate, ou.utility.id, o.orderNumber FROM Order o JOIN o.utilities ou " +
+           "WHERE o.tenant.id = :tenantId AND o.eventDate BETWEEN :fromDate AND :toDate " +
+           "AND o.status IN :statuses AND ou.utility.id IN :utilityIds " +
+           "ORDER BY o.orderNumber")
+    List<Object[]> findUtilityHolders(@Param("tenantId") Long tenantId,
+                                      @Param("fromDate") LocalDate fromDate,
+                                      @Param("toDate") LocalDate toDate,
+                                      @Param("statuses") Collection<OrderStatus> statuses,
+                                      @Param("utilityIds") Collection<Long> utilityIds);
 }
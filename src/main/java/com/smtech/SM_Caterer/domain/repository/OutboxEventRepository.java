@@ -0,0 +1,13 @@
+package com.smtech.SM_Caterer.domain.repository;
+
+import com.smtech.SM_Caterer.domain.entity.OutboxEvent;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for OutboxEvent entity.
+ *
+ * Only used to append events; the relay claims and updates rows over JDBC.
+ */
+@Repository
+public interface OutboxEventRepository extends BaseRepository<OutboxEvent, Long> {
+}
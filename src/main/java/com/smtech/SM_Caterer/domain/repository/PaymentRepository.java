@@ -3,14 +3,18 @@ package com.smtech.SM_Caterer.domain.repository;
 import com.smtech.SM_Caterer.domain.entity.Payment;
 import com.smtech.SM_Caterer.domain.enums.PaymentMethod;
 import com.smtech.SM_Caterer.domain.enums.PaymentStatus;
+import com.smtech.SM_Caterer.domain.enums.ReceiptStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -130,6 +134,48 @@ public interface PaymentRepository extends BaseRepository<Payment, Long> {
         Pageable pageable
     );
 
+    /**
+     * IDs of the payments matching the searchPayments filters, for bulk
+     * receipt export.
+     */
+    @Query("""
+        SELECT p.id FROM Payment p
+        WHERE p.tenant.id = :tenantId
+        AND (:orderId IS NULL OR p.order.id = :orderId)
+        AND (:status IS NULL OR p.status = :status)
+        AND (:method IS NULL OR p.paymentMethod = :method)
+        AND (:dateFrom IS NULL OR p.paymentDate >= :dateFrom)
+        AND (:dateTo IS NULL OR p.paymentDate <= :dateTo)
+        ORDER BY p.paymentDate ASC, p.id ASC
+    """)
+    List<Long> searchPaymentIds(
+        @Param("tenantId") Long tenantId,
+        @Param("orderId") Long orderId,
+        @Param("status") PaymentStatus status,
+        @Param("method") PaymentMethod method,
+        @Param("dateFrom") LocalDate dateFrom,
+        @Param("dateTo") LocalDate dateTo,
+        Pageable pageable
+    );
+
+    /**
+     * IDs of payments waiting in the receipt pipeline that have not been
+     * touched since the given time, oldest first.
+     */
+    @Query("""
+        SELECT p.id FROM Payment p
+        WHERE p.tenant.id = :tenantId
+        AND p.receiptStatus = :status
+        AND p.updatedAt < :before
+        ORDER BY p.id ASC
+    """)
+    List<Long> findReceiptBacklog(
+        @Param("tenantId") Long tenantId,
+        @Param("status") ReceiptStatus status,
+        @Param("before") LocalDateTime before,
+        Pageable pageable
+    );
+
     /**
      * Counts today's payments for tenant.
      */
@@ -156,6 +202,28 @@ public interface PaymentRepository extends BaseRepository<Payment, Long> {
     List<Payment> findByTransactionReference(@Param("tenantId") Long tenantId,
                                              @Param("transactionReference") String transactionReference);
 
+    /**
+     * Pending payments of a tenant for statement reconciliation, as
+     * [id, order id, payment number, amount, payment date, transaction reference].
+     */
+    @Query("SELECT p.id, p.order.id, p.paymentNumber, p.amount, p.paymentDate, p.transactionReference " +
+           "FROM Payment p WHERE p.tenant.id = :tenantId AND p.status = 'PENDING'")
+    List<Object[]> findOpenForReconciliation(@Param("tenantId") Long tenantId);
+
+    /**
+     * Completes reconciled payments that are still pending.
+     *
+     * @return Number of payments completed
+     */
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = com.smtech.SM_Caterer.domain.enums.PaymentStatus.COMPLETED, " +
+           "p.updatedAt = :now, p.version = p.version + 1 " +
+           "WHERE p.tenant.id = :tenantId AND p.id IN :ids " +
+           "AND p.status = com.smtech.SM_Caterer.domain.enums.PaymentStatus.PENDING")
+    int completePending(@Param("tenantId") Long tenantId,
+                        @Param("ids") Collection<Long> ids,
+                        @Param("now") LocalDateTime now);
+
     /**
      * Deletes all payments for order.
      */
@@ -0,0 +1,71 @@
+package com.smtech.SM_Caterer.domain.repository;
+
+import com.smtech.SM_Caterer.domain.entity.RecipeComponent;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for RecipeComponent entity.
+ */
+@Repository
+public interface RecipeComponentRepository extends BaseRepository<RecipeComponent, Long> {
+
+    /**
+     * Finds the components of a menu's recipe.
+     * @param menuId Menu ID
+     * @return List of recipe components
+     */
+    List<RecipeComponent> findByMenuId(Long menuId);
+
+    /**
+     * Finds the recipe lines using a menu as a component.
+     * @param componentId Component menu ID
+     * @return List of recipe components
+     */
+    List<RecipeComponent> findByComponentId(Long componentId);
+
+    boolean existsByMenuIdAndComponentId(Long menuId, Long componentId);
+
+    /**
+     * Finds the removed (soft-deleted) line of a menu and component, which
+     * still holds unique_menu_component; bypasses the deleted_at filter.
+     * @param menuId Menu ID
+     * @param componentId Component menu ID
+     * @return Removed recipe component, if any
+     */
+    @Query(value = "SELECT * FROM recipe_components " +
+                   "WHERE menu_id = :menuId AND component_menu_id = :componentId AND deleted_at IS NOT NULL",
+           nativeQuery = true)
+    Optional<RecipeComponent> findRemoved(@Param("menuId") Long menuId, @Param("componentId") Long componentId);
+
+    /**
+     * Menus whose recipes use any of the given menus as a component, one
+     * level up; read off the component_menu_id index.
+     * @param componentIds Component menu IDs
+     * @return IDs of the menus using them
+     */
+    @Query("SELECT DISTINCT rc.menu.id FROM RecipeComponent rc WHERE rc.component.id IN :componentIds")
+    List<Long> findMenuIdsByComponentIds(@Param("componentIds") Collection<Long> componentIds);
+
+    /**
+     * All component edges of a tenant, for RecipeGraph.
+     * Returns [menuId, servesCount, componentMenuId, quantityRequired] per recipe component.
+     */
+    @Query("SELECT rc.menu.id, m.servesCount, rc.component.id, rc.quantityRequired FROM RecipeComponent rc " +
+           "JOIN rc.menu m " +
+           "WHERE m.tenant.id = :tenantId")
+    List<Object[]> findRecipeGraph(@Param("tenantId") Long tenantId);
+
+    /**
+     * Component edges out of the given menus, in the shape of findRecipeGraph.
+     */
+    @Query("SELECT rc.menu.id, m.servesCount, rc.component.id, rc.quantityRequired FROM RecipeComponent rc " +
+           "JOIN rc.menu m " +
+           "WHERE m.id IN :menuIds")
+    List<Object[]> findRecipeGraphForMenus(@Param("menuIds") Collection<Long> menuIds);
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -27,6 +28,27 @@ public interface RecipeItemRepository extends BaseRepository<RecipeItem, Long> {
      */
     List<RecipeItem> findByMaterialId(Long materialId);
 
+    /**
+     * Menus whose recipes use any of the materials: the material to menu
+     * side of findByMaterialId, read off the material_id index without
+     * loading the recipe items.
+     * @param materialIds Material IDs
+     * @return IDs of the menus using them
+     */
+    @Query("SELECT DISTINCT ri.menu.id FROM RecipeItem ri WHERE ri.material.id IN :materialIds")
+    List<Long> findMenuIdsByMaterialIds(@Param("materialIds") Collection<Long> materialIds);
+
+    /**
+     * Material cost of one serves count batch of each given menu, from its
+     * own recipe items: [menuId, SUM(quantityRequired x costPerUnit)].
+     * Menus without recipe items are absent.
+     */
+    @Query("SELECT ri.menu.id, SUM(ri.quantityRequired * mat.costPerUnit) FROM RecipeItem ri " +
+           "JOIN ri.material mat " +
+           "WHERE ri.menu.id IN :menuIds " +
+           "GROUP BY ri.menu.id")
+    List<Object[]> sumMaterialCostByMenu(@Param("menuIds") Collection<Long> menuIds);
+
     /**
      * Finds recipe items by menu and material.
      * @param menuId Menu ID
@@ -54,4 +76,21 @@ public interface RecipeItemRepository extends BaseRepository<RecipeItem, Long> {
            "JOIN FETCH m.unit " +
            "WHERE ri.menu.id = :menuId")
     List<RecipeItem> findByMenuIdWithMaterialDetails(@Param("menuId") Long menuId);
+
+    /**
+     * All recipe rows of a tenant, for material planning.
+     * Returns [menuId, servesCount, materialId, quantityRequired] per recipe item.
+     */
+    @Query("SELECT ri.menu.id, m.servesCount, ri.material.id, ri.quantityRequired FROM RecipeItem ri " +
+           "JOIN ri.menu m " +
+           "WHERE m.tenant.id = :tenantId")
+    List<Object[]> findRecipeMatrix(@Param("tenantId") Long tenantId);
+
+    /**
+     * Recipe rows of the given menus, in the shape of findRecipeMatrix.
+     */
+    @Query("SELECT ri.menu.id, m.servesCount, ri.material.id, ri.quantityRequired FROM RecipeItem ri " +
+           "JOIN ri.menu m " +
+           "WHERE m.id IN :menuIds")
+    List<Object[]> findRecipeMatrixForMenus(@Param("menuIds") Collection<Long> menuIds);
 }
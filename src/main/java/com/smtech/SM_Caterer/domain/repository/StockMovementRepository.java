@@ -0,0 +1,38 @@
+package com.smtech.SM_Caterer.domain.repository;
+
+import com.smtech.SM_Caterer.domain.entity.StockMovement;
+import com.smtech.SM_Caterer.domain.enums.StockMovementType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for the append-only stock ledger.
+ */
+@Repository
+public interface StockMovementRepository extends BaseRepository<StockMovement, Long> {
+
+    /**
+     * Ledger of a material, newest first.
+     */
+    Page<StockMovement> findByMaterialIdOrderByIdDesc(Long materialId, Pageable pageable);
+
+    /**
+     * Checks whether an order already has movements of a type.
+     */
+    boolean existsByOrderIdAndMovementType(Long orderId, StockMovementType movementType);
+
+    /**
+     * Stock still reserved for an order, per material.
+     * Returns [materialId, reserved - released] for materials with a reservation.
+     */
+    @Query("SELECT m.materialId, SUM(CASE WHEN m.movementType = 'RESERVATION' THEN m.quantity ELSE -m.quantity END) " +
+           "FROM StockMovement m " +
+           "WHERE m.orderId = :orderId AND m.movementType IN ('RESERVATION', 'RELEASE') " +
+           "GROUP BY m.materialId")
+    List<Object[]> findOutstandingReservations(@Param("orderId") Long orderId);
+}
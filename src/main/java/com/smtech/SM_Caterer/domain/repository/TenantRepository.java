@@ -2,8 +2,10 @@ package com.smtech.SM_Caterer.domain.repository;
 
 import com.smtech.SM_Caterer.domain.entity.Tenant;
 import com.smtech.SM_Caterer.domain.enums.TenantStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -74,4 +76,13 @@ public interface TenantRepository extends BaseRepository<Tenant, Long> {
      */
     @Query("SELECT t FROM Tenant t WHERE t.status = 'ACTIVE' ORDER BY t.businessName")
     Page<Tenant> findAllActive(Pageable pageable);
+
+    /**
+     * Loads a tenant and holds its row lock (SELECT ... FOR UPDATE) until the
+     * transaction ends. Serialises per-tenant writes whose checks read other
+     * rows of the tenant, such as the recipe component cycle check.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Tenant t WHERE t.id = :id")
+    Optional<Tenant> lockById(@Param("id") Long id);
 }
@@ -5,10 +5,12 @@ import com.smtech.SM_Caterer.domain.enums.UserRole;
 import com.smtech.SM_Caterer.domain.enums.UserStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -161,4 +163,38 @@ public interface UserRepository extends BaseRepository<User, Long> {
      * Finds users by tenant, role and status with pagination.
      */
     Page<User> findByTenantIdAndRoleAndStatus(Long tenantId, UserRole role, UserStatus status, Pageable pageable);
+
+    // =====================================================
+    // PHASE 8: LOCK STATE TRANSITIONS
+    // =====================================================
+
+    /**
+     * Locks an account (by username or email) until the given time.
+     * Only ACTIVE accounts or accounts whose previous lock has expired are affected,
+     * so concurrent nodes issue at most one effective transition.
+     *
+     * @return number of accounts locked (0 or 1)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.status = com.smtech.SM_Caterer.domain.enums.UserStatus.LOCKED, u.lockedUntil = :until, " +
+           "u.failedLoginAttempts = :attempts, u.version = u.version + 1 " +
+           "WHERE (u.username = :login OR u.email = :login) " +
+           "AND (u.status = 'ACTIVE' OR (u.status = 'LOCKED' AND u.lockedUntil IS NOT NULL AND u.lockedUntil <= :now))")
+    int lockAccount(@Param("login") String login,
+                    @Param("until") LocalDateTime until,
+                    @Param("attempts") int attempts,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * Clears an expired temporary lock.
+     * Admin locks (lockedUntil NULL) are left untouched.
+     *
+     * @return number of accounts unlocked (0 or 1)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.status = com.smtech.SM_Caterer.domain.enums.UserStatus.ACTIVE, u.lockedUntil = NULL, " +
+           "u.failedLoginAttempts = 0, u.version = u.version + 1 " +
+           "WHERE u.id = :id AND u.status = 'LOCKED' " +
+           "AND u.lockedUntil IS NOT NULL AND u.lockedUntil <= :now")
+    int unlockExpiredLock(@Param("id") Long id, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,76 @@
+package com.smtech.SM_Caterer.domain.repository;
+
+import com.smtech.SM_Caterer.domain.entity.UtilityBooking;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for UtilityBooking per-day totals.
+ *
+ * Performance:
+ * - Totals move by one upsert per utility and date, never read-modify-write
+ * - Availability is the unique (utility_id, booking_date) lookup
+ * - Date range reports scan (tenant_id, booking_date)
+ */
+@Repository
+public interface UtilityBookingRepository extends BaseRepository<UtilityBooking, Long> {
+
+    /**
+     * Adds a signed quantity to a utility's booked total on a date,
+     * creating the row on first use. Native, as JPQL has no upsert; one
+     * statement, so concurrent bookings of the same utility and date add
+     * up rather than overwrite each other.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO utility_bookings (tenant_id, utility_id, booking_date, booked_quantity, updated_at) " +
+                   "VALUES (:tenantId, :utilityId, :bookingDate, :delta, :now) " +
+                   "ON DUPLICATE KEY UPDATE booked_quantity = booked_quantity + :delta, updated_at = :now",
+           nativeQuery = true)
+    int addBooked(@Param("tenantId") Long tenantId,
+                  @Param("utilityId") Long utilityId,
+                  @Param("bookingDate") LocalDate bookingDate,
+                  @Param("delta") int delta,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * Quantity of a utility held on a date.
+     */
+    @Query("SELECT b.bookedQuantity FROM UtilityBooking b " +
+           "WHERE b.utilityId = :utilityId AND b.bookingDate = :bookingDate")
+    Optional<Integer> findBookedQuantity(@Param("utilityId") Long utilityId,
+                                         @Param("bookingDate") LocalDate bookingDate);
+
+    /**
+     * Capacity and quantity held on a date of every tenant utility with a
+     * capacity, in one query for the order wizard's utility list.
+     * Returns [utilityId, capacity, bookedQuantity]; bookedQuantity is
+     * null if nothing is held.
+     */
+    @Query("SELECT u.id, u.capacity, b.bookedQuantity FROM Utility u " +
+           "LEFT JOIN UtilityBooking b ON b.utilityId = u.id AND b.bookingDate = :bookingDate " +
+           "WHERE u.tenant.id = :tenantId AND u.capacity IS NOT NULL")
+    List<Object[]> findCapacityAndBooked(@Param("tenantId") Long tenantId,
+                                         @Param("bookingDate") LocalDate bookingDate);
+
+    /**
+     * Dates on which more of a utility is held than the tenant owns.
+     * Returns [bookingDate, utilityId, utilityCode, capacity, bookedQuantity],
+     * by date then utility code.
+     */
+    @Query("SELECT b.bookingDate, u.id, u.utilityCode, u.capacity, b.bookedQuantity " +
+           "FROM UtilityBooking b, Utility u " +
+           "WHERE u.id = b.utilityId AND b.tenantId = :tenantId " +
+           "AND b.bookingDate BETWEEN :fromDate AND :toDate " +
+           "AND u.capacity IS NOT NULL AND b.bookedQuantity > u.capacity " +
+           "ORDER BY b.bookingDate, u.utilityCode")
+    List<Object[]> findOverbooked(@Param("tenantId") Long tenantId,
+                                  @Param("fromDate") LocalDate fromDate,
+                                  @Param("toDate") LocalDate toDate);
+}
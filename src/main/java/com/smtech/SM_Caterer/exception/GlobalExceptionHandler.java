@@ -1,10 +1,14 @@
 package com.smtech.SM_Caterer.exception;
 
 import com.smtech.SM_Caterer.API.dto.response.ApiResponse;
+import com.smtech.SM_Caterer.config.PasswordHashingProperties;
+import com.smtech.SM_Caterer.security.LoginCapacityExceededException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -32,8 +36,11 @@ import java.util.Map;
  */
 @Slf4j
 @RestControllerAdvice(basePackages = "com.smtech.SM_Caterer.API")
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final PasswordHashingProperties passwordHashingProperties;
+
     // ==========================================
     // Business Exceptions
     // ==========================================
@@ -137,6 +144,39 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage(), request.getRequestURI()));
     }
 
+    @ExceptionHandler(LoginCapacityExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleLoginCapacityExceeded(
+            LoginCapacityExceededException ex, HttpServletRequest request) {
+        log.warn("Login capacity exceeded: {} - Path: {}", ex.getMessage(), request.getRequestURI());
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(passwordHashingProperties.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage(), request.getRequestURI()));
+    }
+
+    @ExceptionHandler(ReportCapacityExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleReportCapacityExceeded(
+            ReportCapacityExceededException ex, HttpServletRequest request) {
+        log.warn("Report capacity exceeded - Path: {}", request.getRequestURI());
+
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage(), request.getRequestURI()));
+    }
+
+    @ExceptionHandler(TenantMovingException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTenantMoving(
+            TenantMovingException ex, HttpServletRequest request) {
+        log.warn("Write rejected during tenant move: {} - Path: {}", ex.getMessage(), request.getRequestURI());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage(), request.getRequestURI()));
+    }
+
     // ==========================================
     // Validation Exceptions
     // ==========================================
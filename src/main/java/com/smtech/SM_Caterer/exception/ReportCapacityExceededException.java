@@ -0,0 +1,30 @@
+package com.smtech.SM_Caterer.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when the reporting bulkhead has no free slot.
+ * Results in 429 Too Many Requests response.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Getter
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class ReportCapacityExceededException extends BaseException {
+
+    private static final String ERROR_CODE = "REPORT_001";
+
+    /**
+     * Suggested wait before retrying, in seconds.
+     */
+    private final int retryAfterSeconds;
+
+    public ReportCapacityExceededException(int retryAfterSeconds) {
+        super("Too many reports are running. Please try again shortly.", ERROR_CODE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
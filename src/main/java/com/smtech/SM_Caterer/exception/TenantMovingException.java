@@ -0,0 +1,30 @@
+package com.smtech.SM_Caterer.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a tenant writes while its data is being moved to
+ * another shard. Results in 503 Service Unavailable response.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Getter
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class TenantMovingException extends BaseException {
+
+    private static final String ERROR_CODE = "SHARD_001";
+
+    /**
+     * Suggested wait before retrying, in seconds.
+     */
+    private final int retryAfterSeconds;
+
+    public TenantMovingException(Long tenantId, int retryAfterSeconds) {
+        super(String.format("Tenant %d is under maintenance. Please try again shortly.", tenantId), ERROR_CODE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
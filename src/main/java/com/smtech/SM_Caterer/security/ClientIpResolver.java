@@ -0,0 +1,45 @@
+package com.smtech.SM_Caterer.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Resolves the client IP address of a request.
+ *
+ * X-Forwarded-For is never read here: a client can set it to any value,
+ * which would let it dodge the per-IP login block or get another address
+ * blocked. Tomcat's RemoteIpValve (server.forward-headers-strategy=native)
+ * replaces the remote address with the forwarded one only when the request
+ * comes from a proxy matching server.tomcat.remoteip.internal-proxies.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public final class ClientIpResolver {
+
+    private ClientIpResolver() {
+    }
+
+    /**
+     * Extracts client IP address from request.
+     */
+    public static String resolve(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * Extracts client IP address of the request bound to the current thread.
+     *
+     * @return client IP, or null when called outside a request
+     */
+    public static String resolveCurrent() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return resolve(servletAttributes.getRequest());
+        }
+        return null;
+    }
+}
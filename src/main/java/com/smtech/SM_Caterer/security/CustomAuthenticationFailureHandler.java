@@ -0,0 +1,43 @@
+package com.smtech.SM_Caterer.security;
+
+import com.smtech.SM_Caterer.config.PasswordHashingProperties;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Custom authentication failure handler for form login.
+ * Login capacity rejections redirect to /login?busy=true (with Retry-After)
+ * so the browser shows a "server busy" message; API clients receive a 429
+ * from GlobalExceptionHandler instead.
+ * All other failures redirect to /login?error=true.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomAuthenticationFailureHandler implements AuthenticationFailureHandler {
+
+    private final PasswordHashingProperties passwordHashingProperties;
+
+    private final SimpleUrlAuthenticationFailureHandler defaultHandler =
+            new SimpleUrlAuthenticationFailureHandler("/login?error=true");
+
+    @Override
+    public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
+                                        AuthenticationException exception) throws IOException, ServletException {
+        if (exception instanceof LoginCapacityExceededException) {
+            response.setHeader(HttpHeaders.RETRY_AFTER,
+                    String.valueOf(passwordHashingProperties.getRetryAfterSeconds()));
+            response.sendRedirect(request.getContextPath() + "/login?busy=true");
+            return;
+        }
+        defaultHandler.onAuthenticationFailure(request, response, exception);
+    }
+}
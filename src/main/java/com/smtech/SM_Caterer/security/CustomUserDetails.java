@@ -10,6 +10,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -38,6 +39,7 @@ public class CustomUserDetails implements UserDetails, Serializable {
     private String tenantCode;
     private UserRole role;
     private UserStatus status;
+    private LocalDateTime lockedUntil;
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -62,7 +64,7 @@ public class CustomUserDetails implements UserDetails, Serializable {
 
     @Override
     public boolean isAccountNonLocked() {
-        return status != UserStatus.LOCKED;
+        return status != UserStatus.LOCKED || isLockExpired();
     }
 
     @Override
@@ -72,7 +74,17 @@ public class CustomUserDetails implements UserDetails, Serializable {
 
     @Override
     public boolean isEnabled() {
-        return status == UserStatus.ACTIVE;
+        return status == UserStatus.ACTIVE || (status == UserStatus.LOCKED && isLockExpired());
+    }
+
+    /**
+     * Checks if a time-limited lock has run out.
+     * Locks without an expiry (set by an administrator) never expire.
+     *
+     * @return true if locked until a time in the past
+     */
+    private boolean isLockExpired() {
+        return lockedUntil != null && !lockedUntil.isAfter(LocalDateTime.now());
     }
 
     /**
@@ -0,0 +1,26 @@
+package com.smtech.SM_Caterer.security;
+
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+/**
+ * Thrown when the bounded password hashing pool cannot accept more work.
+ *
+ * Extends InternalAuthenticationServiceException so that Spring Security's
+ * ProviderManager propagates it unchanged instead of treating it as bad
+ * credentials. Mapped to 429 Too Many Requests by the API exception handler
+ * and by {@link CustomAuthenticationFailureHandler} for form login.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public class LoginCapacityExceededException extends InternalAuthenticationServiceException {
+
+    public LoginCapacityExceededException(String message) {
+        super(message);
+    }
+
+    public LoginCapacityExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
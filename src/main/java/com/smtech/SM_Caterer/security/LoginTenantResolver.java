@@ -0,0 +1,40 @@
+package com.smtech.SM_Caterer.security;
+
+import com.smtech.SM_Caterer.config.sharding.TenantShardDirectory;
+import com.smtech.SM_Caterer.context.TenantContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Finds the tenant of a login name before the user is authenticated.
+ *
+ * Only needed with tenant sharding: a user row lives on its tenant's shard,
+ * so login lookups must run with that tenant in TenantContext. Without
+ * sharding every lookup hits the single database and this returns null.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginTenantResolver {
+
+    private final ObjectProvider<TenantShardDirectory> shardDirectory;
+
+    /**
+     * Resolves the tenant of a username or email.
+     *
+     * @param login Username or email as entered
+     * @return Tenant ID, or null when sharding is off, a tenant is already
+     *         set, or the login is unknown
+     */
+    public Long resolve(String login) {
+        TenantShardDirectory directory = shardDirectory.getIfAvailable();
+        if (directory == null || TenantContext.isSet() || login == null) {
+            return null;
+        }
+        return directory.findTenantByLogin(login.trim());
+    }
+}
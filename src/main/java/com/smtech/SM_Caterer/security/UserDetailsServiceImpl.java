@@ -1,10 +1,12 @@
 package com.smtech.SM_Caterer.security;
 
+import com.smtech.SM_Caterer.context.TenantContext;
 import com.smtech.SM_Caterer.domain.entity.User;
 import com.smtech.SM_Caterer.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -14,6 +16,10 @@ import org.springframework.transaction.annotation.Transactional;
  * UserDetailsService implementation for Spring Security.
  * Loads user from database by username or email.
  *
+ * Also implements UserDetailsPasswordService so that DaoAuthenticationProvider
+ * can transparently re-hash a password whose BCrypt cost is below the
+ * configured strength (security.password.hashing.bcrypt-strength).
+ *
  * @author CloudCaters Team
  * @version 1.0
  * @since Phase 2
@@ -21,9 +27,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final LoginTenantResolver loginTenantResolver;
 
     /**
      * Loads user by username or email.
@@ -37,14 +44,15 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
         log.debug("Attempting to load user by username or email: {}", usernameOrEmail);
 
-        // Try to find by username first, then by email
-        User user = userRepository.findByUsername(usernameOrEmail)
-                .orElseGet(() -> userRepository.findByEmail(usernameOrEmail)
-                        .orElseThrow(() -> {
-                            log.warn("User not found during authentication");
-                            log.debug("User not found with username or email: {}", usernameOrEmail);
-                            return new UsernameNotFoundException("User not found");
-                        }));
+        // Try to find by username first, then by email (on the user's shard when sharded)
+        User user = TenantContext.callWithTenant(loginTenantResolver.resolve(usernameOrEmail), () ->
+                userRepository.findByUsername(usernameOrEmail)
+                        .orElseGet(() -> userRepository.findByEmail(usernameOrEmail)
+                                .orElseThrow(() -> {
+                                    log.warn("User not found during authentication");
+                                    log.debug("User not found with username or email: {}", usernameOrEmail);
+                                    return new UsernameNotFoundException("User not found");
+                                })));
 
         log.debug("User found: {} (ID: {}, Tenant: {})",
                 user.getUsername(), user.getId(),
@@ -73,6 +81,28 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         return buildUserDetails(user);
     }
 
+    /**
+     * Stores an upgraded password hash after a successful login.
+     * Called by DaoAuthenticationProvider only when the stored hash needs upgrading.
+     *
+     * @param userDetails Authenticated user
+     * @param newPassword Newly encoded password
+     * @return UserDetails carrying the new hash
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        Long tenantId = userDetails instanceof CustomUserDetails custom ? custom.getTenantId() : null;
+        User user = TenantContext.callWithTenant(tenantId, () -> userRepository.findByUsername(userDetails.getUsername()))
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        log.info("Password hash upgraded for user ID: {}", user.getId());
+
+        return buildUserDetails(user);
+    }
+
     /**
      * Builds CustomUserDetails from User entity.
      *
@@ -91,6 +121,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .tenantCode(user.getTenant() != null ? user.getTenant().getTenantCode() : null)
                 .role(user.getRole())
                 .status(user.getStatus())
+                .lockedUntil(user.getLockedUntil())
                 .build();
     }
 }
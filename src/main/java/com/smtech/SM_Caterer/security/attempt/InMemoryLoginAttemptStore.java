@@ -0,0 +1,92 @@
+package com.smtech.SM_Caterer.security.attempt;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-node LoginAttemptStore backed by a ConcurrentHashMap.
+ *
+ * Each key keeps the timestamps of its recent failures (capped, so a single
+ * key under attack cannot grow without bound) plus an optional block expiry.
+ * Stale keys are removed by {@link #evictExpired(long, long)}.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+    /**
+     * Upper bound on timestamps kept per key; counts above this are reported as the cap.
+     */
+    private static final int MAX_TRACKED_FAILURES = 1000;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public int recordFailure(String key, long nowMillis, long windowMillis) {
+        Window window = windows.computeIfAbsent(key, k -> new Window());
+        synchronized (window) {
+            window.trim(nowMillis - windowMillis);
+            if (window.failures.size() == MAX_TRACKED_FAILURES) {
+                window.failures.pollFirst();
+            }
+            window.failures.addLast(nowMillis);
+            return window.failures.size();
+        }
+    }
+
+    @Override
+    public void block(String key, long untilMillis) {
+        Window window = windows.computeIfAbsent(key, k -> new Window());
+        synchronized (window) {
+            window.blockedUntil = Math.max(window.blockedUntil, untilMillis);
+        }
+    }
+
+    @Override
+    public boolean isBlocked(String key, long nowMillis) {
+        Window window = windows.get(key);
+        if (window == null) {
+            return false;
+        }
+        synchronized (window) {
+            return window.blockedUntil > nowMillis;
+        }
+    }
+
+    @Override
+    public void clear(String key) {
+        windows.remove(key);
+    }
+
+    @Override
+    public void evictExpired(long nowMillis, long windowMillis) {
+        windows.entrySet().removeIf(entry -> {
+            Window window = entry.getValue();
+            synchronized (window) {
+                window.trim(nowMillis - windowMillis);
+                return window.failures.isEmpty() && window.blockedUntil <= nowMillis;
+            }
+        });
+    }
+
+    /**
+     * Number of keys currently tracked.
+     */
+    public int size() {
+        return windows.size();
+    }
+
+    private static final class Window {
+        private final ArrayDeque<Long> failures = new ArrayDeque<>();
+        private long blockedUntil;
+
+        private void trim(long cutoffMillis) {
+            while (!failures.isEmpty() && failures.peekFirst() < cutoffMillis) {
+                failures.pollFirst();
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.smtech.SM_Caterer.security.attempt;
+
+import com.smtech.SM_Caterer.security.ClientIpResolver;
+import com.smtech.SM_Caterer.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds Spring Security authentication events to {@link LoginAttemptService}.
+ *
+ * A separate bean so that the calls go through the service's transactional
+ * proxy: the lock and unlock UPDATEs need a transaction.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginAttemptEventListener {
+
+    private final LoginAttemptService loginAttemptService;
+
+    @EventListener
+    public void onAuthenticationFailure(AuthenticationFailureBadCredentialsEvent event) {
+        Object principal = event.getAuthentication().getPrincipal();
+        String login = principal != null ? principal.toString() : null;
+        loginAttemptService.loginFailed(login, ClientIpResolver.resolveCurrent());
+    }
+
+    @EventListener
+    public void onAuthenticationSuccess(AuthenticationSuccessEvent event) {
+        if (event.getAuthentication().getPrincipal() instanceof CustomUserDetails userDetails) {
+            loginAttemptService.loginSucceeded(userDetails);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.smtech.SM_Caterer.security.attempt;
+
+import com.smtech.SM_Caterer.config.LoginAttemptProperties;
+import com.smtech.SM_Caterer.context.TenantContext;
+import com.smtech.SM_Caterer.domain.enums.UserStatus;
+import com.smtech.SM_Caterer.domain.repository.UserRepository;
+import com.smtech.SM_Caterer.security.CustomUserDetails;
+import com.smtech.SM_Caterer.security.LoginTenantResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sliding-window login attempt tracker.
+ *
+ * Failures are counted per username and per client IP in a LoginAttemptStore
+ * (in memory by default), so a credential-stuffing burst no longer writes to
+ * the users table on every attempt. The database is written only on lock
+ * state transitions:
+ * - Username reaches security.login.max-attempts in the window: one UPDATE locks
+ *   the account until now + security.login.lockout-duration-minutes
+ * - Successful login of an account whose lock has expired: one UPDATE unlocks it
+ *
+ * IP blocks (security.login.ip-max-attempts) live only in the store.
+ * Authentication events reach this service through
+ * {@link LoginAttemptEventListener}, so the lock writes run in its transactions.
+ * Blocked usernames/IPs are rejected by {@link LoginAttemptUserDetailsChecker}
+ * before any password hashing happens.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginAttemptService {
+
+    private static final String USER_KEY_PREFIX = "user:";
+    private static final String IP_KEY_PREFIX = "ip:";
+
+    private final LoginAttemptStore store;
+    private final LoginAttemptProperties properties;
+    private final UserRepository userRepository;
+    private final LoginTenantResolver loginTenantResolver;
+    private final Clock clock = Clock.systemDefaultZone();
+
+    /**
+     * Checks if the login or the client IP is currently blocked.
+     *
+     * @param login Username or email as entered
+     * @param ip Client IP (may be null)
+     * @return true if the attempt must be rejected without checking the password
+     */
+    public boolean isBlocked(String login, String ip) {
+        long now = clock.millis();
+        if (login != null && store.isBlocked(userKey(login), now)) {
+            return true;
+        }
+        return ip != null && store.isBlocked(IP_KEY_PREFIX + ip, now);
+    }
+
+    /**
+     * Records a failed login for the login name and client IP.
+     *
+     * @param login Username or email as entered
+     * @param ip Client IP (may be null)
+     */
+    @Transactional
+    public void loginFailed(String login, String ip) {
+        long now = clock.millis();
+        long window = TimeUnit.MINUTES.toMillis(properties.getAttemptWindowMinutes());
+        long blockUntil = now + TimeUnit.MINUTES.toMillis(properties.getLockoutDurationMinutes());
+
+        if (login != null) {
+            String key = userKey(login);
+            int failures = store.recordFailure(key, now, window);
+            if (failures >= properties.getMaxAttempts() && !store.isBlocked(key, now)) {
+                store.block(key, blockUntil);
+                LocalDateTime lockedUntil = LocalDateTime.now(clock)
+                        .plusMinutes(properties.getLockoutDurationMinutes());
+                int locked = TenantContext.callWithTenant(loginTenantResolver.resolve(login), () ->
+                        userRepository.lockAccount(login.trim(), lockedUntil, failures, LocalDateTime.now(clock)));
+                if (locked > 0) {
+                    log.warn("User account locked after {} failed login attempts", failures);
+                    log.debug("User account locked until {}: {}", lockedUntil, login);
+                }
+            }
+        }
+
+        if (ip != null) {
+            String key = IP_KEY_PREFIX + ip;
+            int failures = store.recordFailure(key, now, window);
+            if (failures >= properties.getIpMaxAttempts() && !store.isBlocked(key, now)) {
+                store.block(key, blockUntil);
+                log.warn("Client IP blocked after {} failed login attempts: {}", failures, ip);
+            }
+        }
+    }
+
+    /**
+     * Clears the failure window of a login and removes an expired lock.
+     *
+     * @param userDetails Authenticated user
+     */
+    @Transactional
+    public void loginSucceeded(CustomUserDetails userDetails) {
+        clearUser(userDetails.getUsername(), userDetails.getEmail());
+
+        if (userDetails.getStatus() == UserStatus.LOCKED) {
+            int unlocked = TenantContext.callWithTenant(userDetails.getTenantId(), () ->
+                    userRepository.unlockExpiredLock(userDetails.getId(), LocalDateTime.now(clock)));
+            if (unlocked > 0) {
+                log.info("Expired account lock cleared (ID: {})", userDetails.getId());
+            }
+        }
+    }
+
+    /**
+     * Clears the failure window and any block of a user under both login
+     * names, e.g. after an administrator unlocks the account.
+     *
+     * @param username Username
+     * @param email Email (may be null)
+     */
+    public void clearUser(String username, String email) {
+        store.clear(userKey(username));
+        if (email != null) {
+            store.clear(userKey(email));
+        }
+    }
+
+    /**
+     * Periodically drops windows with no recent failures and no active block.
+     */
+    @Scheduled(fixedDelayString = "${security.login.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        store.evictExpired(clock.millis(), TimeUnit.MINUTES.toMillis(properties.getAttemptWindowMinutes()));
+    }
+
+    private String userKey(String login) {
+        return USER_KEY_PREFIX + login.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,47 @@
+package com.smtech.SM_Caterer.security.attempt;
+
+/**
+ * Storage for sliding-window login failure counts and temporary blocks.
+ *
+ * Keys are opaque strings such as "user:alice" or "ip:10.0.0.1".
+ * The default {@link InMemoryLoginAttemptStore} keeps state per node.
+ * To share counts across nodes, register another implementation as a bean
+ * (for example backed by Redis or Hazelcast); LoginAttemptConfig only creates
+ * the in-memory store when no other LoginAttemptStore bean exists.
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+public interface LoginAttemptStore {
+
+    /**
+     * Records a failure and returns the number of failures inside the window.
+     *
+     * @param key Tracking key
+     * @param nowMillis Current time in epoch millis
+     * @param windowMillis Sliding window length
+     * @return Failures within [now - window, now], including this one
+     */
+    int recordFailure(String key, long nowMillis, long windowMillis);
+
+    /**
+     * Blocks the key until the given time.
+     */
+    void block(String key, long untilMillis);
+
+    /**
+     * Checks if the key is blocked at the given time.
+     */
+    boolean isBlocked(String key, long nowMillis);
+
+    /**
+     * Clears failures and any block for the key.
+     */
+    void clear(String key);
+
+    /**
+     * Drops entries with no failures inside the window and no active block.
+     */
+    void evictExpired(long nowMillis, long windowMillis);
+}
@@ -0,0 +1,42 @@
+package com.smtech.SM_Caterer.security.attempt;
+
+import com.smtech.SM_Caterer.security.ClientIpResolver;
+import com.smtech.SM_Caterer.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pre-authentication check for DaoAuthenticationProvider.
+ * Runs after the user lookup and before the password is hashed, so a blocked
+ * username or client IP costs no BCrypt work. Then applies the default
+ * account status checks (locked, disabled, expired).
+ *
+ * @author CloudCaters Team
+ * @version 1.0
+ * @since Phase 8
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginAttemptUserDetailsChecker implements UserDetailsChecker {
+
+    private final LoginAttemptService loginAttemptService;
+
+    private final UserDetailsChecker accountStatusChecker = new AccountStatusUserDetailsChecker();
+
+    @Override
+    public void check(UserDetails user) {
+        String ip = ClientIpResolver.resolveCurrent();
+        String email = user instanceof CustomUserDetails details ? details.getEmail() : null;
+
+        if (loginAttemptService.isBlocked(user.getUsername(), ip)
+                || (email != null && loginAttemptService.isBlocked(email, null))) {
+            throw new LockedException("Too many failed login attempts");
+        }
+
+        accountStatusChecker.check(user);
+    }
+}
@@ -1,8 +1,10 @@
 package com.smtech.SM_Caterer.service;
 
+import com.smtech.SM_Caterer.domain.entity.Material;
 import com.smtech.SM_Caterer.domain.entity.Order;
 import com.smtech.SM_Caterer.domain.entity.Payment;
 import com.smtech.SM_Caterer.domain.entity.Tenant;
+import com.smtech.SM_Caterer.domain.event.MaterialStockEvent;
 
 /**
  * Service interface for email operations.
@@ -19,20 +21,33 @@ public interface EmailService {
     boolean sendTestEmail(Tenant tenant, String toEmail);
 
     /**
-     * Sends order confirmation email.
+     * Queues order confirmation email in the outbox.
+     * Delivered after the current transaction commits. Queued at most once
+     * per approval of the order.
      *
      * @param order The order
      */
     void sendOrderConfirmation(Order order);
 
     /**
-     * Sends payment receipt email with PDF attachment.
+     * Queues payment receipt email with PDF attachment in the outbox.
+     * Delivered after the current transaction commits.
      *
      * @param payment  The payment
-     * @param pdfPath  Path to the PDF receipt
+     * @param pdfPath  Blob key of the PDF receipt
      */
     void sendPaymentReceipt(Payment payment, String pdfPath);
 
+    /**
+     * Queues a low stock alert to the tenant's email in the outbox.
+     * Delivered after the current transaction commits. Queued at most once
+     * per crossing of the minimum.
+     *
+     * @param material The material
+     * @param event    The crossing into low stock
+     */
+    void sendLowStockAlert(Material material, MaterialStockEvent.LowStockEntered event);
+
     /**
      * Checks if email is enabled and configured for tenant.
      *
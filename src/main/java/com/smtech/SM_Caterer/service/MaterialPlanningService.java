@@ -0,0 +1,22 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.service.dto.MaterialPlanDTO;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for material requirements planning.
+ */
+public interface MaterialPlanningService {
+
+    /**
+     * Computes per-material, per-day requirements of confirmed and
+     * in-progress orders with events in the range, netted against current
+     * stock.
+     * @param tenantId Tenant ID
+     * @param fromDate First event date (inclusive)
+     * @param toDate Last event date (inclusive)
+     * @return Plan with the materials that are needed, shortfalls first
+     */
+    MaterialPlanDTO plan(Long tenantId, LocalDate fromDate, LocalDate toDate);
+}
@@ -0,0 +1,27 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.service.dto.ReconciliationResultDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Service interface for reconciling bank and UPI statements against
+ * pending payments.
+ */
+public interface PaymentReconciliationService {
+
+    /**
+     * Reads a statement (CSV or .xlsx), matches its credit lines against the
+     * tenant's pending payments and completes the matched payments in bulk.
+     *
+     * @param tenantId Tenant whose payments are reconciled
+     * @param content Statement content (not closed)
+     * @param filename Original file name; selects the format
+     * @return Counts and the lines that need attention
+     * @throws com.smtech.SM_Caterer.exception.InvalidOperationException if the
+     *         file is not a supported statement or has too many lines
+     * @throws IOException if the statement cannot be read
+     */
+    ReconciliationResultDTO reconcile(Long tenantId, InputStream content, String filename) throws IOException;
+}
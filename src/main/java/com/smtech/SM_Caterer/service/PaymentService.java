@@ -4,6 +4,7 @@ import com.smtech.SM_Caterer.domain.enums.PaymentMethod;
 import com.smtech.SM_Caterer.domain.enums.PaymentStatus;
 import com.smtech.SM_Caterer.service.base.BaseService;
 import com.smtech.SM_Caterer.service.dto.PaymentDTO;
+import com.smtech.SM_Caterer.service.dto.ReceiptFileDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -45,7 +46,8 @@ public interface PaymentService extends BaseService<PaymentDTO, Long> {
                                      Pageable pageable);
 
     /**
-     * Creates a payment with full workflow (number generation, PDF, email).
+     * Creates a payment with full workflow: number generation here, PDF
+     * receipt and email by the receipt pipeline once the payment commits.
      */
     PaymentDTO createPaymentWithWorkflow(PaymentDTO dto);
 
@@ -69,6 +71,12 @@ public interface PaymentService extends BaseService<PaymentDTO, Long> {
      */
     byte[] downloadReceipt(Long paymentId, Long tenantId);
 
+    /**
+     * Returns the stored receipt PDF, regenerating it only when it is
+     * missing or the fields printed on it have changed.
+     */
+    ReceiptFileDTO getReceiptFile(Long paymentId, Long tenantId);
+
     /**
      * Resends payment receipt email.
      */
@@ -8,13 +8,25 @@ import com.smtech.SM_Caterer.domain.entity.Payment;
 public interface PdfReceiptService {
 
     /**
-     * Generates a PDF receipt for a payment.
+     * Generates a PDF receipt for a payment and stores it in the blob
+     * store. Records the content hash and source fingerprint on the payment
+     * (the caller saves it).
      *
      * @param payment The payment entity
-     * @return Path to the generated PDF file
+     * @return Blob key of the generated PDF file
      */
     String generateReceipt(Payment payment);
 
+    /**
+     * Fingerprint of the payment, order and tenant fields printed on the
+     * receipt. A stored receipt is current while this matches the payment's
+     * receiptSourceHash.
+     *
+     * @param payment The payment entity
+     * @return SHA-256 hex digest
+     */
+    String receiptFingerprint(Payment payment);
+
     /**
      * Generates a PDF receipt as byte array.
      *
@@ -22,4 +34,12 @@ public interface PdfReceiptService {
      * @return PDF content as byte array
      */
     byte[] generateReceiptBytes(Payment payment);
+
+    /**
+     * Drops the cached receipt header of a tenant. Called when branding
+     * (name, tagline, logo) changes.
+     *
+     * @param tenantId Tenant ID
+     */
+    void evictHeader(Long tenantId);
 }
@@ -8,15 +8,17 @@ import java.math.BigDecimal;
 public interface QrCodeGeneratorService {
 
     /**
-     * Generates a UPI QR code image file.
+     * Generates a UPI QR code image and stores it in the blob store. The key
+     * is derived from the image, so repeated requests for the same payment
+     * reuse one object.
      *
      * @param upiId      The UPI ID (VPA) of the payee
      * @param payeeName  The name of the payee
      * @param amount     The payment amount
      * @param note       Transaction note/reference
-     * @param orderId    The order ID (for file naming)
+     * @param orderId    The order ID (for logging)
      * @param tenantId   The tenant ID
-     * @return Path to the generated QR code image
+     * @return Blob key of the generated QR code image
      */
     String generateQrCode(String upiId, String payeeName, BigDecimal amount,
                           String note, Long orderId, Long tenantId);
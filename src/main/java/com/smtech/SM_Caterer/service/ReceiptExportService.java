@@ -0,0 +1,36 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.domain.enums.PaymentMethod;
+import com.smtech.SM_Caterer.domain.enums.PaymentStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for bulk receipt export.
+ */
+public interface ReceiptExportService {
+
+    /**
+     * Finds the payments to export, using the same filters as the payment list.
+     *
+     * @throws com.smtech.SM_Caterer.exception.InvalidOperationException if more
+     *         payments match than one export allows
+     */
+    List<Long> findPaymentIds(Long tenantId, Long orderId, PaymentStatus status,
+                              PaymentMethod method, LocalDate dateFrom, LocalDate dateTo);
+
+    /**
+     * Renders or reuses the receipts of the given payments in parallel and
+     * writes them to a ZIP on the stream as each one is ready. Receipts that
+     * fail are listed in an errors.txt entry instead.
+     *
+     * @param tenantId Tenant of the payments
+     * @param paymentIds Payments to export
+     * @param out Stream to write the ZIP to (not closed)
+     * @throws IOException if writing to the stream fails
+     */
+    void writeReceiptsZip(Long tenantId, List<Long> paymentIds, OutputStream out) throws IOException;
+}
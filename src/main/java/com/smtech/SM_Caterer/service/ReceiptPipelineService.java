@@ -0,0 +1,45 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.domain.enums.ReceiptStatus;
+
+/**
+ * Service interface for the post-commit receipt pipeline.
+ *
+ * A payment is saved with its receipt PENDING. A render worker then stores
+ * the receipt PDF and queues the receipt email in one transaction, and
+ * marks the receipt READY (or FAILED once attempts are exhausted).
+ */
+public interface ReceiptPipelineService {
+
+    /**
+     * Queues a payment's receipt for rendering once the current transaction
+     * commits (immediately when there is none).
+     *
+     * @param paymentId Payment with a PENDING receipt
+     * @param tenantId Tenant of the payment
+     */
+    void submitAfterCommit(Long paymentId, Long tenantId);
+
+    /**
+     * Queues a payment's receipt for rendering.
+     *
+     * @return false if the pipeline is disabled or its queue is full; the
+     *         payment stays PENDING for the sweeper
+     */
+    boolean submit(Long paymentId, Long tenantId);
+
+    /**
+     * Renders a PENDING receipt and queues its email, on the calling thread.
+     *
+     * @return The receipt status afterwards, or null if the payment is gone
+     */
+    ReceiptStatus process(Long paymentId, Long tenantId);
+
+    /**
+     * Queues PENDING receipts that have been waiting longer than the retry
+     * delay, until the render queue is full.
+     *
+     * @return Receipts queued
+     */
+    int sweepBacklog();
+}
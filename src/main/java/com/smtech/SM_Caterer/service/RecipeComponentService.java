@@ -0,0 +1,19 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.service.base.BaseService;
+import com.smtech.SM_Caterer.service.dto.RecipeComponentDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for RecipeComponent operations.
+ */
+public interface RecipeComponentService extends BaseService<RecipeComponentDTO, Long> {
+
+    List<RecipeComponentDTO> findByMenuId(Long menuId);
+
+    /**
+     * Recipe lines using the menu as a component.
+     */
+    List<RecipeComponentDTO> findByComponentId(Long componentId);
+}
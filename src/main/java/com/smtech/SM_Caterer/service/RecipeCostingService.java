@@ -0,0 +1,31 @@
+package com.smtech.SM_Caterer.service;
+
+import java.util.Collection;
+
+/**
+ * Service interface for menu material costing.
+ * Keeps Menu.materialCostPerServe in step with recipes and material costs.
+ */
+public interface RecipeCostingService {
+
+    /**
+     * Recomputes the menus whose recipes use any of the materials.
+     * @param materialIds Materials whose cost per unit changed
+     * @return Number of menus recomputed
+     */
+    int onMaterialCostChanged(Collection<Long> materialIds);
+
+    /**
+     * Recomputes the given menus, after a recipe or serves count change.
+     * @param menuIds Menu IDs; nulls are ignored
+     * @return Number of menus recomputed
+     */
+    int recomputeMenus(Collection<Long> menuIds);
+
+    /**
+     * Recomputes every menu of a tenant.
+     * @param tenantId Tenant ID
+     * @return Number of menus recomputed
+     */
+    int recomputeTenant(Long tenantId);
+}
@@ -0,0 +1,19 @@
+package com.smtech.SM_Caterer.service;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for the daily event and balance-due reminder campaign.
+ */
+public interface ReminderCampaignService {
+
+    /**
+     * Queues the reminders due on the given day for all active tenants with
+     * email configured. Reminders already queued for the same order, offset
+     * and event date are skipped, so a rerun sends nothing twice.
+     *
+     * @param today Day the campaign runs for
+     * @return Number of reminders queued
+     */
+    int runCampaign(LocalDate today);
+}
@@ -77,4 +77,20 @@ public interface ReportService {
      * Gets customers with pending balances.
      */
     List<CustomerReportDTO> getCustomersWithPendingBalance(Long tenantId);
+
+    // ===== Menu Margin Report =====
+
+    /**
+     * Gets every menu's price, material cost and margin per serve,
+     * lowest margin first.
+     */
+    List<MenuMarginReportDTO> getMenuMarginReport(Long tenantId);
+
+    // ===== Utility Conflict Report =====
+
+    /**
+     * Gets the dates within a range on which orders hold more of a utility
+     * than the tenant owns, with the orders holding it, by date.
+     */
+    List<UtilityConflictReportDTO> getUtilityConflictReport(Long tenantId, LocalDate fromDate, LocalDate toDate);
 }
@@ -0,0 +1,71 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.domain.entity.Material;
+import com.smtech.SM_Caterer.domain.entity.StockMovement;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+
+/**
+ * Service interface for the stock ledger.
+ * Every change to a material's stock goes through here.
+ */
+public interface StockLedgerService {
+
+    /**
+     * Opens the stock balance of a newly created material with its
+     * current stock.
+     * @param material Saved material
+     */
+    void openBalance(Material material);
+
+    /**
+     * Records stock coming in.
+     * @param tenantId Tenant ID
+     * @param materialId Material ID
+     * @param quantity Quantity received, positive
+     * @param note Optional note
+     */
+    void receive(Long tenantId, Long materialId, BigDecimal quantity, String note);
+
+    /**
+     * Records stock used outside an order.
+     * @throws com.smtech.SM_Caterer.exception.InvalidOperationException if
+     *         on-hand stock is less than the quantity
+     */
+    void consume(Long tenantId, Long materialId, BigDecimal quantity, String note);
+
+    /**
+     * Sets on-hand stock to a counted quantity, recording the difference
+     * as an adjustment.
+     */
+    void adjustTo(Long tenantId, Long materialId, BigDecimal counted, String note);
+
+    /**
+     * Changes a material's minimum stock.
+     */
+    void updateMinimum(Long tenantId, Long materialId, BigDecimal minimumStock);
+
+    /**
+     * Reserves the materials an order's menu items need, from their
+     * recipes. Does nothing if the order already has a reservation.
+     * @param tenantId Tenant ID
+     * @param orderId Order ID
+     */
+    void reserveForOrder(Long tenantId, Long orderId);
+
+    /**
+     * Releases what is still reserved for an order.
+     * @param tenantId Tenant ID
+     * @param orderId Order ID
+     * @param consume Whether the released stock was used (order completed)
+     *        rather than given back (order cancelled)
+     */
+    void releaseForOrder(Long tenantId, Long orderId, boolean consume);
+
+    /**
+     * Ledger of a material, newest first.
+     */
+    Page<StockMovement> findMovements(Long materialId, Pageable pageable);
+}
@@ -72,7 +72,7 @@ public interface UserService extends BaseService<UserDTO, Long> {
     void recordFailedLogin(Long userId);
 
     /**
-     * Unlocks user account.
+     * Unlocks user account and lifts its in-memory login block.
      * @param userId User ID
      */
     void unlockAccount(Long userId);
@@ -0,0 +1,58 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.service.dto.UtilityAvailabilityDTO;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Service interface for rental utility availability.
+ * Keeps the per-day booked totals in utility_bookings in step with the
+ * utilities held by orders.
+ */
+public interface UtilityAvailabilityService {
+
+    /**
+     * Utilities an order holds on its event date.
+     * @param tenantId Tenant of the order; null for {@link #NONE}
+     * @param date Event date; null for {@link #NONE}
+     * @param quantities Quantity per utility ID
+     */
+    record Hold(Long tenantId, LocalDate date, Map<Long, Integer> quantities) {
+    }
+
+    /**
+     * What an order holds when its status holds nothing.
+     */
+    Hold NONE = new Hold(null, null, Map.of());
+
+    /**
+     * What an order holds now, as stored; flushes pending changes first.
+     * @param orderId Order ID
+     * @return The hold, or {@link #NONE} for a draft, cancelled or deleted order
+     */
+    Hold holdOf(Long orderId);
+
+    /**
+     * Moves the booked totals from what an order held before a change to
+     * what it holds now. Call in the transaction making the change, with
+     * the hold read before it.
+     * @param orderId Order ID
+     * @param before {@link #holdOf(Long)} before the change
+     */
+    void updateHold(Long orderId, Hold before);
+
+    /**
+     * Availability of a utility on a date.
+     * @param excludingOrderId Order whose own hold counts as available,
+     *        when that order is being edited; may be null
+     */
+    UtilityAvailabilityDTO getAvailability(Long tenantId, Long utilityId, LocalDate date, Long excludingOrderId);
+
+    /**
+     * Availability on a date of every tenant utility with a capacity.
+     * @param excludingOrderId As for {@link #getAvailability}
+     * @return Availability by utility ID
+     */
+    Map<Long, UtilityAvailabilityDTO> getAvailabilityOn(Long tenantId, LocalDate date, Long excludingOrderId);
+}
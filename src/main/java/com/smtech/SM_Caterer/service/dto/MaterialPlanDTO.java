@@ -0,0 +1,26 @@
+package com.smtech.SM_Caterer.service.dto;
+
+import lombok.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for the material requirements plan of a date range.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaterialPlanDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private List<LocalDate> days;
+    private int orderLines;
+    private int linesWithoutRecipe;
+    private int shortfallCount;
+    private List<MaterialRequirementDTO> requirements;
+}
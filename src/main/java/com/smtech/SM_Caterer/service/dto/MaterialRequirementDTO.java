@@ -0,0 +1,29 @@
+package com.smtech.SM_Caterer.service.dto;
+
+import lombok.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for one material's requirement over a planning range.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaterialRequirementDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long materialId;
+    private String materialCode;
+    private String materialName;
+    private String unitSymbol;
+    private BigDecimal currentStock;
+    private BigDecimal totalRequired;
+    private BigDecimal shortfall;
+    private LocalDate shortfallDate; // first day cumulative requirement exceeds stock
+    private List<BigDecimal> dailyRequired; // one entry per day of the plan
+}
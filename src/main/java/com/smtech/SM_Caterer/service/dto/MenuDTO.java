@@ -41,5 +41,12 @@ public class MenuDTO extends BaseDTO {
     @Min(value = 1, message = "Serves count must be at least 1")
     private Integer servesCount;
 
+    /**
+     * Recipe material cost of one serve; read-only, kept by RecipeCostingService.
+     */
+    private BigDecimal materialCostPerServe;
+
+    private BigDecimal marginPerServe;
+
     private Status status;
 }
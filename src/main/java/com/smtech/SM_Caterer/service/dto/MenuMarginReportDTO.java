@@ -0,0 +1,27 @@
+package com.smtech.SM_Caterer.service.dto;
+
+import lombok.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * DTO for menu margin report data.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MenuMarginReportDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long menuId;
+    private String menuCode;
+    private String category;
+    private Integer servesCount;
+    private BigDecimal pricePerServe;
+    private BigDecimal materialCostPerServe;
+    private BigDecimal marginPerServe;
+    private BigDecimal marginPercent; // null for an unpriced menu
+    private Boolean isActive;
+}
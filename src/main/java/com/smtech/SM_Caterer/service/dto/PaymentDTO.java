@@ -2,6 +2,7 @@ package com.smtech.SM_Caterer.service.dto;
 
 import com.smtech.SM_Caterer.domain.enums.PaymentMethod;
 import com.smtech.SM_Caterer.domain.enums.PaymentStatus;
+import com.smtech.SM_Caterer.domain.enums.ReceiptStatus;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -60,6 +61,10 @@ public class PaymentDTO extends BaseDTO {
 
     private String receiptPath;
 
+    private ReceiptStatus receiptStatus;
+
+    private String receiptError;
+
     @Builder.Default
     private Boolean emailSent = false;
 }
@@ -0,0 +1,29 @@
+package com.smtech.SM_Caterer.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * Stored receipt PDF of a payment, ready to be served.
+ */
+@Getter
+@AllArgsConstructor
+public class ReceiptFileDTO {
+
+    /**
+     * Location of the stored PDF.
+     */
+    private final Path path;
+
+    /**
+     * Download file name, e.g. Receipt-PAY-0001.pdf.
+     */
+    private final String filename;
+
+    /**
+     * SHA-256 of the PDF; changes whenever the receipt is regenerated.
+     */
+    private final String contentHash;
+}
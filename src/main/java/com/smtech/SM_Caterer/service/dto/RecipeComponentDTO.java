@@ -0,0 +1,35 @@
+package com.smtech.SM_Caterer.service.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for RecipeComponent entity.
+ * Represents another menu's recipe used as part of a menu item.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class RecipeComponentDTO extends BaseDTO {
+
+    @NotNull(message = "Menu is required")
+    private Long menuId;
+    private String menuCode; // For display
+
+    @NotNull(message = "Component is required")
+    private Long componentId;
+    private String componentCode; // For display
+
+    @NotNull(message = "Quantity is required")
+    @DecimalMin(value = "0.01", message = "Quantity must be greater than zero")
+    private BigDecimal quantityRequired;
+}
@@ -0,0 +1,40 @@
+package com.smtech.SM_Caterer.service.dto;
+
+import com.smtech.SM_Caterer.domain.enums.ReconciliationOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Statement line that did not reconcile cleanly, as listed on the result page.
+ */
+@Getter
+@AllArgsConstructor
+public class ReconciliationLineDTO {
+
+    /**
+     * Row number in the uploaded file.
+     */
+    private final int lineNumber;
+
+    private final LocalDate date;
+
+    private final BigDecimal amount;
+
+    private final String reference;
+
+    private final ReconciliationOutcome outcome;
+
+    /**
+     * Why the line ended up with its outcome.
+     */
+    private final String note;
+
+    /**
+     * Payment numbers of the candidates, for ambiguous lines.
+     */
+    private final List<String> candidatePaymentNumbers;
+}
@@ -0,0 +1,55 @@
+package com.smtech.SM_Caterer.service.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Summary of one statement reconciliation.
+ */
+@Getter
+@Builder
+public class ReconciliationResultDTO {
+
+    private final String filename;
+
+    /**
+     * Credit lines read from the statement.
+     */
+    private final int totalLines;
+
+    /**
+     * Rows after the header that were not credit lines (debits, totals, blanks).
+     */
+    private final int skippedLines;
+
+    private final int matchedCount;
+
+    private final int ambiguousCount;
+
+    private final int unmatchedCount;
+
+    /**
+     * Sum of the payments completed by this reconciliation.
+     */
+    private final BigDecimal matchedAmount;
+
+    /**
+     * Pending payments of the tenant when the statement was read.
+     */
+    private final int openPayments;
+
+    /**
+     * Ambiguous and unmatched lines, in file order, up to the reporting limit.
+     */
+    private final List<ReconciliationLineDTO> exceptions;
+
+    /**
+     * Whether more exceptions occurred than are listed.
+     */
+    private final boolean truncated;
+
+    private final long elapsedMillis;
+}
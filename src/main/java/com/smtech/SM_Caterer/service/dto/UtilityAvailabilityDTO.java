@@ -0,0 +1,40 @@
+package com.smtech.SM_Caterer.service.dto;
+
+import lombok.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * DTO for a utility's availability on an event date.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UtilityAvailabilityDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long utilityId;
+    private LocalDate date;
+    private Integer capacity;  // null if not limited
+    private int booked;
+    private Integer available; // null if not limited; negative if overbooked
+
+    public static UtilityAvailabilityDTO of(Long utilityId, LocalDate date, Integer capacity, int booked) {
+        return UtilityAvailabilityDTO.builder()
+                .utilityId(utilityId)
+                .date(date)
+                .capacity(capacity)
+                .booked(booked)
+                .available(capacity != null ? capacity - booked : null)
+                .build();
+    }
+
+    /**
+     * Whether the quantity can still be held on the date.
+     */
+    public boolean canBook(int quantity) {
+        return available == null || quantity <= available;
+    }
+}
@@ -0,0 +1,27 @@
+package com.smtech.SM_Caterer.service.dto;
+
+import lombok.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for utility conflict report data: a date on which orders hold more
+ * of a utility than is owned.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UtilityConflictReportDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private LocalDate date;
+    private Long utilityId;
+    private String utilityCode;
+    private Integer capacity;
+    private Integer booked;
+    private Integer shortBy;
+    private List<String> orderNumbers;
+}
@@ -2,6 +2,7 @@ package com.smtech.SM_Caterer.service.dto;
 
 import com.smtech.SM_Caterer.domain.enums.Status;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -32,5 +33,8 @@ public class UtilityDTO extends BaseDTO {
     @DecimalMin(value = "0.00", message = "Price must be non-negative")
     private BigDecimal price;
 
+    @Min(value = 0, message = "Capacity must be non-negative")
+    private Integer capacity;
+
     private Status status;
 }
@@ -1,10 +1,13 @@
 package com.smtech.SM_Caterer.service.impl;
 
+import com.smtech.SM_Caterer.config.reporting.ReportingWorkload;
 import com.smtech.SM_Caterer.domain.entity.Material;
+import com.smtech.SM_Caterer.domain.entity.MaterialStock;
 import com.smtech.SM_Caterer.domain.entity.Order;
 import com.smtech.SM_Caterer.domain.enums.OrderStatus;
 import com.smtech.SM_Caterer.domain.repository.CustomerRepository;
 import com.smtech.SM_Caterer.domain.repository.MaterialRepository;
+import com.smtech.SM_Caterer.domain.repository.MaterialStockRepository;
 import com.smtech.SM_Caterer.domain.repository.OrderRepository;
 import com.smtech.SM_Caterer.domain.repository.PaymentRepository;
 import com.smtech.SM_Caterer.service.DashboardService;
@@ -28,6 +31,7 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Service
+@ReportingWorkload(bulkhead = false)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class DashboardServiceImpl implements DashboardService {
@@ -35,6 +39,7 @@ public class DashboardServiceImpl implements DashboardService {
     private final OrderRepository orderRepository;
     private final PaymentRepository paymentRepository;
     private final MaterialRepository materialRepository;
+    private final MaterialStockRepository materialStockRepository;
     private final CustomerRepository customerRepository;
 
     private static final int DEFAULT_RECENT_ORDERS_LIMIT = 10;
@@ -107,8 +112,11 @@ public class DashboardServiceImpl implements DashboardService {
     @Override
     public List<LowStockAlertDTO> getLowStockAlerts(Long tenantId) {
         List<Material> lowStockMaterials = materialRepository.findLowStockMaterials(tenantId);
+        Map<Long, BigDecimal> available = materialStockRepository.findByMaterialIdIn(
+                        lowStockMaterials.stream().map(Material::getId).toList()).stream()
+                .collect(Collectors.toMap(MaterialStock::getMaterialId, MaterialStock::getAvailable));
         return lowStockMaterials.stream()
-                .map(this::mapToLowStockAlert)
+                .map(material -> mapToLowStockAlert(material, available.get(material.getId())))
                 .sorted(Comparator.comparing(LowStockAlertDTO::getSeverity)
                         .thenComparing(a -> a.getShortfall().negate()))
                 .limit(20) // Limit to 20 alerts
@@ -171,8 +179,12 @@ public class DashboardServiceImpl implements DashboardService {
                 .build();
     }
 
-    private LowStockAlertDTO mapToLowStockAlert(Material material) {
-        BigDecimal currentStock = material.getCurrentStock() != null ? material.getCurrentStock() : BigDecimal.ZERO;
+    /**
+     * @param available On-hand less reserved stock, or null to use current stock
+     */
+    private LowStockAlertDTO mapToLowStockAlert(Material material, BigDecimal available) {
+        BigDecimal currentStock = available != null ? available
+                : material.getCurrentStock() != null ? material.getCurrentStock() : BigDecimal.ZERO;
         BigDecimal minimumStock = material.getMinimumStock() != null ? material.getMinimumStock() : BigDecimal.ZERO;
         BigDecimal shortfall = minimumStock.subtract(currentStock);
 
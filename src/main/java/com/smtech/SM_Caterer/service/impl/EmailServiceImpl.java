@@ -1,42 +1,47 @@
 package com.smtech.SM_Caterer.service.impl;
 
+import com.smtech.SM_Caterer.config.mail.EmailOutboxRelay;
+import com.smtech.SM_Caterer.config.mail.EmailTemplate;
+import com.smtech.SM_Caterer.config.mail.EmailTemplateRenderer;
+import com.smtech.SM_Caterer.config.mail.SmtpTransportPool;
 import com.smtech.SM_Caterer.domain.entity.EmailLog;
+import com.smtech.SM_Caterer.domain.entity.Material;
 import com.smtech.SM_Caterer.domain.entity.Order;
 import com.smtech.SM_Caterer.domain.entity.Payment;
 import com.smtech.SM_Caterer.domain.entity.Tenant;
 import com.smtech.SM_Caterer.domain.enums.EmailStatus;
 import com.smtech.SM_Caterer.domain.enums.EmailType;
+import com.smtech.SM_Caterer.domain.event.MaterialStockEvent;
 import com.smtech.SM_Caterer.domain.repository.EmailLogRepository;
 import com.smtech.SM_Caterer.service.EmailService;
-import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.io.File;
 import java.text.NumberFormat;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
-import java.util.Properties;
+import java.util.Map;
 
 /**
  * Service implementation for email operations.
  *
  * Features:
  * - Per-tenant SMTP configuration
- * - Async email sending
+ * - Pooled SMTP connections (see SmtpTransportPool)
+ * - Durable outbox: emails are queued in email_logs with the business
+ *   transaction and delivered by EmailOutboxRelay (test emails are sent inline)
  * - Email logging
- * - Thymeleaf templates
+ * - Thymeleaf templates, precompiled per tenant (see EmailTemplateRenderer)
  */
 @Slf4j
 @Service
@@ -44,8 +49,10 @@ import java.util.Properties;
 public class EmailServiceImpl implements EmailService {
 
     private final JavaMailSender defaultMailSender;
-    private final TemplateEngine templateEngine;
+    private final EmailTemplateRenderer emailTemplateRenderer;
     private final EmailLogRepository emailLogRepository;
+    private final SmtpTransportPool smtpTransportPool;
+    private final EmailOutboxRelay emailOutboxRelay;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
     private static final NumberFormat CURRENCY_FORMAT = NumberFormat.getCurrencyInstance(new Locale("en", "IN"));
@@ -67,8 +74,7 @@ public class EmailServiceImpl implements EmailService {
         }
 
         try {
-            JavaMailSender mailSender = createMailSender(tenant);
-            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessage message = smtpTransportPool.createMimeMessage(tenant);
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
             helper.setFrom(tenant.getEffectiveFromEmail(),
@@ -77,7 +83,7 @@ public class EmailServiceImpl implements EmailService {
             helper.setSubject("Test Email from " + tenant.getBusinessName());
             helper.setText(buildTestEmailBody(tenant), true);
 
-            mailSender.send(message);
+            smtpTransportPool.send(tenant, message);
 
             // Log successful email
             createEmailLog(tenant, EmailType.TEST_EMAIL, toEmail, null,
@@ -96,7 +102,6 @@ public class EmailServiceImpl implements EmailService {
     }
 
     @Override
-    @Async
     @Transactional
     public void sendOrderConfirmation(Order order) {
         Tenant tenant = order.getTenant();
@@ -111,37 +116,30 @@ public class EmailServiceImpl implements EmailService {
             return;
         }
 
-        String toEmail = order.getCustomer().getEmail();
-        String toName = order.getCustomer().getName();
-        String subject = "Order Confirmation - " + order.getOrderNumber();
-
-        try {
-            JavaMailSender mailSender = createMailSender(tenant);
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(tenant.getEffectiveFromEmail(),
-                    tenant.getSmtpFromName() != null ? tenant.getSmtpFromName() : tenant.getBusinessName());
-            helper.setTo(toEmail);
-            helper.setSubject(subject);
-            helper.setText(buildOrderConfirmationBody(order, tenant), true);
-
-            mailSender.send(message);
-
-            createEmailLog(tenant, EmailType.ORDER_CONFIRMATION, toEmail, toName, subject,
-                    order.getId(), "ORDER", EmailStatus.SENT);
+        // One confirmation per approval; a re-approved order gets a new one
+        String dedupKey = EmailType.ORDER_CONFIRMATION.name() + ":" + order.getId() + ":" + order.getApprovedAt();
+        if (!emailLogRepository.findExistingDedupKeys(List.of(dedupKey)).isEmpty()) {
+            log.debug("Order confirmation already queued for order: {}", order.getOrderNumber());
+            return;
+        }
 
-            log.info("Order confirmation email sent for order: {}", order.getOrderNumber());
+        EmailLog emailLog = EmailLog.builder()
+                .tenant(tenant)
+                .emailType(EmailType.ORDER_CONFIRMATION)
+                .toEmail(order.getCustomer().getEmail())
+                .toName(order.getCustomer().getName())
+                .subject("Order Confirmation - " + order.getOrderNumber())
+                .body(buildOrderConfirmationBody(order, tenant))
+                .referenceId(order.getId())
+                .referenceType("ORDER")
+                .dedupKey(dedupKey)
+                .build();
+        enqueue(emailLog);
 
-        } catch (Exception e) {
-            log.error("Failed to send order confirmation for {}: {}", order.getOrderNumber(), e.getMessage());
-            createEmailLog(tenant, EmailType.ORDER_CONFIRMATION, toEmail, toName, subject,
-                    order.getId(), "ORDER", EmailStatus.FAILED);
-        }
+        log.info("Order confirmation email queued for order: {}", order.getOrderNumber());
     }
 
     @Override
-    @Async
     @Transactional
     public void sendPaymentReceipt(Payment payment, String pdfPath) {
         Tenant tenant = payment.getTenant();
@@ -157,65 +155,79 @@ public class EmailServiceImpl implements EmailService {
             return;
         }
 
-        String toEmail = order.getCustomer().getEmail();
-        String toName = order.getCustomer().getName();
-        String subject = "Payment Receipt - " + payment.getPaymentNumber();
-
-        try {
-            JavaMailSender mailSender = createMailSender(tenant);
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(tenant.getEffectiveFromEmail(),
-                    tenant.getSmtpFromName() != null ? tenant.getSmtpFromName() : tenant.getBusinessName());
-            helper.setTo(toEmail);
-            helper.setSubject(subject);
-            helper.setText(buildPaymentReceiptBody(payment, tenant), true);
-
-            // Attach PDF receipt
-            if (pdfPath != null) {
-                File pdfFile = new File(pdfPath);
-                if (pdfFile.exists()) {
-                    FileSystemResource attachment = new FileSystemResource(pdfFile);
-                    helper.addAttachment("Receipt-" + payment.getPaymentNumber() + ".pdf", attachment);
-                }
-            }
+        EmailLog emailLog = EmailLog.builder()
+                .tenant(tenant)
+                .emailType(EmailType.PAYMENT_RECEIPT)
+                .toEmail(order.getCustomer().getEmail())
+                .toName(order.getCustomer().getName())
+                .subject("Payment Receipt - " + payment.getPaymentNumber())
+                .body(buildPaymentReceiptBody(payment, tenant))
+                .referenceId(payment.getId())
+                .referenceType("PAYMENT")
+                .attachmentPath(pdfPath)
+                .attachmentName(pdfPath != null ? "Receipt-" + payment.getPaymentNumber() + ".pdf" : null)
+                .build();
+        enqueue(emailLog);
 
-            mailSender.send(message);
+        log.info("Payment receipt email queued for payment: {}", payment.getPaymentNumber());
+    }
 
-            createEmailLog(tenant, EmailType.PAYMENT_RECEIPT, toEmail, toName, subject,
-                    payment.getId(), "PAYMENT", EmailStatus.SENT);
+    @Override
+    @Transactional
+    public void sendLowStockAlert(Material material, MaterialStockEvent.LowStockEntered event) {
+        Tenant tenant = material.getTenant();
 
-            log.info("Payment receipt email sent for payment: {}", payment.getPaymentNumber());
+        if (!isEmailEnabled(tenant)) {
+            log.debug("Email not enabled for tenant: {}", tenant.getId());
+            return;
+        }
 
-        } catch (Exception e) {
-            log.error("Failed to send payment receipt for {}: {}", payment.getPaymentNumber(), e.getMessage());
-            createEmailLog(tenant, EmailType.PAYMENT_RECEIPT, toEmail, toName, subject,
-                    payment.getId(), "PAYMENT", EmailStatus.FAILED);
+        if (tenant.getEmail() == null) {
+            log.debug("No tenant email for low stock alert of material: {}", material.getMaterialCode());
+            return;
         }
-    }
 
-    private JavaMailSender createMailSender(Tenant tenant) {
-        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
-        mailSender.setHost(tenant.getSmtpHost());
-        mailSender.setPort(tenant.getSmtpPort() != null ? tenant.getSmtpPort() : 587);
-        mailSender.setUsername(tenant.getSmtpUsername());
-        mailSender.setPassword(tenant.getSmtpPassword());
+        // One alert per crossing; the event may be delivered again
+        String dedupKey = EmailType.LOW_STOCK_ALERT.name() + ":" + material.getId() + ":" + event.occurredAt();
+        if (!emailLogRepository.findExistingDedupKeys(List.of(dedupKey)).isEmpty()) {
+            log.debug("Low stock alert already queued for material: {}", material.getMaterialCode());
+            return;
+        }
 
-        Properties props = mailSender.getJavaMailProperties();
-        props.put("mail.transport.protocol", "smtp");
-        props.put("mail.smtp.auth", "true");
+        EmailLog emailLog = EmailLog.builder()
+                .tenant(tenant)
+                .emailType(EmailType.LOW_STOCK_ALERT)
+                .toEmail(tenant.getEmail())
+                .toName(tenant.getBusinessName())
+                .subject("Low Stock Alert - " + material.getMaterialCode())
+                .body(buildLowStockAlertBody(material, event, tenant))
+                .referenceId(material.getId())
+                .referenceType("MATERIAL")
+                .dedupKey(dedupKey)
+                .build();
+        enqueue(emailLog);
 
-        if (tenant.getSmtpUseTls() != null && tenant.getSmtpUseTls()) {
-            props.put("mail.smtp.starttls.enable", "true");
-            props.put("mail.smtp.starttls.required", "true");
-        }
+        log.info("Low stock alert queued for material: {}", material.getMaterialCode());
+    }
 
-        props.put("mail.smtp.connectiontimeout", "5000");
-        props.put("mail.smtp.timeout", "5000");
-        props.put("mail.smtp.writetimeout", "5000");
+    /**
+     * Saves the email as PENDING in the caller's transaction and wakes the
+     * outbox relay once that transaction commits.
+     */
+    private void enqueue(EmailLog emailLog) {
+        emailLog.setStatus(EmailStatus.PENDING);
+        emailLogRepository.save(emailLog);
 
-        return mailSender;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    emailOutboxRelay.wake();
+                }
+            });
+        } else {
+            emailOutboxRelay.wake();
+        }
     }
 
     private void createEmailLog(Tenant tenant, EmailType emailType, String toEmail, String toName,
@@ -239,82 +251,45 @@ public class EmailServiceImpl implements EmailService {
     }
 
     private String buildTestEmailBody(Tenant tenant) {
-        Context context = new Context();
-        context.setVariable("businessName", tenant.getBusinessName());
-        context.setVariable("message", "This is a test email to verify your email configuration is working correctly.");
-
-        try {
-            return templateEngine.process("email/test-email", context);
-        } catch (Exception e) {
-            log.warn("Template not found, using fallback HTML");
-            return "<html><body><h2>Test Email</h2><p>This is a test email from " +
-                    tenant.getBusinessName() + ".</p><p>Your email configuration is working correctly!</p></body></html>";
-        }
+        return emailTemplateRenderer.render(EmailTemplate.TEST_EMAIL, tenant, Map.of(
+                "message", "This is a test email to verify your email configuration is working correctly."));
     }
 
     private String buildOrderConfirmationBody(Order order, Tenant tenant) {
-        Context context = new Context();
-        context.setVariable("businessName", tenant.getBusinessName());
-        context.setVariable("orderNumber", order.getOrderNumber());
-        context.setVariable("customerName", order.getCustomer().getName());
-        context.setVariable("eventDate", order.getEventDate() != null ?
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("orderNumber", order.getOrderNumber());
+        variables.put("customerName", order.getCustomer().getName());
+        variables.put("eventDate", order.getEventDate() != null ?
                 order.getEventDate().format(DATE_FORMATTER) : "-");
-        context.setVariable("totalAmount", order.getTotalAmount() != null ?
+        variables.put("totalAmount", order.getTotalAmount() != null ?
                 CURRENCY_FORMAT.format(order.getTotalAmount()) : "-");
-
-        try {
-            return templateEngine.process("email/order-confirmation", context);
-        } catch (Exception e) {
-            log.warn("Template not found, using fallback HTML");
-            return buildFallbackOrderConfirmation(order, tenant);
-        }
+        return emailTemplateRenderer.render(EmailTemplate.ORDER_CONFIRMATION, tenant, variables);
     }
 
-    private String buildPaymentReceiptBody(Payment payment, Tenant tenant) {
-        Context context = new Context();
-        context.setVariable("businessName", tenant.getBusinessName());
-        context.setVariable("paymentNumber", payment.getPaymentNumber());
-        context.setVariable("customerName", payment.getCustomerName());
-        context.setVariable("orderNumber", payment.getOrderNumber());
-        context.setVariable("amount", CURRENCY_FORMAT.format(payment.getAmount()));
-        context.setVariable("paymentDate", payment.getPaymentDate().format(DATE_FORMATTER));
-        context.setVariable("paymentMethod", payment.getPaymentMethod().name());
-
-        try {
-            return templateEngine.process("email/payment-receipt", context);
-        } catch (Exception e) {
-            log.warn("Template not found, using fallback HTML");
-            return buildFallbackPaymentReceipt(payment, tenant);
-        }
+    private String buildLowStockAlertBody(Material material, MaterialStockEvent.LowStockEntered event,
+                                          Tenant tenant) {
+        String materialName = material.getTranslations() == null ? null : material.getTranslations().stream()
+                .filter(t -> t.getLanguageCode() != null && "en".equals(t.getLanguageCode().name()))
+                .findFirst()
+                .map(t -> t.getMaterialName())
+                .orElse(null);
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("materialCode", material.getMaterialCode());
+        variables.put("materialName", materialName != null ? materialName : material.getMaterialCode());
+        variables.put("available", event.available().toPlainString());
+        variables.put("minimumStock", event.minimumStock().toPlainString());
+        variables.put("unitCode", material.getUnit() != null ? material.getUnit().getUnitCode() : "");
+        return emailTemplateRenderer.render(EmailTemplate.LOW_STOCK_ALERT, tenant, variables);
     }
 
-    private String buildFallbackOrderConfirmation(Order order, Tenant tenant) {
-        return "<html><body>" +
-                "<h2>Order Confirmation</h2>" +
-                "<p>Dear " + order.getCustomer().getName() + ",</p>" +
-                "<p>Thank you for your order with " + tenant.getBusinessName() + ".</p>" +
-                "<p><strong>Order Number:</strong> " + order.getOrderNumber() + "</p>" +
-                "<p><strong>Event Date:</strong> " + (order.getEventDate() != null ?
-                order.getEventDate().format(DATE_FORMATTER) : "-") + "</p>" +
-                "<p><strong>Total Amount:</strong> " + (order.getTotalAmount() != null ?
-                CURRENCY_FORMAT.format(order.getTotalAmount()) : "-") + "</p>" +
-                "<p>Thank you for choosing us!</p>" +
-                "<p>Best regards,<br>" + tenant.getBusinessName() + "</p>" +
-                "</body></html>";
-    }
-
-    private String buildFallbackPaymentReceipt(Payment payment, Tenant tenant) {
-        return "<html><body>" +
-                "<h2>Payment Receipt</h2>" +
-                "<p>Dear " + payment.getCustomerName() + ",</p>" +
-                "<p>We have received your payment. Thank you!</p>" +
-                "<p><strong>Receipt Number:</strong> " + payment.getPaymentNumber() + "</p>" +
-                "<p><strong>Order Number:</strong> " + payment.getOrderNumber() + "</p>" +
-                "<p><strong>Amount:</strong> " + CURRENCY_FORMAT.format(payment.getAmount()) + "</p>" +
-                "<p><strong>Payment Date:</strong> " + payment.getPaymentDate().format(DATE_FORMATTER) + "</p>" +
-                "<p><strong>Payment Method:</strong> " + payment.getPaymentMethod().name() + "</p>" +
-                "<p>Please find the PDF receipt attached.</p>" +
-                "<p>Best regards,<br>" + tenant.getBusinessName() + "</p>" +
-                "</body></html>";
+    private String buildPaymentReceiptBody(Payment payment, Tenant tenant) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("paymentNumber", payment.getPaymentNumber());
+        variables.put("customerName", payment.getCustomerName());
+        variables.put("orderNumber", payment.getOrderNumber());
+        variables.put("amount", CURRENCY_FORMAT.format(payment.getAmount()));
+        variables.put("paymentDate", payment.getPaymentDate().format(DATE_FORMATTER));
+        variables.put("paymentMethod", payment.getPaymentMethod().name());
+        return emailTemplateRenderer.render(EmailTemplate.PAYMENT_RECEIPT, tenant, variables);
     }
 }
@@ -1,5 +1,6 @@
 package com.smtech.SM_Caterer.service.impl;
 
+import com.smtech.SM_Caterer.config.reporting.ReportingWorkload;
 import com.smtech.SM_Caterer.service.ExcelExportService;
 import com.smtech.SM_Caterer.service.dto.*;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,7 @@ import java.util.List;
  */
 @Slf4j
 @Service
+@ReportingWorkload
 @RequiredArgsConstructor
 public class ExcelExportServiceImpl implements ExcelExportService {
 
@@ -0,0 +1,181 @@
+package com.smtech.SM_Caterer.service.impl;
+
+import com.smtech.SM_Caterer.config.PlanningProperties;
+import com.smtech.SM_Caterer.config.planning.RecipeGraph;
+import com.smtech.SM_Caterer.config.planning.RecipeMatrix;
+import com.smtech.SM_Caterer.config.planning.RequirementExplosion;
+import com.smtech.SM_Caterer.config.reporting.ReportingWorkload;
+import com.smtech.SM_Caterer.domain.entity.Material;
+import com.smtech.SM_Caterer.domain.enums.OrderStatus;
+import com.smtech.SM_Caterer.domain.repository.MaterialRepository;
+import com.smtech.SM_Caterer.domain.repository.OrderMenuItemRepository;
+import com.smtech.SM_Caterer.domain.repository.RecipeComponentRepository;
+import com.smtech.SM_Caterer.domain.repository.RecipeItemRepository;
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
+import com.smtech.SM_Caterer.service.MaterialPlanningService;
+import com.smtech.SM_Caterer.service.dto.MaterialPlanDTO;
+import com.smtech.SM_Caterer.service.dto.MaterialRequirementDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for material requirements planning.
+ *
+ * Business Logic:
+ * - Demand is the menu items of CONFIRMED and IN_PROGRESS orders with an
+ *   event in the range; drafts and pending orders are not planned for
+ * - The tenant's recipes are loaded once into a RecipeMatrix and each order
+ *   line is exploded through it (servings / serves count x quantity);
+ *   recipe components are flattened into the matrix first, each shared
+ *   component once
+ * - Requirements are netted against current stock day by day: the
+ *   shortfall date is the first day the running requirement exceeds stock
+ */
+@Slf4j
+@Service
+@ReportingWorkload
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MaterialPlanningServiceImpl implements MaterialPlanningService {
+
+    static final Set<OrderStatus> PLANNED_STATUSES = EnumSet.of(OrderStatus.CONFIRMED, OrderStatus.IN_PROGRESS);
+
+    private final OrderMenuItemRepository orderMenuItemRepository;
+    private final RecipeItemRepository recipeItemRepository;
+    private final RecipeComponentRepository recipeComponentRepository;
+    private final MaterialRepository materialRepository;
+    private final PlanningProperties properties;
+
+    @Override
+    public MaterialPlanDTO plan(Long tenantId, LocalDate fromDate, LocalDate toDate) {
+        if (toDate.isBefore(fromDate)) {
+            throw new InvalidOperationException("The plan's end date is before its start date");
+        }
+        int dayCount = (int) ChronoUnit.DAYS.between(fromDate, toDate) + 1;
+        if (dayCount > properties.getMaxRangeDays()) {
+            throw new InvalidOperationException(String.format(
+                    "A plan can cover at most %d days", properties.getMaxRangeDays()));
+        }
+        long started = System.nanoTime();
+
+        RecipeMatrix recipes = RecipeMatrix.build(recipeItemRepository.findRecipeMatrix(tenantId),
+                RecipeGraph.build(recipeComponentRepository.findRecipeGraph(tenantId)));
+        List<Object[]> demand = orderMenuItemRepository.findDemandForPlanning(
+                tenantId, PLANNED_STATUSES, fromDate, toDate);
+
+        int lines = demand.size();
+        int[] menuRows = new int[lines];
+        int[] days = new int[lines];
+        int[] servings = new int[lines];
+        int withoutRecipe = 0;
+        for (int i = 0; i < lines; i++) {
+            Object[] row = demand.get(i);
+            days[i] = (int) ChronoUnit.DAYS.between(fromDate, (LocalDate) row[0]);
+            menuRows[i] = recipes.menuRow((Long) row[1]);
+            servings[i] = row[2] != null ? ((Number) row[2]).intValue() : 0;
+            if (menuRows[i] < 0) {
+                withoutRecipe++;
+            }
+        }
+
+        double[] matrix = RequirementExplosion.explode(recipes, menuRows, days, servings,
+                dayCount, properties.getParallelThreshold());
+        List<MaterialRequirementDTO> requirements = net(tenantId, recipes, matrix, fromDate, dayCount);
+
+        log.info("Planned {} order lines ({} without recipe) into {} materials for tenant {}, {} to {}, in {} ms",
+                lines, withoutRecipe, requirements.size(), tenantId, fromDate, toDate,
+                (System.nanoTime() - started) / 1_000_000);
+
+        return MaterialPlanDTO.builder()
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .days(fromDate.datesUntil(toDate.plusDays(1)).toList())
+                .orderLines(lines)
+                .linesWithoutRecipe(withoutRecipe)
+                .shortfallCount((int) requirements.stream().filter(r -> r.getShortfallDate() != null).count())
+                .requirements(requirements)
+                .build();
+    }
+
+    /**
+     * Turns the requirement matrix into one row per needed material, netted
+     * against its current stock. Shortfalls come first, earliest first.
+     */
+    private List<MaterialRequirementDTO> net(Long tenantId, RecipeMatrix recipes, double[] matrix,
+                                             LocalDate fromDate, int dayCount) {
+        Map<Long, Material> materials = materialRepository.findByTenantId(tenantId).stream()
+                .collect(Collectors.toMap(Material::getId, Function.identity()));
+
+        List<MaterialRequirementDTO> requirements = new ArrayList<>();
+        for (int column = 0; column < recipes.materialCount(); column++) {
+            Material material = materials.get(recipes.materialId(column));
+            BigDecimal stock = material != null && material.getCurrentStock() != null
+                    ? material.getCurrentStock() : BigDecimal.ZERO;
+
+            List<BigDecimal> daily = new ArrayList<>(dayCount);
+            BigDecimal running = BigDecimal.ZERO;
+            LocalDate shortfallDate = null;
+            for (int day = 0; day < dayCount; day++) {
+                BigDecimal required = quantity(matrix[column * dayCount + day]);
+                daily.add(required);
+                running = running.add(required);
+                if (shortfallDate == null && running.compareTo(stock) > 0) {
+                    shortfallDate = fromDate.plusDays(day);
+                }
+            }
+            if (running.signum() == 0) {
+                continue;
+            }
+
+            requirements.add(MaterialRequirementDTO.builder()
+                    .materialId(recipes.materialId(column))
+                    .materialCode(material != null ? material.getMaterialCode() : String.valueOf(recipes.materialId(column)))
+                    .materialName(materialName(material))
+                    .unitSymbol(material != null && material.getUnit() != null ? material.getUnit().getUnitCode() : null)
+                    .currentStock(stock)
+                    .totalRequired(running)
+                    .shortfall(running.subtract(stock).max(BigDecimal.ZERO))
+                    .shortfallDate(shortfallDate)
+                    .dailyRequired(daily)
+                    .build());
+        }
+
+        requirements.sort(Comparator
+                .comparing(MaterialRequirementDTO::getShortfallDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(MaterialRequirementDTO::getMaterialCode));
+        return requirements;
+    }
+
+    private static BigDecimal quantity(double value) {
+        return value == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static String materialName(Material material) {
+        if (material == null) {
+            return null;
+        }
+        if (material.getTranslations() == null || material.getTranslations().isEmpty()) {
+            return material.getMaterialCode();
+        }
+        return material.getTranslations().stream()
+                .filter(t -> t.getLanguageCode() != null && "en".equals(t.getLanguageCode().name()))
+                .findFirst()
+                .map(t -> t.getMaterialName())
+                .orElse(material.getMaterialCode());
+    }
+}
@@ -11,6 +11,8 @@ import com.smtech.SM_Caterer.domain.repository.UnitRepository;
 import com.smtech.SM_Caterer.exception.DuplicateResourceException;
 import com.smtech.SM_Caterer.exception.ResourceNotFoundException;
 import com.smtech.SM_Caterer.service.MaterialService;
+import com.smtech.SM_Caterer.service.RecipeCostingService;
+import com.smtech.SM_Caterer.service.StockLedgerService;
 import com.smtech.SM_Caterer.service.base.BaseServiceImpl;
 import com.smtech.SM_Caterer.service.dto.MaterialDTO;
 import com.smtech.SM_Caterer.service.mapper.EntityMapper;
@@ -21,6 +23,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,7 +32,12 @@ import java.util.Optional;
  *
  * Business Logic:
  * - Stock level validation
- * - Low stock warnings
+ * - Low stock is the maintained material_stock flag; crossing the minimum
+ *   raises a MaterialStockEvent (see StockLedgerService)
+ * - Stock levels move only through the stock ledger: creating opens the
+ *   balance, updating records a changed stock figure as an adjustment
+ * - An update changes the material, its minimum and its balance in one
+ *   transaction, for the API and the web form alike
  */
 @Slf4j
 @Service
@@ -43,6 +51,8 @@ public class MaterialServiceImpl extends BaseServiceImpl<Material, MaterialDTO,
     private final TenantRepository tenantRepository;
     private final MaterialGroupRepository materialGroupRepository;
     private final UnitRepository unitRepository;
+    private final StockLedgerService stockLedgerService;
+    private final RecipeCostingService recipeCostingService;
 
     @Override
     protected JpaRepository<Material, Long> getRepository() {
@@ -93,16 +103,56 @@ public class MaterialServiceImpl extends BaseServiceImpl<Material, MaterialDTO,
         }
 
         Material saved = materialRepository.save(entity);
+        stockLedgerService.openBalance(saved);
         log.info("Material created: {} (ID: {})", saved.getMaterialCode(), saved.getId());
 
-        // Check for low stock warning
-        if (saved.getCurrentStock() != null && saved.getMinimumStock() != null &&
-            saved.getCurrentStock().compareTo(saved.getMinimumStock()) < 0) {
-            log.warn("Low stock warning: Material {} (ID: {}) stock level {} is below minimum {}",
-                    saved.getMaterialCode(), saved.getId(), saved.getCurrentStock(), saved.getMinimumStock());
+        return materialMapper.toDto(saved);
+    }
+
+    @Override
+    @Transactional
+    public MaterialDTO update(Long id, MaterialDTO dto) {
+        Material existing = materialRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Material", "id", id));
+        Long tenantId = existing.getTenant().getId();
+        if (!existing.getMaterialCode().equals(dto.getMaterialCode())
+                && materialRepository.existsByTenantIdAndMaterialCode(tenantId, dto.getMaterialCode())) {
+            throw new DuplicateResourceException("Material", "materialCode", dto.getMaterialCode());
         }
+        BigDecimal stockBefore = existing.getCurrentStock() != null ? existing.getCurrentStock() : BigDecimal.ZERO;
+        boolean costChanged = costChanged(existing.getCostPerUnit(), dto.getCostPerUnit());
 
-        return materialMapper.toDto(saved);
+        // Tenant is not updated; current stock moves through the ledger below
+        existing.setMaterialCode(dto.getMaterialCode());
+        if (dto.getMaterialGroupId() != null) {
+            existing.setMaterialGroup(materialGroupRepository.findById(dto.getMaterialGroupId())
+                    .orElseThrow(() -> new ResourceNotFoundException("MaterialGroup", "id", dto.getMaterialGroupId())));
+        }
+        if (dto.getUnitId() != null) {
+            existing.setUnit(unitRepository.findById(dto.getUnitId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Unit", "id", dto.getUnitId())));
+        }
+        existing.setCostPerUnit(dto.getCostPerUnit());
+        existing.setMinimumStock(dto.getMinimumStock());
+        if (dto.getStatus() != null) {
+            existing.setStatus(dto.getStatus());
+        }
+        Material saved = materialRepository.save(existing);
+        log.info("Material updated: {} (ID: {})", saved.getMaterialCode(), id);
+
+        stockLedgerService.updateMinimum(tenantId, id, dto.getMinimumStock());
+        if (dto.getCurrentStock() != null && dto.getCurrentStock().compareTo(stockBefore) != 0) {
+            stockLedgerService.adjustTo(tenantId, id, dto.getCurrentStock(), "Stock figure edited");
+        }
+        if (costChanged) {
+            recipeCostingService.onMaterialCostChanged(List.of(id));
+        }
+
+        MaterialDTO updated = materialMapper.toDto(saved);
+        if (dto.getCurrentStock() != null) {
+            updated.setCurrentStock(dto.getCurrentStock());
+        }
+        return updated;
     }
 
     @Override
@@ -122,13 +172,16 @@ public class MaterialServiceImpl extends BaseServiceImpl<Material, MaterialDTO,
     @Transactional(readOnly = true)
     public List<MaterialDTO> findLowStockMaterials(Long tenantId) {
         log.debug("Finding low stock materials for tenant ID: {}", tenantId);
-        List<Material> lowStockMaterials = materialRepository.findByTenantId(tenantId).stream()
-                .filter(material -> material.getCurrentStock() != null &&
-                                  material.getMinimumStock() != null &&
-                                  material.getCurrentStock().compareTo(material.getMinimumStock()) < 0)
-                .toList();
+        List<Material> lowStockMaterials = materialRepository.findLowStockMaterials(tenantId);
 
         log.info("Found {} low stock materials for tenant ID: {}", lowStockMaterials.size(), tenantId);
         return materialMapper.toDto(lowStockMaterials);
     }
+
+    private static boolean costChanged(BigDecimal before, BigDecimal after) {
+        if (before == null || after == null) {
+            return before != after;
+        }
+        return before.compareTo(after) != 0;
+    }
 }
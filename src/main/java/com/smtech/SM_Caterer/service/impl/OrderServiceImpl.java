@@ -1,6 +1,8 @@
 package com.smtech.SM_Caterer.service.impl;
 
+import com.smtech.SM_Caterer.config.events.DomainEventOutbox;
 import com.smtech.SM_Caterer.domain.entity.*;
+import com.smtech.SM_Caterer.domain.event.OrderEvent;
 import com.smtech.SM_Caterer.domain.enums.OrderStatus;
 import com.smtech.SM_Caterer.domain.enums.Status;
 import com.smtech.SM_Caterer.domain.repository.*;
@@ -9,6 +11,7 @@ import com.smtech.SM_Caterer.exception.ResourceNotFoundException;
 import com.smtech.SM_Caterer.service.CustomerService;
 import com.smtech.SM_Caterer.service.OrderNumberGeneratorService;
 import com.smtech.SM_Caterer.service.OrderService;
+import com.smtech.SM_Caterer.service.UtilityAvailabilityService;
 import com.smtech.SM_Caterer.service.base.BaseServiceImpl;
 import com.smtech.SM_Caterer.service.dto.*;
 import com.smtech.SM_Caterer.service.mapper.EntityMapper;
@@ -42,6 +45,8 @@ import java.util.stream.Collectors;
  * - Total amount calculation
  * - Order status management and workflow
  * - Price calculation with discount and tax
+ * - Changes to what an order holds (utility lines, event date, status)
+ *   move the utility booked totals in the same transaction
  */
 @Slf4j
 @Service
@@ -59,6 +64,8 @@ public class OrderServiceImpl extends BaseServiceImpl<Order, OrderDTO, Long>
     private final UtilityRepository utilityRepository;
     private final OrderNumberGeneratorService orderNumberGeneratorService;
     private final CustomerService customerService;
+    private final DomainEventOutbox domainEventOutbox;
+    private final UtilityAvailabilityService utilityAvailabilityService;
 
     @Override
     protected JpaRepository<Order, Long> getRepository() {
@@ -116,6 +123,23 @@ public class OrderServiceImpl extends BaseServiceImpl<Order, OrderDTO, Long>
         return orderMapper.toDto(saved);
     }
 
+    @Override
+    @Transactional
+    public OrderDTO update(Long id, OrderDTO dto) {
+        UtilityAvailabilityService.Hold held = utilityAvailabilityService.holdOf(id);
+        OrderDTO updated = super.update(id, dto);
+        utilityAvailabilityService.updateHold(id, held);
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        UtilityAvailabilityService.Hold held = utilityAvailabilityService.holdOf(id);
+        super.delete(id);
+        utilityAvailabilityService.updateHold(id, held);
+    }
+
     // ===== Basic Queries =====
 
     @Override
@@ -456,6 +480,8 @@ public class OrderServiceImpl extends BaseServiceImpl<Order, OrderDTO, Long>
             throw new IllegalArgumentException("Order form is not complete or invalid");
         }
 
+        UtilityAvailabilityService.Hold held = utilityAvailabilityService.holdOf(orderId);
+
         // Update customer if changed
         if (!formDTO.getCustomerId().equals(order.getCustomer().getId())) {
             Customer customer = customerRepository.findById(formDTO.getCustomerId())
@@ -520,6 +546,7 @@ public class OrderServiceImpl extends BaseServiceImpl<Order, OrderDTO, Long>
 
         order.setUpdatedBy(userId);
         Order saved = orderRepository.save(order);
+        utilityAvailabilityService.updateHold(orderId, held);
         log.info("Order updated from wizard: {} (ID: {})", saved.getOrderNumber(), saved.getId());
 
         return orderMapper.toDto(saved);
@@ -535,11 +562,15 @@ public class OrderServiceImpl extends BaseServiceImpl<Order, OrderDTO, Long>
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", orderId));
 
+        OrderStatus from = order.getStatus();
+        UtilityAvailabilityService.Hold held = utilityAvailabilityService.holdOf(orderId);
         order.submit(userId);
         order.setUpdatedBy(userId);
 
         Order saved = orderRepository.save(order);
+        utilityAvailabilityService.updateHold(orderId, held);
         log.info("Order {} submitted for approval by user {}", saved.getOrderNumber(), userId);
+        domainEventOutbox.append(OrderEvent.of(saved, from, userId, null));
 
         return orderMapper.toDto(saved);
     }
@@ -552,11 +583,13 @@ public class OrderServiceImpl extends BaseServiceImpl<Order, OrderDTO, Long>
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", orderId));
 
+        OrderStatus from = order.getStatus();
         order.approve(userId);
         order.setUpdatedBy(userId);
 
         Order saved = orderRepository.save(order);
         log.info("Order {} approved by user {}", saved.getOrderNumber(), userId);
+        domainEventOutbox.append(OrderEvent.of(saved, from, userId, null));
 
         return orderMapper.toDto(saved);
     }
@@ -573,6 +606,8 @@ public class OrderServiceImpl extends BaseServiceImpl<Order, OrderDTO, Long>
             throw new IllegalStateException("Only PENDING orders can be rejected");
         }
 
+        OrderStatus from = order.getStatus();
+        UtilityAvailabilityService.Hold held = utilityAvailabilityService.holdOf(orderId);
         // Rejection returns order to DRAFT status
         order.setStatus(OrderStatus.DRAFT);
         order.setNotes(order.getNotes() != null
@@ -581,7 +616,9 @@ public class OrderServiceImpl extends BaseServiceImpl<Order, OrderDTO, Long>
         order.setUpdatedBy(userId);
 
         Order saved = orderRepository.save(order);
+        utilityAvailabilityService.updateHold(orderId, held);
         log.info("Order {} rejected by user {}", saved.getOrderNumber(), userId);
+        domainEventOutbox.append(OrderEvent.of(saved, from, userId, reason));
 
         return orderMapper.toDto(saved);
     }
@@ -594,11 +631,15 @@ public class OrderServiceImpl extends BaseServiceImpl<Order, OrderDTO, Long>
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", orderId));
 
+        OrderStatus from = order.getStatus();
+        UtilityAvailabilityService.Hold held = utilityAvailabilityService.holdOf(orderId);
         order.cancel(userId, reason);
         order.setUpdatedBy(userId);
 
         Order saved = orderRepository.save(order);
+        utilityAvailabilityService.updateHold(orderId, held);
         log.info("Order {} cancelled by user {}", saved.getOrderNumber(), userId);
+        domainEventOutbox.append(OrderEvent.of(saved, from, userId, reason));
 
         return orderMapper.toDto(saved);
     }
@@ -611,11 +652,13 @@ public class OrderServiceImpl extends BaseServiceImpl<Order, OrderDTO, Long>
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", orderId));
 
+        OrderStatus from = order.getStatus();
         order.startProgress(userId);
         order.setUpdatedBy(userId);
 
         Order saved = orderRepository.save(order);
         log.info("Order {} started progress by user {}", saved.getOrderNumber(), userId);
+        domainEventOutbox.append(OrderEvent.of(saved, from, userId, null));
 
         return orderMapper.toDto(saved);
     }
@@ -628,11 +671,13 @@ public class OrderServiceImpl extends BaseServiceImpl<Order, OrderDTO, Long>
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", orderId));
 
+        OrderStatus from = order.getStatus();
         order.complete(userId);
         order.setUpdatedBy(userId);
 
         Order saved = orderRepository.save(order);
         log.info("Order {} completed by user {}", saved.getOrderNumber(), userId);
+        domainEventOutbox.append(OrderEvent.of(saved, from, userId, null));
 
         return orderMapper.toDto(saved);
     }
@@ -652,6 +697,8 @@ public class OrderServiceImpl extends BaseServiceImpl<Order, OrderDTO, Long>
                     "Invalid status transition from " + currentStatus + " to " + newStatus);
         }
 
+        UtilityAvailabilityService.Hold held = utilityAvailabilityService.holdOf(orderId);
+
         // Apply appropriate workflow method based on new status
         switch (newStatus) {
             case PENDING -> order.submit(userId);
@@ -670,7 +717,9 @@ public class OrderServiceImpl extends BaseServiceImpl<Order, OrderDTO, Long>
 
         order.setUpdatedBy(userId);
         Order saved = orderRepository.save(order);
+        utilityAvailabilityService.updateHold(orderId, held);
         log.info("Order {} status updated to {} by user {}", saved.getOrderNumber(), newStatus, userId);
+        domainEventOutbox.append(OrderEvent.of(saved, currentStatus, userId, notes));
 
         return orderMapper.toDto(saved);
     }
@@ -8,6 +8,7 @@ import com.smtech.SM_Caterer.domain.repository.OrderUtilityRepository;
 import com.smtech.SM_Caterer.domain.repository.UtilityRepository;
 import com.smtech.SM_Caterer.exception.ResourceNotFoundException;
 import com.smtech.SM_Caterer.service.OrderUtilityService;
+import com.smtech.SM_Caterer.service.UtilityAvailabilityService;
 import com.smtech.SM_Caterer.service.base.BaseServiceImpl;
 import com.smtech.SM_Caterer.service.dto.OrderUtilityDTO;
 import com.smtech.SM_Caterer.service.mapper.EntityMapper;
@@ -22,6 +23,11 @@ import java.util.List;
 
 /**
  * Service implementation for OrderUtility operations.
+ *
+ * Business Logic:
+ * - A line stays on its order; quantity, price and utility can change
+ * - Every write moves the utility booked totals of the order's event date
+ *   in the same transaction
  */
 @Slf4j
 @Service
@@ -34,6 +40,7 @@ public class OrderUtilityServiceImpl extends BaseServiceImpl<OrderUtility, Order
     private final OrderUtilityMapper orderUtilityMapper;
     private final OrderRepository orderRepository;
     private final UtilityRepository utilityRepository;
+    private final UtilityAvailabilityService utilityAvailabilityService;
 
     @Override
     protected JpaRepository<OrderUtility, Long> getRepository() {
@@ -56,6 +63,9 @@ public class OrderUtilityServiceImpl extends BaseServiceImpl<OrderUtility, Order
         log.debug("Creating new order utility for order ID: {} and utility ID: {}",
                 dto.getOrderId(), dto.getUtilityId());
 
+        UtilityAvailabilityService.Hold held = dto.getOrderId() != null
+                ? utilityAvailabilityService.holdOf(dto.getOrderId())
+                : UtilityAvailabilityService.NONE;
         OrderUtility entity = orderUtilityMapper.toEntity(dto);
 
         // Set order reference
@@ -75,9 +85,51 @@ public class OrderUtilityServiceImpl extends BaseServiceImpl<OrderUtility, Order
         OrderUtility saved = orderUtilityRepository.save(entity);
         log.info("OrderUtility created (ID: {})", saved.getId());
 
+        if (dto.getOrderId() != null) {
+            utilityAvailabilityService.updateHold(dto.getOrderId(), held);
+        }
+        return orderUtilityMapper.toDto(saved);
+    }
+
+    @Override
+    @Transactional
+    public OrderUtilityDTO update(Long id, OrderUtilityDTO dto) {
+        OrderUtility existing = orderUtilityRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("OrderUtility", "id", id));
+        Long orderId = existing.getOrder().getId();
+        UtilityAvailabilityService.Hold held = utilityAvailabilityService.holdOf(orderId);
+
+        if (dto.getUtilityId() != null && !dto.getUtilityId().equals(existing.getUtility().getId())) {
+            Utility utility = utilityRepository.findById(dto.getUtilityId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Utility", "id", dto.getUtilityId()));
+            existing.setUtility(utility);
+        }
+        if (dto.getQuantity() != null) {
+            existing.setQuantity(dto.getQuantity());
+        }
+        if (dto.getPricePerUnit() != null) {
+            existing.setPricePerItem(dto.getPricePerUnit());
+        }
+        OrderUtility saved = orderUtilityRepository.save(existing);
+        log.info("OrderUtility updated with ID: {}", id);
+
+        utilityAvailabilityService.updateHold(orderId, held);
         return orderUtilityMapper.toDto(saved);
     }
 
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        Long orderId = orderUtilityRepository.findById(id)
+                .map(line -> line.getOrder().getId())
+                .orElseThrow(() -> new ResourceNotFoundException("OrderUtility", "id", id));
+        UtilityAvailabilityService.Hold held = utilityAvailabilityService.holdOf(orderId);
+
+        super.delete(id);
+
+        utilityAvailabilityService.updateHold(orderId, held);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<OrderUtilityDTO> findByOrderId(Long orderId) {
@@ -29,7 +29,7 @@ public class PaymentNumberGeneratorServiceImpl implements PaymentNumberGenerator
     private final PaymentRepository paymentRepository;
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional // not readOnly: the count must come from the primary, never a lagging replica
     public String generatePaymentNumber(Long tenantId) {
         String datePrefix = PREFIX + "-" + LocalDate.now().format(DATE_FORMATTER) + "-";
 
@@ -0,0 +1,226 @@
+package com.smtech.SM_Caterer.service.impl;
+
+import com.smtech.SM_Caterer.config.ReconciliationProperties;
+import com.smtech.SM_Caterer.config.reconciliation.OpenPayment;
+import com.smtech.SM_Caterer.config.reconciliation.PaymentMatcher;
+import com.smtech.SM_Caterer.config.reconciliation.StatementLine;
+import com.smtech.SM_Caterer.config.reconciliation.StatementReader;
+import com.smtech.SM_Caterer.config.reconciliation.StatementRowMapper;
+import com.smtech.SM_Caterer.domain.enums.ReconciliationOutcome;
+import com.smtech.SM_Caterer.domain.repository.OrderRepository;
+import com.smtech.SM_Caterer.domain.repository.PaymentRepository;
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
+import com.smtech.SM_Caterer.service.PaymentReconciliationService;
+import com.smtech.SM_Caterer.service.dto.ReconciliationLineDTO;
+import com.smtech.SM_Caterer.service.dto.ReconciliationResultDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service implementation for statement reconciliation.
+ *
+ * Business Logic:
+ * - The tenant's pending payments are loaded once into a PaymentMatcher
+ * - The statement is streamed and every credit line is matched as it is read
+ * - Matched payments are added to their order's paid total (one conditional
+ *   UPDATE per order, so an order is never overpaid) and then completed in
+ *   batched UPDATEs; payments that would overpay their order are reported
+ *   as ambiguous instead
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationServiceImpl implements PaymentReconciliationService {
+
+    private final PaymentRepository paymentRepository;
+    private final OrderRepository orderRepository;
+    private final ReconciliationProperties properties;
+
+    @Override
+    @Transactional
+    public ReconciliationResultDTO reconcile(Long tenantId, InputStream content, String filename) throws IOException {
+        if (!StatementReader.isSupported(filename)) {
+            throw new InvalidOperationException("Please upload a CSV or Excel (.xlsx) statement");
+        }
+        long started = System.nanoTime();
+
+        List<OpenPayment> openPayments = loadOpenPayments(tenantId);
+        PaymentMatcher matcher = new PaymentMatcher(openPayments, properties.getDateWindowDays());
+        Tally tally = new Tally(properties.getMaxReportedLines());
+
+        StatementRowMapper mapper = new StatementRowMapper(line -> {
+            if (tally.lines >= properties.getMaxLines()) {
+                throw new InvalidOperationException(String.format(
+                        "Statement has more than %d lines; please split it", properties.getMaxLines()));
+            }
+            tally.add(line, matcher.match(line));
+        });
+        read(content, filename, mapper);
+        if (!mapper.hasHeader()) {
+            throw new InvalidOperationException("No date and amount columns found in the statement");
+        }
+
+        BigDecimal matchedAmount = completeMatched(tenantId, tally);
+        tally.exceptions.sort(Comparator.comparingInt(ReconciliationLineDTO::getLineNumber));
+
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.info("Reconciled statement {} for tenant {}: {} lines, {} matched, {} ambiguous, {} unmatched in {} ms",
+                filename, tenantId, tally.lines, tally.matched, tally.ambiguous, tally.unmatched, elapsed);
+
+        return ReconciliationResultDTO.builder()
+                .filename(filename)
+                .totalLines(tally.lines)
+                .skippedLines(mapper.getSkipped())
+                .matchedCount(tally.matched)
+                .ambiguousCount(tally.ambiguous)
+                .unmatchedCount(tally.unmatched)
+                .matchedAmount(matchedAmount)
+                .openPayments(openPayments.size())
+                .exceptions(tally.exceptions)
+                .truncated(tally.truncated)
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
+    private List<OpenPayment> loadOpenPayments(Long tenantId) {
+        List<Object[]> rows = paymentRepository.findOpenForReconciliation(tenantId);
+        List<OpenPayment> payments = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            payments.add(new OpenPayment((Long) row[0], (Long) row[1], (String) row[2],
+                    (BigDecimal) row[3], (LocalDate) row[4], (String) row[5]));
+        }
+        return payments;
+    }
+
+    private void read(InputStream content, String filename, StatementRowMapper mapper) throws IOException {
+        if (!StatementReader.isExcel(filename)) {
+            StatementReader.readCsv(content, mapper);
+            return;
+        }
+        Path file = Files.createTempFile("statement-", ".xlsx");
+        try {
+            Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+            StatementReader.readXlsx(file, mapper);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Books the matched payments against their orders, in order id order so
+     * concurrent reconciliations lock rows in the same sequence, then
+     * completes them in batches.
+     *
+     * @return Sum of the completed payments
+     */
+    private BigDecimal completeMatched(Long tenantId, Tally tally) {
+        List<Long> paymentIds = new ArrayList<>();
+        BigDecimal total = BigDecimal.ZERO;
+
+        for (Map.Entry<Long, List<MatchedLine>> entry : tally.matchedByOrder.entrySet()) {
+            List<MatchedLine> matches = entry.getValue();
+            BigDecimal sum = matches.stream()
+                    .map(m -> m.payment().amount())
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+            if (orderRepository.addPayment(entry.getKey(), sum) == 0) {
+                matches.forEach(m -> tally.downgrade(m, "Would exceed the order balance"));
+                continue;
+            }
+            matches.forEach(m -> paymentIds.add(m.payment().id()));
+            total = total.add(sum);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = Math.max(1, properties.getUpdateBatchSize());
+        int completed = 0;
+        for (int from = 0; from < paymentIds.size(); from += batchSize) {
+            List<Long> batch = paymentIds.subList(from, Math.min(from + batchSize, paymentIds.size()));
+            completed += paymentRepository.completePending(tenantId, batch, now);
+        }
+        if (completed != paymentIds.size()) {
+            // Rolls back the paid totals as well
+            throw new InvalidOperationException(
+                    "Some payments changed while the statement was being reconciled; please upload it again");
+        }
+        return total;
+    }
+
+    private record MatchedLine(StatementLine line, OpenPayment payment) {
+    }
+
+    /**
+     * Counts outcomes and keeps the matched lines by order, plus the
+     * exceptions up to the reporting limit.
+     */
+    private static final class Tally {
+
+        private final int maxReported;
+        private final Map<Long, List<MatchedLine>> matchedByOrder = new TreeMap<>();
+        private final List<ReconciliationLineDTO> exceptions = new ArrayList<>();
+        private boolean truncated;
+
+        private int lines;
+        private int matched;
+        private int ambiguous;
+        private int unmatched;
+
+        Tally(int maxReported) {
+            this.maxReported = maxReported;
+        }
+
+        void add(StatementLine line, PaymentMatcher.Match match) {
+            lines++;
+            switch (match.outcome()) {
+                case MATCHED -> {
+                    matched++;
+                    OpenPayment payment = match.payment();
+                    matchedByOrder.computeIfAbsent(payment.orderId(), k -> new ArrayList<>())
+                            .add(new MatchedLine(line, payment));
+                }
+                case AMBIGUOUS -> {
+                    ambiguous++;
+                    report(line, ReconciliationOutcome.AMBIGUOUS, match.note(), match.candidates());
+                }
+                case UNMATCHED -> {
+                    unmatched++;
+                    report(line, ReconciliationOutcome.UNMATCHED, match.note(), match.candidates());
+                }
+            }
+        }
+
+        void downgrade(MatchedLine match, String note) {
+            matched--;
+            ambiguous++;
+            report(match.line(), ReconciliationOutcome.AMBIGUOUS, note, List.of(match.payment()));
+        }
+
+        private void report(StatementLine line, ReconciliationOutcome outcome, String note,
+                            List<OpenPayment> candidates) {
+            if (exceptions.size() >= maxReported) {
+                truncated = true;
+                return;
+            }
+            exceptions.add(new ReconciliationLineDTO(line.lineNumber(), line.date(), line.amount(),
+                    line.reference() != null ? line.reference() : line.narration(), outcome, note,
+                    candidates.stream().map(OpenPayment::paymentNumber).toList()));
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.smtech.SM_Caterer.service.impl;
 
+import com.smtech.SM_Caterer.config.storage.BlobStore;
 import com.smtech.SM_Caterer.domain.entity.Order;
 import com.smtech.SM_Caterer.domain.entity.Payment;
 import com.smtech.SM_Caterer.domain.entity.Tenant;
 import com.smtech.SM_Caterer.domain.enums.PaymentMethod;
 import com.smtech.SM_Caterer.domain.enums.PaymentStatus;
+import com.smtech.SM_Caterer.domain.enums.ReceiptStatus;
 import com.smtech.SM_Caterer.domain.repository.OrderRepository;
 import com.smtech.SM_Caterer.domain.repository.PaymentRepository;
 import com.smtech.SM_Caterer.domain.repository.TenantRepository;
@@ -13,6 +15,7 @@ import com.smtech.SM_Caterer.exception.ResourceNotFoundException;
 import com.smtech.SM_Caterer.service.*;
 import com.smtech.SM_Caterer.service.base.BaseServiceImpl;
 import com.smtech.SM_Caterer.service.dto.PaymentDTO;
+import com.smtech.SM_Caterer.service.dto.ReceiptFileDTO;
 import com.smtech.SM_Caterer.service.mapper.EntityMapper;
 import com.smtech.SM_Caterer.service.mapper.PaymentMapper;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +26,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -35,8 +41,7 @@ import java.util.Optional;
  * - Payment amount validation
  * - Payment status management
  * - Order payment tracking
- * - PDF receipt generation
- * - Email notifications
+ * - PDF receipt generation and email, after commit (see ReceiptPipelineService)
  */
 @Slf4j
 @Service
@@ -52,6 +57,8 @@ public class PaymentServiceImpl extends BaseServiceImpl<Payment, PaymentDTO, Lon
     private final PaymentNumberGeneratorService paymentNumberGeneratorService;
     private final PdfReceiptService pdfReceiptService;
     private final EmailService emailService;
+    private final ReceiptPipelineService receiptPipelineService;
+    private final BlobStore blobStore;
 
     @Override
     protected JpaRepository<Payment, Long> getRepository() {
@@ -91,8 +98,9 @@ public class PaymentServiceImpl extends BaseServiceImpl<Payment, PaymentDTO, Lon
             throw new InvalidOperationException("Payment feature is not enabled for this tenant");
         }
 
-        // Validate payment amount
-        validatePaymentAmount(dto, order);
+        // Validate payment amount and book it against the order
+        PaymentStatus status = dto.getStatus() != null ? dto.getStatus() : PaymentStatus.COMPLETED;
+        applyToOrder(order, status, dto.getAmount());
 
         // Create payment entity
         Payment entity = paymentMapper.toEntity(dto);
@@ -103,51 +111,103 @@ public class PaymentServiceImpl extends BaseServiceImpl<Payment, PaymentDTO, Lon
         String paymentNumber = paymentNumberGeneratorService.generatePaymentNumber(tenant.getId());
         entity.setPaymentNumber(paymentNumber);
 
+        // Receipt PDF and email are produced by the receipt pipeline after commit
+        entity.setReceiptStatus(ReceiptStatus.PENDING);
+
         // Save payment
         Payment saved = paymentRepository.save(entity);
         log.info("Payment created (ID: {}, Number: {}) for order ID: {}, Amount: {}",
                 saved.getId(), paymentNumber, dto.getOrderId(), saved.getAmount());
 
-        // Generate PDF receipt
-        try {
-            String receiptPath = pdfReceiptService.generateReceipt(saved);
-            saved.setReceiptPath(receiptPath);
-            saved = paymentRepository.save(saved);
-        } catch (Exception e) {
-            log.error("Failed to generate PDF receipt for payment {}: {}", paymentNumber, e.getMessage());
-        }
-
-        // Send email notification (async)
-        if (emailService.isEmailEnabled(tenant)) {
-            try {
-                emailService.sendPaymentReceipt(saved, saved.getReceiptPath());
-                saved.setEmailSent(true);
-                saved = paymentRepository.save(saved);
-            } catch (Exception e) {
-                log.error("Failed to send email for payment {}: {}", paymentNumber, e.getMessage());
-            }
-        }
+        receiptPipelineService.submitAfterCommit(saved.getId(), tenant.getId());
 
         return paymentMapper.toDto(saved);
     }
 
-    private void validatePaymentAmount(PaymentDTO dto, Order order) {
-        if (order.getTotalAmount() == null) {
-            return; // No validation possible
+    @Override
+    @Transactional
+    public PaymentDTO update(Long id, PaymentDTO dto) {
+        log.debug("Updating payment ID: {}", id);
+
+        Payment existing = paymentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Payment", "id", id));
+
+        // Take the old amount off the order, then book the new one
+        PaymentStatus status = dto.getStatus() != null ? dto.getStatus() : existing.getStatus();
+        releaseFromOrder(existing);
+        applyToOrder(existing.getOrder(), status, dto.getAmount());
+
+        // Order and payment number are not updated
+        existing.setPaymentDate(dto.getPaymentDate());
+        existing.setAmount(dto.getAmount());
+        existing.setPaymentMethod(dto.getPaymentMethod());
+        existing.setTransactionReference(dto.getTransactionReference());
+        existing.setUpiId(dto.getUpiId());
+        existing.setNotes(dto.getNotes());
+        existing.setStatus(status);
+
+        Payment updated = paymentRepository.save(existing);
+        log.info("Payment updated (ID: {})", updated.getId());
+
+        return paymentMapper.toDto(updated);
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        Payment existing = paymentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Payment", "id", id));
+        releaseFromOrder(existing);
+        super.delete(id);
+    }
+
+    /**
+     * Adds a completed payment to the order's paid total. The balance check
+     * is part of the UPDATE, so two payments recorded at the same moment
+     * cannot both pass it. Payments that are not COMPLETED do not count
+     * towards the paid total and are only checked against the balance.
+     * The balance is read from the database, as a releaseFromOrder() just
+     * before leaves the loaded order stale.
+     */
+    private void applyToOrder(Order order, PaymentStatus status, BigDecimal amount) {
+        if (status != PaymentStatus.COMPLETED) {
+            BigDecimal balance = balanceDue(order);
+            if (amount.compareTo(balance) > 0) {
+                throw balanceExceeded(amount, balance);
+            }
+            return;
         }
 
-        BigDecimal totalPaid = calculateTotalPaidForOrder(order.getId());
-        BigDecimal newPayment = dto.getAmount();
-        BigDecimal totalAfterPayment = totalPaid.add(newPayment);
+        if (orderRepository.addPayment(order.getId(), amount) == 0) {
+            throw balanceExceeded(amount, balanceDue(order));
+        }
+    }
 
-        if (totalAfterPayment.compareTo(order.getTotalAmount()) > 0) {
-            BigDecimal balance = order.getTotalAmount().subtract(totalPaid);
-            throw new InvalidOperationException(
-                    String.format("Payment amount (%.2f) exceeds order balance (%.2f)",
-                            newPayment.doubleValue(), balance.doubleValue()));
+    private BigDecimal balanceDue(Order order) {
+        return orderRepository.findBalanceDue(order.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Order", "id", order.getId()))
+                .max(BigDecimal.ZERO);
+    }
+
+    /**
+     * Takes a completed payment off its order's paid total.
+     */
+    private void releaseFromOrder(Payment payment) {
+        if (payment.getStatus() != PaymentStatus.COMPLETED) {
+            return;
+        }
+        if (orderRepository.removePayment(payment.getOrder().getId(), payment.getAmount()) == 0) {
+            log.warn("Paid total of order {} is below payment {} ({}); left unchanged",
+                    payment.getOrder().getId(), payment.getId(), payment.getAmount());
         }
     }
 
+    private static InvalidOperationException balanceExceeded(BigDecimal amount, BigDecimal balance) {
+        return new InvalidOperationException(
+                String.format("Payment amount (%.2f) exceeds order balance (%.2f)",
+                        amount.doubleValue(), balance.doubleValue()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<PaymentDTO> findByOrderId(Long orderId) {
@@ -193,31 +253,56 @@ public class PaymentServiceImpl extends BaseServiceImpl<Payment, PaymentDTO, Lon
     @Override
     @Transactional(readOnly = true)
     public BigDecimal calculateTotalPaidForOrder(Long orderId) {
-        BigDecimal total = paymentRepository.sumCompletedPaymentsByOrderId(orderId);
-        return total != null ? total : BigDecimal.ZERO;
+        return orderRepository.findById(orderId)
+                .map(Order::getPaidTotal)
+                .orElseThrow(() -> new ResourceNotFoundException("Order", "id", orderId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public BigDecimal calculateBalanceDue(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        return orderRepository.findById(orderId)
+                .map(Order::getBalanceAmount)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", orderId));
+    }
 
-        if (order.getTotalAmount() == null) {
-            return BigDecimal.ZERO;
+    @Override
+    @Transactional
+    public byte[] downloadReceipt(Long paymentId, Long tenantId) {
+        ReceiptFileDTO receipt = getReceiptFile(paymentId, tenantId);
+        try {
+            return Files.readAllBytes(receipt.getPath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read receipt " + receipt.getPath(), e);
         }
-
-        BigDecimal totalPaid = calculateTotalPaidForOrder(orderId);
-        return order.getTotalAmount().subtract(totalPaid);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public byte[] downloadReceipt(Long paymentId, Long tenantId) {
+    @Transactional
+    public ReceiptFileDTO getReceiptFile(Long paymentId, Long tenantId) {
         Payment payment = paymentRepository.findByIdAndTenantId(paymentId, tenantId)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment", "id", paymentId));
 
-        return pdfReceiptService.generateReceiptBytes(payment);
+        try {
+            // Paths written before the blob store are not valid keys and get regenerated
+            String fingerprint = pdfReceiptService.receiptFingerprint(payment);
+            boolean current = payment.getReceiptPath() != null
+                    && payment.getReceiptHash() != null
+                    && fingerprint.equals(payment.getReceiptSourceHash())
+                    && blobStore.exists(payment.getReceiptPath());
+
+            if (!current) {
+                log.debug("Regenerating receipt for payment {}", payment.getPaymentNumber());
+                payment.setReceiptPath(pdfReceiptService.generateReceipt(payment));
+                payment = paymentRepository.save(payment);
+            }
+
+            return new ReceiptFileDTO(blobStore.fetch(payment.getReceiptPath()),
+                    "Receipt-" + payment.getPaymentNumber() + ".pdf",
+                    payment.getReceiptHash());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read receipt of payment " + payment.getPaymentNumber(), e);
+        }
     }
 
     @Override
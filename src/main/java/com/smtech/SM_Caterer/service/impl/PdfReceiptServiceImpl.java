@@ -4,33 +4,42 @@ import com.lowagie.text.*;
 import com.lowagie.text.pdf.PdfPCell;
 import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
+import com.smtech.SM_Caterer.config.storage.BlobStore;
+import com.smtech.SM_Caterer.config.storage.LogoPaths;
 import com.smtech.SM_Caterer.domain.entity.Order;
 import com.smtech.SM_Caterer.domain.entity.Payment;
 import com.smtech.SM_Caterer.domain.entity.Tenant;
 import com.smtech.SM_Caterer.service.PdfReceiptService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.imageio.ImageIO;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.NumberFormat;
 import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
 import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service implementation for PDF receipt generation using OpenPDF.
+ * Receipts are stored in the blob store under a key derived from the PDF bytes.
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class PdfReceiptServiceImpl implements PdfReceiptService {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
@@ -42,29 +51,34 @@ public class PdfReceiptServiceImpl implements PdfReceiptService {
     private static final Font BOLD_FONT = new Font(Font.HELVETICA, 10, Font.BOLD, Color.BLACK);
     private static final Font SMALL_FONT = new Font(Font.HELVETICA, 8, Font.NORMAL, Color.GRAY);
 
-    @Value("${app.upload.path:./uploads}")
-    private String uploadPath;
+    /**
+     * Bump when the receipt layout changes so stored receipts are regenerated.
+     */
+    private static final String RECEIPT_LAYOUT_VERSION = "1";
 
-    @Value("${app.upload.logo-dir:uploads/logos}")
-    private String logoUploadDir;
+    /**
+     * Prebuilt header table per tenant with the logo already decoded and
+     * scaled. Rebuilt when the branding it was built from changes, and
+     * evicted when branding settings are saved.
+     */
+    private final Map<Long, ReceiptHeader> headerCache = new ConcurrentHashMap<>();
+
+    private final BlobStore blobStore;
 
     @Override
     public String generateReceipt(Payment payment) {
         try {
-            Path receiptDir = Paths.get(uploadPath, "receipts", "tenant-" + payment.getTenant().getId());
-            Files.createDirectories(receiptDir);
-
-            String filename = String.format("receipt-%s.pdf", payment.getPaymentNumber());
-            Path filePath = receiptDir.resolve(filename);
-
+            String fingerprint = receiptFingerprint(payment);
             byte[] pdfBytes = generateReceiptBytes(payment);
 
-            try (FileOutputStream fos = new FileOutputStream(filePath.toFile())) {
-                fos.write(pdfBytes);
-            }
+            // Content-addressed, so a download never reads a partial or replaced file
+            String key = blobStore.put("receipts/tenant-" + payment.getTenant().getId(), pdfBytes, "pdf");
 
-            log.info("Generated PDF receipt for payment {} at: {}", payment.getPaymentNumber(), filePath);
-            return filePath.toString();
+            payment.setReceiptHash(sha256(pdfBytes));
+            payment.setReceiptSourceHash(fingerprint);
+
+            log.info("Generated PDF receipt for payment {} at: {}", payment.getPaymentNumber(), key);
+            return key;
 
         } catch (IOException e) {
             log.error("Failed to generate PDF receipt: {}", e.getMessage());
@@ -72,6 +86,64 @@ public class PdfReceiptServiceImpl implements PdfReceiptService {
         }
     }
 
+    @Override
+    public String receiptFingerprint(Payment payment) {
+        Tenant tenant = payment.getTenant();
+        Order order = payment.getOrder();
+        StringJoiner source = new StringJoiner("\u001F")
+                .add(RECEIPT_LAYOUT_VERSION)
+                .add(String.valueOf(payment.getPaymentNumber()))
+                .add(String.valueOf(payment.getPaymentDate()))
+                .add(payment.getAmount() != null ? payment.getAmount().toPlainString() : "")
+                .add(String.valueOf(payment.getPaymentMethod()))
+                .add(String.valueOf(payment.getTransactionReference()))
+                .add(String.valueOf(payment.getUpiId()))
+                .add(String.valueOf(payment.getStatus()));
+        if (order != null) {
+            source.add(String.valueOf(order.getOrderNumber()))
+                    .add(order.getCustomer() != null ? String.valueOf(order.getCustomer().getName()) : "")
+                    .add(String.valueOf(order.getEventDate()))
+                    .add(order.getTotalAmount() != null ? order.getTotalAmount().toPlainString() : "");
+        }
+        appendBranding(source, tenant);
+        return sha256(source.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void evictHeader(Long tenantId) {
+        headerCache.remove(tenantId);
+    }
+
+    /**
+     * Tenant fields printed in the receipt header.
+     */
+    private static void appendBranding(StringJoiner source, Tenant tenant) {
+        source.add(String.valueOf(tenant.getEffectiveDisplayName()))
+                .add(String.valueOf(tenant.getTagline()))
+                .add(tenant.hasLogo() ? tenant.getLogoPath() : "")
+                .add(String.valueOf(tenant.getAddress()))
+                .add(String.valueOf(tenant.getCity()))
+                .add(String.valueOf(tenant.getState()))
+                .add(String.valueOf(tenant.getPincode()))
+                .add(String.valueOf(tenant.getPhone()))
+                .add(String.valueOf(tenant.getEmail()))
+                .add(String.valueOf(tenant.getGstin()));
+    }
+
+    private static String brandingKey(Tenant tenant) {
+        StringJoiner key = new StringJoiner("\u001F");
+        appendBranding(key, tenant);
+        return key.toString();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     @Override
     public byte[] generateReceiptBytes(Payment payment) {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -115,6 +187,24 @@ public class PdfReceiptServiceImpl implements PdfReceiptService {
     }
 
     private void addReceiptHeader(Document document, Tenant tenant) throws DocumentException {
+        String brandingKey = brandingKey(tenant);
+        ReceiptHeader header = headerCache.get(tenant.getId());
+        if (header == null || !header.brandingKey().equals(brandingKey)) {
+            header = new ReceiptHeader(brandingKey, buildReceiptHeader(tenant));
+            headerCache.put(tenant.getId(), header);
+        }
+        // Lay out a copy; copying the cells also copies the decoded logo
+        document.add(new PdfPTable(header.template()));
+
+        // Divider
+        document.add(new Paragraph("━".repeat(80), SMALL_FONT));
+    }
+
+    /**
+     * Builds the header table: logo, business name, tagline, address,
+     * contact and GSTIN. Reads and decodes the logo file.
+     */
+    private PdfPTable buildReceiptHeader(Tenant tenant) {
         PdfPTable headerTable = new PdfPTable(1);
         headerTable.setWidthPercentage(100);
 
@@ -122,14 +212,11 @@ public class PdfReceiptServiceImpl implements PdfReceiptService {
         if (tenant.hasLogo()) {
             try {
                 String logoPath = tenant.getLogoPath();
-                // Handle both full path and relative path
-                Path fullLogoPath;
-                if (logoPath.contains("logos/")) {
-                    String filename = logoPath.substring(logoPath.lastIndexOf("logos/") + 6);
-                    fullLogoPath = Paths.get(logoUploadDir, filename);
-                } else {
-                    fullLogoPath = Paths.get(logoPath);
-                }
+                // Stored logos map to a blob key; anything else is read as a plain file path
+                String logoKey = LogoPaths.toKey(logoPath);
+                Path fullLogoPath = logoKey != null && blobStore.exists(logoKey)
+                        ? blobStore.fetch(logoKey)
+                        : Paths.get(logoPath);
 
                 if (Files.exists(fullLogoPath)) {
                     Image logo = Image.getInstance(fullLogoPath.toString());
@@ -198,10 +285,7 @@ public class PdfReceiptServiceImpl implements PdfReceiptService {
         }
 
         headerTable.setSpacingAfter(15);
-        document.add(headerTable);
-
-        // Divider
-        document.add(new Paragraph("━".repeat(80), SMALL_FONT));
+        return headerTable;
     }
 
     private void addPaymentDetails(Document document, Payment payment) throws DocumentException {
@@ -315,4 +399,10 @@ public class PdfReceiptServiceImpl implements PdfReceiptService {
         }
         return sb.toString();
     }
+
+    /**
+     * Header template of one tenant; never added to a document itself.
+     */
+    private record ReceiptHeader(String brandingKey, PdfPTable template) {
+    }
 }
@@ -3,29 +3,29 @@ package com.smtech.SM_Caterer.service.impl;
 import com.google.zxing.BarcodeFormat;
 import com.google.zxing.EncodeHintType;
 import com.google.zxing.WriterException;
-import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
 import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.smtech.SM_Caterer.config.QrCodeProperties;
+import com.smtech.SM_Caterer.config.qrcode.QrCodePngEncoder;
+import com.smtech.SM_Caterer.config.storage.BlobStore;
 import com.smtech.SM_Caterer.service.QrCodeGeneratorService;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -33,16 +33,46 @@ import java.util.Map;
  *
  * UPI URI Format:
  * upi://pay?pa=<VPA>&pn=<NAME>&am=<AMOUNT>&cu=INR&tn=<NOTE>
+ *
+ * Encoded PNGs are kept in an LRU cache keyed by the UPI URI, and written
+ * straight from the BitMatrix (see QrCodePngEncoder). QR code images are
+ * stored in the blob store under a hash of the PNG, so the same payment
+ * request reuses one object; objects not regenerated within
+ * app.qrcode.expiry-hours are swept.
  */
 @Slf4j
 @Service
 public class QrCodeGeneratorServiceImpl implements QrCodeGeneratorService {
 
-    private static final int QR_CODE_SIZE = 300;
     private static final String CURRENCY = "INR";
 
-    @Value("${app.upload.path:./uploads}")
-    private String uploadPath;
+    private static final String QR_NAMESPACE = "qrcodes";
+
+    private static final Map<EncodeHintType, Object> HINTS;
+
+    static {
+        Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
+        hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.H);
+        hints.put(EncodeHintType.CHARACTER_SET, StandardCharsets.UTF_8.name());
+        hints.put(EncodeHintType.MARGIN, 1);
+        HINTS = Collections.unmodifiableMap(hints);
+    }
+
+    private final QrCodeProperties properties;
+    private final BlobStore blobStore;
+    private final Map<String, byte[]> pngCache;
+
+    public QrCodeGeneratorServiceImpl(QrCodeProperties properties, BlobStore blobStore) {
+        this.properties = properties;
+        this.blobStore = blobStore;
+        int capacity = Math.max(1, properties.getCacheSize());
+        this.pngCache = Collections.synchronizedMap(new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
 
     @Override
     public String generateQrCode(String upiId, String payeeName, BigDecimal amount,
@@ -50,20 +80,11 @@ public class QrCodeGeneratorServiceImpl implements QrCodeGeneratorService {
         try {
             String upiUri = generateUpiDeepLink(upiId, payeeName, amount, note);
 
-            // Create directory structure
-            Path qrCodeDir = Paths.get(uploadPath, "qrcodes", "tenant-" + tenantId);
-            Files.createDirectories(qrCodeDir);
-
-            // Generate filename
-            String filename = String.format("qr-order-%d-%d.png", orderId, System.currentTimeMillis());
-            Path filePath = qrCodeDir.resolve(filename);
+            // Same payment request, same PNG, same key
+            String key = blobStore.put(QR_NAMESPACE + "/tenant-" + tenantId, encodePng(upiUri), "png");
 
-            // Generate QR code
-            BitMatrix bitMatrix = createBitMatrix(upiUri);
-            MatrixToImageWriter.writeToPath(bitMatrix, "PNG", filePath);
-
-            log.info("Generated QR code for order {} at: {}", orderId, filePath);
-            return filePath.toString();
+            log.debug("Stored QR code for order {} at: {}", orderId, key);
+            return key;
 
         } catch (WriterException | IOException e) {
             log.error("Failed to generate QR code for order {}: {}", orderId, e.getMessage());
@@ -101,27 +122,42 @@ public class QrCodeGeneratorServiceImpl implements QrCodeGeneratorService {
     public String generateQrCodeBase64(String upiId, String payeeName, BigDecimal amount, String note) {
         try {
             String upiUri = generateUpiDeepLink(upiId, payeeName, amount, note);
-            BitMatrix bitMatrix = createBitMatrix(upiUri);
-
-            BufferedImage image = MatrixToImageWriter.toBufferedImage(bitMatrix);
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ImageIO.write(image, "PNG", baos);
-
-            return "data:image/png;base64," + Base64.getEncoder().encodeToString(baos.toByteArray());
+            return "data:image/png;base64," + Base64.getEncoder().encodeToString(encodePng(upiUri));
 
-        } catch (WriterException | IOException e) {
+        } catch (WriterException e) {
             log.error("Failed to generate QR code Base64: {}", e.getMessage());
             throw new RuntimeException("Failed to generate QR code", e);
         }
     }
 
-    private BitMatrix createBitMatrix(String content) throws WriterException {
-        Map<EncodeHintType, Object> hints = new HashMap<>();
-        hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.H);
-        hints.put(EncodeHintType.CHARACTER_SET, StandardCharsets.UTF_8.name());
-        hints.put(EncodeHintType.MARGIN, 1);
+    /**
+     * Deletes QR code images not generated or reused within the expiry window.
+     */
+    @Scheduled(fixedDelayString = "${app.qrcode.sweep-interval-ms:3600000}",
+               initialDelayString = "${app.qrcode.sweep-interval-ms:3600000}")
+    public void sweepExpiredFiles() {
+        Instant cutoff = Instant.now().minus(Duration.ofHours(properties.getExpiryHours()));
+        try {
+            int deleted = blobStore.deleteOlderThan(QR_NAMESPACE + "/", cutoff);
+            if (deleted > 0) {
+                log.info("Deleted {} expired QR code files", deleted);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to sweep QR code files: {}", e.getMessage());
+        }
+    }
+
+    private byte[] encodePng(String upiUri) throws WriterException {
+        byte[] png = pngCache.get(upiUri);
+        if (png == null) {
+            png = QrCodePngEncoder.encode(createBitMatrix(upiUri));
+            pngCache.put(upiUri, png);
+        }
+        return png;
+    }
 
-        QRCodeWriter qrCodeWriter = new QRCodeWriter();
-        return qrCodeWriter.encode(content, BarcodeFormat.QR_CODE, QR_CODE_SIZE, QR_CODE_SIZE, hints);
+    private BitMatrix createBitMatrix(String content) throws WriterException {
+        int size = properties.getSize();
+        return new QRCodeWriter().encode(content, BarcodeFormat.QR_CODE, size, size, HINTS);
     }
 }
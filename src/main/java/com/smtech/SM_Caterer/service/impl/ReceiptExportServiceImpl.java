@@ -0,0 +1,164 @@
+package com.smtech.SM_Caterer.service.impl;
+
+import com.smtech.SM_Caterer.config.ReceiptExportProperties;
+import com.smtech.SM_Caterer.context.TenantContext;
+import com.smtech.SM_Caterer.domain.enums.PaymentMethod;
+import com.smtech.SM_Caterer.domain.enums.PaymentStatus;
+import com.smtech.SM_Caterer.domain.repository.PaymentRepository;
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
+import com.smtech.SM_Caterer.service.PaymentService;
+import com.smtech.SM_Caterer.service.ReceiptExportService;
+import com.smtech.SM_Caterer.service.dto.ReceiptFileDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Implementation of ReceiptExportService.
+ *
+ * The calling thread only writes the ZIP; receipts are fetched (or
+ * regenerated) on the receipt export pool. A tenant's renders in flight are
+ * capped by a per-tenant semaphore shared by all its exports, so one tenant
+ * cannot occupy the whole pool. Entries are written in completion order and
+ * copied from the stored files, so at most the in-flight receipts are
+ * pending and the archive is never held in memory.
+ */
+@Slf4j
+@Service
+public class ReceiptExportServiceImpl implements ReceiptExportService {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentService paymentService;
+    private final ExecutorService executor;
+    private final ReceiptExportProperties properties;
+    private final Map<Long, Semaphore> tenantPermits = new ConcurrentHashMap<>();
+
+    public ReceiptExportServiceImpl(PaymentRepository paymentRepository,
+                                    PaymentService paymentService,
+                                    @Qualifier("receiptExportExecutor") ExecutorService executor,
+                                    ReceiptExportProperties properties) {
+        this.paymentRepository = paymentRepository;
+        this.paymentService = paymentService;
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findPaymentIds(Long tenantId, Long orderId, PaymentStatus status,
+                                     PaymentMethod method, LocalDate dateFrom, LocalDate dateTo) {
+        int max = properties.getMaxPayments();
+        List<Long> ids = paymentRepository.searchPaymentIds(tenantId, orderId, status, method,
+                dateFrom, dateTo, PageRequest.of(0, max + 1));
+        if (ids.size() > max) {
+            throw new InvalidOperationException(
+                    "Too many payments for one receipt export (maximum " + max + "); narrow the date range");
+        }
+        return ids;
+    }
+
+    @Override
+    public void writeReceiptsZip(Long tenantId, List<Long> paymentIds, OutputStream out) throws IOException {
+        Semaphore permits = tenantPermits.computeIfAbsent(tenantId,
+                id -> new Semaphore(properties.getMaxConcurrentPerTenant(), true));
+        CompletionService<ReceiptFileDTO> completion = new ExecutorCompletionService<>(executor);
+        List<String> errors = new ArrayList<>();
+
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        // PDFs are already compressed
+        zip.setLevel(Deflater.BEST_SPEED);
+
+        int next = 0;
+        int inFlight = 0;
+        try {
+            while (next < paymentIds.size() || inFlight > 0) {
+                // Keep the tenant's permits busy; block only when nothing of ours is running
+                while (next < paymentIds.size() && (inFlight == 0 ? acquire(permits) : permits.tryAcquire())) {
+                    Long paymentId = paymentIds.get(next++);
+                    completion.submit(() -> {
+                        try {
+                            return TenantContext.callWithTenant(tenantId,
+                                    () -> paymentService.getReceiptFile(paymentId, tenantId));
+                        } catch (RuntimeException e) {
+                            throw new IllegalStateException("Payment " + paymentId + ": " + e.getMessage(), e);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                    inFlight++;
+                }
+
+                Future<ReceiptFileDTO> done = take(completion);
+                inFlight--;
+                try {
+                    ReceiptFileDTO receipt = done.get();
+                    zip.putNextEntry(new ZipEntry(receipt.getFilename()));
+                    Files.copy(receipt.getPath(), zip);
+                    zip.closeEntry();
+                } catch (ExecutionException e) {
+                    log.warn("Receipt export for tenant {} skipped {}", tenantId, e.getCause().getMessage());
+                    errors.add(e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted reading a receipt");
+                }
+            }
+
+            if (!errors.isEmpty()) {
+                zip.putNextEntry(new ZipEntry("errors.txt"));
+                zip.write(String.join(System.lineSeparator(), errors).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            zip.finish();
+            log.info("Exported {} receipts for tenant {} ({} failed)",
+                    paymentIds.size() - errors.size(), tenantId, errors.size());
+        } catch (IOException e) {
+            // Client went away; in-flight renders finish on their own and release their permits
+            log.info("Receipt export for tenant {} aborted after {} of {} payments: {}",
+                    tenantId, next - inFlight, paymentIds.size(), e.getMessage());
+            throw e;
+        }
+    }
+
+    private static boolean acquire(Semaphore permits) throws InterruptedIOException {
+        try {
+            permits.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a receipt export slot");
+        }
+    }
+
+    private static Future<ReceiptFileDTO> take(CompletionService<ReceiptFileDTO> completion)
+            throws InterruptedIOException {
+        try {
+            return completion.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a receipt");
+        }
+    }
+}
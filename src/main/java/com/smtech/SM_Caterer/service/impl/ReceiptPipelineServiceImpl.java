@@ -0,0 +1,252 @@
+package com.smtech.SM_Caterer.service.impl;
+
+import com.smtech.SM_Caterer.config.ReceiptPipelineProperties;
+import com.smtech.SM_Caterer.context.TenantContext;
+import com.smtech.SM_Caterer.domain.entity.Payment;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import com.smtech.SM_Caterer.domain.enums.ReceiptStatus;
+import com.smtech.SM_Caterer.domain.enums.TenantStatus;
+import com.smtech.SM_Caterer.domain.repository.PaymentRepository;
+import com.smtech.SM_Caterer.domain.repository.TenantRepository;
+import com.smtech.SM_Caterer.service.EmailService;
+import com.smtech.SM_Caterer.service.PdfReceiptService;
+import com.smtech.SM_Caterer.service.ReceiptPipelineService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Implementation of ReceiptPipelineService.
+ *
+ * Render tasks run on the receiptRenderExecutor pool. Each task renders the
+ * PDF, queues the email in the email outbox and marks the receipt READY in
+ * one transaction, so a crash leaves the payment PENDING rather than half
+ * done. A failed attempt is counted in its own transaction; the touched
+ * updated_at then keeps the sweeper away for retryAfterSeconds.
+ *
+ * Payments queued on this instance are tracked in memory so the sweeper
+ * does not queue them twice; across instances the payment's optimistic
+ * lock lets only one render win.
+ *
+ * Metrics: receipt.pipeline.renders (tagged by outcome),
+ * receipt.pipeline.rejected (queue full), receipt.pipeline.latency
+ * (payment saved to receipt ready).
+ */
+@Slf4j
+@Service
+public class ReceiptPipelineServiceImpl implements ReceiptPipelineService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final PaymentRepository paymentRepository;
+    private final TenantRepository tenantRepository;
+    private final PdfReceiptService pdfReceiptService;
+    private final EmailService emailService;
+    private final ThreadPoolExecutor executor;
+    private final ReceiptPipelineProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Counter ready;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter rejected;
+    private final Timer latencyTimer;
+
+    public ReceiptPipelineServiceImpl(PaymentRepository paymentRepository,
+                                      TenantRepository tenantRepository,
+                                      PdfReceiptService pdfReceiptService,
+                                      EmailService emailService,
+                                      @Qualifier("receiptRenderExecutor") ThreadPoolExecutor executor,
+                                      ReceiptPipelineProperties properties,
+                                      PlatformTransactionManager transactionManager,
+                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        this.paymentRepository = paymentRepository;
+        this.tenantRepository = tenantRepository;
+        this.pdfReceiptService = pdfReceiptService;
+        this.emailService = emailService;
+        this.executor = executor;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.ready = renders(registry, "ready");
+        this.retried = renders(registry, "retry");
+        this.failed = renders(registry, "failed");
+        this.rejected = Counter.builder("receipt.pipeline.rejected")
+                .description("Receipts left to the sweeper because the render queue was full")
+                .register(registry);
+        this.latencyTimer = Timer.builder("receipt.pipeline.latency")
+                .description("Time from saving a payment to its receipt being ready")
+                .register(registry);
+    }
+
+    @Override
+    public void submitAfterCommit(Long paymentId, Long tenantId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(paymentId, tenantId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(paymentId, tenantId);
+            }
+        });
+    }
+
+    @Override
+    public boolean submit(Long paymentId, Long tenantId) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        if (!inFlight.add(paymentId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(paymentId, tenantId);
+                } catch (RuntimeException e) {
+                    log.error("Receipt pipeline failed for payment {}: {}", paymentId, e.getMessage(), e);
+                } finally {
+                    inFlight.remove(paymentId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(paymentId);
+            rejected.increment();
+            log.debug("Receipt render queue full, payment {} left for the sweeper", paymentId);
+            return false;
+        }
+    }
+
+    @Override
+    public ReceiptStatus process(Long paymentId, Long tenantId) {
+        return TenantContext.callWithTenant(tenantId, () -> {
+            try {
+                return transactionTemplate.execute(status -> render(paymentId));
+            } catch (RuntimeException e) {
+                return transactionTemplate.execute(status -> recordFailure(paymentId, e));
+            }
+        });
+    }
+
+    /**
+     * Sweeper trigger.
+     */
+    @Scheduled(fixedDelayString = "${app.receipts.pipeline.sweep-interval-ms:30000}")
+    public void runScheduledSweep() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            sweepBacklog();
+        } catch (RuntimeException e) {
+            log.warn("Receipt sweep failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public int sweepBacklog() {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        LocalDateTime before = LocalDateTime.now().minusSeconds(properties.getRetryAfterSeconds());
+        PageRequest batch = PageRequest.of(0, Math.max(1, properties.getSweepBatchSize()));
+        int submitted = 0;
+        for (Tenant tenant : tenantRepository.findByStatus(TenantStatus.ACTIVE)) {
+            List<Long> backlog = TenantContext.callWithTenant(tenant.getId(), () ->
+                    paymentRepository.findReceiptBacklog(tenant.getId(), ReceiptStatus.PENDING, before, batch));
+            for (Long paymentId : backlog) {
+                if (!submit(paymentId, tenant.getId())) {
+                    log.info("Receipt render queue full after queuing {} receipt(s); sweeping again later",
+                            submitted);
+                    return submitted;
+                }
+                submitted++;
+            }
+        }
+        if (submitted > 0) {
+            log.info("Receipt sweep queued {} pending receipt(s)", submitted);
+        }
+        return submitted;
+    }
+
+    private ReceiptStatus render(Long paymentId) {
+        Payment payment = paymentRepository.findById(paymentId).orElse(null);
+        if (payment == null || payment.getReceiptStatus() != ReceiptStatus.PENDING) {
+            return payment != null ? payment.getReceiptStatus() : null;
+        }
+
+        payment.setReceiptPath(pdfReceiptService.generateReceipt(payment));
+        payment.setReceiptAttempts(payment.getReceiptAttempts() + 1);
+        payment.setReceiptError(null);
+        payment.setReceiptStatus(ReceiptStatus.READY);
+
+        // Queued in this transaction; the outbox relay delivers it after commit
+        if (!Boolean.TRUE.equals(payment.getEmailSent()) && emailService.isEmailEnabled(payment.getTenant())) {
+            emailService.sendPaymentReceipt(payment, payment.getReceiptPath());
+            payment.setEmailSent(true);
+        }
+        paymentRepository.save(payment);
+
+        ready.increment();
+        if (payment.getCreatedAt() != null) {
+            latencyTimer.record(Duration.between(payment.getCreatedAt(), LocalDateTime.now()));
+        }
+        log.debug("Receipt ready for payment {}", payment.getPaymentNumber());
+        return ReceiptStatus.READY;
+    }
+
+    private ReceiptStatus recordFailure(Long paymentId, RuntimeException cause) {
+        Payment payment = paymentRepository.findById(paymentId).orElse(null);
+        if (payment == null || payment.getReceiptStatus() != ReceiptStatus.PENDING) {
+            return payment != null ? payment.getReceiptStatus() : null;
+        }
+
+        int attempts = payment.getReceiptAttempts() + 1;
+        String error = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        payment.setReceiptAttempts(attempts);
+        payment.setReceiptError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        if (attempts >= properties.getMaxAttempts()) {
+            payment.setReceiptStatus(ReceiptStatus.FAILED);
+            failed.increment();
+            log.error("Receipt for payment {} failed after {} attempt(s): {}",
+                    payment.getPaymentNumber(), attempts, error);
+        } else {
+            retried.increment();
+            log.warn("Receipt for payment {} failed (attempt {}), retrying in {}s: {}",
+                    payment.getPaymentNumber(), attempts, properties.getRetryAfterSeconds(), error);
+        }
+        paymentRepository.save(payment);
+        return payment.getReceiptStatus();
+    }
+
+    private static Counter renders(MeterRegistry registry, String outcome) {
+        return Counter.builder("receipt.pipeline.renders")
+                .description("Receipt render attempts by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,158 @@
+package com.smtech.SM_Caterer.service.impl;
+
+import com.smtech.SM_Caterer.config.planning.RecipeGraph;
+import com.smtech.SM_Caterer.domain.entity.Menu;
+import com.smtech.SM_Caterer.domain.entity.RecipeComponent;
+import com.smtech.SM_Caterer.domain.repository.MenuRepository;
+import com.smtech.SM_Caterer.domain.repository.RecipeComponentRepository;
+import com.smtech.SM_Caterer.domain.repository.TenantRepository;
+import com.smtech.SM_Caterer.exception.DuplicateResourceException;
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
+import com.smtech.SM_Caterer.exception.ResourceNotFoundException;
+import com.smtech.SM_Caterer.service.RecipeComponentService;
+import com.smtech.SM_Caterer.service.RecipeCostingService;
+import com.smtech.SM_Caterer.service.base.BaseServiceImpl;
+import com.smtech.SM_Caterer.service.dto.RecipeComponentDTO;
+import com.smtech.SM_Caterer.service.mapper.EntityMapper;
+import com.smtech.SM_Caterer.service.mapper.RecipeComponentMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Service implementation for RecipeComponent operations.
+ *
+ * Business Logic:
+ * - A menu and its component must belong to the same tenant
+ * - Components must form a DAG: a component that is the menu itself, or
+ *   that already uses the menu through its own components, is refused
+ * - Components are added one at a time per tenant, under the tenant row
+ *   lock, so two additions cannot each pass the cycle check and together
+ *   close a cycle
+ * - Adding a removed component again restores its soft-deleted line
+ * - The menu and component of a line are fixed; only the quantity changes
+ * - Every change recomputes the material cost of the menu and the menus
+ *   using it
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class RecipeComponentServiceImpl extends BaseServiceImpl<RecipeComponent, RecipeComponentDTO, Long>
+        implements RecipeComponentService {
+
+    private final RecipeComponentRepository recipeComponentRepository;
+    private final RecipeComponentMapper recipeComponentMapper;
+    private final MenuRepository menuRepository;
+    private final TenantRepository tenantRepository;
+    private final RecipeCostingService recipeCostingService;
+
+    @Override
+    protected JpaRepository<RecipeComponent, Long> getRepository() {
+        return recipeComponentRepository;
+    }
+
+    @Override
+    protected EntityMapper<RecipeComponentDTO, RecipeComponent> getMapper() {
+        return recipeComponentMapper;
+    }
+
+    @Override
+    protected String getEntityName() {
+        return "RecipeComponent";
+    }
+
+    /**
+     * Read committed, so that the graph read after taking the tenant lock
+     * includes a component committed by the transaction that held it.
+     */
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public RecipeComponentDTO create(RecipeComponentDTO dto) {
+        log.debug("Adding component menu ID: {} to menu ID: {}", dto.getComponentId(), dto.getMenuId());
+
+        Menu menu = menuRepository.findById(dto.getMenuId())
+                .orElseThrow(() -> new ResourceNotFoundException("Menu", "id", dto.getMenuId()));
+        Menu component = menuRepository.findById(dto.getComponentId())
+                .orElseThrow(() -> new ResourceNotFoundException("Menu", "id", dto.getComponentId()));
+        Long tenantId = menu.getTenant().getId();
+        if (!tenantId.equals(component.getTenant().getId())) {
+            throw new ResourceNotFoundException("Menu", "id", dto.getComponentId());
+        }
+        tenantRepository.lockById(tenantId);
+        if (recipeComponentRepository.existsByMenuIdAndComponentId(menu.getId(), component.getId())) {
+            throw new DuplicateResourceException("RecipeComponent", "componentId", component.getId());
+        }
+        RecipeGraph components = RecipeGraph.build(recipeComponentRepository.findRecipeGraph(tenantId));
+        if (components.wouldCycle(menu.getId(), component.getId())) {
+            throw InvalidOperationException.notAllowed("Add recipe component", String.format(
+                    "%s already uses %s in its recipe", component.getMenuCode(), menu.getMenuCode()));
+        }
+
+        // A removed line keeps its row under unique_menu_component, so adding it again revives that row
+        RecipeComponent entity = recipeComponentRepository.findRemoved(menu.getId(), component.getId())
+                .map(removed -> {
+                    removed.restore();
+                    removed.setQuantityRequired(dto.getQuantityRequired());
+                    return removed;
+                })
+                .orElseGet(() -> recipeComponentMapper.toEntity(dto));
+        entity.setMenu(menu);
+        entity.setComponent(component);
+        RecipeComponent saved = recipeComponentRepository.save(entity);
+        log.info("RecipeComponent created (ID: {})", saved.getId());
+
+        recipeCostingService.recomputeMenus(List.of(menu.getId()));
+        return recipeComponentMapper.toDto(saved);
+    }
+
+    @Override
+    @Transactional
+    public RecipeComponentDTO update(Long id, RecipeComponentDTO dto) {
+        RecipeComponent existing = recipeComponentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("RecipeComponent", "id", id));
+        Long menuId = existing.getMenu().getId();
+        if (!Objects.equals(menuId, dto.getMenuId())
+                || !Objects.equals(existing.getComponent().getId(), dto.getComponentId())) {
+            throw InvalidOperationException.notAllowed("Update recipe component",
+                    "remove the component and add the new one instead");
+        }
+
+        existing.setQuantityRequired(dto.getQuantityRequired());
+        RecipeComponent saved = recipeComponentRepository.save(existing);
+        log.info("RecipeComponent updated with ID: {}", id);
+
+        recipeCostingService.recomputeMenus(List.of(menuId));
+        return recipeComponentMapper.toDto(saved);
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        Long menuId = recipeComponentRepository.findById(id)
+                .map(line -> line.getMenu().getId())
+                .orElseThrow(() -> new ResourceNotFoundException("RecipeComponent", "id", id));
+
+        super.delete(id);
+
+        recipeCostingService.recomputeMenus(List.of(menuId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecipeComponentDTO> findByMenuId(Long menuId) {
+        return recipeComponentMapper.toDto(recipeComponentRepository.findByMenuId(menuId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecipeComponentDTO> findByComponentId(Long componentId) {
+        return recipeComponentMapper.toDto(recipeComponentRepository.findByComponentId(componentId));
+    }
+}
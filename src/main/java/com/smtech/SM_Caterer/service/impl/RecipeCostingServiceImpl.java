@@ -0,0 +1,165 @@
+package com.smtech.SM_Caterer.service.impl;
+
+import com.smtech.SM_Caterer.config.CostingProperties;
+import com.smtech.SM_Caterer.config.planning.RecipeGraph;
+import com.smtech.SM_Caterer.domain.repository.MenuRepository;
+import com.smtech.SM_Caterer.domain.repository.RecipeComponentRepository;
+import com.smtech.SM_Caterer.domain.repository.RecipeItemRepository;
+import com.smtech.SM_Caterer.service.RecipeCostingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Service implementation for menu material costing.
+ *
+ * Business Logic:
+ * - Material cost per serve is SUM(quantity required x cost per unit) over
+ *   the menu's recipe items, plus SUM(quantity x cost per serve) over its
+ *   recipe components, divided by its serves count, to two places
+ * - A material cost change recomputes only the menus using the material,
+ *   found from recipe_items by material_id, and the menus using those as
+ *   components, found from recipe_components by component_menu_id
+ * - Menus without components are recomputed in the database by one UPDATE
+ *   per batch, so no recipe items or menus are loaded
+ * - Menus with components are rolled up in bottom-up order, each
+ *   component's cost computed once and reused by every menu above it
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class RecipeCostingServiceImpl implements RecipeCostingService {
+
+    /**
+     * Scale of rolled-up costs carried between levels, before the final rounding.
+     */
+    private static final int ROLLUP_SCALE = 6;
+
+    private final MenuRepository menuRepository;
+    private final RecipeItemRepository recipeItemRepository;
+    private final RecipeComponentRepository recipeComponentRepository;
+    private final CostingProperties properties;
+
+    @Override
+    public int onMaterialCostChanged(Collection<Long> materialIds) {
+        List<Long> ids = distinct(materialIds);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int updated = recompute(inBatches(ids, recipeItemRepository::findMenuIdsByMaterialIds));
+        log.debug("Material cost change on {} material(s) recomputed {} menu(s)", ids.size(), updated);
+        return updated;
+    }
+
+    @Override
+    public int recomputeMenus(Collection<Long> menuIds) {
+        return recompute(distinct(menuIds));
+    }
+
+    @Override
+    public int recomputeTenant(Long tenantId) {
+        int updated = recompute(menuRepository.findIdsByTenantId(tenantId));
+        log.info("Recomputed material cost of {} menu(s) for tenant {}", updated, tenantId);
+        return updated;
+    }
+
+    private int recompute(List<Long> menuIds) {
+        if (menuIds.isEmpty()) {
+            return 0;
+        }
+        Set<Long> affected = withUsers(menuIds);
+        RecipeGraph components = RecipeGraph.build(
+                inBatches(new ArrayList<>(affected), recipeComponentRepository::findRecipeGraphForMenus));
+
+        List<Long> plain = affected.stream().filter(id -> !components.composites().contains(id)).toList();
+        int batchSize = Math.max(1, properties.getUpdateBatchSize());
+        int updated = 0;
+        for (int from = 0; from < plain.size(); from += batchSize) {
+            List<Long> batch = plain.subList(from, Math.min(from + batchSize, plain.size()));
+            updated += menuRepository.recomputeMaterialCost(batch);
+        }
+        return components.isEmpty() ? updated : updated + rollUp(components);
+    }
+
+    /**
+     * The menus plus every menu using one of them as a component, at any depth.
+     */
+    private Set<Long> withUsers(List<Long> menuIds) {
+        Set<Long> affected = new LinkedHashSet<>(menuIds);
+        List<Long> frontier = menuIds;
+        while (!frontier.isEmpty()) {
+            frontier = inBatches(frontier, recipeComponentRepository::findMenuIdsByComponentIds).stream()
+                    .filter(affected::add)
+                    .toList();
+        }
+        return affected;
+    }
+
+    /**
+     * Costs the composite menus of the graph bottom-up. The other menus in
+     * it are components whose stored cost is already current.
+     */
+    private int rollUp(RecipeGraph components) {
+        List<Long> order = components.bottomUp();
+        List<Long> composites = order.stream().filter(id -> components.composites().contains(id)).toList();
+        List<Long> leaves = order.stream().filter(id -> !components.composites().contains(id)).toList();
+
+        Map<Long, BigDecimal> perServe = new HashMap<>();
+        for (Object[] row : inBatches(leaves, menuRepository::findMaterialCosts)) {
+            perServe.put((Long) row[0], row[1] != null ? (BigDecimal) row[1] : BigDecimal.ZERO);
+        }
+        Map<Long, BigDecimal> ownMaterials = new HashMap<>();
+        for (Object[] row : inBatches(composites, recipeItemRepository::sumMaterialCostByMenu)) {
+            ownMaterials.put((Long) row[0], (BigDecimal) row[1]);
+        }
+
+        int updated = 0;
+        for (Long menuId : composites) {
+            List<RecipeGraph.Component> lines = components.components(menuId);
+            BigDecimal batchCost = ownMaterials.getOrDefault(menuId, BigDecimal.ZERO);
+            for (RecipeGraph.Component line : lines) {
+                batchCost = batchCost.add(line.quantity().multiply(perServe.getOrDefault(line.componentId(), BigDecimal.ZERO)));
+            }
+            BigDecimal cost = batchCost.divide(BigDecimal.valueOf(lines.get(0).menuServes()), ROLLUP_SCALE, RoundingMode.HALF_UP);
+            perServe.put(menuId, cost);
+            updated += menuRepository.updateMaterialCost(menuId, cost.setScale(2, RoundingMode.HALF_UP));
+        }
+        return updated;
+    }
+
+    /**
+     * Runs an IN-list query over the IDs, at most the update batch size at a time.
+     */
+    private <T> List<T> inBatches(List<Long> ids, Function<List<Long>, List<T>> query) {
+        int batchSize = Math.max(1, properties.getUpdateBatchSize());
+        if (ids.size() <= batchSize) {
+            return ids.isEmpty() ? List.of() : query.apply(ids);
+        }
+        List<T> results = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            results.addAll(query.apply(ids.subList(from, Math.min(from + batchSize, ids.size()))));
+        }
+        return results;
+    }
+
+    private static List<Long> distinct(Collection<Long> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        return new ArrayList<>(ids.stream().filter(Objects::nonNull).distinct().toList());
+    }
+}
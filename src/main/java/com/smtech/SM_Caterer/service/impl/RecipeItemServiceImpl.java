@@ -7,6 +7,7 @@ import com.smtech.SM_Caterer.domain.repository.MaterialRepository;
 import com.smtech.SM_Caterer.domain.repository.MenuRepository;
 import com.smtech.SM_Caterer.domain.repository.RecipeItemRepository;
 import com.smtech.SM_Caterer.exception.ResourceNotFoundException;
+import com.smtech.SM_Caterer.service.RecipeCostingService;
 import com.smtech.SM_Caterer.service.RecipeItemService;
 import com.smtech.SM_Caterer.service.base.BaseServiceImpl;
 import com.smtech.SM_Caterer.service.dto.RecipeItemDTO;
@@ -18,10 +19,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Service implementation for RecipeItem operations.
+ * Every recipe change recomputes the material cost of the menus it touches.
  */
 @Slf4j
 @Service
@@ -34,6 +38,7 @@ public class RecipeItemServiceImpl extends BaseServiceImpl<RecipeItem, RecipeIte
     private final RecipeItemMapper recipeItemMapper;
     private final MenuRepository menuRepository;
     private final MaterialRepository materialRepository;
+    private final RecipeCostingService recipeCostingService;
 
     @Override
     protected JpaRepository<RecipeItem, Long> getRepository() {
@@ -74,10 +79,37 @@ public class RecipeItemServiceImpl extends BaseServiceImpl<RecipeItem, RecipeIte
 
         RecipeItem saved = recipeItemRepository.save(entity);
         log.info("RecipeItem created (ID: {})", saved.getId());
+        recipeCostingService.recomputeMenus(List.of(saved.getMenu().getId()));
 
         return recipeItemMapper.toDto(saved);
     }
 
+    @Override
+    @Transactional
+    public RecipeItemDTO update(Long id, RecipeItemDTO dto) {
+        Long menuBefore = recipeItemRepository.findById(id)
+                .map(item -> item.getMenu().getId())
+                .orElse(null);
+
+        RecipeItemDTO updated = super.update(id, dto);
+
+        // A recipe item moved to another menu changes the cost of both
+        recipeCostingService.recomputeMenus(Arrays.asList(menuBefore, dto.getMenuId()));
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        Long menuId = recipeItemRepository.findById(id)
+                .map(item -> item.getMenu().getId())
+                .orElse(null);
+
+        super.delete(id);
+
+        recipeCostingService.recomputeMenus(Collections.singletonList(menuId));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<RecipeItemDTO> findByMenuId(Long menuId) {
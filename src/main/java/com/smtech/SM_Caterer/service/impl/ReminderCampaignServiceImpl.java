@@ -0,0 +1,235 @@
+package com.smtech.SM_Caterer.service.impl;
+
+import com.smtech.SM_Caterer.config.EmailOutboxProperties;
+import com.smtech.SM_Caterer.config.ReminderProperties;
+import com.smtech.SM_Caterer.config.mail.EmailOutboxRelay;
+import com.smtech.SM_Caterer.config.mail.EmailTemplate;
+import com.smtech.SM_Caterer.config.mail.EmailTemplateRenderer;
+import com.smtech.SM_Caterer.config.mail.SendPacer;
+import com.smtech.SM_Caterer.config.mail.SmtpTransportPool;
+import com.smtech.SM_Caterer.context.TenantContext;
+import com.smtech.SM_Caterer.domain.entity.EmailLog;
+import com.smtech.SM_Caterer.domain.entity.Order;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import com.smtech.SM_Caterer.domain.enums.EmailStatus;
+import com.smtech.SM_Caterer.domain.enums.EmailType;
+import com.smtech.SM_Caterer.domain.enums.OrderStatus;
+import com.smtech.SM_Caterer.domain.enums.TenantStatus;
+import com.smtech.SM_Caterer.domain.repository.EmailLogRepository;
+import com.smtech.SM_Caterer.domain.repository.OrderRepository;
+import com.smtech.SM_Caterer.domain.repository.TenantRepository;
+import com.smtech.SM_Caterer.service.ReminderCampaignService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.NumberFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementation of ReminderCampaignService.
+ *
+ * Tenants are processed grouped by SMTP host. Each reminder kind is read in
+ * keyset batches of confirmed orders; a batch is rendered, checked against
+ * the dedup keys already in email_logs and queued in one transaction. Send
+ * times are planned with a SendPacer so each host and tenant receives the
+ * reminders at the rate the outbox relay sends them.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReminderCampaignServiceImpl implements ReminderCampaignService {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("hh:mm a");
+    private static final List<OrderStatus> REMINDER_STATUSES = List.of(OrderStatus.CONFIRMED);
+
+    private final TenantRepository tenantRepository;
+    private final OrderRepository orderRepository;
+    private final EmailLogRepository emailLogRepository;
+    private final EmailTemplateRenderer emailTemplateRenderer;
+    private final EmailOutboxRelay emailOutboxRelay;
+    private final ReminderProperties reminderProperties;
+    private final EmailOutboxProperties outboxProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Daily campaign trigger.
+     */
+    @Scheduled(cron = "${app.mail.reminders.cron:0 0 8 * * *}")
+    public void runScheduledCampaign() {
+        if (!reminderProperties.isEnabled()) {
+            return;
+        }
+        runCampaign(LocalDate.now());
+    }
+
+    @Override
+    public int runCampaign(LocalDate today) {
+        List<Tenant> tenants = tenantRepository.findByStatus(TenantStatus.ACTIVE).stream()
+                .filter(Tenant::isEmailConfigured)
+                .sorted(Comparator.comparing(SmtpTransportPool::hostKey).thenComparing(Tenant::getId))
+                .toList();
+
+        SendPacer pacer = new SendPacer(LocalDateTime.now(),
+                outboxProperties.getRatePerMinutePerHost(), outboxProperties.getRatePerMinutePerTenant());
+        NumberFormat currencyFormat = NumberFormat.getCurrencyInstance(new Locale("en", "IN"));
+        int queued = 0;
+
+        for (Tenant tenant : tenants) {
+            try {
+                queued += TenantContext.callWithTenant(tenant.getId(),
+                        () -> queueForTenant(tenant, today, pacer, currencyFormat));
+            } catch (RuntimeException e) {
+                log.error("Reminder campaign failed for tenant {}: {}", tenant.getId(), e.getMessage(), e);
+            }
+        }
+
+        if (queued > 0) {
+            emailOutboxRelay.wake();
+        }
+        log.info("Reminder campaign for {} queued {} emails across {} tenants", today, queued, tenants.size());
+        return queued;
+    }
+
+    private int queueForTenant(Tenant tenant, LocalDate today, SendPacer pacer, NumberFormat currencyFormat) {
+        int queued = 0;
+        for (Integer days : reminderProperties.getEventDaysBefore()) {
+            if (days != null && days > 0) {
+                queued += queue(tenant, EmailType.EVENT_REMINDER, days, today, pacer, currencyFormat);
+            }
+        }
+        int balanceDays = reminderProperties.getBalanceDueDaysBefore();
+        if (balanceDays > 0) {
+            queued += queue(tenant, EmailType.BALANCE_DUE_REMINDER, balanceDays, today, pacer, currencyFormat);
+        }
+        return queued;
+    }
+
+    private int queue(Tenant tenant, EmailType type, int daysBefore, LocalDate today,
+                      SendPacer pacer, NumberFormat currencyFormat) {
+        LocalDate eventDate = today.plusDays(daysBefore);
+        boolean balanceDueOnly = type == EmailType.BALANCE_DUE_REMINDER;
+        int batchSize = Math.max(1, reminderProperties.getBatchSize());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        int queued = 0;
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            Batch batch;
+            try {
+                batch = transaction.execute(status -> {
+                    List<Order> orders = orderRepository.findReminderBatch(tenant.getId(), eventDate,
+                            REMINDER_STATUSES, balanceDueOnly, cursor, PageRequest.of(0, batchSize));
+                    List<EmailLog> emails = buildReminders(tenant, type, daysBefore, orders, pacer, currencyFormat);
+                    emailLogRepository.saveAll(emails);
+                    Long lastId = orders.isEmpty() ? null : orders.get(orders.size() - 1).getId();
+                    return new Batch(orders.size(), lastId, emails.size());
+                });
+            } catch (DataIntegrityViolationException e) {
+                // Another instance queued the same reminders concurrently
+                log.warn("{} for tenant {} already being queued elsewhere, skipping: {}",
+                        type, tenant.getId(), e.getMostSpecificCause().getMessage());
+                return queued;
+            }
+            queued += batch.queued();
+            if (batch.read() < batchSize) {
+                return queued;
+            }
+            afterId = batch.lastId();
+        }
+    }
+
+    private List<EmailLog> buildReminders(Tenant tenant, EmailType type, int daysBefore, List<Order> orders,
+                                          SendPacer pacer, NumberFormat currencyFormat) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Order> byKey = new LinkedHashMap<>();
+        for (Order order : orders) {
+            byKey.put(dedupKey(type, daysBefore, order), order);
+        }
+        Set<String> existing = new HashSet<>(emailLogRepository.findExistingDedupKeys(byKey.keySet()));
+
+        String host = SmtpTransportPool.hostKey(tenant);
+        List<EmailLog> emails = new ArrayList<>();
+        byKey.forEach((key, order) -> {
+            if (existing.contains(key)) {
+                return;
+            }
+            boolean balanceDue = type == EmailType.BALANCE_DUE_REMINDER;
+            String subject = balanceDue
+                    ? "Balance Due Reminder - " + order.getOrderNumber()
+                    : "Event Reminder - " + order.getOrderNumber();
+            String body = balanceDue
+                    ? buildBalanceDueBody(tenant, order, currencyFormat)
+                    : buildEventBody(tenant, order, daysBefore);
+
+            EmailLog emailLog = EmailLog.builder()
+                    .tenant(tenant)
+                    .emailType(type)
+                    .toEmail(order.getCustomer().getEmail())
+                    .toName(order.getCustomer().getName())
+                    .subject(subject)
+                    .body(body)
+                    .referenceId(order.getId())
+                    .referenceType("ORDER")
+                    .dedupKey(key)
+                    .nextAttemptAt(pacer.next(host, tenant.getId()))
+                    .build();
+            emailLog.setStatus(EmailStatus.PENDING);
+            emails.add(emailLog);
+        });
+        return emails;
+    }
+
+    private String buildEventBody(Tenant tenant, Order order, int daysBefore) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("customerName", order.getCustomer().getName());
+        variables.put("eventWhen", daysBefore == 1 ? "tomorrow" : "in " + daysBefore + " days");
+        variables.put("orderNumber", order.getOrderNumber());
+        variables.put("eventDate", order.getEventDate().format(DATE_FORMATTER));
+        variables.put("eventTime", order.getEventTime() != null ? order.getEventTime().format(TIME_FORMATTER) : "-");
+        variables.put("venueName", order.getVenueName() != null ? order.getVenueName() : "-");
+        variables.put("guestCount", order.getGuestCount() != null ? order.getGuestCount().toString() : "-");
+        return emailTemplateRenderer.render(EmailTemplate.EVENT_REMINDER, tenant, variables);
+    }
+
+    private String buildBalanceDueBody(Tenant tenant, Order order, NumberFormat currencyFormat) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("customerName", order.getCustomer().getName());
+        variables.put("eventDate", order.getEventDate().format(DATE_FORMATTER));
+        variables.put("orderNumber", order.getOrderNumber());
+        variables.put("totalAmount", order.getTotalAmount() != null ? currencyFormat.format(order.getTotalAmount()) : "-");
+        variables.put("balanceAmount", currencyFormat.format(order.getBalanceAmount()));
+        return emailTemplateRenderer.render(EmailTemplate.BALANCE_DUE_REMINDER, tenant, variables);
+    }
+
+    /**
+     * One key per order, reminder offset and event date: a rescheduled event
+     * gets its reminders again, a rerun of the same day does not.
+     */
+    private static String dedupKey(EmailType type, int daysBefore, Order order) {
+        return type.name() + ":" + daysBefore + ":" + order.getId() + ":" + order.getEventDate();
+    }
+
+    private record Batch(int read, Long lastId, int queued) {
+    }
+}
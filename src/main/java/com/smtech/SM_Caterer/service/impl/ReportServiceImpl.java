@@ -1,7 +1,9 @@
 package com.smtech.SM_Caterer.service.impl;
 
+import com.smtech.SM_Caterer.config.reporting.ReportingWorkload;
 import com.smtech.SM_Caterer.domain.entity.Customer;
 import com.smtech.SM_Caterer.domain.entity.Material;
+import com.smtech.SM_Caterer.domain.entity.Menu;
 import com.smtech.SM_Caterer.domain.entity.Order;
 import com.smtech.SM_Caterer.domain.entity.Payment;
 import com.smtech.SM_Caterer.domain.enums.OrderStatus;
@@ -10,8 +12,11 @@ import com.smtech.SM_Caterer.domain.enums.PaymentStatus;
 import com.smtech.SM_Caterer.domain.enums.Status;
 import com.smtech.SM_Caterer.domain.repository.CustomerRepository;
 import com.smtech.SM_Caterer.domain.repository.MaterialRepository;
+import com.smtech.SM_Caterer.domain.repository.MaterialStockRepository;
+import com.smtech.SM_Caterer.domain.repository.MenuRepository;
 import com.smtech.SM_Caterer.domain.repository.OrderRepository;
 import com.smtech.SM_Caterer.domain.repository.PaymentRepository;
+import com.smtech.SM_Caterer.domain.repository.UtilityBookingRepository;
 import com.smtech.SM_Caterer.service.ReportService;
 import com.smtech.SM_Caterer.service.dto.*;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +38,7 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Service
+@ReportingWorkload
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ReportServiceImpl implements ReportService {
@@ -40,7 +46,10 @@ public class ReportServiceImpl implements ReportService {
     private final OrderRepository orderRepository;
     private final PaymentRepository paymentRepository;
     private final MaterialRepository materialRepository;
+    private final MaterialStockRepository materialStockRepository;
     private final CustomerRepository customerRepository;
+    private final MenuRepository menuRepository;
+    private final UtilityBookingRepository utilityBookingRepository;
 
     // ===== Order Reports =====
 
@@ -102,12 +111,13 @@ public class ReportServiceImpl implements ReportService {
                                                 String stockStatus, Pageable pageable) {
         log.debug("Getting stock report for tenant: {}, groupId: {}, status: {}, stockStatus: {}",
                 tenantId, materialGroupId, status, stockStatus);
+        Set<Long> lowStock = lowStockMaterialIds(tenantId);
 
         if (stockStatus != null && !stockStatus.isEmpty()) {
             // Filter by stock status
             List<Material> materials = materialRepository.findByStockStatus(tenantId, stockStatus);
             List<StockReportDTO> dtos = materials.stream()
-                    .map(this::mapToStockReportDTO)
+                    .map(material -> mapToStockReportDTO(material, lowStock))
                     .collect(Collectors.toList());
 
             // Manual pagination
@@ -124,16 +134,17 @@ public class ReportServiceImpl implements ReportService {
         Page<Material> materials = materialRepository.findMaterialsForReport(
                 tenantId, materialGroupId, status, pageable);
 
-        return materials.map(this::mapToStockReportDTO);
+        return materials.map(material -> mapToStockReportDTO(material, lowStock));
     }
 
     @Override
     public List<StockReportDTO> getStockReportForExport(Long tenantId, Long materialGroupId, Status status,
                                                          String stockStatus) {
+        Set<Long> lowStock = lowStockMaterialIds(tenantId);
         if (stockStatus != null && !stockStatus.isEmpty()) {
             List<Material> materials = materialRepository.findByStockStatus(tenantId, stockStatus);
             return materials.stream()
-                    .map(this::mapToStockReportDTO)
+                    .map(material -> mapToStockReportDTO(material, lowStock))
                     .collect(Collectors.toList());
         }
 
@@ -142,10 +153,67 @@ public class ReportServiceImpl implements ReportService {
                 .filter(m -> materialGroupId == null ||
                         (m.getMaterialGroup() != null && m.getMaterialGroup().getId().equals(materialGroupId)))
                 .filter(m -> status == null || m.getStatus() == status)
-                .map(this::mapToStockReportDTO)
+                .map(material -> mapToStockReportDTO(material, lowStock))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * The tenant's maintained low stock set, read once per report.
+     */
+    private Set<Long> lowStockMaterialIds(Long tenantId) {
+        return new HashSet<>(materialStockRepository.findLowStockMaterialIds(tenantId));
+    }
+
+    // ===== Menu Margin Report =====
+
+    @Override
+    public List<MenuMarginReportDTO> getMenuMarginReport(Long tenantId) {
+        log.debug("Getting menu margin report for tenant: {}", tenantId);
+
+        // Costs are maintained on the menus, so this reads no recipes
+        return menuRepository.findByTenantId(tenantId).stream()
+                .map(this::mapToMenuMarginReportDTO)
+                .sorted(Comparator.comparing(MenuMarginReportDTO::getMarginPercent,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .collect(Collectors.toList());
+    }
+
+    // ===== Utility Conflict Report =====
+
+    @Override
+    public List<UtilityConflictReportDTO> getUtilityConflictReport(Long tenantId, LocalDate fromDate, LocalDate toDate) {
+        log.debug("Getting utility conflict report for tenant: {}, dateRange: {} to {}", tenantId, fromDate, toDate);
+
+        // Booked totals are maintained per utility and day, so only overbooked days are read
+        List<UtilityConflictReportDTO> conflicts = utilityBookingRepository.findOverbooked(tenantId, fromDate, toDate)
+                .stream()
+                .map(row -> UtilityConflictReportDTO.builder()
+                        .date((LocalDate) row[0])
+                        .utilityId((Long) row[1])
+                        .utilityCode((String) row[2])
+                        .capacity((Integer) row[3])
+                        .booked((Integer) row[4])
+                        .shortBy((Integer) row[4] - (Integer) row[3])
+                        .orderNumbers(new ArrayList<>())
+                        .build())
+                .collect(Collectors.toList());
+        if (conflicts.isEmpty()) {
+            return conflicts;
+        }
+
+        Map<LocalDate, Map<Long, UtilityConflictReportDTO>> byDate = new HashMap<>();
+        conflicts.forEach(c -> byDate.computeIfAbsent(c.getDate(), d -> new HashMap<>()).put(c.getUtilityId(), c));
+        Set<Long> utilityIds = conflicts.stream().map(UtilityConflictReportDTO::getUtilityId).collect(Collectors.toSet());
+        for (Object[] row : orderRepository.findUtilityHolders(tenantId, fromDate, toDate,
+                UtilityAvailabilityServiceImpl.HOLDING_STATUSES, utilityIds)) {
+            UtilityConflictReportDTO conflict = byDate.getOrDefault((LocalDate) row[0], Map.of()).get((Long) row[1]);
+            if (conflict != null) {
+                conflict.getOrderNumbers().add((String) row[2]);
+            }
+        }
+        return conflicts;
+    }
+
     // ===== Customer Reports =====
 
     @Override
@@ -262,7 +330,24 @@ public class ReportServiceImpl implements ReportService {
                 .build();
     }
 
-    private StockReportDTO mapToStockReportDTO(Material material) {
+    private MenuMarginReportDTO mapToMenuMarginReportDTO(Menu menu) {
+        return MenuMarginReportDTO.builder()
+                .menuId(menu.getId())
+                .menuCode(menu.getMenuCode())
+                .category(menu.getCategory() != null ? menu.getCategory().name() : null)
+                .servesCount(menu.getServesCount())
+                .pricePerServe(menu.getCostPerServe())
+                .materialCostPerServe(menu.getMaterialCostPerServe())
+                .marginPerServe(menu.getMarginPerServe())
+                .marginPercent(menu.getMarginPercent())
+                .isActive(menu.getStatus() == Status.ACTIVE)
+                .build();
+    }
+
+    /**
+     * @param lowStock IDs of the tenant's materials flagged low on stock
+     */
+    private StockReportDTO mapToStockReportDTO(Material material, Set<Long> lowStock) {
         BigDecimal currentStock = material.getCurrentStock() != null ? material.getCurrentStock() : BigDecimal.ZERO;
         BigDecimal minimumStock = material.getMinimumStock() != null ? material.getMinimumStock() : BigDecimal.ZERO;
         BigDecimal costPerUnit = material.getCostPerUnit() != null ? material.getCostPerUnit() : BigDecimal.ZERO;
@@ -272,7 +357,7 @@ public class ReportServiceImpl implements ReportService {
         String stockStatus;
         if (currentStock.compareTo(BigDecimal.ZERO) <= 0) {
             stockStatus = "OUT_OF_STOCK";
-        } else if (currentStock.compareTo(minimumStock) < 0) {
+        } else if (lowStock.contains(material.getId())) {
             stockStatus = "LOW_STOCK";
         } else {
             stockStatus = "IN_STOCK";
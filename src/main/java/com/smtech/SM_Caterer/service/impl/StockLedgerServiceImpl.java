@@ -0,0 +1,322 @@
+package com.smtech.SM_Caterer.service.impl;
+
+import com.smtech.SM_Caterer.config.StockProperties;
+import com.smtech.SM_Caterer.config.events.DomainEventOutbox;
+import com.smtech.SM_Caterer.config.planning.RecipeGraph;
+import com.smtech.SM_Caterer.config.planning.RecipeMatrix;
+import com.smtech.SM_Caterer.config.planning.RequirementExplosion;
+import com.smtech.SM_Caterer.config.stock.StripedLocks;
+import com.smtech.SM_Caterer.domain.entity.Material;
+import com.smtech.SM_Caterer.domain.entity.MaterialStock;
+import com.smtech.SM_Caterer.domain.entity.StockMovement;
+import com.smtech.SM_Caterer.domain.enums.StockMovementType;
+import com.smtech.SM_Caterer.domain.event.MaterialStockEvent;
+import com.smtech.SM_Caterer.domain.repository.MaterialRepository;
+import com.smtech.SM_Caterer.domain.repository.MaterialStockRepository;
+import com.smtech.SM_Caterer.domain.repository.OrderMenuItemRepository;
+import com.smtech.SM_Caterer.domain.repository.RecipeComponentRepository;
+import com.smtech.SM_Caterer.domain.repository.RecipeItemRepository;
+import com.smtech.SM_Caterer.domain.repository.StockMovementRepository;
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
+import com.smtech.SM_Caterer.exception.ResourceNotFoundException;
+import com.smtech.SM_Caterer.service.StockLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Service implementation for the stock ledger.
+ *
+ * Business Logic:
+ * - Each change appends a StockMovement and moves the MaterialStock balance
+ *   by a conditional UPDATE that refuses to take on-hand or reserved stock
+ *   below zero; Material.currentStock is moved in the same transaction
+ * - Materials are locked on in-process stripes, in ascending order, until
+ *   the transaction ends, so concurrent requests for a hot material queue
+ *   in the JVM rather than on its database row
+ * - Confirming an order reserves its recipe materials, through any recipe
+ *   components; reservations may exceed on-hand stock, which shows up as
+ *   low available stock
+ * - Cancelling releases the reservation; completing releases it and
+ *   consumes as much of it as is on hand
+ * - The balance is read under its row lock before it moves, so a change
+ *   that takes available stock across the minimum, either way, records a
+ *   MaterialStockEvent in the outbox; other changes record nothing
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class StockLedgerServiceImpl implements StockLedgerService {
+
+    static final String OPENING_BALANCE_NOTE = "Opening balance";
+
+    private final MaterialStockRepository materialStockRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final MaterialRepository materialRepository;
+    private final OrderMenuItemRepository orderMenuItemRepository;
+    private final RecipeItemRepository recipeItemRepository;
+    private final RecipeComponentRepository recipeComponentRepository;
+    private final StripedLocks stockLocks;
+    private final StockProperties properties;
+    private final DomainEventOutbox domainEventOutbox;
+
+    /**
+     * A balance as read under its row lock.
+     */
+    private record Balance(Long tenantId, BigDecimal onHand, BigDecimal reserved, BigDecimal minimumStock,
+                           boolean lowStock) {
+
+        static Balance of(Object[] row) {
+            Object low = row[4];
+            return new Balance(((Number) row[0]).longValue(), (BigDecimal) row[1], (BigDecimal) row[2],
+                    (BigDecimal) row[3], low instanceof Boolean flag ? flag : ((Number) low).intValue() != 0);
+        }
+
+        BigDecimal availableAfter(BigDecimal onHandDelta, BigDecimal reservedDelta) {
+            return onHand.add(onHandDelta).subtract(reserved.add(reservedDelta));
+        }
+    }
+
+    @Override
+    public void openBalance(Material material) {
+        if (materialStockRepository.existsById(material.getId())) {
+            return;
+        }
+        Long tenantId = material.getTenant().getId();
+        BigDecimal onHand = material.getCurrentStock() != null ? material.getCurrentStock() : BigDecimal.ZERO;
+        BigDecimal minimum = material.getMinimumStock() != null ? material.getMinimumStock() : BigDecimal.ZERO;
+
+        MaterialStock stock = materialStockRepository.save(MaterialStock.builder()
+                .materialId(material.getId())
+                .tenantId(tenantId)
+                .onHand(onHand)
+                .minimumStock(minimum)
+                .lowStock(onHand.compareTo(minimum) < 0)
+                .build());
+        domainEventOutbox.append(MaterialStockEvent.crossing(tenantId, material.getId(),
+                false, stock.isLowStock(), onHand, minimum));
+        if (onHand.signum() > 0) {
+            stockMovementRepository.save(StockMovement.builder()
+                    .tenantId(tenantId)
+                    .materialId(material.getId())
+                    .movementType(StockMovementType.ADJUSTMENT)
+                    .quantity(onHand)
+                    .note(OPENING_BALANCE_NOTE)
+                    .build());
+        }
+    }
+
+    @Override
+    public void receive(Long tenantId, Long materialId, BigDecimal quantity, String note) {
+        requirePositive(quantity);
+        apply(tenantId, StockMovementType.RECEIPT, Map.of(materialId, quantity), null, note);
+    }
+
+    @Override
+    public void consume(Long tenantId, Long materialId, BigDecimal quantity, String note) {
+        requirePositive(quantity);
+        apply(tenantId, StockMovementType.CONSUMPTION, Map.of(materialId, quantity), null, note);
+    }
+
+    @Override
+    public void adjustTo(Long tenantId, Long materialId, BigDecimal counted, String note) {
+        if (counted == null || counted.signum() < 0) {
+            throw new InvalidOperationException("Counted stock must be zero or more");
+        }
+        lock(List.of(materialId));
+        BigDecimal difference = counted.subtract(lockBalance(tenantId, materialId).onHand());
+        if (difference.signum() != 0) {
+            apply(tenantId, StockMovementType.ADJUSTMENT, Map.of(materialId, difference), null, note);
+        }
+    }
+
+    @Override
+    public void updateMinimum(Long tenantId, Long materialId, BigDecimal minimumStock) {
+        BigDecimal minimum = minimumStock != null ? minimumStock : BigDecimal.ZERO;
+        lock(List.of(materialId));
+        Balance before = lockBalance(tenantId, materialId);
+        materialStockRepository.updateMinimumStock(materialId, minimum, LocalDateTime.now());
+
+        BigDecimal available = before.availableAfter(BigDecimal.ZERO, BigDecimal.ZERO);
+        domainEventOutbox.append(MaterialStockEvent.crossing(tenantId, materialId,
+                before.lowStock(), available.compareTo(minimum) < 0, available, minimum));
+    }
+
+    @Override
+    public void reserveForOrder(Long tenantId, Long orderId) {
+        if (stockMovementRepository.existsByOrderIdAndMovementType(orderId, StockMovementType.RESERVATION)) {
+            log.debug("Order {} already has a stock reservation", orderId);
+            return;
+        }
+        List<Object[]> lines = orderMenuItemRepository.findMenuQuantitiesByOrderId(orderId);
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        List<Long> menuIds = lines.stream().map(line -> (Long) line[0]).distinct().toList();
+        RecipeGraph components = RecipeGraph.build(recipeComponentRepository.findRecipeGraph(tenantId));
+        RecipeMatrix recipes = RecipeMatrix.build(
+                recipeItemRepository.findRecipeMatrixForMenus(components.closure(menuIds)), components);
+
+        int count = lines.size();
+        int[] menuRows = new int[count];
+        int[] days = new int[count];
+        int[] servings = new int[count];
+        for (int i = 0; i < count; i++) {
+            Object[] line = lines.get(i);
+            menuRows[i] = recipes.menuRow((Long) line[0]);
+            servings[i] = line[1] != null ? ((Number) line[1]).intValue() : 0;
+        }
+        double[] required = RequirementExplosion.explode(recipes, menuRows, days, servings, 1, Integer.MAX_VALUE);
+
+        Map<Long, BigDecimal> quantities = new TreeMap<>();
+        for (int column = 0; column < recipes.materialCount(); column++) {
+            BigDecimal quantity = BigDecimal.valueOf(required[column]).setScale(2, RoundingMode.HALF_UP);
+            if (quantity.signum() > 0) {
+                quantities.put(recipes.materialId(column), quantity);
+            }
+        }
+        apply(tenantId, StockMovementType.RESERVATION, quantities, orderId, null);
+        log.info("Reserved {} materials for order {}", quantities.size(), orderId);
+    }
+
+    @Override
+    public void releaseForOrder(Long tenantId, Long orderId, boolean consume) {
+        Map<Long, BigDecimal> outstanding = new TreeMap<>();
+        for (Object[] row : stockMovementRepository.findOutstandingReservations(orderId)) {
+            BigDecimal quantity = (BigDecimal) row[1];
+            if (quantity != null && quantity.signum() > 0) {
+                outstanding.put((Long) row[0], quantity);
+            }
+        }
+        if (outstanding.isEmpty()) {
+            return;
+        }
+        lock(outstanding.keySet());
+        apply(tenantId, StockMovementType.RELEASE, outstanding, orderId, null);
+
+        if (consume) {
+            Map<Long, BigDecimal> used = new TreeMap<>();
+            outstanding.forEach((materialId, quantity) -> {
+                BigDecimal onHand = lockBalance(tenantId, materialId).onHand();
+                BigDecimal quantityUsed = quantity.min(onHand);
+                if (quantityUsed.signum() > 0) {
+                    used.put(materialId, quantityUsed);
+                }
+            });
+            apply(tenantId, StockMovementType.CONSUMPTION, used, orderId, null);
+        }
+        log.info("Released stock of {} materials for order {}{}", outstanding.size(), orderId,
+                consume ? " as used" : "");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<StockMovement> findMovements(Long materialId, Pageable pageable) {
+        return stockMovementRepository.findByMaterialIdOrderByIdDesc(materialId, pageable);
+    }
+
+    /**
+     * Applies one movement type to several materials, in material order.
+     */
+    private void apply(Long tenantId, StockMovementType type, Map<Long, BigDecimal> quantities,
+                       Long orderId, String note) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        Map<Long, BigDecimal> ordered = quantities instanceof TreeMap ? quantities : new TreeMap<>(quantities);
+        lock(ordered.keySet());
+
+        LocalDateTime now = LocalDateTime.now();
+        ordered.forEach((materialId, quantity) -> {
+            BigDecimal onHandDelta = quantity.multiply(BigDecimal.valueOf(type.getOnHandSign()));
+            BigDecimal reservedDelta = quantity.multiply(BigDecimal.valueOf(type.getReservedSign()));
+
+            Balance before = lockBalance(tenantId, materialId);
+            if (materialStockRepository.applyDelta(tenantId, materialId, onHandDelta, reservedDelta, now) == 0) {
+                String code = materialRepository.findById(materialId)
+                        .map(Material::getMaterialCode).orElse(String.valueOf(materialId));
+                throw new InvalidOperationException("Not enough stock of material " + code);
+            }
+            if (onHandDelta.signum() != 0) {
+                materialRepository.addToCurrentStock(materialId, onHandDelta);
+            }
+
+            stockMovementRepository.save(StockMovement.builder()
+                    .tenantId(tenantId)
+                    .materialId(materialId)
+                    .movementType(type)
+                    .quantity(quantity)
+                    .orderId(orderId)
+                    .note(note)
+                    .createdAt(now)
+                    .build());
+
+            BigDecimal available = before.availableAfter(onHandDelta, reservedDelta);
+            domainEventOutbox.append(MaterialStockEvent.crossing(tenantId, materialId, before.lowStock(),
+                    available.compareTo(before.minimumStock()) < 0, available, before.minimumStock()));
+        });
+    }
+
+    /**
+     * Takes the stripes of the materials until the transaction ends.
+     * Stripes are reentrant, so locking a material twice in one
+     * transaction is fine.
+     */
+    private void lock(Collection<Long> materialIds) {
+        StripedLocks.Held held;
+        try {
+            held = stockLocks.lockAll(materialIds, properties.getLockTimeoutMs());
+        } catch (IllegalStateException e) {
+            throw new InvalidOperationException("Stock is being updated by another request, please try again", e);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                held.close();
+            }
+        });
+    }
+
+    /**
+     * Reads a material's balance under its row lock, opening it first if
+     * the material has none yet.
+     */
+    private Balance lockBalance(Long tenantId, Long materialId) {
+        List<Object[]> rows = materialStockRepository.lockBalance(materialId);
+        if (rows.isEmpty()) {
+            openBalance(findMaterial(tenantId, materialId));
+            rows = materialStockRepository.lockBalance(materialId);
+        }
+        Balance balance = Balance.of(rows.get(0));
+        if (!balance.tenantId().equals(tenantId)) {
+            throw new ResourceNotFoundException("Material", "id", materialId);
+        }
+        return balance;
+    }
+
+    private Material findMaterial(Long tenantId, Long materialId) {
+        return materialRepository.findByIdAndTenantId(materialId, tenantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Material", "id", materialId));
+    }
+
+    private static void requirePositive(BigDecimal quantity) {
+        if (quantity == null || quantity.signum() <= 0) {
+            throw new InvalidOperationException("Stock quantity must be more than zero");
+        }
+    }
+}
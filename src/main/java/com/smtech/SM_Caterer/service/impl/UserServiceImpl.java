@@ -1,5 +1,6 @@
 package com.smtech.SM_Caterer.service.impl;
 
+import com.smtech.SM_Caterer.config.LoginAttemptProperties;
 import com.smtech.SM_Caterer.domain.entity.Tenant;
 import com.smtech.SM_Caterer.domain.entity.User;
 import com.smtech.SM_Caterer.domain.enums.UserRole;
@@ -8,6 +9,7 @@ import com.smtech.SM_Caterer.domain.repository.TenantRepository;
 import com.smtech.SM_Caterer.domain.repository.UserRepository;
 import com.smtech.SM_Caterer.exception.DuplicateResourceException;
 import com.smtech.SM_Caterer.exception.ResourceNotFoundException;
+import com.smtech.SM_Caterer.security.attempt.LoginAttemptService;
 import com.smtech.SM_Caterer.service.UserService;
 import com.smtech.SM_Caterer.service.base.BaseServiceImpl;
 import com.smtech.SM_Caterer.service.dto.UserDTO;
@@ -44,6 +46,8 @@ public class UserServiceImpl extends BaseServiceImpl<User, UserDTO, Long>
     private final UserMapper userMapper;
     private final TenantRepository tenantRepository;
     private final PasswordEncoder passwordEncoder;
+    private final LoginAttemptProperties loginAttemptProperties;
+    private final LoginAttemptService loginAttemptService;
 
     @Override
     protected JpaRepository<User, Long> getRepository() {
@@ -218,11 +222,9 @@ public class UserServiceImpl extends BaseServiceImpl<User, UserDTO, Long>
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
-        user.setFailedLoginAttempts(user.getFailedLoginAttempts() + 1);
-
-        // Lock account after 5 failed attempts
-        if (user.getFailedLoginAttempts() >= 5) {
-            user.setStatus(UserStatus.LOCKED);
+        // Lock account after security.login.max-attempts failed attempts
+        user.incrementFailedLoginAttempts(loginAttemptProperties.getMaxAttempts());
+        if (user.getStatus() == UserStatus.LOCKED) {
             log.warn("User account locked due to failed login attempts (ID: {})", userId);
             log.debug("User account locked: {}", user.getUsername());
         }
@@ -238,9 +240,9 @@ public class UserServiceImpl extends BaseServiceImpl<User, UserDTO, Long>
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
-        user.setStatus(UserStatus.ACTIVE);
-        user.setFailedLoginAttempts(0);
+        user.unlock();
         userRepository.save(user);
+        loginAttemptService.clearUser(user.getUsername(), user.getEmail());
 
         log.info("User account unlocked (ID: {})", userId);
         log.debug("User account unlocked: {}", user.getUsername());
@@ -0,0 +1,147 @@
+package com.smtech.SM_Caterer.service.impl;
+
+import com.smtech.SM_Caterer.domain.entity.Utility;
+import com.smtech.SM_Caterer.domain.enums.OrderStatus;
+import com.smtech.SM_Caterer.domain.repository.OrderRepository;
+import com.smtech.SM_Caterer.domain.repository.UtilityBookingRepository;
+import com.smtech.SM_Caterer.domain.repository.UtilityRepository;
+import com.smtech.SM_Caterer.exception.ResourceNotFoundException;
+import com.smtech.SM_Caterer.service.UtilityAvailabilityService;
+import com.smtech.SM_Caterer.service.dto.UtilityAvailabilityDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for rental utility availability.
+ *
+ * Business Logic:
+ * - An order holds its utilities on its event date from submission until
+ *   cancellation (OrderStatus.holdsUtilities)
+ * - utility_bookings keeps the total held per utility and date; each order
+ *   change moves it by the difference between the order's hold before and
+ *   after, so lines that did not change write nothing
+ * - Totals are moved in (utility, date) order, so transactions moving the
+ *   same rows lock them in the same order
+ * - Availability is capacity minus the total held on the date; a utility
+ *   without a capacity is never short
+ * - Holds may exceed capacity (an edit in flight elsewhere, a lowered
+ *   capacity); the utility conflicts report lists those dates
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class UtilityAvailabilityServiceImpl implements UtilityAvailabilityService {
+
+    static final Set<OrderStatus> HOLDING_STATUSES = Arrays.stream(OrderStatus.values())
+            .filter(OrderStatus::holdsUtilities)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(OrderStatus.class)));
+
+    /**
+     * One row of utility_bookings.
+     */
+    private record BookingKey(Long utilityId, LocalDate date) {
+    }
+
+    private static final Comparator<BookingKey> BOOKING_ORDER =
+            Comparator.comparing(BookingKey::utilityId).thenComparing(BookingKey::date);
+
+    private final OrderRepository orderRepository;
+    private final UtilityBookingRepository utilityBookingRepository;
+    private final UtilityRepository utilityRepository;
+
+    @Override
+    public Hold holdOf(Long orderId) {
+        List<Object[]> rows = orderRepository.findHeldUtilities(orderId, HOLDING_STATUSES);
+        if (rows.isEmpty()) {
+            return NONE;
+        }
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (Object[] row : rows) {
+            quantities.put((Long) row[2], ((Number) row[3]).intValue());
+        }
+        Object[] first = rows.get(0);
+        return new Hold((Long) first[0], (LocalDate) first[1], quantities);
+    }
+
+    @Override
+    public void updateHold(Long orderId, Hold before) {
+        Hold after = holdOf(orderId);
+        if (Objects.equals(before, after)) {
+            return;
+        }
+
+        Map<BookingKey, Integer> deltas = new TreeMap<>(BOOKING_ORDER);
+        before.quantities().forEach((utilityId, quantity) ->
+                deltas.merge(new BookingKey(utilityId, before.date()), -quantity, Integer::sum));
+        after.quantities().forEach((utilityId, quantity) ->
+                deltas.merge(new BookingKey(utilityId, after.date()), quantity, Integer::sum));
+
+        Long tenantId = after.tenantId() != null ? after.tenantId() : before.tenantId();
+        LocalDateTime now = LocalDateTime.now();
+        int moved = 0;
+        for (Map.Entry<BookingKey, Integer> delta : deltas.entrySet()) {
+            if (delta.getValue() != 0) {
+                BookingKey key = delta.getKey();
+                utilityBookingRepository.addBooked(tenantId, key.utilityId(), key.date(), delta.getValue(), now);
+                moved++;
+            }
+        }
+        log.debug("Moved {} utility booking(s) for order {}", moved, orderId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UtilityAvailabilityDTO getAvailability(Long tenantId, Long utilityId, LocalDate date, Long excludingOrderId) {
+        Utility utility = utilityRepository.findById(utilityId)
+                .filter(u -> u.getTenant().getId().equals(tenantId))
+                .orElseThrow(() -> new ResourceNotFoundException("Utility", "id", utilityId));
+        if (utility.getCapacity() == null) {
+            return UtilityAvailabilityDTO.of(utilityId, date, null, 0);
+        }
+
+        int booked = utilityBookingRepository.findBookedQuantity(utilityId, date).orElse(0);
+        return UtilityAvailabilityDTO.of(utilityId, date, utility.getCapacity(),
+                booked - ownHold(excludingOrderId, date).getOrDefault(utilityId, 0));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, UtilityAvailabilityDTO> getAvailabilityOn(Long tenantId, LocalDate date, Long excludingOrderId) {
+        Map<Long, Integer> own = ownHold(excludingOrderId, date);
+        Map<Long, UtilityAvailabilityDTO> availability = new HashMap<>();
+        for (Object[] row : utilityBookingRepository.findCapacityAndBooked(tenantId, date)) {
+            Long utilityId = (Long) row[0];
+            int booked = row[2] != null ? ((Number) row[2]).intValue() : 0;
+            availability.put(utilityId, UtilityAvailabilityDTO.of(utilityId, date, (Integer) row[1],
+                    booked - own.getOrDefault(utilityId, 0)));
+        }
+        return availability;
+    }
+
+    /**
+     * What the order being edited holds on the date, if anything.
+     */
+    private Map<Long, Integer> ownHold(Long orderId, LocalDate date) {
+        if (orderId == null) {
+            return Map.of();
+        }
+        Hold own = holdOf(orderId);
+        return date.equals(own.date()) ? own.quantities() : Map.of();
+    }
+}
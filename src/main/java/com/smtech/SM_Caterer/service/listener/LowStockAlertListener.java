@@ -0,0 +1,41 @@
+package com.smtech.SM_Caterer.service.listener;
+
+import com.smtech.SM_Caterer.domain.entity.MaterialStock;
+import com.smtech.SM_Caterer.domain.event.MaterialStockEvent;
+import com.smtech.SM_Caterer.domain.repository.MaterialRepository;
+import com.smtech.SM_Caterer.domain.repository.MaterialStockRepository;
+import com.smtech.SM_Caterer.service.EmailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Low stock alert emails driven by material stock events.
+ *
+ * An alert goes out when a material crosses into low stock, not on every
+ * movement while it stays low. If the material has recovered by the time
+ * the event is delivered, the alert is skipped. EmailService deduplicates
+ * the alert per crossing.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LowStockAlertListener {
+
+    private final MaterialStockRepository materialStockRepository;
+    private final MaterialRepository materialRepository;
+    private final EmailService emailService;
+
+    @EventListener
+    @Transactional
+    public void onLowStockEntered(MaterialStockEvent.LowStockEntered event) {
+        if (!materialStockRepository.findById(event.materialId()).map(MaterialStock::isLowStock).orElse(false)) {
+            log.debug("Material {} no longer low on stock, skipping alert", event.materialId());
+            return;
+        }
+        materialRepository.findById(event.materialId())
+                .ifPresent(material -> emailService.sendLowStockAlert(material, event));
+    }
+}
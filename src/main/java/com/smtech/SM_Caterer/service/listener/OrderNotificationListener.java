@@ -0,0 +1,38 @@
+package com.smtech.SM_Caterer.service.listener;
+
+import com.smtech.SM_Caterer.domain.enums.OrderStatus;
+import com.smtech.SM_Caterer.domain.event.OrderEvent;
+import com.smtech.SM_Caterer.domain.repository.OrderRepository;
+import com.smtech.SM_Caterer.service.EmailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Customer notifications driven by order lifecycle events.
+ *
+ * Runs on the domain event relay after the transition has committed, so a
+ * slow template or mail setup no longer holds up the approval request.
+ * Events can be delivered more than once; EmailService deduplicates the
+ * confirmation per approval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderNotificationListener {
+
+    private final OrderRepository orderRepository;
+    private final EmailService emailService;
+
+    @EventListener
+    @Transactional
+    public void onOrderConfirmed(OrderEvent.OrderConfirmed event) {
+        orderRepository.findById(event.orderId())
+                .filter(order -> order.getStatus() != OrderStatus.CANCELLED)
+                .ifPresentOrElse(emailService::sendOrderConfirmation,
+                        () -> log.debug("Order {} no longer confirmed, skipping confirmation email",
+                                event.orderNumber()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.smtech.SM_Caterer.service.listener;
+
+import com.smtech.SM_Caterer.domain.enums.OrderStatus;
+import com.smtech.SM_Caterer.domain.event.OrderEvent;
+import com.smtech.SM_Caterer.domain.repository.OrderRepository;
+import com.smtech.SM_Caterer.service.StockLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Stock reservations driven by order lifecycle events.
+ *
+ * Confirming reserves the order's recipe materials, cancelling gives them
+ * back and completing consumes them. Events of one order arrive in order;
+ * redelivery is harmless because a reservation is made once and only what
+ * is still outstanding is released.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStockListener {
+
+    private final OrderRepository orderRepository;
+    private final StockLedgerService stockLedgerService;
+
+    @EventListener
+    @Transactional
+    public void onOrderConfirmed(OrderEvent.OrderConfirmed event) {
+        orderRepository.findById(event.orderId())
+                .filter(order -> order.getStatus() != OrderStatus.CANCELLED)
+                .ifPresentOrElse(order -> stockLedgerService.reserveForOrder(event.tenantId(), event.orderId()),
+                        () -> log.debug("Order {} no longer confirmed, skipping stock reservation",
+                                event.orderNumber()));
+    }
+
+    @EventListener
+    @Transactional
+    public void onOrderCancelled(OrderEvent.OrderCancelled event) {
+        stockLedgerService.releaseForOrder(event.tenantId(), event.orderId(), false);
+    }
+
+    @EventListener
+    @Transactional
+    public void onOrderCompleted(OrderEvent.OrderCompleted event) {
+        stockLedgerService.releaseForOrder(event.tenantId(), event.orderId(), true);
+    }
+}
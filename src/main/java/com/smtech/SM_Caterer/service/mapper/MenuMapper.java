@@ -22,6 +22,7 @@ public interface MenuMapper extends EntityMapper<MenuDTO, Menu> {
     @Mapping(target = "tenant", ignore = true)
     @Mapping(target = "translations", ignore = true)
     @Mapping(target = "recipeItems", ignore = true)
+    @Mapping(target = "materialCostPerServe", ignore = true)
     @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
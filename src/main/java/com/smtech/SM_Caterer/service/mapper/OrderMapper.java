@@ -37,6 +37,7 @@ public interface OrderMapper extends EntityMapper<OrderDTO, Order> {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "paidTotal", ignore = true)
     @Mapping(target = "version", ignore = true)
     @Override
     Order toEntity(OrderDTO dto);
@@ -27,6 +27,11 @@ public interface PaymentMapper extends EntityMapper<PaymentDTO, Payment> {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "receiptHash", ignore = true)
+    @Mapping(target = "receiptSourceHash", ignore = true)
+    @Mapping(target = "receiptStatus", ignore = true)
+    @Mapping(target = "receiptAttempts", ignore = true)
+    @Mapping(target = "receiptError", ignore = true)
     @Override
     Payment toEntity(PaymentDTO dto);
 }
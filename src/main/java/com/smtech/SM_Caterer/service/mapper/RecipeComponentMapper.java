@@ -0,0 +1,33 @@
+package com.smtech.SM_Caterer.service.mapper;
+
+import com.smtech.SM_Caterer.domain.entity.RecipeComponent;
+import com.smtech.SM_Caterer.service.dto.RecipeComponentDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for RecipeComponent entity.
+ */
+@Mapper(
+    componentModel = MappingConstants.ComponentModel.SPRING,
+    unmappedTargetPolicy = ReportingPolicy.WARN
+)
+public interface RecipeComponentMapper extends EntityMapper<RecipeComponentDTO, RecipeComponent> {
+
+    @Mapping(target = "menuId", source = "menu.id")
+    @Mapping(target = "menuCode", source = "menu.menuCode")
+    @Mapping(target = "componentId", source = "component.id")
+    @Mapping(target = "componentCode", source = "component.menuCode")
+    @Override
+    RecipeComponentDTO toDto(RecipeComponent entity);
+
+    @Mapping(target = "menu", ignore = true)
+    @Mapping(target = "component", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Override
+    RecipeComponent toEntity(RecipeComponentDTO dto);
+}
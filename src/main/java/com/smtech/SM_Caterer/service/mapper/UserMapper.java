@@ -44,6 +44,7 @@ public interface UserMapper extends EntityMapper<UserDTO, User> {
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
     @Mapping(target = "version", ignore = true)
+    @Mapping(target = "lockedUntil", ignore = true)
     @Override
     User toEntity(UserDTO dto);
 }
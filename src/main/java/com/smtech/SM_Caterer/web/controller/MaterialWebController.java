@@ -1,13 +1,11 @@
 package com.smtech.SM_Caterer.web.controller;
 
 import com.smtech.SM_Caterer.domain.entity.Material;
-import com.smtech.SM_Caterer.domain.entity.Tenant;
-import com.smtech.SM_Caterer.domain.entity.Unit;
 import com.smtech.SM_Caterer.domain.enums.Status;
 import com.smtech.SM_Caterer.domain.repository.MaterialRepository;
-import com.smtech.SM_Caterer.domain.repository.TenantRepository;
 import com.smtech.SM_Caterer.domain.repository.UnitRepository;
 import com.smtech.SM_Caterer.security.CustomUserDetails;
+import com.smtech.SM_Caterer.service.MaterialService;
 import com.smtech.SM_Caterer.service.dto.MaterialDTO;
 import com.smtech.SM_Caterer.service.mapper.MaterialMapper;
 import jakarta.validation.Valid;
@@ -38,7 +36,7 @@ public class MaterialWebController {
     private final MaterialRepository materialRepository;
     private final UnitRepository unitRepository;
     private final MaterialMapper materialMapper;
-    private final TenantRepository tenantRepository;
+    private final MaterialService materialService;
 
     @GetMapping
     public String list(@AuthenticationPrincipal CustomUserDetails userDetails,
@@ -119,19 +117,12 @@ public class MaterialWebController {
             return "masters/materials/form";
         }
 
-        Tenant tenant = tenantRepository.findById(tenantId)
-                .orElseThrow(() -> new RuntimeException("Tenant not found"));
-
-        Unit unit = unitRepository.findById(materialDTO.getUnitId())
-                .orElseThrow(() -> new RuntimeException("Unit not found"));
-
-        Material material = materialMapper.toEntity(materialDTO);
-        material.setTenant(tenant);
-        material.setUnit(unit);
-        if (material.getStatus() == null) {
-            material.setStatus(Status.ACTIVE);
+        // The material and its opening stock balance are created in the service's transaction
+        materialDTO.setTenantId(tenantId);
+        if (materialDTO.getStatus() == null) {
+            materialDTO.setStatus(Status.ACTIVE);
         }
-        materialRepository.save(material);
+        materialService.create(materialDTO);
 
         redirectAttributes.addFlashAttribute("successMessage", "Material created successfully");
         return "redirect:/masters/materials";
@@ -162,16 +153,8 @@ public class MaterialWebController {
                         return "masters/materials/form";
                     }
 
-                    Unit unit = unitRepository.findById(materialDTO.getUnitId())
-                            .orElseThrow(() -> new RuntimeException("Unit not found"));
-
-                    existingMaterial.setMaterialCode(materialDTO.getMaterialCode());
-                    existingMaterial.setUnit(unit);
-                    existingMaterial.setMinimumStock(materialDTO.getMinimumStock());
-                    existingMaterial.setCurrentStock(materialDTO.getCurrentStock());
-                    existingMaterial.setCostPerUnit(materialDTO.getCostPerUnit());
-                    existingMaterial.setStatus(materialDTO.getStatus());
-                    materialRepository.save(existingMaterial);
+                    // Material, minimum and stock balance change together in the service's transaction
+                    materialService.update(id, materialDTO);
 
                     redirectAttributes.addFlashAttribute("successMessage", "Material updated successfully");
                     return "redirect:/masters/materials";
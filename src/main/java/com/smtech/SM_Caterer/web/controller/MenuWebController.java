@@ -7,6 +7,7 @@ import com.smtech.SM_Caterer.domain.enums.Status;
 import com.smtech.SM_Caterer.domain.repository.MenuRepository;
 import com.smtech.SM_Caterer.domain.repository.TenantRepository;
 import com.smtech.SM_Caterer.security.CustomUserDetails;
+import com.smtech.SM_Caterer.service.RecipeCostingService;
 import com.smtech.SM_Caterer.service.dto.MenuDTO;
 import com.smtech.SM_Caterer.service.mapper.MenuMapper;
 import jakarta.validation.Valid;
@@ -24,6 +25,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * Web Controller for Menu management.
  */
@@ -37,6 +41,7 @@ public class MenuWebController {
     private final MenuRepository menuRepository;
     private final MenuMapper menuMapper;
     private final TenantRepository tenantRepository;
+    private final RecipeCostingService recipeCostingService;
 
     @GetMapping
     public String list(@AuthenticationPrincipal CustomUserDetails userDetails,
@@ -159,10 +164,14 @@ public class MenuWebController {
 
                     existingMenu.setMenuCode(menuDTO.getMenuCode());
                     existingMenu.setCategory(menuDTO.getCategory());
+                    boolean servesChanged = !Objects.equals(existingMenu.getServesCount(), menuDTO.getServesCount());
                     existingMenu.setCostPerServe(menuDTO.getCostPerServe());
                     existingMenu.setServesCount(menuDTO.getServesCount());
                     existingMenu.setStatus(menuDTO.getStatus());
                     menuRepository.save(existingMenu);
+                    if (servesChanged) {
+                        recipeCostingService.recomputeMenus(List.of(id));
+                    }
 
                     redirectAttributes.addFlashAttribute("successMessage", "Menu updated successfully");
                     return "redirect:/masters/menus";
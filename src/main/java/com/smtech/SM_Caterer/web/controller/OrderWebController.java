@@ -14,9 +14,11 @@ import com.smtech.SM_Caterer.domain.repository.UtilityRepository;
 import com.smtech.SM_Caterer.exception.ResourceNotFoundException;
 import com.smtech.SM_Caterer.security.CustomUserDetails;
 import com.smtech.SM_Caterer.service.OrderService;
+import com.smtech.SM_Caterer.service.UtilityAvailabilityService;
 import com.smtech.SM_Caterer.service.dto.OrderDTO;
 import com.smtech.SM_Caterer.service.dto.OrderDetailDTO;
 import com.smtech.SM_Caterer.service.dto.OrderSearchCriteria;
+import com.smtech.SM_Caterer.service.dto.UtilityAvailabilityDTO;
 import com.smtech.SM_Caterer.web.dto.OrderFormDTO;
 import com.smtech.SM_Caterer.web.dto.OrderMenuItemFormDTO;
 import com.smtech.SM_Caterer.web.dto.OrderUtilityFormDTO;
@@ -64,6 +66,7 @@ public class OrderWebController {
     private final EventTypeRepository eventTypeRepository;
     private final MenuRepository menuRepository;
     private final UtilityRepository utilityRepository;
+    private final UtilityAvailabilityService utilityAvailabilityService;
 
     // ===== Order List =====
 
@@ -437,9 +440,13 @@ public class OrderWebController {
 
         Long tenantId = userDetails.getTenantId();
         List<Utility> utilities = utilityRepository.findByTenantIdAndStatus(tenantId, Status.ACTIVE);
+        Long editingOrderId = (Long) session.getAttribute("editingOrderId");
 
         model.addAttribute("form", form);
         model.addAttribute("utilities", utilities);
+        model.addAttribute("availability", form.getEventDate() != null
+                ? utilityAvailabilityService.getAvailabilityOn(tenantId, form.getEventDate(), editingOrderId)
+                : Map.of());
         model.addAttribute("currentStep", 4);
 
         return "orders/wizard/step4";
@@ -466,13 +473,35 @@ public class OrderWebController {
         Map<String, Object> response = new HashMap<>();
 
         // Validate utility exists
-        Utility utility = utilityRepository.findById(item.getUtilityId()).orElse(null);
+        Long tenantId = userDetails.getTenantId();
+        Utility utility = utilityRepository.findById(item.getUtilityId())
+                .filter(u -> u.getTenant().getId().equals(tenantId))
+                .orElse(null);
         if (utility == null) {
             response.put("success", false);
             response.put("message", "Utility not found");
             return ResponseEntity.badRequest().body(response);
         }
 
+        // Validate enough is free on the event date, counting what the form already holds
+        if (form.getEventDate() != null) {
+            int quantity = item.getQuantity() != null ? item.getQuantity() : 0;
+            int inForm = form.getUtilities().stream()
+                    .filter(line -> utility.getId().equals(line.getUtilityId()))
+                    .mapToInt(line -> line.getQuantity() != null ? line.getQuantity() : 0)
+                    .sum();
+            UtilityAvailabilityDTO availability = utilityAvailabilityService.getAvailability(tenantId,
+                    utility.getId(), form.getEventDate(), (Long) session.getAttribute("editingOrderId"));
+            if (!availability.canBook(inForm + quantity)) {
+                response.put("success", false);
+                response.put("message", String.format("Only %d %s available on %s",
+                        Math.max(0, availability.getAvailable() - inForm), utility.getUtilityCode(),
+                        form.getEventDate()));
+                response.put("availability", availability);
+                return ResponseEntity.badRequest().body(response);
+            }
+        }
+
         // Set display info
         item.setUtilityCode(utility.getUtilityCode());
         item.setUtilityName(utility.getUtilityCode()); // Will use translation in view
@@ -490,6 +519,19 @@ public class OrderWebController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/wizard/step4/availability/{utilityId}")
+    @ResponseBody
+    public ResponseEntity<UtilityAvailabilityDTO> utilityAvailability(@PathVariable Long utilityId,
+                                                                      @AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                      HttpSession session) {
+        OrderFormDTO form = getFormFromSession(session);
+        if (form.getEventDate() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(utilityAvailabilityService.getAvailability(userDetails.getTenantId(), utilityId,
+                form.getEventDate(), (Long) session.getAttribute("editingOrderId")));
+    }
+
     @PostMapping("/wizard/step4/remove-item/{index}")
     @ResponseBody
     public ResponseEntity<Map<String, Object>> removeUtilityItem(@PathVariable int index,
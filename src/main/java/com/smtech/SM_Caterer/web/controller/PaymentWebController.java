@@ -1,14 +1,21 @@
 package com.smtech.SM_Caterer.web.controller;
 
+import com.smtech.SM_Caterer.config.reporting.ReportingBulkhead;
 import com.smtech.SM_Caterer.domain.enums.PaymentMethod;
 import com.smtech.SM_Caterer.domain.enums.PaymentStatus;
 import com.smtech.SM_Caterer.exception.InvalidOperationException;
 import com.smtech.SM_Caterer.security.CustomUserDetails;
 import com.smtech.SM_Caterer.service.OrderService;
+import com.smtech.SM_Caterer.service.PaymentReconciliationService;
 import com.smtech.SM_Caterer.service.PaymentService;
 import com.smtech.SM_Caterer.service.QrCodeGeneratorService;
+import com.smtech.SM_Caterer.service.ReceiptExportService;
 import com.smtech.SM_Caterer.service.dto.OrderDetailDTO;
 import com.smtech.SM_Caterer.service.dto.PaymentDTO;
+import com.smtech.SM_Caterer.service.dto.ReceiptFileDTO;
+import com.smtech.SM_Caterer.service.dto.ReconciliationResultDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,7 +23,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -26,11 +36,18 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.FlashMap;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.support.RequestContextUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -49,6 +66,9 @@ public class PaymentWebController {
     private final PaymentService paymentService;
     private final OrderService orderService;
     private final QrCodeGeneratorService qrCodeGeneratorService;
+    private final ReceiptExportService receiptExportService;
+    private final PaymentReconciliationService paymentReconciliationService;
+    private final ReportingBulkhead reportingBulkhead;
 
     // ===== Payment List =====
 
@@ -197,28 +217,106 @@ public class PaymentWebController {
     // ===== Download Receipt PDF =====
 
     @GetMapping("/{id}/receipt")
-    public ResponseEntity<byte[]> downloadReceipt(@PathVariable Long id,
-                                                   @AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<Resource> downloadReceipt(@PathVariable Long id,
+                                                    @AuthenticationPrincipal CustomUserDetails userDetails) {
         Long tenantId = userDetails.getTenantId();
 
         try {
-            byte[] pdfBytes = paymentService.downloadReceipt(id, tenantId);
-
-            PaymentDTO payment = paymentService.findByIdAndTenantId(id, tenantId)
-                    .orElseThrow(() -> new RuntimeException("Payment not found"));
-
-            String filename = "Receipt-" + payment.getPaymentNumber() + ".pdf";
+            ReceiptFileDTO receipt = paymentService.getReceiptFile(id, tenantId);
 
+            // Spring answers If-None-Match with 304 and Range with 206 for Resource bodies
             return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + receipt.getFilename() + "\"")
+                    .eTag(receipt.getContentHash())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
                     .contentType(MediaType.APPLICATION_PDF)
-                    .body(pdfBytes);
+                    .body(new FileSystemResource(receipt.getPath()));
         } catch (Exception e) {
             log.error("Failed to download receipt for payment {}: {}", id, e.getMessage());
             return ResponseEntity.notFound().build();
         }
     }
 
+    // ===== Bulk Receipt Export =====
+
+    @GetMapping("/receipts/export")
+    public void exportReceipts(@AuthenticationPrincipal CustomUserDetails userDetails,
+                               @RequestParam(required = false) Long orderId,
+                               @RequestParam(required = false) PaymentStatus status,
+                               @RequestParam(required = false) PaymentMethod method,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        Long tenantId = userDetails.getTenantId();
+
+        List<Long> paymentIds;
+        try {
+            paymentIds = receiptExportService.findPaymentIds(tenantId, orderId, status, method, dateFrom, dateTo);
+        } catch (InvalidOperationException e) {
+            redirectWithError(request, response, e.getMessage());
+            return;
+        }
+        if (paymentIds.isEmpty()) {
+            redirectWithError(request, response, "No payments found");
+            return;
+        }
+
+        // One reporting slot per export, held until the whole archive is written
+        ReportingBulkhead.Permit permit = reportingBulkhead.acquire(tenantId);
+        try {
+            String filename = "Receipts_" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + ".zip";
+            response.setContentType("application/zip");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+            receiptExportService.writeReceiptsZip(tenantId, paymentIds, response.getOutputStream());
+        } finally {
+            permit.release();
+        }
+    }
+
+    private void redirectWithError(HttpServletRequest request, HttpServletResponse response,
+                                   String message) throws IOException {
+        FlashMap flashMap = RequestContextUtils.getOutputFlashMap(request);
+        flashMap.put("errorMessage", message);
+        RequestContextUtils.saveOutputFlashMap("/payments", request, response);
+        response.sendRedirect(request.getContextPath() + "/payments");
+    }
+
+    // ===== Statement Reconciliation =====
+
+    @GetMapping("/reconcile")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'TENANT_ADMIN', 'MANAGER')")
+    public String reconcileForm() {
+        return "payments/reconcile";
+    }
+
+    @PostMapping("/reconcile")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'TENANT_ADMIN', 'MANAGER')")
+    public String reconcile(@RequestParam("statement") MultipartFile statement,
+                            @AuthenticationPrincipal CustomUserDetails userDetails,
+                            Model model) {
+        Long tenantId = userDetails.getTenantId();
+
+        if (statement.isEmpty()) {
+            model.addAttribute("errorMessage", "Please choose a statement file");
+            return "payments/reconcile";
+        }
+
+        try (InputStream content = statement.getInputStream()) {
+            ReconciliationResultDTO result = paymentReconciliationService.reconcile(
+                    tenantId, content, statement.getOriginalFilename());
+            model.addAttribute("result", result);
+        } catch (InvalidOperationException e) {
+            model.addAttribute("errorMessage", e.getMessage());
+        } catch (IOException e) {
+            log.warn("Failed to read statement {} for tenant {}: {}",
+                    statement.getOriginalFilename(), tenantId, e.getMessage());
+            model.addAttribute("errorMessage", "Could not read the statement: " + e.getMessage());
+        }
+
+        return "payments/reconcile";
+    }
+
     // ===== Resend Email =====
 
     @PostMapping("/{id}/resend-email")
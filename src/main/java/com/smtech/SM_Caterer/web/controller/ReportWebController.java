@@ -1,5 +1,6 @@
 package com.smtech.SM_Caterer.web.controller;
 
+import com.smtech.SM_Caterer.config.reporting.ReportingWorkload;
 import com.smtech.SM_Caterer.domain.enums.OrderStatus;
 import com.smtech.SM_Caterer.domain.enums.PaymentMethod;
 import com.smtech.SM_Caterer.domain.enums.PaymentStatus;
@@ -7,8 +8,10 @@ import com.smtech.SM_Caterer.domain.enums.Status;
 import com.smtech.SM_Caterer.domain.repository.CustomerRepository;
 import com.smtech.SM_Caterer.domain.repository.EventTypeRepository;
 import com.smtech.SM_Caterer.domain.repository.MaterialGroupRepository;
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
 import com.smtech.SM_Caterer.security.CustomUserDetails;
 import com.smtech.SM_Caterer.service.ExcelExportService;
+import com.smtech.SM_Caterer.service.MaterialPlanningService;
 import com.smtech.SM_Caterer.service.ReportService;
 import com.smtech.SM_Caterer.service.TenantService;
 import com.smtech.SM_Caterer.service.dto.*;
@@ -49,6 +52,7 @@ public class ReportWebController {
     private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final ReportService reportService;
+    private final MaterialPlanningService materialPlanningService;
     private final ExcelExportService excelExportService;
     private final TenantService tenantService;
     private final CustomerRepository customerRepository;
@@ -101,6 +105,7 @@ public class ReportWebController {
     }
 
     @GetMapping("/orders/export")
+    @ReportingWorkload
     public ResponseEntity<byte[]> exportOrders(@AuthenticationPrincipal CustomUserDetails userDetails,
                                                 @RequestParam(required = false) OrderStatus status,
                                                 @RequestParam(required = false) Long customerId,
@@ -163,6 +168,7 @@ public class ReportWebController {
     }
 
     @GetMapping("/payments/export")
+    @ReportingWorkload
     public ResponseEntity<byte[]> exportPayments(@AuthenticationPrincipal CustomUserDetails userDetails,
                                                   @RequestParam(required = false) PaymentStatus status,
                                                   @RequestParam(required = false) PaymentMethod method,
@@ -225,6 +231,7 @@ public class ReportWebController {
     }
 
     @GetMapping("/stock/export")
+    @ReportingWorkload
     public ResponseEntity<byte[]> exportStock(@AuthenticationPrincipal CustomUserDetails userDetails,
                                                @RequestParam(required = false) Long materialGroupId,
                                                @RequestParam(required = false) Status status,
@@ -278,6 +285,7 @@ public class ReportWebController {
     }
 
     @GetMapping("/customers/export")
+    @ReportingWorkload
     public ResponseEntity<byte[]> exportCustomers(@AuthenticationPrincipal CustomUserDetails userDetails,
                                                    @RequestParam(required = false) Status status) {
         Long tenantId = userDetails.getTenantId();
@@ -312,6 +320,68 @@ public class ReportWebController {
         return "reports/pending-balance";
     }
 
+    // ===== Material Requirements =====
+
+    @GetMapping("/material-requirements")
+    public String materialRequirements(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+                                       Model model) {
+        Long tenantId = userDetails.getTenantId();
+
+        if (fromDate == null) fromDate = LocalDate.now();
+        if (toDate == null) toDate = fromDate.plusDays(6);
+        model.addAttribute("fromDate", fromDate);
+        model.addAttribute("toDate", toDate);
+
+        try {
+            model.addAttribute("plan", materialPlanningService.plan(tenantId, fromDate, toDate));
+        } catch (InvalidOperationException e) {
+            model.addAttribute("errorMessage", e.getMessage());
+        }
+
+        return "reports/material-requirements";
+    }
+
+    // ===== Menu Margins =====
+
+    @GetMapping("/menu-margins")
+    public String menuMargins(@AuthenticationPrincipal CustomUserDetails userDetails,
+                              Model model) {
+        Long tenantId = userDetails.getTenantId();
+
+        List<MenuMarginReportDTO> menus = reportService.getMenuMarginReport(tenantId);
+
+        model.addAttribute("menus", menus);
+
+        log.debug("Menu margin report: {} menus for tenant {}", menus.size(), tenantId);
+
+        return "reports/menu-margins";
+    }
+
+    // ===== Utility Conflicts =====
+
+    @GetMapping("/utility-conflicts")
+    public String utilityConflicts(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+                                   Model model) {
+        Long tenantId = userDetails.getTenantId();
+
+        if (fromDate == null) fromDate = LocalDate.now();
+        if (toDate == null) toDate = fromDate.plusDays(29);
+
+        List<UtilityConflictReportDTO> conflicts = reportService.getUtilityConflictReport(tenantId, fromDate, toDate);
+
+        model.addAttribute("conflicts", conflicts);
+        model.addAttribute("fromDate", fromDate);
+        model.addAttribute("toDate", toDate);
+
+        log.debug("Utility conflict report: {} conflicts for tenant {}", conflicts.size(), tenantId);
+
+        return "reports/utility-conflicts";
+    }
+
     // ===== Private Helper Methods =====
 
     private void addPaginationAttributes(Model model, int page, int size, String sortBy,
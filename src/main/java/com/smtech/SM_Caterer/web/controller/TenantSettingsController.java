@@ -1,16 +1,19 @@
 package com.smtech.SM_Caterer.web.controller;
 
+import com.smtech.SM_Caterer.config.mail.SmtpTransportPool;
+import com.smtech.SM_Caterer.config.storage.BlobStore;
+import com.smtech.SM_Caterer.config.storage.LogoPaths;
 import com.smtech.SM_Caterer.domain.entity.Tenant;
 import com.smtech.SM_Caterer.domain.repository.TenantRepository;
 import com.smtech.SM_Caterer.security.CustomUserDetails;
 import com.smtech.SM_Caterer.service.EmailService;
+import com.smtech.SM_Caterer.service.PdfReceiptService;
 import com.smtech.SM_Caterer.web.dto.BrandingSettingsDTO;
 import com.smtech.SM_Caterer.web.dto.EmailSettingsDTO;
 import com.smtech.SM_Caterer.web.dto.PaymentSettingsDTO;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -22,13 +25,10 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.InputStream;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * Web Controller for Tenant Settings management.
@@ -43,9 +43,9 @@ public class TenantSettingsController {
 
     private final TenantRepository tenantRepository;
     private final EmailService emailService;
-
-    @Value("${app.upload.logo-dir:uploads/logos}")
-    private String logoUploadDir;
+    private final SmtpTransportPool smtpTransportPool;
+    private final PdfReceiptService pdfReceiptService;
+    private final BlobStore blobStore;
 
     // ===== Email Settings =====
 
@@ -103,6 +103,8 @@ public class TenantSettingsController {
         tenant.setSmtpUseTls(settings.isSmtpUseTls());
 
         tenantRepository.save(tenant);
+        // Drop connections opened with the old settings
+        smtpTransportPool.invalidate(tenantId);
 
         log.info("Email settings updated for tenant: {}", tenantId);
         redirectAttributes.addFlashAttribute("successMessage", "Email settings saved successfully");
@@ -241,14 +243,13 @@ public class TenantSettingsController {
         // Handle logo upload
         if (logoFile != null && !logoFile.isEmpty()) {
             try {
-                // Delete old logo if exists
-                if (tenant.getLogoPath() != null) {
-                    try {
-                        Files.deleteIfExists(Paths.get(tenant.getLogoPath()));
-                    } catch (IOException ignored) {}
-                }
+                String oldLogoPath = tenant.getLogoPath();
                 String logoPath = saveLogoFile(logoFile, tenantId);
                 tenant.setLogoPath(logoPath);
+                // Re-uploading the same image yields the same key; keep it then
+                if (oldLogoPath != null && !oldLogoPath.equals(logoPath)) {
+                    deleteLogoFile(oldLogoPath);
+                }
             } catch (IOException e) {
                 log.error("Failed to upload logo for tenant {}: {}", tenantId, e.getMessage());
                 redirectAttributes.addFlashAttribute("errorMessage", "Failed to upload logo: " + e.getMessage());
@@ -262,6 +263,7 @@ public class TenantSettingsController {
         tenant.setPrimaryColor(settings.getPrimaryColor());
 
         tenantRepository.save(tenant);
+        pdfReceiptService.evictHeader(tenantId);
 
         log.info("Branding settings updated for tenant: {}", tenantId);
         redirectAttributes.addFlashAttribute("successMessage", "Branding settings saved successfully");
@@ -278,17 +280,12 @@ public class TenantSettingsController {
 
         // Delete old logo file if exists
         if (tenant.getLogoPath() != null) {
-            try {
-                // logoPath stored as "uploads/logos/filename.ext"
-                Path oldLogoPath = Paths.get(tenant.getLogoPath());
-                Files.deleteIfExists(oldLogoPath);
-            } catch (IOException e) {
-                log.warn("Failed to delete old logo file: {}", e.getMessage());
-            }
+            deleteLogoFile(tenant.getLogoPath());
         }
 
         tenant.setLogoPath(null);
         tenantRepository.save(tenant);
+        pdfReceiptService.evictHeader(tenantId);
 
         log.info("Logo removed for tenant: {}", tenantId);
         redirectAttributes.addFlashAttribute("successMessage", "Logo removed successfully");
@@ -311,27 +308,39 @@ public class TenantSettingsController {
             throw new IOException("File size exceeds 2MB limit.");
         }
 
-        // Create upload directory if not exists
-        Path uploadPath = Paths.get(logoUploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
-
-        // Generate unique filename
         String originalFilename = file.getOriginalFilename();
-        String extension = "";
+        String extension = null;
         if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+            extension = originalFilename.substring(originalFilename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+            if (!extension.matches("[a-z0-9]{1,10}")) {
+                extension = null;
+            }
         }
-        String newFilename = "logo_" + tenantId + "_" + UUID.randomUUID().toString().substring(0, 8) + extension;
 
-        // Save file
-        Path filePath = uploadPath.resolve(newFilename);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        // Stream into the blob store; the key is derived from the image bytes
+        String key;
+        try (InputStream content = file.getInputStream()) {
+            key = blobStore.put(LogoPaths.namespace(tenantId), content, extension);
+        }
 
-        log.info("Logo saved for tenant {}: {}", tenantId, filePath);
+        log.info("Logo saved for tenant {}: {}", tenantId, key);
 
         // Store web-relative path with forward slashes (works cross-platform)
-        return "uploads/logos/" + newFilename;
+        return LogoPaths.toLogoPath(key);
+    }
+
+    /**
+     * Deletes a replaced or removed logo from the blob store.
+     */
+    private void deleteLogoFile(String logoPath) {
+        String key = LogoPaths.toKey(logoPath);
+        if (key == null) {
+            return;
+        }
+        try {
+            blobStore.delete(key);
+        } catch (IOException e) {
+            log.warn("Failed to delete old logo file: {}", e.getMessage());
+        }
     }
 }
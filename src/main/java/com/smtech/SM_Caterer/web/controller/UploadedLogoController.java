@@ -0,0 +1,55 @@
+package com.smtech.SM_Caterer.web.controller;
+
+import com.smtech.SM_Caterer.config.storage.BlobStore;
+import com.smtech.SM_Caterer.config.storage.LogoPaths;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Serves tenant logos from the blob store at their stored logoPath
+ * (/uploads/logos/...). Logo keys change whenever the image does, so
+ * responses can be cached for a long time.
+ */
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class UploadedLogoController {
+
+    private final BlobStore blobStore;
+
+    @GetMapping("/" + LogoPaths.WEB_PREFIX + "logos/**")
+    public ResponseEntity<Resource> logo(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String key = LogoPaths.toKey(path);
+        if (key == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        try {
+            Path file = blobStore.fetch(key);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic())
+                    .contentType(MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                    .body(new FileSystemResource(file));
+        } catch (NoSuchFileException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IOException e) {
+            log.warn("Failed to read logo {}: {}", key, e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+}
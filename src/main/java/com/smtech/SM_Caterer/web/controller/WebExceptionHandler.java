@@ -1,6 +1,9 @@
 package com.smtech.SM_Caterer.web.controller;
 
+import com.smtech.SM_Caterer.exception.ReportCapacityExceededException;
+import com.smtech.SM_Caterer.exception.TenantMovingException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -10,6 +13,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * Exception handler for web controllers (Thymeleaf views).
@@ -41,6 +45,37 @@ public class WebExceptionHandler {
         return "error/404";
     }
 
+    /**
+     * Handle report bulkhead rejections.
+     * Renders the page directly (no redirect) so a busy report page cannot loop.
+     */
+    @ExceptionHandler(ReportCapacityExceededException.class)
+    public ModelAndView handleReportCapacityExceeded(ReportCapacityExceededException ex,
+                                                     HttpServletRequest request,
+                                                     HttpServletResponse response) {
+        log.warn("Report capacity exceeded for {}", request.getRequestURI());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+
+        ModelAndView mav = new ModelAndView("error/429");
+        mav.setStatus(HttpStatus.TOO_MANY_REQUESTS);
+        return mav;
+    }
+
+    /**
+     * Handle writes rejected while the tenant's data is moved to another shard.
+     */
+    @ExceptionHandler(TenantMovingException.class)
+    public ModelAndView handleTenantMoving(TenantMovingException ex,
+                                           HttpServletRequest request,
+                                           HttpServletResponse response) {
+        log.warn("Write rejected during tenant move for {}: {}", request.getRequestURI(), ex.getMessage());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+
+        ModelAndView mav = new ModelAndView("error/503");
+        mav.setStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        return mav;
+    }
+
     /**
      * Handle illegal argument exceptions (validation errors).
      */
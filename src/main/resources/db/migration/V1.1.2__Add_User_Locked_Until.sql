@@ -0,0 +1,8 @@
+-- ============================================
+-- V1.1.2: Add timed account lockout
+-- Failed logins are now tracked in memory; the users table
+-- is only written when an account is locked or unlocked.
+-- ============================================
+
+ALTER TABLE users
+    ADD COLUMN locked_until DATETIME NULL COMMENT 'Automatic unlock time (NULL = locked until an admin unlocks)';
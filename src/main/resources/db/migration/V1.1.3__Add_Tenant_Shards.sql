@@ -0,0 +1,16 @@
+-- ============================================
+-- V1.1.3: Tenant shard directory
+-- Maps tenants to database shards. Read from the default shard only;
+-- tenants without a row live on the default shard.
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS tenant_shards (
+    tenant_id BIGINT PRIMARY KEY,
+    shard_key VARCHAR(50) NOT NULL COMMENT 'Shard holding the tenant''s rows (app.sharding.shards.<key>)',
+    status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE' COMMENT 'ACTIVE or MOVING (writes frozen during the final move phase)',
+    target_shard_key VARCHAR(50) NULL COMMENT 'Destination shard while a move is in progress',
+    move_started_at TIMESTAMP NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    INDEX idx_tenant_shards_shard_key (shard_key)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
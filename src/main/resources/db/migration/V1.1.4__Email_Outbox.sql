@@ -0,0 +1,14 @@
+-- ============================================
+-- V1.1.4: Email outbox
+-- email_logs rows are inserted as PENDING in the business transaction
+-- and delivered by the outbox relay (SELECT ... FOR UPDATE SKIP LOCKED,
+-- requires MySQL 8). Failed sends move to RETRY with exponential backoff
+-- and to DEAD_LETTER once attempts are exhausted.
+-- ============================================
+
+ALTER TABLE email_logs
+    ADD COLUMN next_attempt_at TIMESTAMP NULL COMMENT 'Earliest time the relay picks the row up (NULL = now)',
+    ADD COLUMN locked_until TIMESTAMP NULL COMMENT 'Lease of the relay worker sending the row; expired leases are reclaimed',
+    ADD COLUMN attachment_name VARCHAR(255) NULL COMMENT 'File name of the attachment in the email';
+
+CREATE INDEX idx_email_logs_outbox ON email_logs (status, next_attempt_at);
@@ -0,0 +1,11 @@
+-- ============================================
+-- V1.1.5: Scheduled reminder emails
+-- dedup_key makes scheduled reminders idempotent: the campaign skips keys
+-- that already exist, and the unique index stops two instances running the
+-- same campaign from queuing an email twice. NULL for ordinary emails.
+-- ============================================
+
+ALTER TABLE email_logs
+    ADD COLUMN dedup_key VARCHAR(150) NULL COMMENT 'e.g. EVENT_REMINDER:7:<order id>:<event date>';
+
+CREATE UNIQUE INDEX uk_email_logs_dedup_key ON email_logs (dedup_key);
@@ -0,0 +1,11 @@
+-- ============================================
+-- V1.1.6: Stored receipt PDFs
+-- receipt_hash is the SHA-256 of the stored PDF (served as the ETag);
+-- receipt_source_hash fingerprints the payment, order and tenant fields
+-- printed on it. Downloads serve the stored file while the fingerprint
+-- still matches and regenerate it otherwise.
+-- ============================================
+
+ALTER TABLE payments
+    ADD COLUMN receipt_hash VARCHAR(64) NULL AFTER receipt_path,
+    ADD COLUMN receipt_source_hash VARCHAR(64) NULL AFTER receipt_hash;
@@ -0,0 +1,29 @@
+-- ============================================
+-- V1.1.7: Domain event outbox
+-- Order lifecycle events are inserted as PENDING in the transaction that
+-- changed the order and delivered to in-process listeners by the domain
+-- event relay (SELECT ... FOR UPDATE SKIP LOCKED, requires MySQL 8).
+-- Events of one aggregate are delivered in id order: a row is only claimed
+-- when no earlier row of the same aggregate is still undelivered.
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    tenant_id BIGINT NOT NULL,
+    aggregate_type VARCHAR(50) NOT NULL COMMENT 'Aggregate kind, e.g. ORDER',
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(100) NOT NULL COMMENT 'Event class simple name, e.g. OrderConfirmed',
+    payload TEXT NOT NULL COMMENT 'Event as JSON',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT 'PENDING, PROCESSING, PUBLISHED, RETRY or FAILED',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NULL COMMENT 'Earliest time the relay picks the row up (NULL = now)',
+    locked_until TIMESTAMP NULL COMMENT 'Lease of the relay worker delivering the row; expired leases are reclaimed',
+    last_error VARCHAR(1000) NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP NULL,
+
+    INDEX idx_outbox_events_claim (status, next_attempt_at),
+    INDEX idx_outbox_events_aggregate (aggregate_type, aggregate_id, id),
+    INDEX idx_outbox_events_tenant (tenant_id),
+    CONSTRAINT fk_outbox_events_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,15 @@
+-- ============================================
+-- V1.1.8: Post-commit receipt pipeline
+-- Payments are inserted with receipt_status = PENDING; a render worker
+-- stores the PDF, queues the receipt email and sets READY. Failed renders
+-- are retried by a sweeper until receipt_attempts reaches the limit, then
+-- the payment is marked FAILED. Payments recorded before the pipeline keep
+-- a NULL status and render on first download, as before.
+-- ============================================
+
+ALTER TABLE payments
+    ADD COLUMN receipt_status VARCHAR(20) NULL COMMENT 'PENDING, READY or FAILED' AFTER receipt_source_hash,
+    ADD COLUMN receipt_attempts INT NOT NULL DEFAULT 0 AFTER receipt_status,
+    ADD COLUMN receipt_error VARCHAR(500) NULL AFTER receipt_attempts;
+
+CREATE INDEX idx_payments_receipt_status ON payments (tenant_id, receipt_status, updated_at);
@@ -0,0 +1,24 @@
+-- ============================================
+-- V1.1.9: Running paid total on orders
+-- paid_total holds the sum of COMPLETED payments and is only changed by a
+-- conditional UPDATE (paid_total + amount <= grand_total) when a payment
+-- is recorded, edited or deleted, so concurrent payments cannot overpay an
+-- order. advance_amount and balance_amount move in the same statement.
+-- Existing orders are backfilled from their payments.
+-- ============================================
+
+ALTER TABLE orders
+    ADD COLUMN paid_total DECIMAL(12,2) NOT NULL DEFAULT 0.00 COMMENT 'Sum of COMPLETED payments' AFTER grand_total;
+
+UPDATE orders o
+SET o.paid_total = (
+    SELECT COALESCE(SUM(p.amount), 0)
+    FROM payments p
+    WHERE p.order_id = o.id
+      AND p.status = 'COMPLETED'
+      AND p.deleted_at IS NULL
+);
+
+UPDATE orders
+SET advance_amount = paid_total,
+    balance_amount = GREATEST(grand_total - paid_total, 0);
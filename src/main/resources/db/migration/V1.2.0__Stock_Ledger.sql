@@ -0,0 +1,54 @@
+-- ============================================
+-- V1.2.0: Stock movement ledger and material balances
+-- stock_movements is append-only: every receipt, consumption, reservation,
+-- release and adjustment of a material is one row. material_stock holds the
+-- running balance per material and is only changed by conditional UPDATEs
+-- (on_hand and reserved never go negative), in the same transaction as the
+-- movement row. is_low_stock is recomputed by the same UPDATE, so low stock
+-- is an indexed lookup rather than a scan of all materials.
+-- materials.current_stock mirrors material_stock.on_hand.
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS material_stock (
+    material_id BIGINT PRIMARY KEY,
+    tenant_id BIGINT NOT NULL,
+    on_hand DECIMAL(12,2) NOT NULL DEFAULT 0.00 COMMENT 'Physical stock',
+    reserved DECIMAL(12,2) NOT NULL DEFAULT 0.00 COMMENT 'Held for confirmed orders',
+    minimum_stock DECIMAL(10,2) NOT NULL DEFAULT 0.00 COMMENT 'Copy of materials.minimum_stock',
+    is_low_stock BOOLEAN NOT NULL DEFAULT FALSE COMMENT 'on_hand - reserved < minimum_stock',
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_material_stock_low (tenant_id, is_low_stock),
+    CONSTRAINT fk_material_stock_material FOREIGN KEY (material_id) REFERENCES materials(id) ON DELETE CASCADE,
+    CONSTRAINT fk_material_stock_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS stock_movements (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    tenant_id BIGINT NOT NULL,
+    material_id BIGINT NOT NULL,
+    movement_type VARCHAR(20) NOT NULL COMMENT 'RECEIPT, CONSUMPTION, RESERVATION, RELEASE or ADJUSTMENT',
+    quantity DECIMAL(12,2) NOT NULL COMMENT 'Positive; signed for ADJUSTMENT',
+    order_id BIGINT NULL COMMENT 'Order a reservation, release or consumption belongs to',
+    note VARCHAR(255) NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_stock_movements_material (material_id, id),
+    INDEX idx_stock_movements_order (order_id, movement_type),
+    INDEX idx_stock_movements_tenant (tenant_id, created_at),
+    CONSTRAINT fk_stock_movements_material FOREIGN KEY (material_id) REFERENCES materials(id) ON DELETE CASCADE,
+    CONSTRAINT fk_stock_movements_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO material_stock (material_id, tenant_id, on_hand, reserved, minimum_stock, is_low_stock)
+SELECT id, tenant_id, COALESCE(current_stock, 0), 0, COALESCE(minimum_stock, 0),
+       COALESCE(current_stock, 0) < COALESCE(minimum_stock, 0)
+FROM materials;
+
+INSERT INTO stock_movements (tenant_id, material_id, movement_type, quantity, note)
+SELECT tenant_id, id, 'ADJUSTMENT', current_stock, 'Opening balance'
+FROM materials
+WHERE current_stock > 0;
+
+UPDATE materials SET current_stock = 0.00 WHERE current_stock IS NULL;
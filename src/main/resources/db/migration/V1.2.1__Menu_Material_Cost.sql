@@ -0,0 +1,22 @@
+-- ============================================
+-- V1.2.1: Material cost per serve on menus
+-- material_cost_per_serve is the recipe cost of one serve:
+-- SUM(quantity_required x cost_per_unit) over the menu's recipe items,
+-- divided by serves_count. It is kept current by RecipeCostingService,
+-- one UPDATE per set of menus affected by a material cost, recipe or
+-- serves count change. cost_per_serve stays the hand-entered price, so
+-- cost_per_serve - material_cost_per_serve is the margin per serve.
+-- Existing menus are backfilled from their recipes.
+-- ============================================
+
+ALTER TABLE menus
+    ADD COLUMN material_cost_per_serve DECIMAL(10,2) NOT NULL DEFAULT 0.00 COMMENT 'Recipe material cost of one serve' AFTER cost_per_serve;
+
+UPDATE menus mn
+SET mn.material_cost_per_serve = ROUND((
+    SELECT COALESCE(SUM(ri.quantity_required * m.cost_per_unit), 0)
+    FROM recipe_items ri
+    JOIN materials m ON m.id = ri.material_id
+    WHERE ri.menu_id = mn.id
+      AND ri.deleted_at IS NULL
+) / GREATEST(COALESCE(mn.serves_count, 1), 1), 2);
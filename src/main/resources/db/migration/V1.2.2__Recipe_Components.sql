@@ -0,0 +1,28 @@
+-- ============================================
+-- V1.2.2: Recipe components (sub-recipes)
+-- A recipe may use another menu's recipe as a component, e.g. a gravy base
+-- or dough shared by many dishes. quantity_required is in serves of the
+-- component per serves_count batch of the using menu, as recipe_items is in
+-- material units. Components form a DAG: the service refuses a component
+-- that would make a cycle. component_menu_id is indexed for the walk from
+-- a changed component up to the menus using it.
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS recipe_components (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    menu_id BIGINT NOT NULL COMMENT 'Menu whose recipe uses the component',
+    component_menu_id BIGINT NOT NULL COMMENT 'Menu used as a component',
+    quantity_required DECIMAL(10,2) NOT NULL COMMENT 'Serves of the component per batch',
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    created_by BIGINT NULL,
+    updated_by BIGINT NULL,
+    deleted_at TIMESTAMP NULL,
+
+    UNIQUE KEY unique_menu_component (menu_id, component_menu_id),
+    INDEX idx_recipe_components_component (component_menu_id),
+    CONSTRAINT fk_recipe_components_menu FOREIGN KEY (menu_id) REFERENCES menus(id) ON DELETE CASCADE,
+    CONSTRAINT fk_recipe_components_component FOREIGN KEY (component_menu_id) REFERENCES menus(id) ON DELETE RESTRICT,
+    CONSTRAINT chk_recipe_components_not_self CHECK (menu_id <> component_menu_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,37 @@
+-- ============================================
+-- V1.2.3: Rental utility capacity and per-day bookings
+-- utilities.capacity is how many of a rentable item the caterer owns;
+-- NULL means the utility is a service that is not limited by stock.
+-- utility_bookings holds, per utility and day, the quantity held by orders
+-- on that event date. An order holds its utilities from submission until
+-- it is cancelled (every status except DRAFT and CANCELLED). The rows are
+-- moved by the net change of each order utility write, in the same
+-- transaction, so availability on a date is one unique-key lookup and a
+-- conflicts report is a range scan of (tenant_id, booking_date).
+-- Existing bookings are backfilled from current orders.
+-- ============================================
+
+ALTER TABLE utilities
+    ADD COLUMN capacity INT NULL COMMENT 'Units owned; NULL if not limited' AFTER cost_per_unit;
+
+CREATE TABLE IF NOT EXISTS utility_bookings (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    tenant_id BIGINT NOT NULL,
+    utility_id BIGINT NOT NULL,
+    booking_date DATE NOT NULL COMMENT 'Event date',
+    booked_quantity INT NOT NULL DEFAULT 0 COMMENT 'Held by orders on the date',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    UNIQUE KEY unique_utility_booking_date (utility_id, booking_date),
+    INDEX idx_utility_bookings_tenant_date (tenant_id, booking_date),
+    CONSTRAINT fk_utility_bookings_utility FOREIGN KEY (utility_id) REFERENCES utilities(id) ON DELETE CASCADE,
+    CONSTRAINT fk_utility_bookings_tenant FOREIGN KEY (tenant_id) REFERENCES tenants(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO utility_bookings (tenant_id, utility_id, booking_date, booked_quantity)
+SELECT o.tenant_id, ou.utility_id, o.event_date, SUM(ou.quantity)
+FROM order_utilities ou
+JOIN orders o ON o.id = ou.order_id
+WHERE o.status NOT IN ('DRAFT', 'CANCELLED')
+  AND o.deleted_at IS NULL
+GROUP BY o.tenant_id, ou.utility_id, o.event_date;
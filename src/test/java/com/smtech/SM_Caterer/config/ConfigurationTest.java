@@ -1,7 +1,11 @@
 package com.smtech.SM_Caterer.config;
 
 import com.smtech.SM_Caterer.base.BaseControllerTest;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
 import nz.net.ultraq.thymeleaf.layoutdialect.LayoutDialect;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -53,6 +57,12 @@ class ConfigurationTest extends BaseControllerTest {
     @Autowired
     private DataSource dataSource;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     // =========================================================================
     // Context Loads
     // =========================================================================
@@ -255,4 +265,33 @@ class ConfigurationTest extends BaseControllerTest {
                     .isInstanceOf(org.springframework.web.servlet.i18n.CookieLocaleResolver.class);
         }
     }
+
+    // =========================================================================
+    // Second-Level Cache
+    // =========================================================================
+
+    @Nested
+    @DisplayName("E) Second-Level Cache")
+    class SecondLevelCacheTests {
+
+        @Test
+        @DisplayName("Master data entities should be cached, transactional data should not")
+        void masterDataShouldBeCached() {
+            SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+
+            assertThat(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()).isTrue();
+            assertThat(sessionFactory.getCache().containsEntity(Tenant.class, -1L)).isFalse();
+            assertThat(sessionFactory.getStatistics().getSecondLevelCacheRegionNames())
+                    .contains("tenant", "unit", "unit.translations", "menu", "menuTranslation")
+                    .noneMatch(region -> region.contains("Material.") || region.contains("Order"));
+        }
+
+        @Test
+        @DisplayName("Cache region statistics should be published as metrics")
+        void regionStatisticsShouldBePublished() {
+            assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+                    .tag("region", "tenant").meters())
+                    .isNotEmpty();
+        }
+    }
 }
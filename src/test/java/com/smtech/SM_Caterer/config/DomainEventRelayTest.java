@@ -0,0 +1,182 @@
+package com.smtech.SM_Caterer.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.events.DomainEventRelay;
+import com.smtech.SM_Caterer.config.events.DomainEventStore;
+import com.smtech.SM_Caterer.context.TenantContext;
+import com.smtech.SM_Caterer.domain.event.DomainEvent;
+import com.smtech.SM_Caterer.domain.event.OrderEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Domain event relay tests against an in-memory H2 outbox_events table and
+ * a recording publisher.
+ */
+@DisplayName("DomainEventRelay Tests")
+class DomainEventRelayTest extends BaseUnitTest {
+
+    private final List<DomainEvent> published = new CopyOnWriteArrayList<>();
+    private final List<Long> tenantsSeen = new CopyOnWriteArrayList<>();
+    private volatile RuntimeException failure;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private JdbcTemplate jdbc;
+    private SimpleMeterRegistry registry;
+    private DomainEventRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:domain-events;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS outbox_events");
+        jdbc.execute("""
+                CREATE TABLE outbox_events (
+                    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+                    tenant_id BIGINT NOT NULL,
+                    aggregate_type VARCHAR(50) NOT NULL,
+                    aggregate_id BIGINT NOT NULL,
+                    event_type VARCHAR(100) NOT NULL,
+                    payload CLOB NOT NULL,
+                    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+                    attempts INT NOT NULL DEFAULT 0,
+                    next_attempt_at TIMESTAMP,
+                    locked_until TIMESTAMP,
+                    last_error VARCHAR(1000),
+                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    published_at TIMESTAMP)""");
+
+        DomainEventProperties properties = new DomainEventProperties();
+        properties.setMaxAttempts(2);
+        registry = new SimpleMeterRegistry();
+        relay = new DomainEventRelay(List.of(new DomainEventStore("default", dataSource)), this::publish,
+                objectMapper, properties, registry);
+    }
+
+    @Test
+    @DisplayName("Should deliver each order's events in order, one per order per batch")
+    void shouldDeliverInOrderPerAggregate() throws Exception {
+        // Given
+        long submittedA = record(new OrderEvent.OrderSubmitted(1L, 10L, "ORD-10", 5L, LocalDateTime.now()));
+        long submittedB = record(new OrderEvent.OrderSubmitted(1L, 20L, "ORD-20", 5L, LocalDateTime.now()));
+        long confirmedA = record(new OrderEvent.OrderConfirmed(1L, 10L, "ORD-10", 6L, LocalDateTime.now()));
+
+        // When
+        int first = relay.pollOnce();
+        int second = relay.pollOnce();
+
+        // Then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(1);
+        assertThat(published).extracting(event -> event.getClass().getSimpleName())
+                .containsExactly("OrderSubmitted", "OrderSubmitted", "OrderConfirmed");
+        assertThat(((OrderEvent) published.get(2)).userId()).isEqualTo(6L);
+        assertThat(row(submittedA)).containsEntry("status", "PUBLISHED");
+        assertThat(row(submittedB)).containsEntry("status", "PUBLISHED");
+        assertThat(row(confirmedA)).containsEntry("status", "PUBLISHED");
+        assertThat(relay.pollOnce()).isZero();
+        assertThat(registry.get("events.outbox.latency").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should publish with the event's tenant in TenantContext")
+    void shouldPublishWithTenantContext() throws Exception {
+        // Given
+        record(new OrderEvent.OrderCompleted(7L, 30L, "ORD-30", 5L, LocalDateTime.now()));
+
+        // When
+        relay.pollOnce();
+
+        // Then
+        assertThat(tenantsSeen).containsExactly(7L);
+        assertThat(TenantContext.isSet()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should hold back later events of an order while an earlier one is retried")
+    void shouldHoldBackLaterEventsDuringRetry() throws Exception {
+        // Given
+        long confirmed = record(new OrderEvent.OrderConfirmed(1L, 10L, "ORD-10", 5L, LocalDateTime.now()));
+        long cancelled = record(new OrderEvent.OrderCancelled(1L, 10L, "ORD-10", 5L, "Customer request",
+                LocalDateTime.now()));
+        failure = new IllegalStateException("listener down");
+
+        // When - the first delivery fails
+        relay.pollOnce();
+
+        // Then
+        Map<String, Object> row = row(confirmed);
+        assertThat(row).containsEntry("status", "RETRY").containsEntry("attempts", 1);
+        assertThat(((Timestamp) row.get("next_attempt_at")).toLocalDateTime()).isAfter(LocalDateTime.now());
+        assertThat(row(cancelled)).containsEntry("status", "PENDING");
+        assertThat(relay.pollOnce()).isZero();
+
+        // When - the retry is due and succeeds
+        failure = null;
+        jdbc.update("UPDATE outbox_events SET next_attempt_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)), confirmed);
+        relay.pollOnce();
+        relay.pollOnce();
+
+        // Then
+        assertThat(published).extracting(event -> event.getClass().getSimpleName())
+                .containsExactly("OrderConfirmed", "OrderCancelled");
+        assertThat(row(cancelled)).containsEntry("status", "PUBLISHED");
+    }
+
+    @Test
+    @DisplayName("Should mark unreadable events failed without blocking the order")
+    void shouldFailUnknownEventTypes() throws Exception {
+        // Given
+        jdbc.update("INSERT INTO outbox_events (tenant_id, aggregate_type, aggregate_id, event_type, payload) "
+                + "VALUES (1, 'ORDER', 10, 'OrderRenamed', '{}')");
+        long completed = record(new OrderEvent.OrderCompleted(1L, 10L, "ORD-10", 5L, LocalDateTime.now()));
+
+        // When
+        relay.pollOnce();
+        relay.pollOnce();
+
+        // Then
+        assertThat(jdbc.queryForObject("SELECT status FROM outbox_events WHERE event_type = 'OrderRenamed'",
+                String.class)).isEqualTo("FAILED");
+        assertThat(row(completed)).containsEntry("status", "PUBLISHED");
+        assertThat(registry.get("events.outbox.deliveries").tag("outcome", "failed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private void publish(Object event) {
+        if (failure != null) {
+            throw failure;
+        }
+        tenantsSeen.add(TenantContext.getCurrentTenant());
+        published.add((DomainEvent) event);
+    }
+
+    private long record(OrderEvent event) throws Exception {
+        jdbc.update("INSERT INTO outbox_events (tenant_id, aggregate_type, aggregate_id, event_type, payload) "
+                        + "VALUES (?, ?, ?, ?, ?)",
+                event.tenantId(), event.aggregateType(), event.aggregateId(), event.getClass().getSimpleName(),
+                objectMapper.writeValueAsString(event));
+        return jdbc.queryForObject("SELECT MAX(id) FROM outbox_events", Long.class);
+    }
+
+    private Map<String, Object> row(long id) {
+        return jdbc.queryForMap("SELECT status, attempts, next_attempt_at FROM outbox_events WHERE id = ?", id);
+    }
+}
@@ -0,0 +1,194 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.mail.EmailOutboxRelay;
+import com.smtech.SM_Caterer.config.mail.EmailOutboxStore;
+import com.smtech.SM_Caterer.config.mail.OutboxEmail;
+import com.smtech.SM_Caterer.config.mail.OutboxEmailSender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox relay tests against an in-memory H2 email_logs table and a
+ * recording sender.
+ */
+@DisplayName("EmailOutboxRelay Tests")
+class EmailOutboxRelayTest extends BaseUnitTest {
+
+    private final List<Long> delivered = new CopyOnWriteArrayList<>();
+    private volatile MessagingException failure;
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbc;
+    private EmailOutboxProperties properties;
+    private SimpleMeterRegistry registry;
+    private EmailOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:outbox;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS email_logs");
+        jdbc.execute("""
+                CREATE TABLE email_logs (
+                    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+                    tenant_id BIGINT NOT NULL,
+                    to_email VARCHAR(255) NOT NULL,
+                    to_name VARCHAR(200),
+                    subject VARCHAR(500) NOT NULL,
+                    body CLOB,
+                    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+                    sent_at TIMESTAMP,
+                    error_message CLOB,
+                    retry_count INT DEFAULT 0,
+                    attachment_path VARCHAR(500),
+                    attachment_name VARCHAR(255),
+                    next_attempt_at TIMESTAMP,
+                    locked_until TIMESTAMP,
+                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    deleted_at TIMESTAMP,
+                    version BIGINT DEFAULT 0)""");
+
+        properties = new EmailOutboxProperties();
+        properties.setMaxAttempts(2);
+        registry = new SimpleMeterRegistry();
+        relay = new EmailOutboxRelay(List.of(new EmailOutboxStore("default", dataSource)), this::send,
+                properties, registry);
+    }
+
+    @Test
+    @DisplayName("Should deliver pending emails once and mark them sent")
+    void shouldDeliverPendingEmails() {
+        // Given
+        long first = queue(1L);
+        long second = queue(1L);
+
+        // When
+        int processed = relay.pollOnce();
+
+        // Then
+        assertThat(processed).isEqualTo(2);
+        assertThat(delivered).containsExactly(first, second);
+        assertThat(status(first)).containsEntry("status", "SENT");
+        assertThat(relay.pollOnce()).isZero();
+        assertThat(registry.get("email.outbox.latency").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should retry failed emails with backoff and dead-letter them after max attempts")
+    void shouldRetryThenDeadLetter() {
+        // Given
+        long id = queue(1L);
+        failure = new MessagingException("421 Service not available");
+
+        // When - first attempt fails and is scheduled for later
+        relay.pollOnce();
+
+        // Then
+        Map<String, Object> row = status(id);
+        assertThat(row).containsEntry("status", "RETRY").containsEntry("retry_count", 1);
+        assertThat(((Timestamp) row.get("next_attempt_at")).toLocalDateTime()).isAfter(LocalDateTime.now());
+        assertThat(relay.pollOnce()).isZero();
+
+        // When - the retry is due and fails again
+        jdbc.update("UPDATE email_logs SET next_attempt_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)), id);
+        relay.pollOnce();
+
+        // Then
+        assertThat(status(id)).containsEntry("status", "DEAD_LETTER").containsEntry("retry_count", 2);
+    }
+
+    @Test
+    @DisplayName("Should dead-letter permanent failures without retrying")
+    void shouldDeadLetterPermanentFailure() {
+        // Given
+        long id = queue(1L);
+        failure = new OutboxEmailSender.PermanentFailure("Email is not configured for tenant 1");
+
+        // When
+        relay.pollOnce();
+
+        // Then
+        assertThat(status(id)).containsEntry("status", "DEAD_LETTER").containsEntry("retry_count", 1);
+    }
+
+    @Test
+    @DisplayName("Should defer emails of a tenant over its send rate without delaying other tenants")
+    void shouldRateLimitPerTenant() {
+        // Given
+        properties.setRatePerMinutePerTenant(2);
+        long a1 = queue(1L);
+        long a2 = queue(1L);
+        long a3 = queue(1L);
+        long b1 = queue(2L);
+
+        // When
+        relay.pollOnce();
+
+        // Then
+        assertThat(delivered).containsExactly(a1, a2, b1);
+        Map<String, Object> deferred = status(a3);
+        assertThat(deferred).containsEntry("status", "PENDING").containsEntry("retry_count", 0);
+        assertThat(((Timestamp) deferred.get("next_attempt_at")).toLocalDateTime()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Should skip rows locked by another worker and reclaim expired leases")
+    void shouldSkipLockedRowsAndReclaimExpiredLeases() throws Exception {
+        // Given
+        long locked = queue(1L);
+        long abandoned = queue(1L);
+        jdbc.update("UPDATE email_logs SET status = 'SENDING', locked_until = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), abandoned);
+
+        try (Connection other = dataSource.getConnection()) {
+            other.setAutoCommit(false);
+            other.createStatement().executeQuery("SELECT id FROM email_logs WHERE id = " + locked + " FOR UPDATE");
+
+            // When
+            relay.pollOnce();
+
+            // Then
+            assertThat(delivered).containsExactly(abandoned);
+            other.rollback();
+        }
+        relay.pollOnce();
+        assertThat(delivered).containsExactly(abandoned, locked);
+    }
+
+    private void send(OutboxEmail email) throws MessagingException {
+        if (failure != null) {
+            throw failure;
+        }
+        delivered.add(email.id());
+    }
+
+    private long queue(Long tenantId) {
+        jdbc.update("INSERT INTO email_logs (tenant_id, to_email, subject, body) VALUES (?, ?, ?, ?)",
+                tenantId, "customer@example.com", "Order Confirmation", "<p>Thanks</p>");
+        return jdbc.queryForObject("SELECT MAX(id) FROM email_logs", Long.class);
+    }
+
+    private Map<String, Object> status(long id) {
+        return jdbc.queryForMap(
+                "SELECT status, retry_count, next_attempt_at FROM email_logs WHERE id = ?", id);
+    }
+}
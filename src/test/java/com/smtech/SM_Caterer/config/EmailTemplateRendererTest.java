@@ -0,0 +1,111 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.mail.EmailTemplate;
+import com.smtech.SM_Caterer.config.mail.EmailTemplateRenderer;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that precompiled rendering matches a plain Thymeleaf render of the
+ * real templates under templates/email.
+ */
+@DisplayName("EmailTemplateRenderer Tests")
+class EmailTemplateRendererTest extends BaseUnitTest {
+
+    private TemplateEngine templateEngine;
+    private EmailTemplateRenderer renderer;
+    private Tenant tenant;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        renderer = new EmailTemplateRenderer(templateEngine, true);
+        renderer.preload();
+
+        tenant = Tenant.builder()
+                .tenantCode("TPL01")
+                .businessName("Annapurna Caterers")
+                .primaryColor("#aa3300")
+                .tagline("Taste of home")
+                .build();
+        tenant.setId(1L);
+    }
+
+    @Test
+    @DisplayName("Should produce the same HTML as Thymeleaf, escaping message values")
+    void shouldMatchThymeleafOutput() {
+        // Given
+        Map<String, Object> variables = Map.of(
+                "customerName", "O'Brien & Sons <VIP>",
+                "orderNumber", "ORD-2026-0001",
+                "eventDate", "19-10-2026",
+                "totalAmount", "₹12,500.00");
+
+        // When
+        String rendered = renderer.render(EmailTemplate.ORDER_CONFIRMATION, tenant, variables);
+
+        // Then
+        assertThat(rendered).isEqualTo(thymeleaf("email/order-confirmation", variables));
+        assertThat(rendered).contains("O&#39;Brien &amp; Sons &lt;VIP&gt;", "#aa3300", "Taste of home");
+    }
+
+    @Test
+    @DisplayName("Should rebuild the tenant shell when branding changes")
+    void shouldPickUpBrandingChanges() {
+        // Given
+        Map<String, Object> variables = Map.of("message", "Hello");
+        String before = renderer.render(EmailTemplate.TEST_EMAIL, tenant, variables);
+
+        // When
+        tenant.setBusinessName("Annapurna Events");
+        tenant.setTagline(null);
+        String after = renderer.render(EmailTemplate.TEST_EMAIL, tenant, variables);
+
+        // Then
+        assertThat(before).contains("Annapurna Caterers").contains("Taste of home");
+        assertThat(after).contains("Annapurna Events").doesNotContain("Annapurna Caterers", "Taste of home");
+        assertThat(after).isEqualTo(thymeleaf("email/test-email", variables));
+    }
+
+    @Test
+    @DisplayName("Should fail preload when a template does not print a message variable")
+    void shouldFailPreloadForBrokenTemplate() {
+        // Given - every template name resolves to its own literal text
+        TemplateEngine broken = new TemplateEngine();
+        broken.setTemplateResolver(new StringTemplateResolver());
+
+        // When / Then
+        assertThatThrownBy(() -> new EmailTemplateRenderer(broken, true).preload())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("email/test-email");
+    }
+
+    private String thymeleaf(String template, Map<String, Object> variables) {
+        Context context = new Context();
+        context.setVariable("businessName", tenant.getBusinessName());
+        context.setVariable("brandColor", tenant.getEffectivePrimaryColor());
+        context.setVariable("tagline", tenant.getTagline());
+        context.setVariables(variables);
+        return templateEngine.process(template, context);
+    }
+}
@@ -0,0 +1,129 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.planning.RecipeGraph;
+import com.smtech.SM_Caterer.config.planning.RecipeMatrix;
+import com.smtech.SM_Caterer.config.planning.RequirementExplosion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("RecipeGraph Tests")
+class RecipeGraphTest extends BaseUnitTest {
+
+    private static Object[] recipe(long menuId, int serves, long materialId, String quantity) {
+        return new Object[]{menuId, serves, materialId, new BigDecimal(quantity)};
+    }
+
+    private static Object[] component(long menuId, int serves, long componentId, String quantity) {
+        return new Object[]{menuId, serves, componentId, new BigDecimal(quantity)};
+    }
+
+    private static double required(RecipeMatrix recipes, long menuId, int servings, long materialId) {
+        double[] matrix = RequirementExplosion.explode(recipes, new int[]{recipes.menuRow(menuId)}, new int[]{0},
+                new int[]{servings}, 1, Integer.MAX_VALUE);
+        for (int c = 0; c < recipes.materialCount(); c++) {
+            if (recipes.materialId(c) == materialId) {
+                return matrix[c];
+            }
+        }
+        return 0;
+    }
+
+    @Test
+    @DisplayName("Should order every component before the menus using it")
+    void shouldOrderComponentsFirst() {
+        // Given - thali uses biryani and dal; both use the gravy base
+        RecipeGraph graph = RecipeGraph.build(List.of(
+                component(1, 1, 2, "1.00"),
+                component(1, 1, 3, "1.00"),
+                component(2, 10, 4, "5.00"),
+                component(3, 10, 4, "2.00")));
+
+        // When
+        List<Long> order = graph.bottomUp();
+
+        // Then
+        assertThat(order).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(order.indexOf(4L)).isLessThan(order.indexOf(2L)).isLessThan(order.indexOf(1L));
+        assertThat(order.indexOf(3L)).isLessThan(order.indexOf(1L));
+        assertThat(graph.closure(List.of(2L))).containsExactly(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should reject a cycle and detect one before it is added")
+    void shouldDetectCycles() {
+        // Given
+        RecipeGraph chain = RecipeGraph.build(List.of(
+                component(1, 1, 2, "1.00"),
+                component(2, 1, 3, "1.00")));
+
+        // Then
+        assertThat(chain.wouldCycle(3L, 1L)).isTrue();
+        assertThat(chain.wouldCycle(2L, 2L)).isTrue();
+        assertThat(chain.wouldCycle(1L, 3L)).isFalse();
+
+        RecipeGraph cyclic = RecipeGraph.build(List.of(
+                component(1, 1, 2, "1.00"),
+                component(2, 1, 3, "1.00"),
+                component(3, 1, 2, "1.00")));
+        assertThatThrownBy(cyclic::bottomUp)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("[1, 2, 3]");
+    }
+
+    @Test
+    @DisplayName("Should flatten shared components into each dish's materials")
+    void shouldFlattenSharedComponents() {
+        // Given - gravy base (4) serves 20 from 4 kg tomato (100); biryani (2) serves 10 from 5 kg rice (200)
+        // and 10 serves of gravy; dal (3) serves 10 from 5 serves of gravy and 1 kg dal (300);
+        // thali (1) is one serve each of biryani and dal, and nothing else
+        RecipeGraph graph = RecipeGraph.build(List.of(
+                component(1, 1, 2, "1.00"),
+                component(1, 1, 3, "1.00"),
+                component(2, 10, 4, "10.00"),
+                component(3, 10, 4, "5.00")));
+        RecipeMatrix recipes = RecipeMatrix.build(List.of(
+                recipe(4, 20, 100, "4.00"),
+                recipe(2, 10, 200, "5.00"),
+                recipe(3, 10, 300, "1.00")), graph);
+
+        // Then - per serve of gravy 0.2 kg tomato
+        assertThat(required(recipes, 4, 10, 100)).isCloseTo(2.0, within(1e-9));
+        assertThat(required(recipes, 2, 10, 100)).isCloseTo(2.0, within(1e-9));
+        assertThat(required(recipes, 2, 10, 200)).isCloseTo(5.0, within(1e-9));
+        assertThat(required(recipes, 3, 10, 100)).isCloseTo(1.0, within(1e-9));
+        assertThat(recipes.menuRow(1L)).isNotNegative();
+        assertThat(required(recipes, 1, 10, 100)).isCloseTo(3.0, within(1e-9));
+        assertThat(required(recipes, 1, 10, 200)).isCloseTo(5.0, within(1e-9));
+        assertThat(required(recipes, 1, 10, 300)).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should flatten a deep layered graph without re-expanding shared components")
+    void shouldFlattenDeepLayers() {
+        // Given - 40 layers of 2 menus, each using both menus of the layer below; there are 2^40 paths
+        // from the top to the single base material, so only memoized expansion finishes
+        List<Object[]> edges = new ArrayList<>();
+        for (int layer = 1; layer < 40; layer++) {
+            for (int m = 0; m < 2; m++) {
+                long menu = layer * 2L + m;
+                edges.add(component(menu, 2, (layer - 1) * 2L, "1.00"));
+                edges.add(component(menu, 2, (layer - 1) * 2L + 1, "1.00"));
+            }
+        }
+        RecipeMatrix recipes = RecipeMatrix.build(List.of(
+                recipe(0, 1, 100, "1.00"),
+                recipe(1, 1, 100, "1.00")), RecipeGraph.build(edges));
+
+        // Then - each layer takes half a serve of both menus below, so one serve needs 1 unit
+        assertThat(required(recipes, 79, 1, 100)).isCloseTo(1.0, within(1e-9));
+    }
+}
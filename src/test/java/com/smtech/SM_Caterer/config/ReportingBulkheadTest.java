@@ -0,0 +1,48 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.reporting.ReportingBulkhead;
+import com.smtech.SM_Caterer.exception.ReportCapacityExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReportingBulkhead Tests")
+class ReportingBulkheadTest extends BaseUnitTest {
+
+    @Test
+    @DisplayName("Should reject a tenant's report beyond its limit while other tenants still run")
+    void shouldLimitPerTenant() {
+        // Given
+        ReportingBulkhead bulkhead = new ReportingBulkhead(3, 2, 0, 10);
+        bulkhead.acquire(1L);
+        bulkhead.acquire(1L);
+
+        // When / Then
+        assertThatThrownBy(() -> bulkhead.acquire(1L))
+                .isInstanceOf(ReportCapacityExceededException.class)
+                .extracting("retryAfterSeconds").isEqualTo(10);
+        bulkhead.acquire(2L);
+        assertThat(bulkhead.getActive()).isEqualTo(3);
+        assertThat(bulkhead.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should free the tenant slot when the global limit rejects and on release")
+    void shouldReleaseSlots() {
+        // Given
+        ReportingBulkhead bulkhead = new ReportingBulkhead(1, 1, 0, 10);
+        ReportingBulkhead.Permit permit = bulkhead.acquire(1L);
+
+        // When - tenant 2 is rejected by the global limit
+        assertThatThrownBy(() -> bulkhead.acquire(2L))
+                .isInstanceOf(ReportCapacityExceededException.class);
+        permit.release();
+
+        // Then - tenant 2 did not leak its tenant slot
+        bulkhead.acquire(2L);
+        assertThat(bulkhead.getActive()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.planning.RecipeMatrix;
+import com.smtech.SM_Caterer.config.planning.RequirementExplosion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("RequirementExplosion Tests")
+class RequirementExplosionTest extends BaseUnitTest {
+
+    private static Object[] recipe(long menuId, int serves, long materialId, String quantity) {
+        return new Object[]{menuId, serves, materialId, new BigDecimal(quantity)};
+    }
+
+    private static int column(RecipeMatrix recipes, long materialId) {
+        for (int c = 0; c < recipes.materialCount(); c++) {
+            if (recipes.materialId(c) == materialId) {
+                return c;
+            }
+        }
+        throw new AssertionError("No column for material " + materialId);
+    }
+
+    @Test
+    @DisplayName("Should scale recipes by servings and serves count, per day")
+    void shouldScaleRecipesByServingsPerDay() {
+        // Given - paneer tikka serves 10 from 2 kg paneer and 0.5 kg curd; dal serves 20 from 1 kg dal
+        RecipeMatrix recipes = RecipeMatrix.build(List.of(
+                recipe(1, 10, 100, "2.00"),
+                recipe(2, 20, 300, "1.00"),
+                recipe(1, 10, 200, "0.50")));
+        int[] menuRows = {recipes.menuRow(1L), recipes.menuRow(2L), recipes.menuRow(1L), recipes.menuRow(99L)};
+        int[] days = {0, 0, 2, 1};
+        int[] servings = {150, 40, 50, 500};
+
+        // When
+        double[] matrix = RequirementExplosion.explode(recipes, menuRows, days, servings, 3, 1000);
+
+        // Then
+        int paneer = column(recipes, 100), curd = column(recipes, 200), dal = column(recipes, 300);
+        assertThat(recipes.menuRow(99L)).isEqualTo(-1);
+        assertThat(matrix[paneer * 3]).isCloseTo(30.0, within(1e-9));
+        assertThat(matrix[paneer * 3 + 1]).isZero();
+        assertThat(matrix[paneer * 3 + 2]).isCloseTo(10.0, within(1e-9));
+        assertThat(matrix[curd * 3]).isCloseTo(7.5, within(1e-9));
+        assertThat(matrix[dal * 3]).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should give the same requirements in parallel as on one thread")
+    void shouldMatchSequentialResultInParallel() {
+        // Given
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>();
+        for (long menu = 1; menu <= 200; menu++) {
+            for (int k = 0; k < 8; k++) {
+                rows.add(recipe(menu, 1 + random.nextInt(50), 1 + random.nextInt(500), "0.25"));
+            }
+        }
+        RecipeMatrix recipes = RecipeMatrix.build(rows);
+        int lines = 200_000, dayCount = 30;
+        int[] menuRows = new int[lines], days = new int[lines], servings = new int[lines];
+        for (int i = 0; i < lines; i++) {
+            menuRows[i] = recipes.menuRow(1L + random.nextInt(200));
+            days[i] = random.nextInt(dayCount);
+            servings[i] = 1 + random.nextInt(300);
+        }
+
+        // When
+        double[] sequential = RequirementExplosion.explode(recipes, menuRows, days, servings, dayCount, Integer.MAX_VALUE);
+        double[] parallel = RequirementExplosion.explode(recipes, menuRows, days, servings, dayCount, 1000);
+
+        // Then
+        assertThat(parallel).hasSameSizeAs(sequential);
+        for (int i = 0; i < sequential.length; i++) {
+            assertThat(parallel[i]).isCloseTo(sequential[i], within(1e-6 * Math.max(1, sequential[i])));
+        }
+    }
+}
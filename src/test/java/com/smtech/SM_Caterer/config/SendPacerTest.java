@@ -0,0 +1,50 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.mail.SendPacer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SendPacer Tests")
+class SendPacerTest extends BaseUnitTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 8, 0);
+
+    @Test
+    @DisplayName("Tenants sharing a host are paced by the host rate")
+    void sharedHostIsPacedByHostRate() {
+        // Given
+        SendPacer pacer = new SendPacer(START, 60, 600);
+
+        // When
+        LocalDateTime first = pacer.next("smtp.example.com", 1L);
+        LocalDateTime second = pacer.next("smtp.example.com", 2L);
+        LocalDateTime third = pacer.next("smtp.example.com", 1L);
+
+        // Then
+        assertThat(first).isEqualTo(START);
+        assertThat(second).isEqualTo(START.plusSeconds(1));
+        assertThat(third).isEqualTo(START.plusSeconds(2));
+    }
+
+    @Test
+    @DisplayName("A tenant is paced by its own rate and hosts do not delay each other")
+    void tenantRateAndIndependentHosts() {
+        // Given
+        SendPacer pacer = new SendPacer(START, 600, 30);
+
+        // When
+        LocalDateTime first = pacer.next("smtp.a.com", 1L);
+        LocalDateTime second = pacer.next("smtp.a.com", 1L);
+        LocalDateTime otherHost = pacer.next("smtp.b.com", 2L);
+
+        // Then
+        assertThat(first).isEqualTo(START);
+        assertThat(second).isEqualTo(START.plusSeconds(2));
+        assertThat(otherHost).isEqualTo(START);
+    }
+}
@@ -0,0 +1,191 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.mail.SmtpSettings;
+import com.smtech.SM_Caterer.config.mail.SmtpTransportPool;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.NoSuchProviderException;
+import jakarta.mail.Provider;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.URLName;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SMTP connection pool tests against an in-process fake transport that
+ * records connections and sends.
+ */
+@DisplayName("SmtpTransportPool Tests")
+class SmtpTransportPoolTest extends BaseUnitTest {
+
+    private static final List<FakeTransport> CONNECTIONS = new CopyOnWriteArrayList<>();
+
+    private MailTransportProperties properties;
+    private SmtpTransportPool pool;
+    private Tenant tenant;
+
+    @BeforeEach
+    void setUp() {
+        CONNECTIONS.clear();
+        properties = new MailTransportProperties();
+        properties.setMaxMessagesPerConnection(3);
+        pool = fakePool(properties);
+
+        tenant = Tenant.builder()
+                .tenantCode("MAIL01")
+                .businessName("Mail Caterers")
+                .smtpHost("smtp.example.com")
+                .smtpPort(587)
+                .smtpUsername("orders@example.com")
+                .smtpPassword("secret")
+                .smtpUseTls(true)
+                .build();
+        tenant.setId(1L);
+    }
+
+    @Test
+    @DisplayName("Should reuse one connection for consecutive sends")
+    void shouldReuseConnection() throws Exception {
+        // When
+        send(3);
+
+        // Then
+        assertThat(CONNECTIONS).hasSize(1);
+        assertThat(CONNECTIONS.get(0).sent).hasValue(3);
+        assertThat(pool.getConnects()).isEqualTo(1);
+        assertThat(pool.getReuses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should retire a connection after the per-connection message limit")
+    void shouldRetireAfterMessageLimit() throws Exception {
+        // When
+        send(4);
+
+        // Then
+        assertThat(CONNECTIONS).hasSize(2);
+        assertThat(CONNECTIONS.get(0).isConnected()).isFalse();
+        assertThat(pool.getOpenConnections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the pool when SMTP settings change")
+    void shouldRebuildOnSettingsChange() throws Exception {
+        // Given
+        send(1);
+
+        // When
+        tenant.setSmtpPassword("rotated");
+        send(1);
+
+        // Then
+        assertThat(CONNECTIONS).hasSize(2);
+        assertThat(CONNECTIONS.get(0).isConnected()).isFalse();
+        assertThat(CONNECTIONS.get(1).password).isEqualTo("rotated");
+        assertThat(SmtpSettings.of(tenant).toString()).doesNotContain("rotated");
+    }
+
+    @Test
+    @DisplayName("Should retry once on a fresh connection when a pooled one was dropped")
+    void shouldReconnectWhenPooledConnectionFails() throws Exception {
+        // Given
+        send(1);
+        CONNECTIONS.get(0).broken.set(true);
+
+        // When
+        send(1);
+
+        // Then
+        assertThat(CONNECTIONS).hasSize(2);
+        assertThat(CONNECTIONS.get(1).sent).hasValue(1);
+        assertThat(pool.getOpenConnections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should close idle connections on eviction and on invalidate")
+    void shouldEvictIdleConnections() throws Exception {
+        // Given
+        properties.setIdleTimeoutSeconds(0);
+        pool = fakePool(properties);
+        send(1);
+
+        // When
+        Thread.sleep(5);
+        pool.evictIdle();
+
+        // Then
+        assertThat(pool.getOpenConnections()).isZero();
+        assertThat(CONNECTIONS.get(0).isConnected()).isFalse();
+
+        send(1);
+        pool.invalidate(tenant.getId());
+        assertThat(pool.getOpenConnections()).isZero();
+    }
+
+    private void send(int count) throws MessagingException {
+        for (int i = 0; i < count; i++) {
+            MimeMessage message = pool.createMimeMessage(tenant);
+            message.setFrom(new InternetAddress("orders@example.com"));
+            message.setRecipient(Message.RecipientType.TO, new InternetAddress("customer@example.com"));
+            message.setSubject("Order " + i);
+            message.setText("Body");
+            pool.send(tenant, message);
+        }
+    }
+
+    private static SmtpTransportPool fakePool(MailTransportProperties properties) {
+        return new SmtpTransportPool(properties) {
+            @Override
+            protected Session createSession(SmtpSettings settings) {
+                Session session = super.createSession(settings);
+                try {
+                    session.setProvider(new Provider(Provider.Type.TRANSPORT, "smtp",
+                            FakeTransport.class.getName(), "test", null));
+                } catch (NoSuchProviderException e) {
+                    throw new IllegalStateException(e);
+                }
+                return session;
+            }
+        };
+    }
+
+    public static class FakeTransport extends Transport {
+
+        final AtomicBoolean broken = new AtomicBoolean();
+        final AtomicInteger sent = new AtomicInteger();
+        String password;
+
+        public FakeTransport(Session session, URLName urlName) {
+            super(session, urlName);
+        }
+
+        @Override
+        protected boolean protocolConnect(String host, int port, String user, String password) {
+            this.password = password;
+            CONNECTIONS.add(this);
+            return true;
+        }
+
+        @Override
+        public void sendMessage(Message message, Address[] addresses) throws MessagingException {
+            if (broken.get()) {
+                throw new MessagingException("421 Connection closed by server");
+            }
+            sent.incrementAndGet();
+        }
+    }
+}
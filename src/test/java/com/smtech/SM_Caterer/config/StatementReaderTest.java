@@ -0,0 +1,137 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.reconciliation.StatementLine;
+import com.smtech.SM_Caterer.config.reconciliation.StatementReader;
+import com.smtech.SM_Caterer.config.reconciliation.StatementRowMapper;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StatementReader Tests")
+class StatementReaderTest extends BaseUnitTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final List<StatementLine> lines = new ArrayList<>();
+    private final StatementRowMapper mapper = new StatementRowMapper(lines::add);
+
+    @Test
+    @DisplayName("Should read credit lines of a bank CSV below its preamble")
+    void shouldReadCreditLinesOfBankCsv() throws Exception {
+        // Given
+        String csv = """
+                Account No,50100012345678
+                Statement From,01/01/2026,To,31/01/2026
+
+                Txn Date,Narration,Chq./Ref.No.,Withdrawal Amt.,Deposit Amt.,Closing Balance
+                05/01/2026,"UPI/401234567890/RAVI KUMAR/Payment",401234567890,,"12,500.00","1,12,500.00"
+                06/01/2026,ATM WITHDRAWAL,000123,2000.00,,"1,10,500.00"
+                07-Jan-2026,NEFT-SHARMA CATERING ADVANCE,N007260012345,,25000,"1,35,500.00"
+                ,Closing Balance,,,,"1,35,500.00"
+                """;
+
+        // When
+        StatementReader.readCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), mapper);
+
+        // Then
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).lineNumber()).isEqualTo(5);
+        assertThat(lines.get(0).date()).isEqualTo(LocalDate.of(2026, 1, 5));
+        assertThat(lines.get(0).amount()).isEqualByComparingTo("12500.00");
+        assertThat(lines.get(0).reference()).isEqualTo("401234567890");
+        assertThat(lines.get(0).narration()).contains("RAVI KUMAR");
+        assertThat(lines.get(1).date()).isEqualTo(LocalDate.of(2026, 1, 7));
+        assertThat(lines.get(1).amount()).isEqualByComparingTo("25000");
+        assertThat(mapper.getSkipped()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should skip debits of a single amount column with a Dr/Cr column")
+    void shouldSkipDebitsOfSingleAmountColumn() throws Exception {
+        // Given
+        String csv = """
+                Date,Description,UTR,Amount,Dr/Cr
+                2026-02-01,Customer payment,UTR001,5000.00,CR
+                2026-02-02,Vendor payment,UTR002,3000.00,DR
+                """;
+
+        // When
+        StatementReader.readCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), mapper);
+
+        // Then
+        assertThat(lines).extracting(StatementLine::reference).containsExactly("UTR001");
+        assertThat(mapper.getSkipped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stream an Excel statement with date and number cells")
+    void shouldStreamExcelStatement() throws Exception {
+        // Given
+        Path file = tempDir.resolve("statement.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("Statement");
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("dd/mm/yy"));
+            CellStyle amountStyle = workbook.createCellStyle();
+            amountStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0"));
+
+            sheet.createRow(0).createCell(0).setCellValue("HDFC Bank statement");
+            Row header = sheet.createRow(2);
+            header.createCell(0).setCellValue("Value Date");
+            header.createCell(1).setCellValue("Particulars");
+            header.createCell(2).setCellValue("UTR No");
+            header.createCell(3).setCellValue("Credit (INR)");
+            Row row = sheet.createRow(3);
+            row.createCell(0).setCellValue(LocalDate.of(2026, 3, 15));
+            row.getCell(0).setCellStyle(dateStyle);
+            row.createCell(1).setCellValue("IMPS from Anita");
+            // no UTR cell at all
+            row.createCell(3).setCellValue(7250.5);
+            row.getCell(3).setCellStyle(amountStyle);
+            workbook.write(out);
+        }
+
+        // When
+        StatementReader.readXlsx(file, mapper);
+
+        // Then
+        assertThat(lines).hasSize(1);
+        StatementLine line = lines.get(0);
+        assertThat(line.lineNumber()).isEqualTo(4);
+        assertThat(line.date()).isEqualTo(LocalDate.of(2026, 3, 15));
+        assertThat(line.amount()).isEqualByComparingTo("7250.50");
+        assertThat(line.reference()).isNull();
+        assertThat(line.narration()).isEqualTo("IMPS from Anita");
+    }
+
+    @Test
+    @DisplayName("Should not read lines from a file without a recognisable header")
+    void shouldNotReadLinesWithoutHeader() throws Exception {
+        // Given
+        String csv = "foo,bar\n1,2\n";
+
+        // When
+        StatementReader.readCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), mapper);
+
+        // Then
+        assertThat(mapper.hasHeader()).isFalse();
+        assertThat(lines).isEmpty();
+    }
+}
@@ -0,0 +1,274 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.sharding.ShardRegistry;
+import com.smtech.SM_Caterer.config.sharding.TenantMove;
+import com.smtech.SM_Caterer.config.sharding.TenantShardDirectory;
+import com.smtech.SM_Caterer.config.sharding.TenantShardMover;
+import com.smtech.SM_Caterer.config.sharding.TenantShardRoutingDataSource;
+import com.smtech.SM_Caterer.config.sharding.TenantTable;
+import com.smtech.SM_Caterer.context.TenantContext;
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
+import com.smtech.SM_Caterer.exception.TenantMovingException;
+import jakarta.persistence.Entity;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tenant move and shard routing tests using two in-memory H2 databases
+ * (MySQL mode) with a reduced tenant schema, plus a move over every table of
+ * {@link TenantTable#ALL} with the schema of the mapped entities.
+ */
+@DisplayName("TenantShardMover Tests")
+class TenantShardMoverTest extends BaseUnitTest {
+
+    private static final List<TenantTable> TABLES = List.of(
+            TenantTable.root("tenants"),
+            TenantTable.owned("users"),
+            TenantTable.owned("orders"),
+            TenantTable.child("order_menu_items", "order_id", "orders"));
+
+    private JdbcTemplate defaultShard;
+    private JdbcTemplate shardB;
+    private ShardRegistry registry;
+    private TenantShardDirectory directory;
+    private TenantShardMover mover;
+
+    @BeforeEach
+    void setUp() {
+        DataSource defaultDb = database("shard_default");
+        DataSource shardBDb = database("shard_b");
+        defaultShard = new JdbcTemplate(defaultDb);
+        shardB = new JdbcTemplate(shardBDb);
+
+        defaultShard.update("INSERT INTO tenants (id, name) VALUES (1, 'Moving'), (2, 'Staying')");
+        defaultShard.update("INSERT INTO users (id, tenant_id, username, email) VALUES "
+                + "(10, 1, 'alice', 'alice@example.com'), (20, 2, 'bob', 'bob@example.com')");
+        for (int i = 1; i <= 7; i++) {
+            defaultShard.update("INSERT INTO orders (id, tenant_id, total) VALUES (?, 1, ?)", 100 + i, i * 10);
+            defaultShard.update("INSERT INTO order_menu_items (id, order_id, quantity) VALUES (?, ?, 5)", 1000 + i, 100 + i);
+        }
+        defaultShard.update("INSERT INTO orders (id, tenant_id, total) VALUES (200, 2, 99)");
+
+        registry = new ShardRegistry("default", defaultDb, Map.of("b", shardBDb));
+        directory = new TenantShardDirectory(registry);
+        mover = new TenantShardMover(registry, directory, TABLES, 3, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mover.destroy();
+        TenantContext.clear();
+    }
+
+    @Test
+    @DisplayName("Should copy a tenant's rows in batches, reroute it and clean up the source")
+    void shouldMoveTenant() {
+        // When
+        TenantMove move = mover.move(1L, "b");
+
+        // Then
+        assertThat(move.getPhase()).isEqualTo(TenantMove.Phase.COMPLETED);
+        assertThat(directory.shardFor(1L)).isEqualTo("b");
+        assertThat(directory.shardFor(2L)).isEqualTo("default");
+        assertThat(directory.isMoving(1L)).isFalse();
+
+        assertThat(count(shardB, "orders WHERE tenant_id = 1")).isEqualTo(7);
+        assertThat(count(shardB, "order_menu_items")).isEqualTo(7);
+        assertThat(count(shardB, "users WHERE username = 'alice'")).isEqualTo(1);
+        assertThat(count(shardB, "orders WHERE tenant_id = 2")).isZero();
+
+        // Tenant rows leave the source, except the tenants row kept on the default shard
+        assertThat(count(defaultShard, "orders WHERE tenant_id = 1")).isZero();
+        assertThat(count(defaultShard, "order_menu_items")).isZero();
+        assertThat(count(defaultShard, "tenants WHERE id = 1")).isEqualTo(1);
+        assertThat(count(defaultShard, "orders WHERE tenant_id = 2")).isEqualTo(1);
+
+        assertThat(directory.findTenantByLogin("alice@example.com")).isEqualTo(1L);
+        assertThat(directory.findTenantByLogin("bob")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should move a tenant back to the default shard")
+    void shouldMoveTenantBack() {
+        // Given
+        mover.move(1L, "b");
+
+        // When
+        TenantMove move = mover.move(1L, "default");
+
+        // Then
+        assertThat(move.getPhase()).isEqualTo(TenantMove.Phase.COMPLETED);
+        assertThat(directory.shardFor(1L)).isEqualTo("default");
+        assertThat(count(defaultShard, "orders WHERE tenant_id = 1")).isEqualTo(7);
+        assertThat(count(shardB, "tenants")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refuse a move when the target already holds rows of the tenant")
+    void shouldRejectMoveOntoExistingRows() {
+        // Given
+        shardB.update("INSERT INTO tenants (id, name) VALUES (1, 'Stale copy')");
+
+        // When / Then
+        assertThatThrownBy(() -> mover.move(1L, "b"))
+                .isInstanceOf(InvalidOperationException.class)
+                .hasMessageContaining("already has tenants rows");
+        assertThat(directory.shardFor(1L)).isEqualTo("default");
+    }
+
+    @Test
+    @DisplayName("Should route by tenant and reject writes while the tenant's writes are frozen")
+    void shouldRouteByTenant() {
+        // Given
+        mover.move(1L, "b");
+        DataSource routing = new LazyConnectionDataSourceProxy(new TenantShardRoutingDataSource(
+                Map.of("default", registry.getDataSource("default"), "b", registry.getDataSource("b")),
+                "default", directory, 30));
+        JdbcTemplate jdbc = new JdbcTemplate(routing);
+        TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        readOnly.setReadOnly(true);
+
+        // When / Then
+        assertThat(TenantContext.callWithTenant(1L, () -> count(jdbc, "orders"))).isEqualTo(7);
+        assertThat(TenantContext.callWithTenant(2L, () -> count(jdbc, "orders"))).isEqualTo(1);
+        assertThat(count(jdbc, "users")).isEqualTo(1);
+
+        defaultShard.update("UPDATE tenant_shards SET status = 'MOVING' WHERE tenant_id = 1");
+        directory.refresh();
+        assertThatThrownBy(() -> TenantContext.callWithTenant(1L, () -> count(jdbc, "orders")))
+                .isInstanceOf(TenantMovingException.class);
+        Integer frozenRead = TenantContext.callWithTenant(1L, () -> readOnly.execute(status -> count(jdbc, "orders")));
+        assertThat(frozenRead).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should move a tenant over every tenant table of the full schema")
+    void shouldMoveTenantOverAllTables() {
+        // Given - the production table list, including material_stock keyed by material_id
+        DataSource defaultDb = fullDatabase("full_default");
+        DataSource shardBDb = fullDatabase("full_b");
+        JdbcTemplate source = new JdbcTemplate(defaultDb);
+        JdbcTemplate target = new JdbcTemplate(shardBDb);
+        source.update("INSERT INTO tenants (id, tenant_code, business_name, status, created_at, updated_at) "
+                + "VALUES (1, 'MOVING', 'Moving Caterer', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        source.update("INSERT INTO material_groups (id, tenant_id, group_code, status, created_at, updated_at) "
+                + "VALUES (10, 1, 'GRAINS', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        source.update("INSERT INTO units (id, tenant_id, unit_code, status, created_at, updated_at) "
+                + "VALUES (20, 1, 'KG', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        for (int i = 1; i <= 4; i++) {
+            source.update("INSERT INTO materials (id, tenant_id, material_group_id, unit_id, material_code, status, "
+                    + "created_at, updated_at) VALUES (?, 1, 10, 20, ?, 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                    100 + i, "RICE_" + i);
+            source.update("INSERT INTO material_stock (material_id, tenant_id, on_hand, reserved, minimum_stock, "
+                    + "is_low_stock, version, updated_at) VALUES (?, 1, ?, 0, 0, FALSE, 0, CURRENT_TIMESTAMP)",
+                    100 + i, i * 10);
+            source.update("INSERT INTO stock_movements (tenant_id, material_id, movement_type, quantity, created_at) "
+                    + "VALUES (1, ?, 'ADJUSTMENT', ?, CURRENT_TIMESTAMP)", 100 + i, i * 10);
+        }
+        ShardRegistry fullRegistry = new ShardRegistry("default", defaultDb, Map.of("b", shardBDb));
+        TenantShardDirectory fullDirectory = new TenantShardDirectory(fullRegistry);
+        TenantShardMover fullMover = new TenantShardMover(fullRegistry, fullDirectory, TenantTable.ALL, 3, 0);
+
+        // When
+        TenantMove move;
+        try {
+            move = fullMover.move(1L, "b");
+        } finally {
+            fullMover.destroy();
+        }
+
+        // Then
+        assertThat(move.getPhase()).isEqualTo(TenantMove.Phase.COMPLETED);
+        assertThat(fullDirectory.shardFor(1L)).isEqualTo("b");
+        assertThat(count(target, "material_stock")).isEqualTo(4);
+        assertThat(target.queryForObject("SELECT on_hand FROM material_stock WHERE material_id = 104", Integer.class))
+                .isEqualTo(40);
+        assertThat(count(target, "stock_movements")).isEqualTo(4);
+        assertThat(count(source, "material_stock")).isZero();
+        assertThat(count(source, "materials")).isZero();
+        assertThat(count(source, "tenants WHERE id = 1")).isEqualTo(1);
+    }
+
+    private int count(JdbcTemplate jdbc, String from) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + from, Integer.class);
+    }
+
+    private DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("DROP ALL OBJECTS");
+        template.execute("CREATE TABLE tenants (id BIGINT PRIMARY KEY, name VARCHAR(50), "
+                + "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+        template.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, tenant_id BIGINT REFERENCES tenants(id), "
+                + "username VARCHAR(50), email VARCHAR(100), updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+        template.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, tenant_id BIGINT REFERENCES tenants(id), "
+                + "total INT, updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+        template.execute("CREATE TABLE order_menu_items (id BIGINT PRIMARY KEY, "
+                + "order_id BIGINT REFERENCES orders(id), quantity INT)");
+        template.execute("CREATE TABLE tenant_shards (tenant_id BIGINT PRIMARY KEY, shard_key VARCHAR(50) NOT NULL, "
+                + "status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE', target_shard_key VARCHAR(50), "
+                + "move_started_at TIMESTAMP, updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+        return dataSource;
+    }
+
+    /**
+     * A database with the schema Hibernate derives from the entities, which
+     * production validates against the migrations. The migrations themselves
+     * use MySQL stored procedures and do not run on H2.
+     */
+    private DataSource fullDatabase(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("DROP ALL OBJECTS");
+
+        StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource)
+                .applySetting(AvailableSettings.DIALECT, H2Dialect.class.getName())
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .applySetting(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName())
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create")
+                .build();
+        try {
+            MetadataSources sources = new MetadataSources(serviceRegistry);
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+            for (BeanDefinition entity : scanner.findCandidateComponents("com.smtech.SM_Caterer.domain.entity")) {
+                sources.addAnnotatedClassName(entity.getBeanClassName());
+            }
+            sources.buildMetadata().buildSessionFactory().close();
+        } finally {
+            StandardServiceRegistryBuilder.destroy(serviceRegistry);
+        }
+        template.execute("CREATE TABLE tenant_shards (tenant_id BIGINT PRIMARY KEY, shard_key VARCHAR(50) NOT NULL, "
+                + "status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE', target_shard_key VARCHAR(50), "
+                + "move_started_at TIMESTAMP, updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+        return dataSource;
+    }
+}
@@ -0,0 +1,179 @@
+package com.smtech.SM_Caterer.config;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.datasource.ReadYourWritesTracker;
+import com.smtech.SM_Caterer.config.datasource.ReplicaHealthMonitor;
+import com.smtech.SM_Caterer.config.datasource.WorkloadRoutingDataSource;
+import com.smtech.SM_Caterer.context.ReportingContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing tests using in-memory H2 databases as the primary, replica and reporting pools.
+ * Each database holds a marker row naming itself, so a query shows where it ran.
+ */
+@DisplayName("WorkloadRoutingDataSource Tests")
+class WorkloadRoutingDataSourceTest extends BaseUnitTest {
+
+    private final AtomicBoolean replicaDown = new AtomicBoolean();
+
+    private JdbcTemplate replicaJdbc;
+    private ReplicaHealthMonitor monitor;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("routing_primary", "primary");
+        DataSource replicaDb = database("routing_replica", "replica");
+        DataSource reporting = database("routing_reporting", "reporting");
+        replicaJdbc = new JdbcTemplate(replicaDb);
+        replicaJdbc.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds INT)");
+        replicaJdbc.execute("DELETE FROM replica_lag");
+        replicaJdbc.update("INSERT INTO replica_lag VALUES (0)");
+
+        DataSource replica = new DelegatingDataSource(replicaDb) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (replicaDown.get()) {
+                    throw new SQLException("Connection refused");
+                }
+                return super.getConnection();
+            }
+        };
+
+        monitor = new ReplicaHealthMonitor(replica, 5, "SELECT seconds FROM replica_lag");
+        monitor.check();
+        DataSource routing = new LazyConnectionDataSourceProxy(new WorkloadRoutingDataSource(
+                primary, replica, reporting, monitor, new ReadYourWritesTracker(60_000)));
+
+        jdbc = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        ReportingContext.exit();
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the replica and others to the primary")
+    void shouldRouteByReadOnlyFlag() {
+        assertThat(readOnlyLocation()).isEqualTo("replica");
+        assertThat(readWriteLocation()).isEqualTo("primary");
+        assertThat(whereAmI()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should keep a user's reads on the primary right after that user writes")
+    void shouldStickToPrimaryAfterWrite() {
+        // Given
+        authenticateAs("alice");
+        readWrite.execute(status -> jdbc.update("UPDATE marker SET name = name"));
+
+        // When / Then
+        assertThat(readOnlyLocation()).isEqualTo("primary");
+        authenticateAs("bob");
+        assertThat(readOnlyLocation()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when replica lag exceeds tolerance")
+    void shouldFallBackWhenLagging() {
+        // Given
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 30");
+        monitor.check();
+
+        // When / Then
+        assertThat(monitor.isUsable()).isFalse();
+        assertThat(readOnlyLocation()).isEqualTo("primary");
+
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 1");
+        monitor.check();
+        assertThat(readOnlyLocation()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the replica is unavailable")
+    void shouldFallBackWhenReplicaDown() {
+        // Given
+        replicaDown.set(true);
+
+        // When - the first read hits the failure, later reads skip the replica
+        List<String> locations = List.of(
+                readOnlyLocation(),
+                readOnlyLocation());
+
+        // Then
+        assertThat(locations).containsOnly("primary");
+        assertThat(monitor.isAvailable()).isFalse();
+
+        replicaDown.set(false);
+        monitor.check();
+        assertThat(readOnlyLocation()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Should route read-only reporting transactions to the reporting pool")
+    void shouldRouteReportingWorkloadToReportingPool() {
+        // Given
+        ReportingContext.enter();
+
+        // When / Then - reads use the reporting pool, writes still go to the primary
+        assertThat(readOnlyLocation()).isEqualTo("reporting");
+        assertThat(readWriteLocation()).isEqualTo("primary");
+
+        ReportingContext.exit();
+        assertThat(readOnlyLocation()).isEqualTo("replica");
+    }
+
+    private String readOnlyLocation() {
+        return readOnly.execute(status -> whereAmI());
+    }
+
+    private String readWriteLocation() {
+        return readWrite.execute(status -> whereAmI());
+    }
+
+    private String whereAmI() {
+        return jdbc.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private void authenticateAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+
+    private DataSource database(String name, String marker) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+        template.execute("DELETE FROM marker");
+        template.update("INSERT INTO marker VALUES (?)", marker);
+        return dataSource;
+    }
+}
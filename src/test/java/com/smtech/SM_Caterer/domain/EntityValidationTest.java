@@ -451,19 +451,11 @@ class EntityValidationTest extends BaseUnitTest {
             }
 
             @Test
-            @DisplayName("recalculateBalance() should update advance and balance from payments")
-            void recalculateBalanceShouldUpdateFromPayments() {
+            @DisplayName("recalculateBalance() should update advance and balance from paid total")
+            void recalculateBalanceShouldUpdateFromPaidTotal() {
                 Order order = TestDataFactory.createOrder(tenant, customer, eventType);
                 order.setGrandTotal(new BigDecimal("50000.00"));
-
-                Payment payment1 = TestDataFactory.createPayment(tenant, order);
-                payment1.setAmount(new BigDecimal("15000.00"));
-                Payment payment2 = TestDataFactory.createPayment(tenant, order);
-                payment2.setAmount(new BigDecimal("10000.00"));
-
-                order.getPayments().clear();
-                order.addPayment(payment1);
-                order.addPayment(payment2);
+                order.setPaidTotal(new BigDecimal("25000.00"));
 
                 order.recalculateBalance();
 
@@ -476,12 +468,7 @@ class EntityValidationTest extends BaseUnitTest {
             void recalculateBalanceShouldNotGoNegative() {
                 Order order = TestDataFactory.createOrder(tenant, customer, eventType);
                 order.setGrandTotal(new BigDecimal("10000.00"));
-
-                Payment payment = TestDataFactory.createPayment(tenant, order);
-                payment.setAmount(new BigDecimal("15000.00"));
-
-                order.getPayments().clear();
-                order.addPayment(payment);
+                order.setPaidTotal(new BigDecimal("15000.00"));
 
                 order.recalculateBalance();
 
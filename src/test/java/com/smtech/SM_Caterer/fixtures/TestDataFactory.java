@@ -320,6 +320,7 @@ public class TestDataFactory {
                 .utilitySubtotal(new BigDecimal("5000.00"))
                 .totalAmount(new BigDecimal("55000.00"))
                 .grandTotal(new BigDecimal("55000.00"))
+                .paidTotal(new BigDecimal("20000.00"))
                 .advanceAmount(new BigDecimal("20000.00"))
                 .balanceAmount(new BigDecimal("35000.00"))
                 .status(OrderStatus.CONFIRMED)
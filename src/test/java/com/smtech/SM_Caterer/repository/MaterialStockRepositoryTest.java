@@ -0,0 +1,225 @@
+package com.smtech.SM_Caterer.repository;
+
+import com.smtech.SM_Caterer.base.BaseIntegrationTest;
+import com.smtech.SM_Caterer.domain.entity.MaterialStock;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import com.smtech.SM_Caterer.domain.enums.TenantStatus;
+import com.smtech.SM_Caterer.domain.repository.MaterialRepository;
+import com.smtech.SM_Caterer.domain.repository.MaterialStockRepository;
+import com.smtech.SM_Caterer.domain.repository.TenantRepository;
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
+import com.smtech.SM_Caterer.service.StockLedgerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Stock changes run in their own committed transactions here, so that
+ * concurrent consumers contend for the same balance as they do in production.
+ */
+@DisplayName("MaterialStockRepository Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MaterialStockRepositoryTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MaterialStockRepository materialStockRepository;
+
+    @Autowired
+    private MaterialRepository materialRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private StockLedgerService stockLedgerService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate tx;
+    private Tenant tenant;
+    private Long materialId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        tenant = tx.execute(status -> tenantRepository.save(Tenant.builder()
+                .tenantCode("STOCK_LEDGER_TENANT")
+                .businessName("Stock Ledger Caterer")
+                .email("stock-ledger@caterer.com")
+                .phone("9876543210")
+                .status(TenantStatus.ACTIVE)
+                .build()));
+        // Material master rows go in directly: the auditor stamps created_by with a user this context does not have
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO material_groups (tenant_id, group_code, status, version, created_at, updated_at) " +
+                "VALUES (?, 'GRAINS', 'ACTIVE', 0, ?, ?)", tenant.getId(), now, now);
+        jdbcTemplate.update("INSERT INTO units (tenant_id, unit_code, status, version, created_at, updated_at) " +
+                "VALUES (?, 'KG', 'ACTIVE', 0, ?, ?)", tenant.getId(), now, now);
+        jdbcTemplate.update("INSERT INTO materials (tenant_id, material_group_id, unit_id, material_code, cost_per_unit, " +
+                        "minimum_stock, current_stock, status, version, created_at, updated_at) " +
+                        "SELECT ?, g.id, u.id, 'RICE', 60, 30, 100, 'ACTIVE', 0, ?, ? " +
+                        "FROM material_groups g, units u WHERE g.tenant_id = ? AND u.tenant_id = ?",
+                tenant.getId(), now, now, tenant.getId(), tenant.getId());
+        materialId = jdbcTemplate.queryForObject("SELECT id FROM materials WHERE tenant_id = ?", Long.class, tenant.getId());
+        tx.executeWithoutResult(status ->
+                stockLedgerService.openBalance(materialRepository.findById(materialId).orElseThrow()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Long tenantId = tenant.getId();
+        jdbcTemplate.update("DELETE FROM outbox_events WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM stock_movements WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM material_stock WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM materials WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM units WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM material_groups WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM tenants WHERE id = ?", tenantId);
+    }
+
+    private MaterialStock balance() {
+        return tx.execute(status -> materialStockRepository.findById(materialId).orElseThrow());
+    }
+
+    private BigDecimal currentStock() {
+        return jdbcTemplate.queryForObject("SELECT current_stock FROM materials WHERE id = ?", BigDecimal.class, materialId);
+    }
+
+    private List<String> stockEvents() {
+        return jdbcTemplate.queryForList("SELECT event_type FROM outbox_events " +
+                "WHERE aggregate_type = 'MATERIAL' AND aggregate_id = ? ORDER BY id", String.class, materialId);
+    }
+
+    private BigDecimal ledgerTotal() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(CASE WHEN movement_type = 'CONSUMPTION' " +
+                "THEN -quantity ELSE quantity END), 0) FROM stock_movements " +
+                "WHERE material_id = ? AND movement_type IN ('RECEIPT', 'CONSUMPTION', 'ADJUSTMENT')",
+                BigDecimal.class, materialId);
+    }
+
+    @Nested
+    @DisplayName("Balance")
+    class Balance {
+
+        @Test
+        @DisplayName("Should open the balance from current stock with a ledger entry")
+        void shouldOpenBalanceFromCurrentStock() {
+            // Then
+            MaterialStock stock = balance();
+            assertThat(stock.getOnHand()).isEqualByComparingTo("100.00");
+            assertThat(stock.getMinimumStock()).isEqualByComparingTo("30.00");
+            assertThat(stock.isLowStock()).isFalse();
+            assertThat(ledgerTotal()).isEqualByComparingTo("100.00");
+        }
+
+        @Test
+        @DisplayName("Should flip the low stock flag both ways as the balance moves")
+        void shouldFlipLowStockFlag() {
+            // When
+            stockLedgerService.consume(tenant.getId(), materialId, new BigDecimal("75.00"), null);
+
+            // Then
+            assertThat(balance().isLowStock()).isTrue();
+            assertThat(materialStockRepository.findLowStockMaterialIds(tenant.getId())).containsExactly(materialId);
+
+            // When
+            stockLedgerService.receive(tenant.getId(), materialId, new BigDecimal("50.00"), null);
+
+            // Then
+            assertThat(balance().isLowStock()).isFalse();
+            assertThat(balance().getOnHand()).isEqualByComparingTo("75.00");
+            assertThat(currentStock()).isEqualByComparingTo("75.00");
+            assertThat(stockEvents()).containsExactly("LowStockEntered", "LowStockCleared");
+        }
+
+        @Test
+        @DisplayName("Should record no event for movements that stay on one side of the minimum")
+        void shouldRecordNoEventWithoutCrossing() {
+            // When - 100 to 60 to 40, all above the minimum of 30
+            stockLedgerService.consume(tenant.getId(), materialId, new BigDecimal("40.00"), null);
+            stockLedgerService.consume(tenant.getId(), materialId, new BigDecimal("20.00"), null);
+
+            // Then
+            assertThat(balance().isLowStock()).isFalse();
+            assertThat(stockEvents()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should count reserved stock against the minimum")
+        void shouldCountReservedStockAgainstMinimum() {
+            // When - 80 of the 100 on hand held for an order
+            int updated = tx.execute(status -> materialStockRepository.applyDelta(tenant.getId(), materialId,
+                    BigDecimal.ZERO, new BigDecimal("80.00"), LocalDateTime.now()));
+
+            // Then
+            assertThat(updated).isEqualTo(1);
+            MaterialStock stock = balance();
+            assertThat(stock.getAvailable()).isEqualByComparingTo("20.00");
+            assertThat(stock.isLowStock()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency")
+    class Concurrency {
+
+        @Test
+        @DisplayName("Should not consume more than is on hand under concurrent consumers")
+        void shouldNotOversellUnderConcurrentConsumers() throws Exception {
+            // Given
+            int kitchens = 8;
+            ExecutorService pool = Executors.newFixedThreadPool(kitchens);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < kitchens; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        stockLedgerService.consume(tenant.getId(), materialId, new BigDecimal("30.00"), null);
+                        return true;
+                    } catch (InvalidOperationException e) {
+                        return false;
+                    }
+                }));
+            }
+
+            // When
+            start.countDown();
+            int applied = 0;
+            for (Future<Boolean> result : results) {
+                applied += result.get(30, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            pool.shutdown();
+
+            // Then
+            assertThat(applied).isEqualTo(3);
+            assertThat(balance().getOnHand()).isEqualByComparingTo("10.00");
+            assertThat(currentStock()).isEqualByComparingTo("10.00");
+            assertThat(ledgerTotal()).isEqualByComparingTo("10.00");
+        }
+    }
+}
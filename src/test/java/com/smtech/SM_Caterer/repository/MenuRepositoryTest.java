@@ -0,0 +1,300 @@
+package com.smtech.SM_Caterer.repository;
+
+import com.smtech.SM_Caterer.base.BaseIntegrationTest;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import com.smtech.SM_Caterer.domain.enums.TenantStatus;
+import com.smtech.SM_Caterer.domain.repository.MenuRepository;
+import com.smtech.SM_Caterer.domain.repository.TenantRepository;
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
+import com.smtech.SM_Caterer.service.RecipeComponentService;
+import com.smtech.SM_Caterer.service.RecipeCostingService;
+import com.smtech.SM_Caterer.service.dto.RecipeComponentDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Menu costs are recomputed by bulk UPDATE, so rows are inserted and read
+ * back directly, outside the persistence context.
+ */
+@DisplayName("MenuRepository Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MenuRepositoryTest extends BaseIntegrationTest {
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private RecipeCostingService recipeCostingService;
+
+    @Autowired
+    private RecipeComponentService recipeComponentService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate tx;
+    private Tenant tenant;
+    private Long rice;
+    private Long ghee;
+    private Long biryani;
+    private Long kheer;
+    private Long salad;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        tenant = tx.execute(status -> tenantRepository.save(Tenant.builder()
+                .tenantCode("MENU_COST_TENANT")
+                .businessName("Menu Cost Caterer")
+                .email("menu-cost@caterer.com")
+                .phone("9876543210")
+                .status(TenantStatus.ACTIVE)
+                .build()));
+        // Master rows go in directly: the auditor stamps created_by with a user this context does not have
+        LocalDateTime now = LocalDateTime.now();
+        Long tenantId = tenant.getId();
+        jdbcTemplate.update("INSERT INTO material_groups (tenant_id, group_code, status, version, created_at, updated_at) " +
+                "VALUES (?, 'GRAINS', 'ACTIVE', 0, ?, ?)", tenantId, now, now);
+        jdbcTemplate.update("INSERT INTO units (tenant_id, unit_code, status, version, created_at, updated_at) " +
+                "VALUES (?, 'KG', 'ACTIVE', 0, ?, ?)", tenantId, now, now);
+        rice = material("RICE", "60.00", now);
+        ghee = material("GHEE", "500.00", now);
+        biryani = menu("BIRYANI", "120.00", 10, now);
+        kheer = menu("KHEER", "40.00", 4, now);
+        salad = menu("SALAD", "30.00", 1, now);
+        recipeItem(biryani, rice, "2.00", now);
+        recipeItem(biryani, ghee, "0.20", now);
+        recipeItem(kheer, rice, "0.50", now);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Long tenantId = tenant.getId();
+        jdbcTemplate.update("DELETE FROM recipe_components WHERE menu_id IN (SELECT id FROM menus WHERE tenant_id = ?)", tenantId);
+        jdbcTemplate.update("DELETE FROM recipe_items WHERE menu_id IN (SELECT id FROM menus WHERE tenant_id = ?)", tenantId);
+        jdbcTemplate.update("DELETE FROM menus WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM materials WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM units WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM material_groups WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM tenants WHERE id = ?", tenantId);
+    }
+
+    private Long material(String code, String costPerUnit, LocalDateTime now) {
+        jdbcTemplate.update("INSERT INTO materials (tenant_id, material_group_id, unit_id, material_code, cost_per_unit, " +
+                        "minimum_stock, current_stock, status, version, created_at, updated_at) " +
+                        "SELECT ?, g.id, u.id, ?, ?, 0, 0, 'ACTIVE', 0, ?, ? " +
+                        "FROM material_groups g, units u WHERE g.tenant_id = ? AND u.tenant_id = ?",
+                tenant.getId(), code, new BigDecimal(costPerUnit), now, now, tenant.getId(), tenant.getId());
+        return jdbcTemplate.queryForObject("SELECT id FROM materials WHERE tenant_id = ? AND material_code = ?",
+                Long.class, tenant.getId(), code);
+    }
+
+    private Long menu(String code, String price, int serves, LocalDateTime now) {
+        jdbcTemplate.update("INSERT INTO menus (tenant_id, menu_code, category, serves_count, cost_per_serve, " +
+                        "material_cost_per_serve, status, version, created_at, updated_at) " +
+                        "VALUES (?, ?, 'VEG', ?, ?, 0, 'ACTIVE', 0, ?, ?)",
+                tenant.getId(), code, serves, new BigDecimal(price), now, now);
+        return jdbcTemplate.queryForObject("SELECT id FROM menus WHERE tenant_id = ? AND menu_code = ?",
+                Long.class, tenant.getId(), code);
+    }
+
+    private void recipeItem(Long menuId, Long materialId, String quantity, LocalDateTime now) {
+        jdbcTemplate.update("INSERT INTO recipe_items (menu_id, material_id, quantity_required, version, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 0, ?, ?)", menuId, materialId, new BigDecimal(quantity), now, now);
+    }
+
+    private void recipeComponent(Long menuId, Long componentId, String quantity, LocalDateTime now) {
+        jdbcTemplate.update("INSERT INTO recipe_components (menu_id, component_menu_id, quantity_required, version, " +
+                "created_at, updated_at) VALUES (?, ?, ?, 0, ?, ?)", menuId, componentId, new BigDecimal(quantity), now, now);
+    }
+
+    private BigDecimal materialCost(Long menuId) {
+        return jdbcTemplate.queryForObject("SELECT material_cost_per_serve FROM menus WHERE id = ?",
+                BigDecimal.class, menuId);
+    }
+
+    @Nested
+    @DisplayName("Material cost rollup")
+    class Rollup {
+
+        @Test
+        @DisplayName("Should compute material cost per serve from recipes in one statement")
+        void shouldComputeMaterialCostPerServe() {
+            // When
+            int updated = tx.execute(status -> menuRepository.recomputeMaterialCost(List.of(biryani, kheer, salad)));
+
+            // Then - (2 x 60 + 0.2 x 500) / 10 and 0.5 x 60 / 4; no recipe costs nothing
+            assertThat(updated).isEqualTo(3);
+            assertThat(materialCost(biryani)).isEqualByComparingTo("22.00");
+            assertThat(materialCost(kheer)).isEqualByComparingTo("7.50");
+            assertThat(materialCost(salad)).isEqualByComparingTo("0.00");
+        }
+
+        @Test
+        @DisplayName("Should recompute only the menus using a material whose cost changed")
+        void shouldRecomputeOnlyMenusUsingMaterial() {
+            // Given
+            tx.execute(status -> menuRepository.recomputeMaterialCost(List.of(biryani, kheer)));
+            jdbcTemplate.update("UPDATE materials SET cost_per_unit = 1000 WHERE id = ?", ghee);
+
+            // When
+            int updated = recipeCostingService.onMaterialCostChanged(List.of(ghee));
+
+            // Then - kheer has no ghee and is left alone
+            assertThat(updated).isEqualTo(1);
+            assertThat(materialCost(biryani)).isEqualByComparingTo("32.00");
+            assertThat(materialCost(kheer)).isEqualByComparingTo("7.50");
+        }
+
+        @Test
+        @DisplayName("Should leave deleted recipe items out of the cost")
+        void shouldIgnoreDeletedRecipeItems() {
+            // Given
+            jdbcTemplate.update("UPDATE recipe_items SET deleted_at = ? WHERE menu_id = ? AND material_id = ?",
+                    LocalDateTime.now(), biryani, ghee);
+
+            // When
+            recipeCostingService.recomputeMenus(List.of(biryani));
+
+            // Then
+            assertThat(materialCost(biryani)).isEqualByComparingTo("12.00");
+        }
+
+        @Test
+        @DisplayName("Should report the margin against the hand-entered price")
+        void shouldReportMargin() {
+            // When
+            recipeCostingService.recomputeTenant(tenant.getId());
+
+            // Then
+            var menu = tx.execute(status -> menuRepository.findById(biryani).orElseThrow());
+            assertThat(menu.getMaterialCostPerServe()).isEqualByComparingTo("22.00");
+            assertThat(menu.getMarginPerServe()).isEqualByComparingTo("98.00");
+            assertThat(menu.getMarginPercent()).isEqualByComparingTo("81.7");
+        }
+
+        @Test
+        @DisplayName("Should cost a menu without a positive serves count per batch")
+        void shouldTreatNonPositiveServesAsOne() {
+            // Given - 0.5 kg rice at 60.00
+            jdbcTemplate.update("UPDATE menus SET serves_count = 0 WHERE id = ?", kheer);
+
+            // When
+            recipeCostingService.recomputeMenus(List.of(kheer));
+
+            // Then
+            assertThat(materialCost(kheer)).isEqualByComparingTo("30.00");
+        }
+
+        @Test
+        @DisplayName("Should roll a component's new cost up into the menus using it")
+        void shouldRollUpThroughComponents() {
+            // Given - thali serves 2 from 2 serves each of biryani and kheer
+            Long thali = menu("THALI", "90.00", 2, LocalDateTime.now());
+            recipeComponent(thali, biryani, "2.00", LocalDateTime.now());
+            recipeComponent(thali, kheer, "2.00", LocalDateTime.now());
+            recipeCostingService.recomputeTenant(tenant.getId());
+            assertThat(materialCost(thali)).isEqualByComparingTo("29.50");
+            jdbcTemplate.update("UPDATE materials SET cost_per_unit = 1000 WHERE id = ?", ghee);
+
+            // When
+            int updated = recipeCostingService.onMaterialCostChanged(List.of(ghee));
+
+            // Then - biryani 32.00, so thali (2 x 32.00 + 2 x 7.50) / 2
+            assertThat(updated).isEqualTo(2);
+            assertThat(materialCost(biryani)).isEqualByComparingTo("32.00");
+            assertThat(materialCost(thali)).isEqualByComparingTo("39.50");
+        }
+    }
+
+    @Nested
+    @DisplayName("Components")
+    class Components {
+
+        @Test
+        @DisplayName("Should not commit a cycle from two concurrent component additions")
+        void shouldNotCommitConcurrentCycle() throws Exception {
+            // Given - biryani uses kheer and kheer uses biryani, added at the same moment
+            List<RecipeComponentDTO> additions = List.of(
+                    RecipeComponentDTO.builder().menuId(biryani).componentId(kheer)
+                            .quantityRequired(new BigDecimal("1.00")).build(),
+                    RecipeComponentDTO.builder().menuId(kheer).componentId(biryani)
+                            .quantityRequired(new BigDecimal("1.00")).build());
+            ExecutorService pool = Executors.newFixedThreadPool(additions.size());
+            CyclicBarrier start = new CyclicBarrier(additions.size());
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (RecipeComponentDTO addition : additions) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        recipeComponentService.create(addition);
+                        return true;
+                    } catch (InvalidOperationException e) {
+                        return false;
+                    }
+                }));
+            }
+
+            // When
+            int added = 0;
+            for (Future<Boolean> result : results) {
+                added += result.get(30, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            pool.shutdown();
+
+            // Then
+            assertThat(added).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM recipe_components WHERE menu_id IN (?, ?)",
+                    Integer.class, biryani, kheer)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should restore a removed component when it is added again")
+        void shouldReAddRemovedComponent() {
+            // Given
+            RecipeComponentDTO first = recipeComponentService.create(RecipeComponentDTO.builder()
+                    .menuId(biryani).componentId(kheer).quantityRequired(new BigDecimal("1.00")).build());
+            recipeComponentService.delete(first.getId());
+
+            // When
+            RecipeComponentDTO again = recipeComponentService.create(RecipeComponentDTO.builder()
+                    .menuId(biryani).componentId(kheer).quantityRequired(new BigDecimal("3.00")).build());
+
+            // Then - the same row, live again with the new quantity
+            assertThat(again.getId()).isEqualTo(first.getId());
+            Map<String, Object> line = jdbcTemplate.queryForMap(
+                    "SELECT quantity_required, deleted_at FROM recipe_components WHERE menu_id = ?", biryani);
+            assertThat((BigDecimal) line.get("quantity_required")).isEqualByComparingTo("3.00");
+            assertThat(line.get("deleted_at")).isNull();
+            assertThat(recipeComponentService.findByMenuId(biryani)).hasSize(1);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.smtech.SM_Caterer.repository;
+
+import com.smtech.SM_Caterer.base.BaseIntegrationTest;
+import com.smtech.SM_Caterer.domain.entity.Customer;
+import com.smtech.SM_Caterer.domain.entity.EventType;
+import com.smtech.SM_Caterer.domain.entity.Order;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import com.smtech.SM_Caterer.domain.enums.Status;
+import com.smtech.SM_Caterer.domain.enums.TenantStatus;
+import com.smtech.SM_Caterer.domain.repository.CustomerRepository;
+import com.smtech.SM_Caterer.domain.repository.EventTypeRepository;
+import com.smtech.SM_Caterer.domain.repository.OrderRepository;
+import com.smtech.SM_Caterer.domain.repository.TenantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Paid total updates run in their own committed transactions here, so that
+ * concurrent payments contend for the same order row as they do in production.
+ */
+@DisplayName("OrderRepository Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderRepositoryTest extends BaseIntegrationTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EventTypeRepository eventTypeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate tx;
+    private Tenant tenant;
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            tenant = tenantRepository.save(Tenant.builder()
+                    .tenantCode("PAID_TOTAL_TENANT")
+                    .businessName("Paid Total Caterer")
+                    .email("paid-total@caterer.com")
+                    .phone("9876543210")
+                    .status(TenantStatus.ACTIVE)
+                    .build());
+            Customer customer = customerRepository.save(Customer.builder()
+                    .tenant(tenant)
+                    .customerCode("CUST_PAID")
+                    .name("Paid Total Customer")
+                    .phone("9876543210")
+                    .status(Status.ACTIVE)
+                    .build());
+            EventType eventType = eventTypeRepository.save(EventType.builder()
+                    .tenant(tenant)
+                    .eventCode("WEDDING")
+                    .status(Status.ACTIVE)
+                    .build());
+            // Inserted directly: the auditor stamps created_by with a user this context does not have
+            jdbcTemplate.update("INSERT INTO orders (tenant_id, customer_id, event_type_id, order_number, event_date, " +
+                            "guest_count, total_amount, grand_total, paid_total, advance_amount, balance_amount, " +
+                            "status, version, created_at, updated_at) " +
+                            "VALUES (?, ?, ?, 'ORD-PAID-001', ?, 100, 10000, 10000, 0, 0, 10000, 'CONFIRMED', 0, ?, ?)",
+                    tenant.getId(), customer.getId(), eventType.getId(), LocalDate.now().plusDays(7),
+                    LocalDateTime.now(), LocalDateTime.now());
+            orderId = jdbcTemplate.queryForObject("SELECT id FROM orders WHERE tenant_id = ?", Long.class, tenant.getId());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        Long tenantId = tenant.getId();
+        jdbcTemplate.update("DELETE FROM orders WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM event_types WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM customers WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM tenants WHERE id = ?", tenantId);
+    }
+
+    private int addPayment(String amount) {
+        return tx.execute(status -> orderRepository.addPayment(orderId, new BigDecimal(amount)));
+    }
+
+    private Order reload() {
+        return tx.execute(status -> orderRepository.findById(orderId).orElseThrow());
+    }
+
+    @Nested
+    @DisplayName("Paid Total")
+    class PaidTotal {
+
+        @Test
+        @DisplayName("Should move paid total, advance and balance together")
+        void shouldMovePaidTotalAdvanceAndBalanceTogether() {
+            // When
+            int updated = addPayment("4000.00");
+
+            // Then
+            assertThat(updated).isEqualTo(1);
+            Order order = reload();
+            assertThat(order.getPaidTotal()).isEqualByComparingTo("4000.00");
+            assertThat(order.getAdvanceAmount()).isEqualByComparingTo("4000.00");
+            assertThat(order.getBalanceAmount()).isEqualByComparingTo("6000.00");
+            assertThat(order.getVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("Should reject payment exceeding the balance")
+        void shouldRejectPaymentExceedingBalance() {
+            // Given
+            addPayment("8000.00");
+
+            // When
+            int updated = addPayment("2000.01");
+
+            // Then
+            assertThat(updated).isZero();
+            assertThat(reload().getPaidTotal()).isEqualByComparingTo("8000.00");
+        }
+
+        @Test
+        @DisplayName("Should restore balance when a payment is removed")
+        void shouldRestoreBalanceWhenPaymentRemoved() {
+            // Given
+            addPayment("8000.00");
+
+            // When
+            int updated = tx.execute(status -> orderRepository.removePayment(orderId, new BigDecimal("3000.00")));
+
+            // Then
+            assertThat(updated).isEqualTo(1);
+            Order order = reload();
+            assertThat(order.getPaidTotal()).isEqualByComparingTo("5000.00");
+            assertThat(order.getBalanceAmount()).isEqualByComparingTo("5000.00");
+        }
+
+        @Test
+        @DisplayName("Should read the balance due as updated in the same transaction")
+        void shouldReadBalanceDueAfterUpdate() {
+            // Given
+            addPayment("10000.00");
+
+            // When - the order is loaded fully paid, then the payment is taken off
+            BigDecimal balanceDue = tx.execute(status -> {
+                Order loaded = orderRepository.findById(orderId).orElseThrow();
+                orderRepository.removePayment(orderId, new BigDecimal("10000.00"));
+                assertThat(loaded.getBalanceAmount()).isEqualByComparingTo("0.00");
+                return orderRepository.findBalanceDue(orderId).orElseThrow();
+            });
+
+            // Then
+            assertThat(balanceDue).isEqualByComparingTo("10000.00");
+        }
+
+        @Test
+        @DisplayName("Should not overpay the order under concurrent payments")
+        void shouldNotOverpayUnderConcurrentPayments() throws Exception {
+            // Given
+            int cashiers = 8;
+            ExecutorService pool = Executors.newFixedThreadPool(cashiers);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < cashiers; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return addPayment("3000.00");
+                }));
+            }
+
+            // When
+            start.countDown();
+            int applied = 0;
+            for (Future<Integer> result : results) {
+                applied += result.get(30, TimeUnit.SECONDS);
+            }
+            pool.shutdown();
+
+            // Then
+            assertThat(applied).isEqualTo(3);
+            Order order = reload();
+            assertThat(order.getPaidTotal()).isEqualByComparingTo("9000.00");
+            assertThat(order.getBalanceAmount()).isEqualByComparingTo("1000.00");
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.smtech.SM_Caterer.repository;
+
+import com.smtech.SM_Caterer.base.BaseIntegrationTest;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import com.smtech.SM_Caterer.domain.enums.TenantStatus;
+import com.smtech.SM_Caterer.domain.repository.TenantRepository;
+import com.smtech.SM_Caterer.domain.repository.UtilityBookingRepository;
+import com.smtech.SM_Caterer.service.ReportService;
+import com.smtech.SM_Caterer.service.UtilityAvailabilityService;
+import com.smtech.SM_Caterer.service.dto.UtilityAvailabilityDTO;
+import com.smtech.SM_Caterer.service.dto.UtilityConflictReportDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Booked totals move in their own committed transactions here, as they do
+ * when orders are saved.
+ */
+@DisplayName("UtilityBookingRepository Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UtilityBookingRepositoryTest extends BaseIntegrationTest {
+
+    private static final LocalDate WEDDING = LocalDate.of(2026, 12, 12);
+
+    @Autowired
+    private UtilityBookingRepository utilityBookingRepository;
+
+    @Autowired
+    private UtilityAvailabilityService utilityAvailabilityService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate tx;
+    private Tenant tenant;
+    private Long chairsId;
+    private Long tentsId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        tenant = tx.execute(status -> tenantRepository.save(Tenant.builder()
+                .tenantCode("UTILITY_BOOKING_TENANT")
+                .businessName("Utility Booking Caterer")
+                .email("utility-booking@caterer.com")
+                .phone("9876543210")
+                .status(TenantStatus.ACTIVE)
+                .build()));
+        // Utility rows go in directly: the auditor stamps created_by with a user this context does not have
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO utilities (tenant_id, utility_code, cost_per_unit, capacity, status, version, " +
+                "created_at, updated_at) VALUES (?, 'CHAIRS', 10, 200, 'ACTIVE', 0, ?, ?)", tenant.getId(), now, now);
+        jdbcTemplate.update("INSERT INTO utilities (tenant_id, utility_code, cost_per_unit, capacity, status, version, " +
+                "created_at, updated_at) VALUES (?, 'TENTS', 500, NULL, 'ACTIVE', 0, ?, ?)", tenant.getId(), now, now);
+        chairsId = jdbcTemplate.queryForObject("SELECT id FROM utilities WHERE tenant_id = ? AND utility_code = 'CHAIRS'",
+                Long.class, tenant.getId());
+        tentsId = jdbcTemplate.queryForObject("SELECT id FROM utilities WHERE tenant_id = ? AND utility_code = 'TENTS'",
+                Long.class, tenant.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        Long tenantId = tenant.getId();
+        jdbcTemplate.update("DELETE FROM utility_bookings WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM utilities WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM tenants WHERE id = ?", tenantId);
+    }
+
+    private void book(Long utilityId, LocalDate date, int delta) {
+        tx.executeWithoutResult(status ->
+                utilityBookingRepository.addBooked(tenant.getId(), utilityId, date, delta, LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("Should create the total on first booking and add to it after")
+    void shouldAccumulateBookings() {
+        // When
+        book(chairsId, WEDDING, 150);
+        book(chairsId, WEDDING, 30);
+        book(chairsId, WEDDING, -20);
+        book(chairsId, WEDDING.plusDays(1), 40);
+
+        // Then
+        assertThat(utilityBookingRepository.findBookedQuantity(chairsId, WEDDING)).contains(160);
+        assertThat(utilityBookingRepository.findBookedQuantity(chairsId, WEDDING.plusDays(1))).contains(40);
+        assertThat(utilityBookingRepository.findBookedQuantity(chairsId, WEDDING.plusDays(2))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report availability of limited utilities on a date")
+    void shouldReportAvailabilityOnDate() {
+        // Given
+        book(chairsId, WEDDING, 150);
+        book(tentsId, WEDDING, 4);
+
+        // When
+        Map<Long, UtilityAvailabilityDTO> availability =
+                utilityAvailabilityService.getAvailabilityOn(tenant.getId(), WEDDING, null);
+
+        // Then - tents have no capacity, so are not listed
+        assertThat(availability).containsOnlyKeys(chairsId);
+        assertThat(availability.get(chairsId).getAvailable()).isEqualTo(50);
+        assertThat(utilityAvailabilityService.getAvailabilityOn(tenant.getId(), WEDDING.plusDays(1), null)
+                .get(chairsId).getAvailable()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should list only the dates a utility is overbooked")
+    void shouldListOverbookedDates() {
+        // Given
+        book(chairsId, WEDDING, 200);
+        book(chairsId, WEDDING.plusDays(1), 230);
+        book(tentsId, WEDDING.plusDays(1), 40);
+
+        // When
+        List<UtilityConflictReportDTO> conflicts =
+                reportService.getUtilityConflictReport(tenant.getId(), WEDDING, WEDDING.plusDays(7));
+
+        // Then
+        assertThat(conflicts).hasSize(1);
+        UtilityConflictReportDTO conflict = conflicts.get(0);
+        assertThat(conflict.getDate()).isEqualTo(WEDDING.plusDays(1));
+        assertThat(conflict.getUtilityCode()).isEqualTo("CHAIRS");
+        assertThat(conflict.getShortBy()).isEqualTo(30);
+        assertThat(conflict.getOrderNumbers()).isEmpty();
+    }
+}
@@ -0,0 +1,25 @@
+package com.smtech.SM_Caterer.security;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ClientIpResolver Tests")
+class ClientIpResolverTest extends BaseUnitTest {
+
+    @Test
+    @DisplayName("Should ignore forwarding headers sent by the client")
+    void shouldIgnoreClientForwardingHeaders() {
+        // Given - the remote address is what RemoteIpValve left after checking the proxy list
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        request.addHeader("X-Forwarded-For", "198.51.100.1");
+        request.addHeader("X-Real-IP", "198.51.100.2");
+
+        // When/Then
+        assertThat(ClientIpResolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+}
@@ -0,0 +1,130 @@
+package com.smtech.SM_Caterer.security;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.LoginAttemptProperties;
+import com.smtech.SM_Caterer.domain.enums.UserRole;
+import com.smtech.SM_Caterer.domain.enums.UserStatus;
+import com.smtech.SM_Caterer.domain.repository.UserRepository;
+import com.smtech.SM_Caterer.security.attempt.InMemoryLoginAttemptStore;
+import com.smtech.SM_Caterer.security.attempt.LoginAttemptService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("LoginAttemptService Tests")
+class LoginAttemptServiceTest extends BaseUnitTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private LoginTenantResolver loginTenantResolver;
+
+    private LoginAttemptService service;
+
+    @BeforeEach
+    void setUp() {
+        LoginAttemptProperties properties = new LoginAttemptProperties();
+        properties.setMaxAttempts(3);
+        properties.setIpMaxAttempts(5);
+        service = new LoginAttemptService(new InMemoryLoginAttemptStore(), properties, userRepository, loginTenantResolver);
+    }
+
+    @Test
+    @DisplayName("Should not touch the database below the threshold")
+    void shouldNotWriteBelowThreshold() {
+        // When
+        service.loginFailed("alice", "10.0.0.1");
+        service.loginFailed("alice", "10.0.0.1");
+
+        // Then
+        verifyNoInteractions(userRepository);
+        assertThat(service.isBlocked("alice", "10.0.0.1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should lock the account once when the threshold is reached")
+    void shouldLockOnceAtThreshold() {
+        // Given
+        when(userRepository.lockAccount(eq("alice"), any(LocalDateTime.class), anyInt(), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        // When - case and whitespace of the login do not matter
+        service.loginFailed("alice", "10.0.0.1");
+        service.loginFailed("Alice", "10.0.0.2");
+        service.loginFailed("alice ", "10.0.0.3");
+        service.loginFailed("alice", "10.0.0.4");
+
+        // Then
+        verify(userRepository, times(1)).lockAccount(any(), any(LocalDateTime.class), eq(3), any(LocalDateTime.class));
+        assertThat(service.isBlocked("ALICE", null)).isTrue();
+        assertThat(service.isBlocked("bob", "10.0.0.1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should block a client IP spraying many usernames")
+    void shouldBlockIp() {
+        // When
+        for (int i = 0; i < 5; i++) {
+            service.loginFailed("user" + i, "10.0.0.9");
+        }
+
+        // Then
+        assertThat(service.isBlocked("someone-else", "10.0.0.9")).isTrue();
+        verify(userRepository, never()).lockAccount(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Should clear failures and an expired lock on success")
+    void shouldClearOnSuccess() {
+        // Given
+        service.loginFailed("alice", null);
+        service.loginFailed("alice", null);
+        CustomUserDetails user = CustomUserDetails.builder()
+                .id(7L).username("alice").email("alice@example.com")
+                .role(UserRole.STAFF).status(UserStatus.LOCKED)
+                .lockedUntil(LocalDateTime.now().minusMinutes(1))
+                .build();
+
+        // When
+        service.loginSucceeded(user);
+        service.loginFailed("alice", null);
+
+        // Then - window restarted, expired lock removed in one update
+        verify(userRepository).unlockExpiredLock(eq(7L), any(LocalDateTime.class));
+        verify(userRepository, never()).lockAccount(any(), any(), anyInt(), any());
+        assertThat(user.isAccountNonLocked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should lift the block under both login names when the user is cleared")
+    void shouldClearUserBlock() {
+        // Given
+        when(userRepository.lockAccount(eq("alice"), any(LocalDateTime.class), anyInt(), any(LocalDateTime.class)))
+                .thenReturn(1);
+        for (int i = 0; i < 3; i++) {
+            service.loginFailed("alice", null);
+            service.loginFailed("alice@example.com", null);
+        }
+
+        // When
+        service.clearUser("alice", "Alice@Example.com");
+
+        // Then
+        assertThat(service.isBlocked("alice", null)).isFalse();
+        assertThat(service.isBlocked("alice@example.com", null)).isFalse();
+    }
+}
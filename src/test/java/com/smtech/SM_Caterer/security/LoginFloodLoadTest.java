@@ -0,0 +1,133 @@
+package com.smtech.SM_Caterer.security;
+
+import com.smtech.SM_Caterer.base.BaseControllerTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Load test for the bounded password hashing pool.
+ *
+ * Floods POST /api/v1/auth/login from many threads while measuring the latency
+ * of a non-login endpoint (GET /api/v1/health). With hashing bounded to one
+ * thread and a tiny queue, the flood must be shed with 429s and the p99 of the
+ * non-login endpoint must stay close to its idle baseline.
+ *
+ * Tagged "load": excluded from the default build, run with
+ * {@code mvn test -Pload-tests}. Needs at least two CPU cores - on a single
+ * core the hashing thread and the measured requests share one CPU, so the
+ * test is skipped there.
+ *
+ * @author CloudCaters Team
+ * @since Phase 8
+ */
+@Tag("load")
+@DisplayName("Login Flood Load Test")
+@TestPropertySource(properties = {
+        "rate-limit.enabled=false",
+        "logging.level.com.smtech.SM_Caterer=ERROR",
+        "security.password.hashing.bcrypt-strength=10",
+        "security.password.hashing.pool-size=1",
+        "security.password.hashing.queue-capacity=2",
+        "security.password.hashing.max-wait-ms=2000"
+})
+class LoginFloodLoadTest extends BaseControllerTest {
+
+    private static final int FLOOD_THREADS = 32;
+    private static final int SAMPLES = 300;
+
+    private static final String LOGIN_JSON = """
+            {
+                "username": "flood-user",
+                "password": "wrong-password"
+            }
+            """;
+
+    @Test
+    @DisplayName("Non-login p99 latency stays stable during a login flood")
+    void nonLoginLatencyStaysStableDuringLoginFlood() throws Exception {
+        assumeTrue(Runtime.getRuntime().availableProcessors() >= 2,
+                "Login flood load test needs at least two CPU cores");
+
+        // Given - warm up and measure the idle baseline
+        measureHealthLatencies(50);
+        long baselineP99 = p99(measureHealthLatencies(SAMPLES));
+
+        // When - flood the login endpoint
+        AtomicBoolean flooding = new AtomicBoolean(true);
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger processed = new AtomicInteger();
+        ExecutorService flood = Executors.newFixedThreadPool(FLOOD_THREADS);
+        for (int i = 0; i < FLOOD_THREADS; i++) {
+            flood.submit(() -> {
+                while (flooding.get()) {
+                    int status = mockMvc.perform(post("/api/v1/auth/login")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(LOGIN_JSON))
+                            .andReturn().getResponse().getStatus();
+                    if (status == 429) {
+                        rejected.incrementAndGet();
+                    } else {
+                        processed.incrementAndGet();
+                    }
+                    // Client think time - keeps the flood from being a pure CPU spin
+                    TimeUnit.MILLISECONDS.sleep(10);
+                }
+                return null;
+            });
+        }
+
+        long floodP99;
+        try {
+            TimeUnit.MILLISECONDS.sleep(500);
+            floodP99 = p99(measureHealthLatencies(SAMPLES));
+        } finally {
+            flooding.set(false);
+            flood.shutdown();
+            flood.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        // Then
+        assertThat(rejected.get())
+                .as("excess login attempts should be shed with 429 (logins processed=%d, rejected=%d)",
+                        processed.get(), rejected.get())
+                .isPositive();
+        assertThat(floodP99)
+                .as("non-login p99 should stay within 50ms of the idle baseline (baseline p99=%.2fms, flood p99=%.2fms)",
+                        baselineP99 / 1_000_000.0, floodP99 / 1_000_000.0)
+                .isLessThan(baselineP99 + TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    private List<Long> measureHealthLatencies(int samples) throws Exception {
+        List<Long> latencies = new ArrayList<>(samples);
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            mockMvc.perform(get("/api/v1/health")).andExpect(status().isOk());
+            latencies.add(System.nanoTime() - start);
+        }
+        return latencies;
+    }
+
+    private long p99(List<Long> latencies) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+    }
+}
@@ -0,0 +1,127 @@
+package com.smtech.SM_Caterer.security;
+
+import com.smtech.SM_Caterer.base.BaseIntegrationTest;
+import com.smtech.SM_Caterer.config.LoginAttemptProperties;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import com.smtech.SM_Caterer.domain.enums.TenantStatus;
+import com.smtech.SM_Caterer.domain.repository.TenantRepository;
+import com.smtech.SM_Caterer.security.attempt.LoginAttemptService;
+import com.smtech.SM_Caterer.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Failed logins arrive as Spring Security events outside any transaction,
+ * as they do in production, so the lock must be written by the listener's
+ * own transaction.
+ */
+@DisplayName("Login Lockout Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LoginLockoutIntegrationTest extends BaseIntegrationTest {
+
+    private static final String LOGIN = "lockout-user";
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private LoginAttemptService loginAttemptService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private LoginAttemptProperties properties;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Tenant tenant;
+
+    @BeforeEach
+    void setUp() {
+        tenant = new TransactionTemplate(transactionManager).execute(status -> tenantRepository.save(Tenant.builder()
+                .tenantCode("LOGIN_LOCKOUT_TENANT")
+                .businessName("Login Lockout Caterer")
+                .email("login-lockout@caterer.com")
+                .phone("9876543210")
+                .status(TenantStatus.ACTIVE)
+                .build()));
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO users (tenant_id, username, email, password, first_name, role, status, " +
+                        "failed_login_attempts, version, created_at, updated_at) " +
+                        "VALUES (?, ?, 'lockout-user@caterer.com', 'x', 'Lockout', 'STAFF', 'ACTIVE', 0, 0, ?, ?)",
+                tenant.getId(), LOGIN, now, now);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE tenant_id = ?", tenant.getId());
+        jdbcTemplate.update("DELETE FROM tenants WHERE id = ?", tenant.getId());
+    }
+
+    private void failLogin() {
+        eventPublisher.publishEvent(new AuthenticationFailureBadCredentialsEvent(
+                new UsernamePasswordAuthenticationToken(LOGIN, "wrong-password"),
+                new BadCredentialsException("Bad credentials")));
+    }
+
+    @Test
+    @DisplayName("Should persist the account lock when a bad credentials event reaches the threshold")
+    void shouldPersistLockFromFailureEvents() {
+        // When
+        for (int i = 0; i < properties.getMaxAttempts(); i++) {
+            failLogin();
+        }
+
+        // Then
+        Map<String, Object> user = jdbcTemplate.queryForMap(
+                "SELECT status, failed_login_attempts, locked_until FROM users WHERE username = ?", LOGIN);
+        assertThat(user.get("status")).isEqualTo("LOCKED");
+        assertThat(((Number) user.get("failed_login_attempts")).intValue()).isEqualTo(properties.getMaxAttempts());
+        assertThat(user.get("locked_until")).isNotNull();
+        assertThat(loginAttemptService.isBlocked(LOGIN, null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should let the user sign in again right after an admin unlock")
+    void shouldLiftBlockOnAdminUnlock() {
+        // Given
+        for (int i = 0; i < properties.getMaxAttempts(); i++) {
+            failLogin();
+        }
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = ?", Long.class, LOGIN);
+
+        // When
+        userService.unlockAccount(userId);
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM users WHERE id = ?", String.class, userId))
+                .isEqualTo("ACTIVE");
+        assertThat(loginAttemptService.isBlocked(LOGIN, null)).isFalse();
+        assertThat(loginAttemptService.isBlocked("lockout-user@caterer.com", null)).isFalse();
+    }
+}
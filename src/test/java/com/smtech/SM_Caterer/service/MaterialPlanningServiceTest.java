@@ -0,0 +1,155 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.PlanningProperties;
+import com.smtech.SM_Caterer.domain.entity.Material;
+import com.smtech.SM_Caterer.domain.entity.MaterialGroup;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import com.smtech.SM_Caterer.domain.entity.Unit;
+import com.smtech.SM_Caterer.domain.enums.OrderStatus;
+import com.smtech.SM_Caterer.domain.repository.MaterialRepository;
+import com.smtech.SM_Caterer.domain.repository.OrderMenuItemRepository;
+import com.smtech.SM_Caterer.domain.repository.RecipeComponentRepository;
+import com.smtech.SM_Caterer.domain.repository.RecipeItemRepository;
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
+import com.smtech.SM_Caterer.fixtures.TestDataFactory;
+import com.smtech.SM_Caterer.service.dto.MaterialPlanDTO;
+import com.smtech.SM_Caterer.service.dto.MaterialRequirementDTO;
+import com.smtech.SM_Caterer.service.impl.MaterialPlanningServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("MaterialPlanningService Tests")
+class MaterialPlanningServiceTest extends BaseUnitTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final LocalDate DAY = LocalDate.of(2026, 11, 2);
+
+    @Mock
+    private OrderMenuItemRepository orderMenuItemRepository;
+
+    @Mock
+    private RecipeItemRepository recipeItemRepository;
+
+    @Mock
+    private RecipeComponentRepository recipeComponentRepository;
+
+    @Mock
+    private MaterialRepository materialRepository;
+
+    private MaterialPlanningServiceImpl service;
+    private Material rice;
+    private Material ghee;
+    private final List<Object[]> demand = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        service = new MaterialPlanningServiceImpl(orderMenuItemRepository, recipeItemRepository,
+                recipeComponentRepository, materialRepository, new PlanningProperties());
+
+        Tenant tenant = TestDataFactory.createTenant();
+        MaterialGroup group = TestDataFactory.createMaterialGroup(tenant);
+        Unit unit = TestDataFactory.createUnit(tenant);
+        rice = TestDataFactory.createMaterial(tenant, group, unit);
+        rice.setCurrentStock(new BigDecimal("50.00"));
+        ghee = TestDataFactory.createMaterial(tenant, group, unit);
+        ghee.setCurrentStock(new BigDecimal("100.00"));
+    }
+
+    private void order(LocalDate eventDate, long menuId, int quantity) {
+        demand.add(new Object[]{eventDate, menuId, quantity});
+    }
+
+    @Test
+    @DisplayName("Should net daily requirements against stock and date the first shortfall")
+    void shouldNetRequirementsAgainstStock() {
+        // Given - biryani serves 25 from 10 kg rice and 1 kg ghee
+        when(recipeItemRepository.findRecipeMatrix(TENANT_ID)).thenReturn(List.of(
+                new Object[]{7L, 25, rice.getId(), new BigDecimal("10.00")},
+                new Object[]{7L, 25, ghee.getId(), new BigDecimal("1.00")}));
+        when(materialRepository.findByTenantId(TENANT_ID)).thenReturn(List.of(rice, ghee));
+        order(DAY, 7L, 100);
+        order(DAY.plusDays(2), 7L, 50);
+        order(DAY.plusDays(2), 8L, 300); // no recipe
+        when(orderMenuItemRepository.findDemandForPlanning(TENANT_ID,
+                EnumSet.of(OrderStatus.CONFIRMED, OrderStatus.IN_PROGRESS), DAY, DAY.plusDays(3)))
+                .thenReturn(demand);
+
+        // When
+        MaterialPlanDTO plan = service.plan(TENANT_ID, DAY, DAY.plusDays(3));
+
+        // Then
+        assertThat(plan.getDays()).hasSize(4);
+        assertThat(plan.getOrderLines()).isEqualTo(3);
+        assertThat(plan.getLinesWithoutRecipe()).isEqualTo(1);
+        assertThat(plan.getShortfallCount()).isEqualTo(1);
+
+        MaterialRequirementDTO riceNeed = plan.getRequirements().get(0);
+        assertThat(riceNeed.getMaterialId()).isEqualTo(rice.getId());
+        assertThat(riceNeed.getDailyRequired()).extracting(BigDecimal::doubleValue)
+                .containsExactly(40.0, 0.0, 20.0, 0.0);
+        assertThat(riceNeed.getTotalRequired()).isEqualByComparingTo("60.00");
+        assertThat(riceNeed.getShortfall()).isEqualByComparingTo("10.00");
+        assertThat(riceNeed.getShortfallDate()).isEqualTo(DAY.plusDays(2));
+
+        MaterialRequirementDTO gheeNeed = plan.getRequirements().get(1);
+        assertThat(gheeNeed.getTotalRequired()).isEqualByComparingTo("6.00");
+        assertThat(gheeNeed.getShortfall()).isEqualByComparingTo("0");
+        assertThat(gheeNeed.getShortfallDate()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should plan materials through shared prep components")
+    void shouldPlanThroughComponents() {
+        // Given - gravy base serves 20 from 4 kg ghee; biryani serves 10 from 5 kg rice and 10 serves of gravy;
+        // paneer makhani serves 10 from 5 serves of gravy and nothing else
+        when(recipeItemRepository.findRecipeMatrix(TENANT_ID)).thenReturn(List.of(
+                new Object[]{9L, 20, ghee.getId(), new BigDecimal("4.00")},
+                new Object[]{7L, 10, rice.getId(), new BigDecimal("5.00")}));
+        when(recipeComponentRepository.findRecipeGraph(TENANT_ID)).thenReturn(List.of(
+                new Object[]{7L, 10, 9L, new BigDecimal("10.00")},
+                new Object[]{8L, 10, 9L, new BigDecimal("5.00")}));
+        when(materialRepository.findByTenantId(TENANT_ID)).thenReturn(List.of(rice, ghee));
+        order(DAY, 7L, 100);
+        order(DAY.plusDays(1), 8L, 40);
+        when(orderMenuItemRepository.findDemandForPlanning(TENANT_ID,
+                EnumSet.of(OrderStatus.CONFIRMED, OrderStatus.IN_PROGRESS), DAY, DAY.plusDays(1)))
+                .thenReturn(demand);
+
+        // When
+        MaterialPlanDTO plan = service.plan(TENANT_ID, DAY, DAY.plusDays(1));
+
+        // Then
+        assertThat(plan.getLinesWithoutRecipe()).isZero();
+        MaterialRequirementDTO riceNeed = plan.getRequirements().stream()
+                .filter(r -> r.getMaterialId().equals(rice.getId())).findFirst().orElseThrow();
+        assertThat(riceNeed.getDailyRequired()).extracting(BigDecimal::doubleValue).containsExactly(50.0, 0.0);
+        MaterialRequirementDTO gheeNeed = plan.getRequirements().stream()
+                .filter(r -> r.getMaterialId().equals(ghee.getId())).findFirst().orElseThrow();
+        assertThat(gheeNeed.getDailyRequired()).extracting(BigDecimal::doubleValue).containsExactly(20.0, 4.0);
+    }
+
+    @Test
+    @DisplayName("Should reject inverted and overlong date ranges")
+    void shouldRejectInvalidRanges() {
+        // When / Then
+        assertThatThrownBy(() -> service.plan(TENANT_ID, DAY, DAY.minusDays(1)))
+                .isInstanceOf(InvalidOperationException.class);
+        assertThatThrownBy(() -> service.plan(TENANT_ID, DAY, DAY.plusDays(92)))
+                .isInstanceOf(InvalidOperationException.class)
+                .hasMessageContaining("92 days");
+        verifyNoInteractions(orderMenuItemRepository, recipeItemRepository);
+    }
+}
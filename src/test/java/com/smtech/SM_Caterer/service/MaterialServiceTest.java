@@ -0,0 +1,138 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.domain.entity.*;
+import com.smtech.SM_Caterer.domain.repository.MaterialGroupRepository;
+import com.smtech.SM_Caterer.domain.repository.MaterialRepository;
+import com.smtech.SM_Caterer.domain.repository.TenantRepository;
+import com.smtech.SM_Caterer.domain.repository.UnitRepository;
+import com.smtech.SM_Caterer.exception.DuplicateResourceException;
+import com.smtech.SM_Caterer.fixtures.TestDataFactory;
+import com.smtech.SM_Caterer.service.dto.MaterialDTO;
+import com.smtech.SM_Caterer.service.impl.MaterialServiceImpl;
+import com.smtech.SM_Caterer.service.mapper.MaterialMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("MaterialService Tests")
+class MaterialServiceTest extends BaseUnitTest {
+
+    @Mock
+    private MaterialRepository materialRepository;
+
+    @Mock
+    private MaterialMapper materialMapper;
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Mock
+    private MaterialGroupRepository materialGroupRepository;
+
+    @Mock
+    private UnitRepository unitRepository;
+
+    @Mock
+    private StockLedgerService stockLedgerService;
+
+    @Mock
+    private RecipeCostingService recipeCostingService;
+
+    @InjectMocks
+    private MaterialServiceImpl materialService;
+
+    private Tenant tenant;
+    private Unit unit;
+    private Material material;
+    private MaterialDTO materialDTO;
+
+    @BeforeEach
+    void setUp() {
+        TestDataFactory.resetIdGenerators();
+        tenant = TestDataFactory.createTenant();
+        MaterialGroup group = TestDataFactory.createMaterialGroup(tenant);
+        unit = TestDataFactory.createUnit(tenant);
+        material = TestDataFactory.createMaterial(tenant, group, unit);
+        materialDTO = TestDataFactory.createMaterialDTO(null, null, unit.getId());
+        materialDTO.setMaterialCode(material.getMaterialCode());
+        materialDTO.setMinimumStock(new BigDecimal("8.00"));
+
+        lenient().when(materialRepository.findById(material.getId())).thenReturn(Optional.of(material));
+        lenient().when(unitRepository.findById(unit.getId())).thenReturn(Optional.of(unit));
+        lenient().when(materialRepository.save(any(Material.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(materialMapper.toDto(any(Material.class))).thenReturn(new MaterialDTO());
+    }
+
+    @Test
+    @DisplayName("Should update the loaded material and move its stock through the ledger")
+    void shouldUpdateMaterialAndLedgerTogether() {
+        // Given - counted 12 of the 20 on record
+        materialDTO.setCurrentStock(new BigDecimal("12.00"));
+
+        // When
+        materialService.update(material.getId(), materialDTO);
+
+        // Then - tenant kept, stock left to the ledger
+        assertThat(material.getTenant()).isSameAs(tenant);
+        assertThat(material.getMinimumStock()).isEqualByComparingTo("8.00");
+        assertThat(material.getCurrentStock()).isEqualByComparingTo("20.00");
+        verify(stockLedgerService).updateMinimum(tenant.getId(), material.getId(), new BigDecimal("8.00"));
+        verify(stockLedgerService).adjustTo(eq(tenant.getId()), eq(material.getId()), eq(new BigDecimal("12.00")), anyString());
+        verify(recipeCostingService, never()).onMaterialCostChanged(any());
+    }
+
+    @Test
+    @DisplayName("Should recompute menu costs when the cost per unit changes")
+    void shouldRecomputeOnCostChange() {
+        // Given
+        materialDTO.setCostPerUnit(new BigDecimal("12.50"));
+
+        // When
+        materialService.update(material.getId(), materialDTO);
+
+        // Then
+        verify(recipeCostingService).onMaterialCostChanged(List.of(material.getId()));
+        verify(stockLedgerService, never()).adjustTo(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not recompute menu costs when a material without a cost is saved without one")
+    void shouldNotRecomputeWhenCostStaysUnset() {
+        // Given
+        material.setCostPerUnit(null);
+        materialDTO.setCostPerUnit(null);
+
+        // When
+        materialService.update(material.getId(), materialDTO);
+
+        // Then
+        verify(recipeCostingService, never()).onMaterialCostChanged(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a material code already used by the tenant")
+    void shouldRejectDuplicateCode() {
+        // Given
+        materialDTO.setMaterialCode("RICE");
+        when(materialRepository.existsByTenantIdAndMaterialCode(tenant.getId(), "RICE")).thenReturn(true);
+
+        // When/Then
+        assertThatThrownBy(() -> materialService.update(material.getId(), materialDTO))
+                .isInstanceOf(DuplicateResourceException.class);
+        verifyNoInteractions(stockLedgerService);
+    }
+}
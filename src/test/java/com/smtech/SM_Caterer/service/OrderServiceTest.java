@@ -1,8 +1,10 @@
 package com.smtech.SM_Caterer.service;
 
 import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.events.DomainEventOutbox;
 import com.smtech.SM_Caterer.domain.entity.*;
 import com.smtech.SM_Caterer.domain.enums.OrderStatus;
+import com.smtech.SM_Caterer.domain.event.OrderEvent;
 import com.smtech.SM_Caterer.domain.repository.*;
 import com.smtech.SM_Caterer.exception.ResourceNotFoundException;
 import com.smtech.SM_Caterer.fixtures.TestDataFactory;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.data.domain.Page;
@@ -46,6 +49,12 @@ class OrderServiceTest extends BaseUnitTest {
     @Mock
     private EventTypeRepository eventTypeRepository;
 
+    @Mock
+    private DomainEventOutbox domainEventOutbox;
+
+    @Mock
+    private UtilityAvailabilityService utilityAvailabilityService;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -178,4 +187,60 @@ class OrderServiceTest extends BaseUnitTest {
                     .isInstanceOf(ResourceNotFoundException.class);
         }
     }
+
+    @Nested
+    @DisplayName("Workflow Events")
+    class WorkflowEvents {
+
+        @Test
+        @DisplayName("Should record OrderConfirmed when an order is approved")
+        void shouldRecordOrderConfirmedOnApprove() {
+            // Given
+            order.setStatus(OrderStatus.PENDING);
+            when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+            when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            orderService.approve(order.getId(), 5L);
+
+            // Then
+            ArgumentCaptor<OrderEvent> event = ArgumentCaptor.forClass(OrderEvent.class);
+            verify(domainEventOutbox).append(event.capture());
+            assertThat(event.getValue()).isInstanceOf(OrderEvent.OrderConfirmed.class);
+            assertThat(event.getValue().orderId()).isEqualTo(order.getId());
+            assertThat(event.getValue().tenantId()).isEqualTo(tenant.getId());
+            assertThat(event.getValue().userId()).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("Should record OrderRejected with the reason when an order is rejected")
+        void shouldRecordOrderRejectedOnReject() {
+            // Given
+            order.setStatus(OrderStatus.PENDING);
+            when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+            when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            orderService.reject(order.getId(), 5L, "Menu unavailable");
+
+            // Then
+            ArgumentCaptor<OrderEvent> event = ArgumentCaptor.forClass(OrderEvent.class);
+            verify(domainEventOutbox).append(event.capture());
+            assertThat(event.getValue()).isInstanceOfSatisfying(OrderEvent.OrderRejected.class,
+                    rejected -> assertThat(rejected.reason()).isEqualTo("Menu unavailable"));
+        }
+
+        @Test
+        @DisplayName("Should not record an event when the transition is invalid")
+        void shouldNotRecordEventOnInvalidTransition() {
+            // Given
+            order.setStatus(OrderStatus.DRAFT);
+            when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+
+            // When/Then
+            assertThatThrownBy(() -> orderService.approve(order.getId(), 5L))
+                    .isInstanceOf(IllegalStateException.class);
+            verifyNoInteractions(domainEventOutbox);
+        }
+    }
 }
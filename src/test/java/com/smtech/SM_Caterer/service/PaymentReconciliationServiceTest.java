@@ -0,0 +1,201 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.ReconciliationProperties;
+import com.smtech.SM_Caterer.domain.enums.ReconciliationOutcome;
+import com.smtech.SM_Caterer.domain.repository.OrderRepository;
+import com.smtech.SM_Caterer.domain.repository.PaymentRepository;
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
+import com.smtech.SM_Caterer.service.dto.ReconciliationLineDTO;
+import com.smtech.SM_Caterer.service.dto.ReconciliationResultDTO;
+import com.smtech.SM_Caterer.service.impl.PaymentReconciliationServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PaymentReconciliationService Tests")
+class PaymentReconciliationServiceTest extends BaseUnitTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 10);
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private ReconciliationProperties properties;
+    private PaymentReconciliationServiceImpl service;
+    private final List<Object[]> openPayments = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReconciliationProperties();
+        service = new PaymentReconciliationServiceImpl(paymentRepository, orderRepository, properties);
+        when(paymentRepository.findOpenForReconciliation(TENANT_ID)).thenReturn(openPayments);
+        lenient().when(orderRepository.addPayment(anyLong(), any())).thenReturn(1);
+        lenient().when(paymentRepository.completePending(eq(TENANT_ID), anyCollection(), any()))
+                .thenAnswer(inv -> inv.getArgument(1, Collection.class).size());
+    }
+
+    private void openPayment(long id, long orderId, String amount, LocalDate date, String reference) {
+        openPayments.add(new Object[]{id, orderId, "PAY-" + id, new BigDecimal(amount), date, reference});
+    }
+
+    private ReconciliationResultDTO reconcile(String csv) throws Exception {
+        return service.reconcile(TENANT_ID,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), "statement.csv");
+    }
+
+    @Test
+    @DisplayName("Should match by reference, then by amount and date, and report the rest")
+    void shouldMatchByReferenceThenByAmountAndDate() throws Exception {
+        // Given
+        openPayment(1, 100, "5000.00", DAY, "UTR-4011 2233 4455");
+        openPayment(2, 101, "1500.00", DAY.minusDays(2), null);
+        openPayment(3, 102, "800.00", DAY, null);
+        openPayment(4, 103, "800.00", DAY.plusDays(1), null);
+        String csv = """
+                Date,Narration,Reference,Credit
+                10/01/2026,UPI payment,utr401122334455,5000
+                11/01/2026,NEFT ADVANCE,,1500.00
+                10/01/2026,IMPS,,800.00
+                10/01/2026,Unknown,,999.00
+                """;
+
+        // When
+        ReconciliationResultDTO result = reconcile(csv);
+
+        // Then
+        assertThat(result.getTotalLines()).isEqualTo(4);
+        assertThat(result.getMatchedCount()).isEqualTo(2);
+        assertThat(result.getAmbiguousCount()).isEqualTo(1);
+        assertThat(result.getUnmatchedCount()).isEqualTo(1);
+        assertThat(result.getMatchedAmount()).isEqualByComparingTo("6500.00");
+        assertThat(result.getExceptions())
+                .extracting(ReconciliationLineDTO::getLineNumber, ReconciliationLineDTO::getOutcome)
+                .containsExactly(
+                        org.assertj.core.groups.Tuple.tuple(4, ReconciliationOutcome.AMBIGUOUS),
+                        org.assertj.core.groups.Tuple.tuple(5, ReconciliationOutcome.UNMATCHED));
+        assertThat(result.getExceptions().get(0).getCandidatePaymentNumbers()).containsExactly("PAY-3", "PAY-4");
+
+        verify(orderRepository).addPayment(100L, new BigDecimal("5000.00"));
+        verify(orderRepository).addPayment(101L, new BigDecimal("1500.00"));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(paymentRepository).completePending(eq(TENANT_ID), ids.capture(), any());
+        assertThat(ids.getValue()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should find the UTR in the narration and claim each payment once")
+    void shouldFindUtrInNarrationAndClaimOnce() throws Exception {
+        // Given
+        openPayment(1, 100, "2500.00", DAY, "401234567890");
+        String csv = """
+                Date,Narration,Credit
+                10/01/2026,UPI/401234567890/RAVI/Advance,2500.00
+                10/01/2026,UPI/401234567890/RAVI/Advance,2500.00
+                """;
+
+        // When
+        ReconciliationResultDTO result = reconcile(csv);
+
+        // Then
+        assertThat(result.getMatchedCount()).isEqualTo(1);
+        assertThat(result.getUnmatchedCount()).isEqualTo(1);
+        assertThat(result.getExceptions().get(0).getLineNumber()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should report payments that would overpay their order as ambiguous")
+    void shouldReportOverpayingPaymentsAsAmbiguous() throws Exception {
+        // Given
+        openPayment(1, 100, "5000.00", DAY, "REF000001");
+        openPayment(2, 200, "3000.00", DAY, "REF000002");
+        when(orderRepository.addPayment(100L, new BigDecimal("5000.00"))).thenReturn(0);
+        String csv = """
+                Date,Reference,Amount
+                2026-01-10,REF000001,5000.00
+                2026-01-10,REF000002,3000.00
+                """;
+
+        // When
+        ReconciliationResultDTO result = reconcile(csv);
+
+        // Then
+        assertThat(result.getMatchedCount()).isEqualTo(1);
+        assertThat(result.getAmbiguousCount()).isEqualTo(1);
+        assertThat(result.getMatchedAmount()).isEqualByComparingTo("3000.00");
+        assertThat(result.getExceptions().get(0).getNote()).isEqualTo("Would exceed the order balance");
+    }
+
+    @Test
+    @DisplayName("Should reconcile a 50,000 line statement in one pass")
+    void shouldReconcileLargeStatement() throws Exception {
+        // Given
+        int count = 50_000;
+        StringBuilder csv = new StringBuilder("Txn Date,Narration,UTR No,Deposit Amt.\n");
+        for (int i = 1; i <= count; i++) {
+            openPayment(i, 10_000 + i % 500, i + ".00", DAY, "UTR" + (100_000_000 + i));
+            csv.append("10/01/2026,UPI CREDIT,UTR").append(100_000_000 + i).append(',').append(i).append(".00\n");
+        }
+        properties.setMaxReportedLines(10);
+
+        // When
+        ReconciliationResultDTO result = reconcile(csv.toString());
+
+        // Then
+        assertThat(result.getTotalLines()).isEqualTo(count);
+        assertThat(result.getMatchedCount()).isEqualTo(count);
+        assertThat(result.getExceptions()).isEmpty();
+        verify(paymentRepository, times(count / properties.getUpdateBatchSize()))
+                .completePending(eq(TENANT_ID), anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("Should roll back when a payment changed during reconciliation")
+    void shouldFailWhenPaymentChangedConcurrently() {
+        // Given
+        openPayment(1, 100, "5000.00", DAY, "REF000001");
+        when(paymentRepository.completePending(eq(TENANT_ID), anyCollection(), any())).thenReturn(0);
+
+        // When / Then
+        assertThatThrownBy(() -> reconcile("Date,Reference,Amount\n2026-01-10,REF000001,5000.00\n"))
+                .isInstanceOf(InvalidOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported files and statements over the line limit")
+    void shouldRejectUnsupportedFilesAndOversizedStatements() {
+        // Given
+        properties.setMaxLines(1);
+
+        // When / Then
+        assertThatThrownBy(() -> service.reconcile(TENANT_ID, new ByteArrayInputStream(new byte[0]), "statement.pdf"))
+                .isInstanceOf(InvalidOperationException.class);
+        assertThatThrownBy(() -> reconcile("Date,Amount\n2026-01-10,1.00\n2026-01-11,2.00\n"))
+                .isInstanceOf(InvalidOperationException.class)
+                .hasMessageContaining("more than 1 lines");
+        verifyNoInteractions(orderRepository);
+    }
+}
@@ -0,0 +1,115 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.storage.BlobStore;
+import com.smtech.SM_Caterer.domain.entity.*;
+import com.smtech.SM_Caterer.domain.enums.PaymentStatus;
+import com.smtech.SM_Caterer.domain.repository.OrderRepository;
+import com.smtech.SM_Caterer.domain.repository.PaymentRepository;
+import com.smtech.SM_Caterer.domain.repository.TenantRepository;
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
+import com.smtech.SM_Caterer.fixtures.TestDataFactory;
+import com.smtech.SM_Caterer.service.dto.PaymentDTO;
+import com.smtech.SM_Caterer.service.impl.PaymentServiceImpl;
+import com.smtech.SM_Caterer.service.mapper.PaymentMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PaymentService Tests")
+class PaymentServiceTest extends BaseUnitTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentMapper paymentMapper;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Mock
+    private PaymentNumberGeneratorService paymentNumberGeneratorService;
+
+    @Mock
+    private PdfReceiptService pdfReceiptService;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private ReceiptPipelineService receiptPipelineService;
+
+    @Mock
+    private BlobStore blobStore;
+
+    @InjectMocks
+    private PaymentServiceImpl paymentService;
+
+    private Order order;
+    private Payment payment;
+    private PaymentDTO paymentDTO;
+
+    @BeforeEach
+    void setUp() {
+        TestDataFactory.resetIdGenerators();
+        Tenant tenant = TestDataFactory.createTenant();
+        order = TestDataFactory.createOrder(tenant, TestDataFactory.createCustomer(tenant),
+                TestDataFactory.createEventType(tenant));
+        payment = TestDataFactory.createPayment(tenant, order);
+        paymentDTO = TestDataFactory.createPaymentDTO(tenant.getId(), order.getId());
+
+        // Fully paid by this one completed payment, as loaded before the update
+        order.setGrandTotal(new BigDecimal("10000.00"));
+        order.setPaidTotal(new BigDecimal("10000.00"));
+        order.setBalanceAmount(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should check a payment moved to PENDING against the balance after releasing it")
+    void shouldCheckPendingAgainstReleasedBalance() {
+        // Given - releasing the completed payment leaves the whole total unpaid in the database
+        when(paymentRepository.findById(payment.getId())).thenReturn(Optional.of(payment));
+        when(orderRepository.removePayment(order.getId(), new BigDecimal("10000.00"))).thenReturn(1);
+        when(orderRepository.findBalanceDue(order.getId())).thenReturn(Optional.of(new BigDecimal("10000.00")));
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(paymentMapper.toDto(any(Payment.class))).thenReturn(paymentDTO);
+        paymentDTO.setStatus(PaymentStatus.PENDING);
+
+        // When
+        paymentService.update(payment.getId(), paymentDTO);
+
+        // Then
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        verify(orderRepository, never()).addPayment(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should report the stored balance when a completed payment exceeds it")
+    void shouldReportStoredBalance() {
+        // Given - 2000 of the 10000 released, so 2000 is due
+        payment.setAmount(new BigDecimal("2000.00"));
+        when(paymentRepository.findById(payment.getId())).thenReturn(Optional.of(payment));
+        when(orderRepository.removePayment(order.getId(), new BigDecimal("2000.00"))).thenReturn(1);
+        when(orderRepository.addPayment(order.getId(), new BigDecimal("10000.00"))).thenReturn(0);
+        when(orderRepository.findBalanceDue(order.getId())).thenReturn(Optional.of(new BigDecimal("2000.00")));
+
+        // When/Then
+        assertThatThrownBy(() -> paymentService.update(payment.getId(), paymentDTO))
+                .isInstanceOf(InvalidOperationException.class)
+                .hasMessageContaining("exceeds order balance (2000.00)");
+    }
+}
@@ -0,0 +1,119 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.config.storage.LocalBlobStore;
+import com.smtech.SM_Caterer.domain.entity.Customer;
+import com.smtech.SM_Caterer.domain.entity.Order;
+import com.smtech.SM_Caterer.domain.entity.Payment;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import com.smtech.SM_Caterer.fixtures.TestDataFactory;
+import com.smtech.SM_Caterer.service.impl.PdfReceiptServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Receipts rendered per second on one thread (one core), with and without
+ * the per-tenant header cache. headerCache=false evicts the header before
+ * every receipt, which is how every receipt was rendered before the cache:
+ * logo read, decoded and scaled, header cells laid out again.
+ *
+ * Tagged "benchmark": excluded from the default build, run with
+ * {@code mvn test -Pbenchmarks} (the profile adds the JMH annotation
+ * processor).
+ *
+ * @author CloudCaters Team
+ * @since Phase 8
+ */
+@Tag("benchmark")
+@DisplayName("PdfReceipt Benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class PdfReceiptBenchmarkTest {
+
+    @Param({"false", "true"})
+    public boolean headerCache;
+
+    private Path workDir;
+    private PdfReceiptServiceImpl pdfReceiptService;
+    private Payment payment;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workDir = Files.createTempDirectory("receipt-bench");
+        Path logo = workDir.resolve("brand.png");
+        BufferedImage image = new BufferedImage(600, 300, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                image.setRGB(x, y, random.nextInt(0x1000000) | 0x404040);
+            }
+        }
+        ImageIO.write(image, "png", logo.toFile());
+
+        Tenant tenant = TestDataFactory.createTenant();
+        tenant.setLogoPath(logo.toString());
+        tenant.setTagline("Fine catering since 1998");
+        tenant.setAddress("12 MG Road");
+        tenant.setGstin("27ABCDE1234F1Z5");
+        Customer customer = TestDataFactory.createCustomer(tenant);
+        Order order = TestDataFactory.createOrder(tenant, customer, TestDataFactory.createEventType(tenant));
+        payment = TestDataFactory.createPayment(tenant, order);
+
+        pdfReceiptService = new PdfReceiptServiceImpl(new LocalBlobStore(workDir));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(workDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public byte[] renderReceipt() {
+        if (!headerCache) {
+            pdfReceiptService.evictHeader(payment.getTenant().getId());
+        }
+        return pdfReceiptService.generateReceiptBytes(payment);
+    }
+
+    @Test
+    @DisplayName("Receipts per second per core, header cache off vs on")
+    void runBenchmark() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(PdfReceiptBenchmarkTest.class.getName() + ".renderReceipt")
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,117 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.storage.LocalBlobStore;
+import com.smtech.SM_Caterer.domain.entity.Customer;
+import com.smtech.SM_Caterer.domain.entity.Order;
+import com.smtech.SM_Caterer.domain.entity.Payment;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import com.smtech.SM_Caterer.fixtures.TestDataFactory;
+import com.smtech.SM_Caterer.service.impl.PdfReceiptServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PdfReceiptService Tests")
+class PdfReceiptServiceTest extends BaseUnitTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private LocalBlobStore blobStore;
+    private PdfReceiptServiceImpl pdfReceiptService;
+    private Payment payment;
+
+    @BeforeEach
+    void setUp() {
+        TestDataFactory.resetIdGenerators();
+        Tenant tenant = TestDataFactory.createTenant();
+        Customer customer = TestDataFactory.createCustomer(tenant);
+        Order order = TestDataFactory.createOrder(tenant, customer, TestDataFactory.createEventType(tenant));
+        payment = TestDataFactory.createPayment(tenant, order);
+
+        blobStore = new LocalBlobStore(uploadDir);
+        pdfReceiptService = new PdfReceiptServiceImpl(blobStore);
+    }
+
+    @Test
+    @DisplayName("Should store the receipt and record its content hash and fingerprint")
+    void shouldStoreReceiptWithHashes() throws Exception {
+        // When
+        String key = pdfReceiptService.generateReceipt(payment);
+
+        // Then
+        Path file = blobStore.fetch(key);
+        byte[] stored = Files.readAllBytes(file);
+        assertThat(stored).startsWith("%PDF".getBytes());
+        assertThat(payment.getReceiptHash())
+                .isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(stored)));
+        assertThat(key).isEqualTo("receipts/tenant-" + payment.getTenant().getId() + "/"
+                + payment.getReceiptHash() + ".pdf");
+        assertThat(payment.getReceiptSourceHash()).isEqualTo(pdfReceiptService.receiptFingerprint(payment));
+        try (var files = Files.list(file.getParent())) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Fingerprint should ignore bookkeeping and change with printed fields")
+    void fingerprintTracksPrintedFields() {
+        // Given
+        String original = pdfReceiptService.receiptFingerprint(payment);
+
+        // When
+        payment.setEmailSent(true);
+        payment.setReceiptPath("/elsewhere/receipt.pdf");
+        String afterBookkeeping = pdfReceiptService.receiptFingerprint(payment);
+        payment.setAmount(payment.getAmount().add(BigDecimal.ONE));
+        String afterAmountChange = pdfReceiptService.receiptFingerprint(payment);
+
+        // Then
+        assertThat(afterBookkeeping).isEqualTo(original);
+        assertThat(afterAmountChange).isNotEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("Should reuse the cached header logo until the header is evicted")
+    void shouldReuseCachedHeaderUntilEvicted() throws Exception {
+        // Given
+        Path logo = writeLogo(uploadDir.resolve("brand.png"));
+        payment.getTenant().setLogoPath(logo.toString());
+        int withLogo = pdfReceiptService.generateReceiptBytes(payment).length;
+
+        // When
+        Files.delete(logo);
+        int cached = pdfReceiptService.generateReceiptBytes(payment).length;
+        pdfReceiptService.evictHeader(payment.getTenant().getId());
+        int withoutLogo = pdfReceiptService.generateReceiptBytes(payment).length;
+
+        // Then
+        assertThat(cached).isEqualTo(withLogo);
+        assertThat(withoutLogo).isLessThan(withLogo);
+    }
+
+    private static Path writeLogo(Path file) throws Exception {
+        BufferedImage image = new BufferedImage(200, 120, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                image.setRGB(x, y, random.nextInt());
+            }
+        }
+        ImageIO.write(image, "png", file.toFile());
+        return file;
+    }
+}
@@ -0,0 +1,97 @@
+package com.smtech.SM_Caterer.service;
+
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.client.j2se.BufferedImageLuminanceSource;
+import com.google.zxing.common.HybridBinarizer;
+import com.google.zxing.qrcode.QRCodeReader;
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.QrCodeProperties;
+import com.smtech.SM_Caterer.config.storage.LocalBlobStore;
+import com.smtech.SM_Caterer.service.impl.QrCodeGeneratorServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QrCodeGeneratorService Tests")
+class QrCodeGeneratorServiceTest extends BaseUnitTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private LocalBlobStore blobStore;
+    private QrCodeGeneratorServiceImpl qrCodeGeneratorService;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new LocalBlobStore(uploadDir);
+        qrCodeGeneratorService = new QrCodeGeneratorServiceImpl(new QrCodeProperties(), blobStore);
+    }
+
+    @Test
+    @DisplayName("Should encode a PNG that decodes back to the UPI link")
+    void shouldEncodeDecodablePng() throws Exception {
+        // Given
+        BigDecimal amount = new BigDecimal("1500");
+        String upiLink = qrCodeGeneratorService.generateUpiDeepLink("caterer@okbank", "Caterer", amount, "ORD-1");
+
+        // When
+        String dataUri = qrCodeGeneratorService.generateQrCodeBase64("caterer@okbank", "Caterer", amount, "ORD-1");
+
+        // Then
+        byte[] png = Base64.getDecoder().decode(dataUri.substring("data:image/png;base64,".length()));
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertThat(image.getWidth()).isEqualTo(300);
+        String decoded = new QRCodeReader().decode(new BinaryBitmap(
+                new HybridBinarizer(new BufferedImageLuminanceSource(image)))).getText();
+        assertThat(decoded).isEqualTo(upiLink);
+    }
+
+    @Test
+    @DisplayName("Should reuse one file per payment request")
+    void shouldReuseFilePerPaymentRequest() throws Exception {
+        // When
+        String first = qrCodeGeneratorService.generateQrCode("caterer@okbank", "Caterer",
+                new BigDecimal("1500"), "ORD-1", 1L, 1L);
+        String again = qrCodeGeneratorService.generateQrCode("caterer@okbank", "Caterer",
+                new BigDecimal("1500"), "ORD-1", 1L, 1L);
+        String otherAmount = qrCodeGeneratorService.generateQrCode("caterer@okbank", "Caterer",
+                new BigDecimal("2000"), "ORD-1", 1L, 1L);
+
+        // Then
+        assertThat(again).isEqualTo(first);
+        assertThat(otherAmount).isNotEqualTo(first);
+        assertThat(blobStore.fetch(first)).exists();
+    }
+
+    @Test
+    @DisplayName("Should sweep files older than the expiry window")
+    void shouldSweepExpiredFiles() throws Exception {
+        // Given
+        Path fresh = blobStore.fetch(qrCodeGeneratorService.generateQrCode("caterer@okbank", "Caterer",
+                new BigDecimal("1500"), "ORD-1", 1L, 1L));
+        Path stale = blobStore.fetch(qrCodeGeneratorService.generateQrCode("caterer@okbank", "Caterer",
+                new BigDecimal("900"), "ORD-2", 2L, 1L));
+        Files.setLastModifiedTime(stale, FileTime.from(Instant.now().minus(Duration.ofHours(25))));
+
+        // When
+        qrCodeGeneratorService.sweepExpiredFiles();
+
+        // Then
+        assertThat(fresh).exists();
+        assertThat(stale).doesNotExist();
+    }
+}
@@ -0,0 +1,137 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.ReceiptExportProperties;
+import com.smtech.SM_Caterer.domain.repository.PaymentRepository;
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
+import com.smtech.SM_Caterer.exception.ResourceNotFoundException;
+import com.smtech.SM_Caterer.service.dto.ReceiptFileDTO;
+import com.smtech.SM_Caterer.service.impl.ReceiptExportServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReceiptExportService Tests")
+class ReceiptExportServiceTest extends BaseUnitTest {
+
+    private static final Long TENANT_ID = 1L;
+
+    @TempDir
+    Path receiptDir;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentService paymentService;
+
+    private ExecutorService executor;
+    private ReceiptExportProperties properties;
+    private ReceiptExportService receiptExportService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+        properties = new ReceiptExportProperties();
+        properties.setMaxConcurrentPerTenant(2);
+        properties.setMaxPayments(3);
+        receiptExportService = new ReceiptExportServiceImpl(paymentRepository, paymentService, executor, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should zip every receipt and list failures in errors.txt")
+    void shouldZipReceiptsAndListFailures() throws Exception {
+        // Given
+        for (long id = 1; id <= 5; id++) {
+            Path file = Files.writeString(receiptDir.resolve("receipt-" + id + ".pdf"), "%PDF-" + id);
+            when(paymentService.getReceiptFile(id, TENANT_ID))
+                    .thenReturn(new ReceiptFileDTO(file, "Receipt-PAY-" + id + ".pdf", "hash" + id));
+        }
+        when(paymentService.getReceiptFile(6L, TENANT_ID))
+                .thenThrow(new ResourceNotFoundException("Payment", "id", 6L));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        receiptExportService.writeReceiptsZip(TENANT_ID, List.of(1L, 2L, 3L, 4L, 5L, 6L), out);
+
+        // Then
+        Map<String, String> entries = unzip(out.toByteArray());
+        assertThat(entries).hasSize(6);
+        assertThat(entries.get("Receipt-PAY-3.pdf")).isEqualTo("%PDF-3");
+        assertThat(entries.get("errors.txt")).contains("Payment 6");
+    }
+
+    @Test
+    @DisplayName("Should render no more receipts at once than the per-tenant cap")
+    void shouldRespectPerTenantCap() throws Exception {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Path file = Files.writeString(receiptDir.resolve("receipt.pdf"), "%PDF");
+        when(paymentService.getReceiptFile(anyLong(), eq(TENANT_ID))).thenAnswer(invocation -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return new ReceiptFileDTO(file, "Receipt-" + invocation.getArgument(0) + ".pdf", "hash");
+        });
+
+        // When
+        receiptExportService.writeReceiptsZip(TENANT_ID,
+                List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), new ByteArrayOutputStream());
+
+        // Then
+        assertThat(peak.get()).isBetween(1, 2);
+    }
+
+    @Test
+    @DisplayName("Should reject exports above the payment limit")
+    void shouldRejectTooManyPayments() {
+        // Given
+        when(paymentRepository.searchPaymentIds(eq(TENANT_ID), any(), any(), any(), any(), any(), any()))
+                .thenReturn(List.of(1L, 2L, 3L, 4L));
+
+        // When / Then
+        assertThatThrownBy(() -> receiptExportService.findPaymentIds(TENANT_ID, null, null, null, null, null))
+                .isInstanceOf(InvalidOperationException.class);
+    }
+
+    private static Map<String, String> unzip(byte[] zip) throws Exception {
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,165 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.ReceiptPipelineProperties;
+import com.smtech.SM_Caterer.domain.entity.Payment;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import com.smtech.SM_Caterer.domain.enums.ReceiptStatus;
+import com.smtech.SM_Caterer.domain.repository.PaymentRepository;
+import com.smtech.SM_Caterer.domain.repository.TenantRepository;
+import com.smtech.SM_Caterer.fixtures.TestDataFactory;
+import com.smtech.SM_Caterer.service.impl.ReceiptPipelineServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReceiptPipelineService Tests")
+class ReceiptPipelineServiceTest extends BaseUnitTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Mock
+    private PdfReceiptService pdfReceiptService;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolExecutor executor;
+    private SimpleMeterRegistry registry;
+    private ReceiptPipelineServiceImpl pipeline;
+    private Tenant tenant;
+    private Payment payment;
+
+    @BeforeEach
+    void setUp() {
+        TestDataFactory.resetIdGenerators();
+        tenant = TestDataFactory.createTenant();
+        payment = TestDataFactory.createPayment(tenant,
+                TestDataFactory.createOrder(tenant, TestDataFactory.createCustomer(tenant),
+                        TestDataFactory.createEventType(tenant)));
+        payment.setReceiptStatus(ReceiptStatus.PENDING);
+
+        ReceiptPipelineProperties properties = new ReceiptPipelineProperties();
+        properties.setMaxAttempts(2);
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1));
+        registry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", registry);
+        ObjectProvider<MeterRegistry> meterRegistry = beans.getBeanProvider(MeterRegistry.class);
+        pipeline = new ReceiptPipelineServiceImpl(paymentRepository, tenantRepository, pdfReceiptService,
+                emailService, executor, properties, transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should store the receipt, queue the email and mark the receipt ready")
+    void shouldRenderAndQueueEmail() {
+        // Given
+        when(paymentRepository.findById(payment.getId())).thenReturn(Optional.of(payment));
+        when(pdfReceiptService.generateReceipt(payment)).thenReturn("receipts/tenant-1/abc.pdf");
+        when(emailService.isEmailEnabled(tenant)).thenReturn(true);
+
+        // When
+        ReceiptStatus status = pipeline.process(payment.getId(), tenant.getId());
+
+        // Then
+        assertThat(status).isEqualTo(ReceiptStatus.READY);
+        assertThat(payment.getReceiptStatus()).isEqualTo(ReceiptStatus.READY);
+        assertThat(payment.getReceiptPath()).isEqualTo("receipts/tenant-1/abc.pdf");
+        assertThat(payment.getEmailSent()).isTrue();
+        verify(emailService).sendPaymentReceipt(payment, "receipts/tenant-1/abc.pdf");
+        verify(paymentRepository).save(payment);
+        assertThat(registry.get("receipt.pipeline.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count failed renders and mark the receipt failed after max attempts")
+    void shouldRetryThenFail() {
+        // Given
+        when(paymentRepository.findById(payment.getId())).thenReturn(Optional.of(payment));
+        when(pdfReceiptService.generateReceipt(payment)).thenThrow(new IllegalStateException("font missing"));
+
+        // When - first attempt
+        ReceiptStatus first = pipeline.process(payment.getId(), tenant.getId());
+
+        // Then
+        assertThat(first).isEqualTo(ReceiptStatus.PENDING);
+        assertThat(payment.getReceiptAttempts()).isEqualTo(1);
+        assertThat(payment.getReceiptError()).isEqualTo("font missing");
+
+        // When - second attempt
+        ReceiptStatus second = pipeline.process(payment.getId(), tenant.getId());
+
+        // Then
+        assertThat(second).isEqualTo(ReceiptStatus.FAILED);
+        assertThat(payment.getReceiptAttempts()).isEqualTo(2);
+        verify(emailService, never()).sendPaymentReceipt(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should leave receipts that are no longer pending alone")
+    void shouldSkipReadyReceipts() {
+        // Given
+        payment.setReceiptStatus(ReceiptStatus.READY);
+        when(paymentRepository.findById(payment.getId())).thenReturn(Optional.of(payment));
+
+        // When
+        ReceiptStatus status = pipeline.process(payment.getId(), tenant.getId());
+
+        // Then
+        assertThat(status).isEqualTo(ReceiptStatus.READY);
+        verifyNoInteractions(pdfReceiptService, emailService);
+        verify(paymentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should reject submissions when the render queue is full")
+    void shouldRejectWhenQueueFull() {
+        // Given - the only worker is busy and the queue holds one task
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(() -> { });
+
+        // When
+        boolean accepted = pipeline.submit(payment.getId(), tenant.getId());
+
+        // Then
+        assertThat(accepted).isFalse();
+        assertThat(registry.get("receipt.pipeline.rejected").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,154 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.CostingProperties;
+import com.smtech.SM_Caterer.domain.repository.MenuRepository;
+import com.smtech.SM_Caterer.domain.repository.RecipeComponentRepository;
+import com.smtech.SM_Caterer.domain.repository.RecipeItemRepository;
+import com.smtech.SM_Caterer.service.impl.RecipeCostingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RecipeCostingService Tests")
+class RecipeCostingServiceTest extends BaseUnitTest {
+
+    @Mock
+    private MenuRepository menuRepository;
+
+    @Mock
+    private RecipeItemRepository recipeItemRepository;
+
+    @Mock
+    private RecipeComponentRepository recipeComponentRepository;
+
+    private CostingProperties properties;
+    private RecipeCostingServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CostingProperties();
+        service = new RecipeCostingServiceImpl(menuRepository, recipeItemRepository,
+                recipeComponentRepository, properties);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Collection<Long>> updateBatches(int times) {
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(menuRepository, times(times)).recomputeMaterialCost(captor.capture());
+        // Copy each batch: the captured lists are views of one list
+        List<Collection<Long>> batches = new ArrayList<>();
+        captor.getAllValues().forEach(batch -> batches.add(List.copyOf(batch)));
+        return batches;
+    }
+
+    @Test
+    @DisplayName("Should recompute only the menus using a changed material, in one statement")
+    void shouldRecomputeOnlyMenusUsingMaterial() {
+        // Given
+        when(recipeItemRepository.findMenuIdsByMaterialIds(List.of(10L))).thenReturn(List.of(1L, 2L));
+        when(menuRepository.recomputeMaterialCost(anyCollection())).thenAnswer(inv -> inv.<Collection<?>>getArgument(0).size());
+
+        // When
+        int updated = service.onMaterialCostChanged(List.of(10L));
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        assertThat(updateBatches(1)).containsExactly(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should split a widely used material's menus into bounded batches")
+    void shouldSplitIntoBatches() {
+        // Given
+        properties.setUpdateBatchSize(2);
+        List<Long> menuIds = LongStream.rangeClosed(1, 5).boxed().toList();
+        when(recipeItemRepository.findMenuIdsByMaterialIds(any())).thenReturn(menuIds);
+        when(menuRepository.recomputeMaterialCost(anyCollection())).thenAnswer(inv -> inv.<Collection<?>>getArgument(0).size());
+
+        // When
+        int updated = service.onMaterialCostChanged(List.of(10L));
+
+        // Then
+        assertThat(updated).isEqualTo(5);
+        assertThat(updateBatches(3)).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+    }
+
+    @Test
+    @DisplayName("Should issue no statement when no menu uses the material")
+    void shouldSkipUnusedMaterial() {
+        // Given
+        when(recipeItemRepository.findMenuIdsByMaterialIds(any())).thenReturn(List.of());
+
+        // When
+        int updated = service.onMaterialCostChanged(List.of(10L));
+
+        // Then
+        assertThat(updated).isZero();
+        verify(menuRepository, never()).recomputeMaterialCost(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should drop nulls and duplicates from the menus to recompute")
+    void shouldDropNullsAndDuplicates() {
+        // Given - a recipe item edited without moving menus
+        when(menuRepository.recomputeMaterialCost(anyCollection())).thenReturn(1);
+
+        // When
+        service.recomputeMenus(Arrays.asList(7L, null, 7L));
+
+        // Then
+        assertThat(updateBatches(1)).containsExactly(List.of(7L));
+    }
+
+    @Test
+    @DisplayName("Should do nothing for an empty material list")
+    void shouldIgnoreEmptyMaterials() {
+        // When
+        int updated = service.onMaterialCostChanged(List.of());
+
+        // Then
+        assertThat(updated).isZero();
+        verifyNoInteractions(recipeItemRepository, recipeComponentRepository, menuRepository);
+    }
+
+    @Test
+    @DisplayName("Should roll a component's cost up into the menus using it")
+    void shouldRollUpThroughComponents() {
+        // Given - gravy base (9) at 2.50 a serve; biryani (7) serves 10 from 30.00 of rice and 10 serves of gravy
+        when(recipeItemRepository.findMenuIdsByMaterialIds(List.of(10L))).thenReturn(List.of(9L));
+        when(recipeComponentRepository.findMenuIdsByComponentIds(List.of(9L))).thenReturn(List.of(7L));
+        when(recipeComponentRepository.findRecipeGraphForMenus(List.of(9L, 7L)))
+                .thenReturn(List.<Object[]>of(new Object[]{7L, 10, 9L, new BigDecimal("10.00")}));
+        when(menuRepository.recomputeMaterialCost(anyCollection())).thenReturn(1);
+        when(menuRepository.findMaterialCosts(List.of(9L)))
+                .thenReturn(List.<Object[]>of(new Object[]{9L, new BigDecimal("2.50")}));
+        when(recipeItemRepository.sumMaterialCostByMenu(List.of(7L)))
+                .thenReturn(List.<Object[]>of(new Object[]{7L, new BigDecimal("30.00")}));
+        when(menuRepository.updateMaterialCost(eq(7L), any())).thenReturn(1);
+
+        // When
+        int updated = service.onMaterialCostChanged(List.of(10L));
+
+        // Then - the gravy base in SQL first, then biryani at (30.00 + 10 x 2.50) / 10
+        assertThat(updated).isEqualTo(2);
+        assertThat(updateBatches(1)).containsExactly(List.of(9L));
+        ArgumentCaptor<BigDecimal> cost = ArgumentCaptor.forClass(BigDecimal.class);
+        verify(menuRepository).updateMaterialCost(eq(7L), cost.capture());
+        assertThat(cost.getValue()).isEqualByComparingTo("5.50");
+    }
+}
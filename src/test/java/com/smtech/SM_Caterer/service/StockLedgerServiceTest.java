@@ -0,0 +1,283 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.config.StockProperties;
+import com.smtech.SM_Caterer.config.events.DomainEventOutbox;
+import com.smtech.SM_Caterer.config.stock.StripedLocks;
+import com.smtech.SM_Caterer.domain.entity.StockMovement;
+import com.smtech.SM_Caterer.domain.enums.StockMovementType;
+import com.smtech.SM_Caterer.domain.event.DomainEvent;
+import com.smtech.SM_Caterer.domain.event.MaterialStockEvent;
+import com.smtech.SM_Caterer.domain.repository.MaterialRepository;
+import com.smtech.SM_Caterer.domain.repository.MaterialStockRepository;
+import com.smtech.SM_Caterer.domain.repository.OrderMenuItemRepository;
+import com.smtech.SM_Caterer.domain.repository.RecipeComponentRepository;
+import com.smtech.SM_Caterer.domain.repository.RecipeItemRepository;
+import com.smtech.SM_Caterer.domain.repository.StockMovementRepository;
+import com.smtech.SM_Caterer.exception.InvalidOperationException;
+import com.smtech.SM_Caterer.service.impl.StockLedgerServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StockLedgerService Tests")
+class StockLedgerServiceTest extends BaseUnitTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final Long ORDER_ID = 500L;
+    private static final Long RICE = 10L;
+    private static final Long GHEE = 11L;
+
+    @Mock
+    private MaterialStockRepository materialStockRepository;
+
+    @Mock
+    private StockMovementRepository stockMovementRepository;
+
+    @Mock
+    private MaterialRepository materialRepository;
+
+    @Mock
+    private OrderMenuItemRepository orderMenuItemRepository;
+
+    @Mock
+    private RecipeItemRepository recipeItemRepository;
+
+    @Mock
+    private RecipeComponentRepository recipeComponentRepository;
+
+    @Mock
+    private DomainEventOutbox domainEventOutbox;
+
+    private StockLedgerServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StockLedgerServiceImpl(materialStockRepository, stockMovementRepository, materialRepository,
+                orderMenuItemRepository, recipeItemRepository, recipeComponentRepository, new StripedLocks(8),
+                new StockProperties(),
+                domainEventOutbox);
+        // Locks are held until the transaction ends
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private void balance(Long materialId, String onHand, String reserved, String minimum, boolean low) {
+        when(materialStockRepository.lockBalance(materialId)).thenReturn(List.<Object[]>of(new Object[]{
+                TENANT_ID, new BigDecimal(onHand), new BigDecimal(reserved), new BigDecimal(minimum), low}));
+    }
+
+    private List<DomainEvent> recordedEvents() {
+        ArgumentCaptor<DomainEvent> captor = ArgumentCaptor.forClass(DomainEvent.class);
+        verify(domainEventOutbox, atLeast(0)).append(captor.capture());
+        return captor.getAllValues().stream().filter(Objects::nonNull).toList();
+    }
+
+    private List<StockMovement> savedMovements(int count) {
+        ArgumentCaptor<StockMovement> captor = ArgumentCaptor.forClass(StockMovement.class);
+        verify(stockMovementRepository, times(count)).save(captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Test
+    @DisplayName("Should move balance and current stock together and record a receipt")
+    void shouldRecordReceipt() {
+        // Given
+        balance(RICE, "10.00", "0.00", "5.00", false);
+        when(materialStockRepository.applyDelta(eq(TENANT_ID), eq(RICE), any(), any(), any())).thenReturn(1);
+
+        // When
+        service.receive(TENANT_ID, RICE, new BigDecimal("25.00"), "Supplier delivery");
+
+        // Then
+        verify(materialStockRepository).applyDelta(eq(TENANT_ID), eq(RICE),
+                argThat(d -> d.compareTo(new BigDecimal("25.00")) == 0),
+                argThat(d -> d.signum() == 0), any());
+        verify(materialRepository).addToCurrentStock(eq(RICE), argThat(d -> d.compareTo(new BigDecimal("25.00")) == 0));
+        StockMovement movement = savedMovements(1).get(0);
+        assertThat(movement.getMovementType()).isEqualTo(StockMovementType.RECEIPT);
+        assertThat(movement.getQuantity()).isEqualByComparingTo("25.00");
+        assertThat(movement.getNote()).isEqualTo("Supplier delivery");
+        assertThat(recordedEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should refuse to consume more than is on hand")
+    void shouldRefuseToOversell() {
+        // Given - the conditional update matches no row
+        balance(RICE, "3.00", "0.00", "5.00", true);
+        when(materialStockRepository.applyDelta(eq(TENANT_ID), eq(RICE), any(), any(), any())).thenReturn(0);
+
+        // When / Then
+        assertThatThrownBy(() -> service.consume(TENANT_ID, RICE, new BigDecimal("5.00"), null))
+                .isInstanceOf(InvalidOperationException.class)
+                .hasMessageContaining("Not enough stock");
+        verify(materialRepository, never()).addToCurrentStock(anyLong(), any());
+        verify(stockMovementRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should record a stock count as the difference from on-hand stock")
+    void shouldAdjustToCountedStock() {
+        // Given
+        balance(RICE, "20.00", "0.00", "5.00", false);
+        when(materialStockRepository.applyDelta(eq(TENANT_ID), eq(RICE), any(), any(), any())).thenReturn(1);
+
+        // When
+        service.adjustTo(TENANT_ID, RICE, new BigDecimal("17.50"), "Monthly count");
+
+        // Then
+        StockMovement movement = savedMovements(1).get(0);
+        assertThat(movement.getMovementType()).isEqualTo(StockMovementType.ADJUSTMENT);
+        assertThat(movement.getQuantity()).isEqualByComparingTo("-2.50");
+        verify(materialRepository).addToCurrentStock(eq(RICE), argThat(d -> d.compareTo(new BigDecimal("-2.50")) == 0));
+    }
+
+    @Test
+    @DisplayName("Should reserve an order's recipe materials once")
+    void shouldReserveRecipeMaterials() {
+        // Given - biryani serves 25 from 10 kg rice and 1 kg ghee, ordered for 50
+        when(orderMenuItemRepository.findMenuQuantitiesByOrderId(ORDER_ID))
+                .thenReturn(List.<Object[]>of(new Object[]{7L, 50}));
+        when(recipeItemRepository.findRecipeMatrixForMenus(Set.of(7L))).thenReturn(List.of(
+                new Object[]{7L, 25, RICE, new BigDecimal("10.00")},
+                new Object[]{7L, 25, GHEE, new BigDecimal("1.00")}));
+        balance(RICE, "100.00", "0.00", "10.00", false);
+        balance(GHEE, "10.00", "0.00", "1.00", false);
+        when(materialStockRepository.applyDelta(eq(TENANT_ID), anyLong(), any(), any(), any())).thenReturn(1);
+
+        // When
+        service.reserveForOrder(TENANT_ID, ORDER_ID);
+
+        // Then
+        List<StockMovement> movements = savedMovements(2);
+        assertThat(movements).extracting(StockMovement::getMaterialId).containsExactly(RICE, GHEE);
+        assertThat(movements).allMatch(m -> m.getMovementType() == StockMovementType.RESERVATION
+                && ORDER_ID.equals(m.getOrderId()));
+        assertThat(movements.get(0).getQuantity()).isEqualByComparingTo("20.00");
+        assertThat(movements.get(1).getQuantity()).isEqualByComparingTo("2.00");
+        verify(materialRepository, never()).addToCurrentStock(anyLong(), any());
+        // 80 rice and 8 ghee stay available, above their minimums
+        assertThat(recordedEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should skip an order that is already reserved")
+    void shouldSkipReservedOrder() {
+        // Given
+        when(stockMovementRepository.existsByOrderIdAndMovementType(ORDER_ID, StockMovementType.RESERVATION))
+                .thenReturn(true);
+
+        // When
+        service.reserveForOrder(TENANT_ID, ORDER_ID);
+
+        // Then
+        verifyNoInteractions(orderMenuItemRepository, materialStockRepository);
+    }
+
+    @Test
+    @DisplayName("Should release a completed order's reservation and consume what is on hand")
+    void shouldReleaseAndConsumeOnCompletion() {
+        // Given - 20 rice reserved with 12 on hand, 2 ghee reserved with plenty
+        when(stockMovementRepository.findOutstandingReservations(ORDER_ID)).thenReturn(List.of(
+                new Object[]{RICE, new BigDecimal("20.00")},
+                new Object[]{GHEE, new BigDecimal("2.00")}));
+        when(materialStockRepository.applyDelta(eq(TENANT_ID), anyLong(), any(), any(), any())).thenReturn(1);
+        balance(RICE, "12.00", "20.00", "0.00", true);
+        balance(GHEE, "9.00", "2.00", "0.00", false);
+
+        // When
+        service.releaseForOrder(TENANT_ID, ORDER_ID, true);
+
+        // Then
+        List<StockMovement> movements = savedMovements(4);
+        assertThat(movements).extracting(StockMovement::getMovementType).containsExactly(
+                StockMovementType.RELEASE, StockMovementType.RELEASE,
+                StockMovementType.CONSUMPTION, StockMovementType.CONSUMPTION);
+        assertThat(movements.get(2).getQuantity()).isEqualByComparingTo("12.00");
+        assertThat(movements.get(3).getQuantity()).isEqualByComparingTo("2.00");
+    }
+
+    @Test
+    @DisplayName("Should release nothing when no reservation is outstanding")
+    void shouldReleaseNothingTwice() {
+        // Given - already released and consumed once
+        when(stockMovementRepository.findOutstandingReservations(ORDER_ID)).thenReturn(List.<Object[]>of(
+                new Object[]{RICE, new BigDecimal("0.00")}));
+
+        // When
+        service.releaseForOrder(TENANT_ID, ORDER_ID, true);
+
+        // Then
+        verifyNoInteractions(materialStockRepository);
+        verify(stockMovementRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should record an event when available stock crosses the minimum")
+    void shouldRecordLowStockCrossing() {
+        // Given - 12 available against a minimum of 10
+        balance(RICE, "12.00", "0.00", "10.00", false);
+        when(materialStockRepository.applyDelta(eq(TENANT_ID), eq(RICE), any(), any(), any())).thenReturn(1);
+
+        // When
+        service.consume(TENANT_ID, RICE, new BigDecimal("4.00"), null);
+
+        // Then
+        assertThat(recordedEvents()).singleElement()
+                .isInstanceOfSatisfying(MaterialStockEvent.LowStockEntered.class, event -> {
+                    assertThat(event.materialId()).isEqualTo(RICE);
+                    assertThat(event.available()).isEqualByComparingTo("8.00");
+                    assertThat(event.minimumStock()).isEqualByComparingTo("10.00");
+                });
+    }
+
+    @Test
+    @DisplayName("Should record the recovery when a receipt lifts stock back to the minimum")
+    void shouldRecordLowStockCleared() {
+        // Given - already low
+        balance(RICE, "6.00", "0.00", "10.00", true);
+        when(materialStockRepository.applyDelta(eq(TENANT_ID), eq(RICE), any(), any(), any())).thenReturn(1);
+
+        // When
+        service.receive(TENANT_ID, RICE, new BigDecimal("4.00"), null);
+
+        // Then
+        assertThat(recordedEvents()).singleElement().isInstanceOf(MaterialStockEvent.LowStockCleared.class);
+    }
+
+    @Test
+    @DisplayName("Should record a crossing when the minimum is raised above available stock")
+    void shouldRecordCrossingOnMinimumChange() {
+        // Given
+        balance(RICE, "20.00", "5.00", "10.00", false);
+
+        // When
+        service.updateMinimum(TENANT_ID, RICE, new BigDecimal("16.00"));
+
+        // Then
+        verify(materialStockRepository).updateMinimumStock(eq(RICE),
+                argThat(m -> m.compareTo(new BigDecimal("16.00")) == 0), any());
+        assertThat(recordedEvents()).singleElement().isInstanceOf(MaterialStockEvent.LowStockEntered.class);
+    }
+}
@@ -0,0 +1,183 @@
+package com.smtech.SM_Caterer.service;
+
+import com.smtech.SM_Caterer.base.BaseUnitTest;
+import com.smtech.SM_Caterer.domain.entity.Tenant;
+import com.smtech.SM_Caterer.domain.entity.Utility;
+import com.smtech.SM_Caterer.domain.repository.OrderRepository;
+import com.smtech.SM_Caterer.domain.repository.UtilityBookingRepository;
+import com.smtech.SM_Caterer.domain.repository.UtilityRepository;
+import com.smtech.SM_Caterer.exception.ResourceNotFoundException;
+import com.smtech.SM_Caterer.fixtures.TestDataFactory;
+import com.smtech.SM_Caterer.service.dto.UtilityAvailabilityDTO;
+import com.smtech.SM_Caterer.service.impl.UtilityAvailabilityServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UtilityAvailabilityService Tests")
+class UtilityAvailabilityServiceTest extends BaseUnitTest {
+
+    private static final Long TENANT_ID = 1L;
+    private static final Long ORDER_ID = 500L;
+    private static final Long CHAIRS = 10L;
+    private static final Long TABLES = 11L;
+    private static final LocalDate WEDDING = LocalDate.of(2026, 12, 12);
+    private static final LocalDate RECEPTION = LocalDate.of(2026, 12, 14);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private UtilityBookingRepository utilityBookingRepository;
+
+    @Mock
+    private UtilityRepository utilityRepository;
+
+    @InjectMocks
+    private UtilityAvailabilityServiceImpl utilityAvailabilityService;
+
+    private Utility chairs;
+
+    @BeforeEach
+    void setUp() {
+        Tenant tenant = TestDataFactory.createTenant();
+        tenant.setId(TENANT_ID);
+        chairs = TestDataFactory.createUtility(tenant);
+        chairs.setId(CHAIRS);
+        chairs.setCapacity(200);
+    }
+
+    private static Object[] held(LocalDate date, Long utilityId, int quantity) {
+        return new Object[]{TENANT_ID, date, utilityId, (long) quantity};
+    }
+
+    private void holdsNow(Object[]... rows) {
+        List<Object[]> held = new ArrayList<>(List.of(rows));
+        when(orderRepository.findHeldUtilities(eq(ORDER_ID), any())).thenReturn(held);
+    }
+
+    @Test
+    @DisplayName("Should move the booked totals only for changed utility lines")
+    void shouldMoveOnlyNetChanges() {
+        // Given - 150 chairs and 20 tables, tables raised to 25
+        UtilityAvailabilityService.Hold before = new UtilityAvailabilityService.Hold(
+                TENANT_ID, WEDDING, Map.of(CHAIRS, 150, TABLES, 20));
+        holdsNow(held(WEDDING, CHAIRS, 150), held(WEDDING, TABLES, 25));
+
+        // When
+        utilityAvailabilityService.updateHold(ORDER_ID, before);
+
+        // Then
+        verify(utilityBookingRepository).addBooked(eq(TENANT_ID), eq(TABLES), eq(WEDDING), eq(5), any());
+        verifyNoMoreInteractions(utilityBookingRepository);
+    }
+
+    @Test
+    @DisplayName("Should release the old date and book the new one when the event date moves")
+    void shouldMoveHoldWithEventDate() {
+        // Given
+        UtilityAvailabilityService.Hold before = new UtilityAvailabilityService.Hold(
+                TENANT_ID, WEDDING, Map.of(CHAIRS, 150));
+        holdsNow(held(RECEPTION, CHAIRS, 150));
+
+        // When
+        utilityAvailabilityService.updateHold(ORDER_ID, before);
+
+        // Then - in (utility, date) order
+        InOrder inOrder = inOrder(utilityBookingRepository);
+        inOrder.verify(utilityBookingRepository).addBooked(eq(TENANT_ID), eq(CHAIRS), eq(WEDDING), eq(-150), any());
+        inOrder.verify(utilityBookingRepository).addBooked(eq(TENANT_ID), eq(CHAIRS), eq(RECEPTION), eq(150), any());
+    }
+
+    @Test
+    @DisplayName("Should release everything when the order stops holding")
+    void shouldReleaseOnCancel() {
+        // Given - cancelled, so nothing is held any more
+        UtilityAvailabilityService.Hold before = new UtilityAvailabilityService.Hold(
+                TENANT_ID, WEDDING, Map.of(CHAIRS, 150));
+        holdsNow();
+
+        // When
+        utilityAvailabilityService.updateHold(ORDER_ID, before);
+
+        // Then
+        verify(utilityBookingRepository).addBooked(eq(TENANT_ID), eq(CHAIRS), eq(WEDDING), eq(-150), any());
+    }
+
+    @Test
+    @DisplayName("Should write nothing when the hold is unchanged")
+    void shouldSkipUnchangedHold() {
+        // Given
+        holdsNow(held(WEDDING, CHAIRS, 150));
+        UtilityAvailabilityService.Hold before = utilityAvailabilityService.holdOf(ORDER_ID);
+
+        // When
+        utilityAvailabilityService.updateHold(ORDER_ID, before);
+
+        // Then
+        verify(utilityBookingRepository, never()).addBooked(anyLong(), anyLong(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Should count the edited order's own hold as available")
+    void shouldExcludeOwnHold() {
+        // Given - 180 of 200 chairs booked, 150 of them by the order being edited
+        when(utilityRepository.findById(CHAIRS)).thenReturn(Optional.of(chairs));
+        when(utilityBookingRepository.findBookedQuantity(CHAIRS, WEDDING)).thenReturn(Optional.of(180));
+        holdsNow(held(WEDDING, CHAIRS, 150));
+
+        // When
+        UtilityAvailabilityDTO others = utilityAvailabilityService.getAvailability(TENANT_ID, CHAIRS, WEDDING, null);
+        UtilityAvailabilityDTO editing = utilityAvailabilityService.getAvailability(TENANT_ID, CHAIRS, WEDDING, ORDER_ID);
+
+        // Then
+        assertThat(others.getAvailable()).isEqualTo(20);
+        assertThat(others.canBook(21)).isFalse();
+        assertThat(editing.getAvailable()).isEqualTo(170);
+        assertThat(editing.canBook(170)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should never limit a utility without a capacity")
+    void shouldNotLimitWithoutCapacity() {
+        // Given
+        chairs.setCapacity(null);
+        when(utilityRepository.findById(CHAIRS)).thenReturn(Optional.of(chairs));
+
+        // When
+        UtilityAvailabilityDTO availability = utilityAvailabilityService.getAvailability(TENANT_ID, CHAIRS, WEDDING, null);
+
+        // Then
+        assertThat(availability.getAvailable()).isNull();
+        assertThat(availability.canBook(10_000)).isTrue();
+        verifyNoInteractions(utilityBookingRepository);
+    }
+
+    @Test
+    @DisplayName("Should not reveal another tenant's utility")
+    void shouldRejectOtherTenantsUtility() {
+        // Given
+        when(utilityRepository.findById(CHAIRS)).thenReturn(Optional.of(chairs));
+
+        // When/Then
+        assertThatThrownBy(() -> utilityAvailabilityService.getAvailability(99L, CHAIRS, WEDDING, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}